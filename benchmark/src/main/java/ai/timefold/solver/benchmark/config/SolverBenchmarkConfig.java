@@ -13,7 +13,8 @@ import ai.timefold.solver.core.config.util.ConfigUtils;
         "name",
         "solverConfig",
         "problemBenchmarksConfig",
-        "subSingleCount"
+        "subSingleCount",
+        "subSingleCountLimit"
 })
 public class SolverBenchmarkConfig extends AbstractConfig<SolverBenchmarkConfig> {
 
@@ -26,6 +27,7 @@ public class SolverBenchmarkConfig extends AbstractConfig<SolverBenchmarkConfig>
     private ProblemBenchmarksConfig problemBenchmarksConfig = null;
 
     private Integer subSingleCount = null;
+    private Integer subSingleCountLimit = null;
 
     // ************************************************************************
     // Constructors and simple getters/setters
@@ -63,6 +65,22 @@ public class SolverBenchmarkConfig extends AbstractConfig<SolverBenchmarkConfig>
         this.subSingleCount = subSingleCount;
     }
 
+    /**
+     * If higher than {@link #getSubSingleCount()}, more sub singles are run for a problem
+     * until the confidence interval of the average score is narrow enough,
+     * until the solver benchmark is statistically outperformed by another on that problem,
+     * or until this limit is reached.
+     *
+     * @return null or at least {@link #getSubSingleCount()}
+     */
+    public Integer getSubSingleCountLimit() {
+        return subSingleCountLimit;
+    }
+
+    public void setSubSingleCountLimit(Integer subSingleCountLimit) {
+        this.subSingleCountLimit = subSingleCountLimit;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -87,12 +105,19 @@ public class SolverBenchmarkConfig extends AbstractConfig<SolverBenchmarkConfig>
         return this;
     }
 
+    public SolverBenchmarkConfig withSubSingleCountLimit(Integer subSingleCountLimit) {
+        this.setSubSingleCountLimit(subSingleCountLimit);
+        return this;
+    }
+
     @Override
     public SolverBenchmarkConfig inherit(SolverBenchmarkConfig inheritedConfig) {
         solverConfig = ConfigUtils.inheritConfig(solverConfig, inheritedConfig.getSolverConfig());
         problemBenchmarksConfig = ConfigUtils.inheritConfig(problemBenchmarksConfig,
                 inheritedConfig.getProblemBenchmarksConfig());
         subSingleCount = ConfigUtils.inheritOverwritableProperty(subSingleCount, inheritedConfig.getSubSingleCount());
+        subSingleCountLimit = ConfigUtils.inheritOverwritableProperty(subSingleCountLimit,
+                inheritedConfig.getSubSingleCountLimit());
         return this;
     }
 
@@ -18,7 +18,9 @@ import ai.timefold.solver.core.impl.io.jaxb.adapter.JaxbLocaleAdapter;
         "locale",
         "solverRankingType",
         "solverRankingComparatorClass",
-        "solverRankingWeightFactoryClass"
+        "solverRankingWeightFactoryClass",
+        "chartPointCountLimit",
+        "csvExportEnabled"
 })
 public class BenchmarkReportConfig extends AbstractConfig<BenchmarkReportConfig> {
 
@@ -27,6 +29,8 @@ public class BenchmarkReportConfig extends AbstractConfig<BenchmarkReportConfig>
     private SolverRankingType solverRankingType = null;
     private Class<? extends Comparator<SolverBenchmarkResult>> solverRankingComparatorClass = null;
     private Class<? extends SolverRankingWeightFactory> solverRankingWeightFactoryClass = null;
+    private Integer chartPointCountLimit = null;
+    private Boolean csvExportEnabled = null;
 
     public BenchmarkReportConfig() {
     }
@@ -69,6 +73,36 @@ public class BenchmarkReportConfig extends AbstractConfig<BenchmarkReportConfig>
         this.solverRankingWeightFactoryClass = solverRankingWeightFactoryClass;
     }
 
+    /**
+     * The line charts of the report are downsampled to at most this many points,
+     * shared by all the lines of the chart in proportion to their number of points,
+     * so large statistics don't make the report slow to open.
+     * Every line keeps at least its first and last point, even if that exceeds this limit.
+     *
+     * @return null if the default should be used
+     */
+    public Integer getChartPointCountLimit() {
+        return chartPointCountLimit;
+    }
+
+    public void setChartPointCountLimit(Integer chartPointCountLimit) {
+        this.chartPointCountLimit = chartPointCountLimit;
+    }
+
+    /**
+     * The report only offers the statistics as CSV files for download if this is true.
+     * Writing them reads every statistic point a second time, so it is off by default.
+     *
+     * @return null if the default should be used
+     */
+    public Boolean getCsvExportEnabled() {
+        return csvExportEnabled;
+    }
+
+    public void setCsvExportEnabled(Boolean csvExportEnabled) {
+        this.csvExportEnabled = csvExportEnabled;
+    }
+
     public Locale determineLocale() {
         return getLocale() == null ? Locale.getDefault() : getLocale();
     }
@@ -99,6 +133,16 @@ public class BenchmarkReportConfig extends AbstractConfig<BenchmarkReportConfig>
         return this;
     }
 
+    public BenchmarkReportConfig withChartPointCountLimit(Integer chartPointCountLimit) {
+        this.setChartPointCountLimit(chartPointCountLimit);
+        return this;
+    }
+
+    public BenchmarkReportConfig withCsvExportEnabled(Boolean csvExportEnabled) {
+        this.setCsvExportEnabled(csvExportEnabled);
+        return this;
+    }
+
     @Override
     public BenchmarkReportConfig inherit(BenchmarkReportConfig inheritedConfig) {
         locale = ConfigUtils.inheritOverwritableProperty(locale, inheritedConfig.getLocale());
@@ -108,6 +152,10 @@ public class BenchmarkReportConfig extends AbstractConfig<BenchmarkReportConfig>
                 inheritedConfig.getSolverRankingComparatorClass());
         solverRankingWeightFactoryClass = ConfigUtils.inheritOverwritableProperty(solverRankingWeightFactoryClass,
                 inheritedConfig.getSolverRankingWeightFactoryClass());
+        chartPointCountLimit = ConfigUtils.inheritOverwritableProperty(chartPointCountLimit,
+                inheritedConfig.getChartPointCountLimit());
+        csvExportEnabled = ConfigUtils.inheritOverwritableProperty(csvExportEnabled,
+                inheritedConfig.getCsvExportEnabled());
         return this;
     }
 
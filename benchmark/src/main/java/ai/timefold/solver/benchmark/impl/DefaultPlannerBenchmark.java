@@ -240,7 +240,10 @@ public class DefaultPlannerBenchmark implements PlannerBenchmark {
     }
 
     protected void runSingleBenchmarks() {
-        Map<SubSingleBenchmarkRunner, Future<SubSingleBenchmarkRunner>> futureMap = new HashMap<>();
+        SubSingleBenchmarkScheduler scheduler = new SubSingleBenchmarkScheduler(executorService,
+                Runtime.getRuntime().availableProcessors());
+        Map<Future<SubSingleBenchmarkRunner>, SubSingleBenchmarkRunner> futureMap = new HashMap<>();
+        Map<SingleBenchmarkResult, Integer> runningSubSingleCountMap = new HashMap<>();
         for (ProblemBenchmarkResult<Object> problemBenchmarkResult : plannerBenchmarkResult
                 .getUnifiedProblemBenchmarkResultList()) {
             for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
@@ -248,15 +251,21 @@ public class DefaultPlannerBenchmark implements PlannerBenchmark {
                         .getSubSingleBenchmarkResultList()) {
                     SubSingleBenchmarkRunner subSingleBenchmarkRunner = new SubSingleBenchmarkRunner(
                             subSingleBenchmarkResult, false);
-                    Future<SubSingleBenchmarkRunner> future = executorService.submit(subSingleBenchmarkRunner);
-                    futureMap.put(subSingleBenchmarkRunner, future);
+                    futureMap.put(scheduler.submit(subSingleBenchmarkRunner), subSingleBenchmarkRunner);
                 }
+                runningSubSingleCountMap.put(singleBenchmarkResult, singleBenchmarkResult.getSubSingleCount());
             }
         }
-        // Wait for the benchmarks to complete
-        for (Map.Entry<SubSingleBenchmarkRunner, Future<SubSingleBenchmarkRunner>> futureEntry : futureMap.entrySet()) {
-            SubSingleBenchmarkRunner subSingleBenchmarkRunner = futureEntry.getKey();
-            Future<SubSingleBenchmarkRunner> future = futureEntry.getValue();
+        // Wait for the benchmarks to complete, adding sub singles to those single benchmarks that need more
+        while (!futureMap.isEmpty()) {
+            Future<SubSingleBenchmarkRunner> future;
+            try {
+                future = scheduler.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Waiting for a subSingleBenchmarkRunner was interrupted.", e);
+            }
+            SubSingleBenchmarkRunner subSingleBenchmarkRunner = futureMap.remove(future);
             Throwable failureThrowable = null;
             try {
                 // Explicitly returning it in the Callable guarantees memory visibility
@@ -273,15 +282,28 @@ public class DefaultPlannerBenchmark implements PlannerBenchmark {
                         subSingleBenchmarkRunner, subSingleBenchmarkRunner.getRandomSeed(), cause);
                 failureThrowable = cause;
             }
+            SubSingleBenchmarkResult subSingleBenchmarkResult = subSingleBenchmarkRunner.getSubSingleBenchmarkResult();
             if (failureThrowable == null) {
-                subSingleBenchmarkRunner.getSubSingleBenchmarkResult().setSucceeded(true);
+                subSingleBenchmarkResult.setSucceeded(true);
             } else {
-                subSingleBenchmarkRunner.getSubSingleBenchmarkResult().setSucceeded(false);
+                subSingleBenchmarkResult.setSucceeded(false);
                 subSingleBenchmarkRunner.setFailureThrowable(failureThrowable);
                 if (firstFailureSubSingleBenchmarkRunner == null) {
                     firstFailureSubSingleBenchmarkRunner = subSingleBenchmarkRunner;
                 }
             }
+            SingleBenchmarkResult singleBenchmarkResult = subSingleBenchmarkResult.getSingleBenchmarkResult();
+            int runningSubSingleCount = runningSubSingleCountMap.merge(singleBenchmarkResult, -1, Integer::sum);
+            if (runningSubSingleCount == 0 && !Thread.currentThread().isInterrupted()) {
+                SubSingleBenchmarkResult addedSubSingleBenchmarkResult =
+                        scheduler.addSubSingleBenchmarkIfNeeded(singleBenchmarkResult);
+                if (addedSubSingleBenchmarkResult != null) {
+                    SubSingleBenchmarkRunner addedSubSingleBenchmarkRunner = new SubSingleBenchmarkRunner(
+                            addedSubSingleBenchmarkResult, false);
+                    futureMap.put(scheduler.submit(addedSubSingleBenchmarkRunner), addedSubSingleBenchmarkRunner);
+                    runningSubSingleCountMap.put(singleBenchmarkResult, 1);
+                }
+            }
         }
     }
 
@@ -3,6 +3,7 @@ package ai.timefold.solver.benchmark.impl;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 
 import ai.timefold.solver.benchmark.config.ProblemBenchmarksConfig;
@@ -30,7 +31,10 @@ public class SolverBenchmarkFactory {
         validate();
         SolverBenchmarkResult solverBenchmarkResult = new SolverBenchmarkResult(plannerBenchmark);
         solverBenchmarkResult.setName(config.getName());
-        solverBenchmarkResult.setSubSingleCount(ConfigUtils.inheritOverwritableProperty(config.getSubSingleCount(), 1));
+        int subSingleCount = ConfigUtils.inheritOverwritableProperty(config.getSubSingleCount(), 1);
+        solverBenchmarkResult.setSubSingleCount(subSingleCount);
+        solverBenchmarkResult.setSubSingleCountLimit(
+                ConfigUtils.inheritOverwritableProperty(config.getSubSingleCountLimit(), subSingleCount));
         if (config.getSolverConfig().getClassLoader() == null) {
             config.getSolverConfig().setClassLoader(classLoader);
         }
@@ -58,6 +62,7 @@ public class SolverBenchmarkFactory {
             }
         }
         solverBenchmarkResult.setScoreDefinition(solutionDescriptor.getScoreDefinition());
+        solverBenchmarkResult.setMoveThreadCount(defaultSolverFactory.resolveMoveThreadCount(true));
         solverBenchmarkResult.setSingleBenchmarkResultList(new ArrayList<>());
         ProblemBenchmarksConfig problemBenchmarksConfig_ =
                 config.getProblemBenchmarksConfig() == null ? new ProblemBenchmarksConfig()
@@ -82,6 +87,12 @@ public class SolverBenchmarkFactory {
             throw new IllegalStateException("The solverBenchmark name (" + config.getName()
                     + ") is invalid because the subSingleCount (" + config.getSubSingleCount() + ") must be greater than 1.");
         }
+        if (config.getSubSingleCountLimit() != null
+                && config.getSubSingleCountLimit() < Objects.requireNonNullElse(config.getSubSingleCount(), 1)) {
+            throw new IllegalStateException("The solverBenchmark name (" + config.getName()
+                    + ") is invalid because the subSingleCountLimit (" + config.getSubSingleCountLimit()
+                    + ") must not be lower than the subSingleCount (" + config.getSubSingleCount() + ").");
+        }
     }
 
     protected List<SolverMetric> getSolverMetrics(ProblemBenchmarksConfig config) {
@@ -4,6 +4,8 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import ai.timefold.solver.benchmark.impl.result.ProblemBenchmarkResult;
 import ai.timefold.solver.benchmark.impl.result.SingleBenchmarkResult;
@@ -99,25 +101,33 @@ public class SubSingleBenchmarkRunner<Solution_> implements Callable<SubSingleBe
                 new StatisticRegistry<>(solverFactory.getSolutionDescriptor().getScoreDefinition());
         Metrics.addRegistry(statisticRegistry);
         Tags runTag = Tags.of("timefold.benchmark.run", runId);
-        subSingleBenchmarkResult.getEffectiveSubSingleStatisticMap().forEach((statisticType, subSingleStatistic) -> {
-            subSingleStatistic.open(statisticRegistry, runTag);
-            subSingleStatistic.initPointList();
-        });
-
-        DefaultSolver<Solution_> solver = (DefaultSolver<Solution_>) solverFactory.buildSolver();
-        solver.setMonitorTagMap(subSingleBenchmarkTagMap);
-        solver.addPhaseLifecycleListener(statisticRegistry);
-        Solution_ solution = solver.solve(problem);
-
-        solver.removePhaseLifecycleListener(statisticRegistry);
-        Metrics.removeRegistry(statisticRegistry);
-        long timeMillisSpent = solver.getTimeMillisSpent();
-
-        for (SubSingleStatistic<Solution_, ?> subSingleStatistic : subSingleBenchmarkResult.getEffectiveSubSingleStatisticMap()
-                .values()) {
-            subSingleStatistic.close(statisticRegistry, runTag);
-            subSingleStatistic.hibernatePointList();
+        // Encodes and writes the statistic points outside the solver thread, so it doesn't affect the measurements.
+        ExecutorService statisticFileWriter = Executors.newSingleThreadExecutor();
+        DefaultSolver<Solution_> solver;
+        Solution_ solution;
+        try {
+            subSingleBenchmarkResult.getEffectiveSubSingleStatisticMap().forEach((statisticType, subSingleStatistic) -> {
+                subSingleStatistic.open(statisticRegistry, runTag);
+                subSingleStatistic.initAppendingPointList(statisticFileWriter);
+            });
+
+            solver = (DefaultSolver<Solution_>) solverFactory.buildSolver();
+            solver.setMonitorTagMap(subSingleBenchmarkTagMap);
+            solver.addPhaseLifecycleListener(statisticRegistry);
+            solution = solver.solve(problem);
+
+            solver.removePhaseLifecycleListener(statisticRegistry);
+            Metrics.removeRegistry(statisticRegistry);
+
+            for (SubSingleStatistic<Solution_, ?> subSingleStatistic : subSingleBenchmarkResult
+                    .getEffectiveSubSingleStatisticMap().values()) {
+                subSingleStatistic.close(statisticRegistry, runTag);
+                subSingleStatistic.hibernatePointList();
+            }
+        } finally {
+            statisticFileWriter.shutdown();
         }
+        long timeMillisSpent = solver.getTimeMillisSpent();
         if (!warmUp) {
             var solverScope = solver.getSolverScope();
             var solutionDescriptor = solverScope.getSolutionDescriptor();
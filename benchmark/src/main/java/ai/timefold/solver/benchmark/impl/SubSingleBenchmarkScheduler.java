@@ -0,0 +1,227 @@
+package ai.timefold.solver.benchmark.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+import ai.timefold.solver.benchmark.impl.result.ProblemBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.result.SingleBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.result.SolverBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.statistic.PureSubSingleStatistic;
+
+import org.apache.commons.math3.distribution.TDistribution;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Runs {@link SubSingleBenchmarkRunner}s on the benchmark {@link ExecutorService}
+ * and decides whether a {@link SingleBenchmarkResult} needs more sub singles.
+ * <p>
+ * Every sub single holds as many processors as it has solver threads (1 plus its move threads)
+ * while it runs, so parallel benchmarks with move threads don't overcommit the available processors
+ * and don't distort each other's score calculation speed.
+ * <p>
+ * Once all sub singles of a single benchmark finished,
+ * another one is added if its {@link SolverBenchmarkResult#getSubSingleCountLimit()} allows it,
+ * unless the {@value #CONFIDENCE_LEVEL} confidence interval of its average score is already narrow enough
+ * or another solver benchmark is statistically better on the same problem.
+ */
+final class SubSingleBenchmarkScheduler {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(SubSingleBenchmarkScheduler.class);
+
+    static final double CONFIDENCE_LEVEL = 0.95;
+    /**
+     * The confidence interval of the average score is narrow enough
+     * if, on every score level, its half width is at most this fraction of the absolute average.
+     */
+    static final double RELATIVE_HALF_WIDTH_LIMIT = 0.01;
+
+    private final ExecutorCompletionService<SubSingleBenchmarkRunner> completionService;
+    private final int availableProcessorCount;
+    private final Semaphore processorSemaphore;
+
+    SubSingleBenchmarkScheduler(ExecutorService executorService, int availableProcessorCount) {
+        this.completionService = new ExecutorCompletionService<>(executorService);
+        this.availableProcessorCount = availableProcessorCount;
+        // Fair, so a sub single that needs many processors isn't starved by those that need few.
+        this.processorSemaphore = new Semaphore(availableProcessorCount, true);
+    }
+
+    public Future<SubSingleBenchmarkRunner> submit(SubSingleBenchmarkRunner subSingleBenchmarkRunner) {
+        int processorCount = determineProcessorCount(subSingleBenchmarkRunner.getSubSingleBenchmarkResult()
+                .getSingleBenchmarkResult().getSolverBenchmarkResult());
+        return completionService.submit(() -> {
+            processorSemaphore.acquire(processorCount);
+            try {
+                return subSingleBenchmarkRunner.call();
+            } finally {
+                processorSemaphore.release(processorCount);
+            }
+        });
+    }
+
+    public Future<SubSingleBenchmarkRunner> take() throws InterruptedException {
+        return completionService.take();
+    }
+
+    int determineProcessorCount(SolverBenchmarkResult solverBenchmarkResult) {
+        int moveThreadCount = Objects.requireNonNullElse(solverBenchmarkResult.getMoveThreadCount(), 0);
+        return Math.min(1 + moveThreadCount, availableProcessorCount);
+    }
+
+    /**
+     * To be called once all sub singles of the single benchmark finished.
+     *
+     * @param singleBenchmarkResult never null
+     * @return null if the single benchmark needs no more sub singles
+     */
+    public SubSingleBenchmarkResult addSubSingleBenchmarkIfNeeded(SingleBenchmarkResult singleBenchmarkResult) {
+        if (!needsMoreSubSingles(singleBenchmarkResult)) {
+            return null;
+        }
+        List<SubSingleBenchmarkResult> subSingleBenchmarkResultList = singleBenchmarkResult.getSubSingleBenchmarkResultList();
+        SubSingleBenchmarkResult firstSubSingleBenchmarkResult = subSingleBenchmarkResultList.get(0);
+        SubSingleBenchmarkResult subSingleBenchmarkResult = new SubSingleBenchmarkResult(singleBenchmarkResult,
+                subSingleBenchmarkResultList.size());
+        List<PureSubSingleStatistic> pureSubSingleStatisticList = new ArrayList<>(
+                firstSubSingleBenchmarkResult.getPureSubSingleStatisticList().size());
+        for (PureSubSingleStatistic pureSubSingleStatistic : firstSubSingleBenchmarkResult.getPureSubSingleStatisticList()) {
+            pureSubSingleStatisticList.add(pureSubSingleStatistic.getStatisticType()
+                    .buildPureSubSingleStatistic(subSingleBenchmarkResult));
+        }
+        subSingleBenchmarkResult.setPureSubSingleStatisticList(pureSubSingleStatisticList);
+        subSingleBenchmarkResult.initSubSingleStatisticMap();
+        subSingleBenchmarkResult.makeDirs();
+        subSingleBenchmarkResultList.add(subSingleBenchmarkResult);
+        return subSingleBenchmarkResult;
+    }
+
+    boolean needsMoreSubSingles(SingleBenchmarkResult singleBenchmarkResult) {
+        SolverBenchmarkResult solverBenchmarkResult = singleBenchmarkResult.getSolverBenchmarkResult();
+        Integer subSingleCountLimit = solverBenchmarkResult.getSubSingleCountLimit();
+        if (subSingleCountLimit == null || singleBenchmarkResult.getSubSingleCount() >= subSingleCountLimit) {
+            return false;
+        }
+        for (SubSingleBenchmarkResult subSingleBenchmarkResult : singleBenchmarkResult.getSubSingleBenchmarkResultList()) {
+            if (!Boolean.TRUE.equals(subSingleBenchmarkResult.getSucceeded())) {
+                // Repeating a failure doesn't make the average score more precise.
+                return false;
+            }
+        }
+        ScoreConfidenceInterval confidenceInterval = ScoreConfidenceInterval.of(singleBenchmarkResult);
+        if (confidenceInterval == null) {
+            return true;
+        }
+        ProblemBenchmarkResult<?> problemBenchmarkResult = singleBenchmarkResult.getProblemBenchmarkResult();
+        for (SingleBenchmarkResult otherSingleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
+            if (otherSingleBenchmarkResult == singleBenchmarkResult) {
+                continue;
+            }
+            ScoreConfidenceInterval otherConfidenceInterval = ScoreConfidenceInterval.of(otherSingleBenchmarkResult);
+            if (otherConfidenceInterval != null && confidenceInterval.isWorseThan(otherConfidenceInterval)) {
+                LOGGER.info("Stopped the singleBenchmark ({}) after subSingleCount ({})"
+                        + " because the singleBenchmark ({}) is statistically better.",
+                        singleBenchmarkResult.getName(), singleBenchmarkResult.getSubSingleCount(),
+                        otherSingleBenchmarkResult.getName());
+                return false;
+            }
+        }
+        if (confidenceInterval.isNarrow()) {
+            LOGGER.debug("Stopped the singleBenchmark ({}) after subSingleCount ({})"
+                    + " because the confidence interval of its average score is narrow enough.",
+                    singleBenchmarkResult.getName(), singleBenchmarkResult.getSubSingleCount());
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * The {@value #CONFIDENCE_LEVEL} confidence interval of the average score of the succeeded sub singles,
+     * per score level, based on the Student's t-distribution.
+     */
+    record ScoreConfidenceInterval(double[] averages, double[] halfWidths) {
+
+        /**
+         * @return null if fewer than 2 sub singles succeeded
+         */
+        static ScoreConfidenceInterval of(SingleBenchmarkResult singleBenchmarkResult) {
+            List<double[]> levelDoublesList = new ArrayList<>(singleBenchmarkResult.getSubSingleCount());
+            for (SubSingleBenchmarkResult subSingleBenchmarkResult : singleBenchmarkResult
+                    .getSubSingleBenchmarkResultList()) {
+                // Sub singles that are still running have not succeeded yet.
+                if (Boolean.TRUE.equals(subSingleBenchmarkResult.getSucceeded())
+                        && subSingleBenchmarkResult.getScore() != null) {
+                    levelDoublesList.add(subSingleBenchmarkResult.getScore().toLevelDoubles());
+                }
+            }
+            int n = levelDoublesList.size();
+            if (n < 2) {
+                return null;
+            }
+            int levelCount = levelDoublesList.get(0).length;
+            double[] averages = new double[levelCount];
+            double[] halfWidths = new double[levelCount];
+            double criticalValue = new TDistribution(null, n - 1)
+                    .inverseCumulativeProbability(1.0 - (1.0 - CONFIDENCE_LEVEL) / 2.0);
+            for (int i = 0; i < levelCount; i++) {
+                double sum = 0.0;
+                for (double[] levelDoubles : levelDoublesList) {
+                    sum += levelDoubles[i];
+                }
+                double average = sum / n;
+                double squaredDifferenceSum = 0.0;
+                for (double[] levelDoubles : levelDoublesList) {
+                    double difference = levelDoubles[i] - average;
+                    squaredDifferenceSum += difference * difference;
+                }
+                averages[i] = average;
+                halfWidths[i] = criticalValue * Math.sqrt(squaredDifferenceSum / (n - 1) / n);
+            }
+            return new ScoreConfidenceInterval(averages, halfWidths);
+        }
+
+        boolean isNarrow() {
+            for (int i = 0; i < averages.length; i++) {
+                if (halfWidths[i] > RELATIVE_HALF_WIDTH_LIMIT * Math.abs(averages[i])) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Compares the score levels from hard to soft, like a score does,
+         * but only decides at a level where the intervals don't overlap.
+         */
+        boolean isWorseThan(ScoreConfidenceInterval other) {
+            if (averages.length != other.averages.length) {
+                throw new IllegalStateException("Impossible state: the score level count (" + averages.length
+                        + ") differs from the other score level count (" + other.averages.length + ").");
+            }
+            for (int i = 0; i < averages.length; i++) {
+                double upperBound = averages[i] + halfWidths[i];
+                double lowerBound = averages[i] - halfWidths[i];
+                double otherUpperBound = other.averages[i] + other.halfWidths[i];
+                double otherLowerBound = other.averages[i] - other.halfWidths[i];
+                if (upperBound < otherLowerBound) {
+                    return true;
+                } else if (lowerBound > otherUpperBound) {
+                    return false;
+                } else if (halfWidths[i] != 0.0 || other.halfWidths[i] != 0.0) {
+                    // Overlapping intervals: not statistically different.
+                    return false;
+                }
+                // Both are the same constant on this level, so the next level decides.
+            }
+            return false;
+        }
+
+    }
+
+}
@@ -7,6 +7,7 @@ import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.nio.file.Path;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Comparator;
@@ -55,6 +56,8 @@ public class BenchmarkReport {
 
     private Locale locale = null;
     private ZoneId timezoneId = null;
+    private int chartPointCountLimit = LineChart.Builder.DEFAULT_POINT_COUNT_LIMIT;
+    private boolean csvExportEnabled = false;
     private Comparator<SolverBenchmarkResult> solverRankingComparator = null;
     private SolverRankingWeightFactory solverRankingWeightFactory = null;
     private List<BarChart<Double>> bestScoreSummaryChartList = null;
@@ -97,6 +100,25 @@ public class BenchmarkReport {
         this.timezoneId = timezoneId;
     }
 
+    /**
+     * @return at least {@link LineChart.Builder#MIN_POINT_COUNT_LIMIT}
+     */
+    public int getChartPointCountLimit() {
+        return chartPointCountLimit;
+    }
+
+    public void setChartPointCountLimit(int chartPointCountLimit) {
+        this.chartPointCountLimit = chartPointCountLimit;
+    }
+
+    public boolean isCsvExportEnabled() {
+        return csvExportEnabled;
+    }
+
+    public void setCsvExportEnabled(boolean csvExportEnabled) {
+        this.csvExportEnabled = csvExportEnabled;
+    }
+
     public Comparator<SolverBenchmarkResult> getSolverRankingComparator() {
         return solverRankingComparator;
     }
@@ -213,34 +235,7 @@ public class BenchmarkReport {
         timeSpentScalabilitySummaryChart = createTimeSpentScalabilitySummaryChart();
         bestScorePerTimeSpentSummaryChartList = createBestScorePerTimeSpentSummaryChart();
 
-        for (ProblemBenchmarkResult<?> problemBenchmarkResult : plannerBenchmarkResult.getUnifiedProblemBenchmarkResultList()) {
-            for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
-                for (SubSingleBenchmarkResult subSingleBenchmarkResult : singleBenchmarkResult
-                        .getSubSingleBenchmarkResultList()) {
-                    if (!subSingleBenchmarkResult.hasAllSuccess()) {
-                        continue;
-                    }
-                    for (SubSingleStatistic<?, ?> subSingleStatistic : subSingleBenchmarkResult
-                            .getEffectiveSubSingleStatisticMap().values()) {
-                        try {
-                            subSingleStatistic.unhibernatePointList();
-                        } catch (IllegalStateException e) {
-                            if (!plannerBenchmarkResult.getAggregation()) {
-                                throw new IllegalStateException("Failed to unhibernate point list of SubSingleStatistic ("
-                                        + subSingleStatistic + ") of SubSingleBenchmark (" + subSingleBenchmarkResult + ").",
-                                        e);
-                            }
-                            LOGGER.trace("This is expected, aggregator doesn't copy CSV files. Could not read CSV file "
-                                    + "({}) of sub single statistic ({}).", subSingleStatistic.getCsvFile().getAbsolutePath(),
-                                    subSingleStatistic);
-                        }
-                    }
-                }
-            }
-        }
-
         List<Chart> chartsToWrite = new ArrayList<>(bestScoreSummaryChartList);
-        chartsToWrite.addAll(bestScoreSummaryChartList);
         chartsToWrite.addAll(bestScoreScalabilitySummaryChartList);
         chartsToWrite.addAll(winningScoreDifferenceSummaryChartList);
         chartsToWrite.addAll(worstScoreDifferencePercentageSummaryChartList);
@@ -251,51 +246,60 @@ public class BenchmarkReport {
         chartsToWrite.add(timeSpentSummaryChart);
         chartsToWrite.add(timeSpentScalabilitySummaryChart);
         chartsToWrite.addAll(bestScorePerTimeSpentSummaryChartList);
+        writeCharts(chartsToWrite);
 
+        // The charts stream the statistic points from the statistic files one block at a time,
+        // so the memory use doesn't grow with the number of points.
         for (ProblemBenchmarkResult<?> problemBenchmarkResult : plannerBenchmarkResult
                 .getUnifiedProblemBenchmarkResultList()) {
             if (problemBenchmarkResult.hasAnySuccess()) {
+                List<Chart> problemChartsToWrite = new ArrayList<>();
                 for (ProblemStatistic<?> problemStatistic : problemBenchmarkResult.getProblemStatisticList()) {
                     problemStatistic.createChartList(this);
-                    chartsToWrite.addAll(problemStatistic.getChartList());
+                    problemChartsToWrite.addAll(problemStatistic.getChartList());
                 }
                 for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
                     if (singleBenchmarkResult.hasAllSuccess()) {
                         for (PureSubSingleStatistic<?, ?, ?> pureSubSingleStatistic : singleBenchmarkResult.getMedian()
                                 .getPureSubSingleStatisticList()) {
                             pureSubSingleStatistic.createChartList(this);
-                            chartsToWrite.addAll(pureSubSingleStatistic.getChartList());
+                            problemChartsToWrite.addAll(pureSubSingleStatistic.getChartList());
                         }
                     }
                 }
+                writeCharts(problemChartsToWrite);
             }
+            releasePointLists(problemBenchmarkResult);
         }
+        determineDefaultShownScoreLevelIndex();
+        writeHtmlOverviewFile();
+    }
 
-        // Now write all JavaScript files for the charts.
-        chartsToWrite.parallelStream()
-                .forEach(c -> c
-                        .writeToFile(plannerBenchmarkResult.getBenchmarkReportDirectory().toPath().resolve("website/js")));
-
-        for (ProblemBenchmarkResult<?> problemBenchmarkResult : plannerBenchmarkResult.getUnifiedProblemBenchmarkResultList()) {
-            for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
-                for (SubSingleBenchmarkResult subSingleBenchmarkResult : singleBenchmarkResult
-                        .getSubSingleBenchmarkResultList()) {
-                    if (!subSingleBenchmarkResult.hasAllSuccess()) {
-                        continue;
-                    }
-                    for (SubSingleStatistic<?, ?> subSingleStatistic : subSingleBenchmarkResult
-                            .getEffectiveSubSingleStatisticMap().values()) {
-                        if (plannerBenchmarkResult.getAggregation()) {
-                            subSingleStatistic.setPointList(null);
-                        } else {
-                            subSingleStatistic.hibernatePointList();
-                        }
+    private void releasePointLists(ProblemBenchmarkResult<?> problemBenchmarkResult) {
+        for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
+            for (SubSingleBenchmarkResult subSingleBenchmarkResult : singleBenchmarkResult
+                    .getSubSingleBenchmarkResultList()) {
+                if (!subSingleBenchmarkResult.hasAllSuccess()) {
+                    continue;
+                }
+                for (SubSingleStatistic<?, ?> subSingleStatistic : subSingleBenchmarkResult
+                        .getEffectiveSubSingleStatisticMap().values()) {
+                    // The report only links to the CSV files of a benchmark that isn't an aggregation.
+                    if (csvExportEnabled && !plannerBenchmarkResult.getAggregation()) {
+                        subSingleStatistic.exportCsvFile();
                     }
+                    // Only an aggregation has the points in memory.
+                    // The statistic file is unchanged, so there's no need to hibernate it again.
+                    subSingleStatistic.setPointList(null);
                 }
             }
         }
-        determineDefaultShownScoreLevelIndex();
-        writeHtmlOverviewFile();
+    }
+
+    private void writeCharts(List<Chart> chartList) {
+        Path chartDirectory = plannerBenchmarkResult.getBenchmarkReportDirectory().toPath().resolve("website/js");
+        chartList.parallelStream()
+                .forEach(chart -> chart.writeToFile(chartDirectory));
     }
 
     public List<String> getWarningList() {
@@ -375,7 +379,7 @@ public class BenchmarkReport {
                     double[] levelValues = singleBenchmarkResult.getAverageScore().toLevelDoubles();
                     for (int i = 0; i < levelValues.length && i < CHARTED_SCORE_LEVEL_SIZE; i++) {
                         if (i >= builderList.size()) {
-                            builderList.add(new LineChart.Builder<>());
+                            builderList.add(new LineChart.Builder<>(chartPointCountLimit));
                         }
                         LineChart.Builder<Long, Double> builder = builderList.get(i);
                         builder.add(solverLabel, problemScale, levelValues[i]);
@@ -545,7 +549,7 @@ public class BenchmarkReport {
 
     private LineChart<Long, Long> createScalabilitySummaryChart(ToLongFunction<SingleBenchmarkResult> valueFunction, String id,
             String title, String yLabel, boolean timeOnY) {
-        LineChart.Builder<Long, Long> builder = new LineChart.Builder<>();
+        LineChart.Builder<Long, Long> builder = new LineChart.Builder<>(chartPointCountLimit);
         for (SolverBenchmarkResult solverBenchmarkResult : plannerBenchmarkResult.getSolverBenchmarkResultList()) {
             String solverLabel = solverBenchmarkResult.getNameWithFavoriteSuffix();
             if (solverBenchmarkResult.isFavorite()) {
@@ -573,7 +577,7 @@ public class BenchmarkReport {
                     double[] levelValues = singleBenchmarkResult.getAverageScore().toLevelDoubles();
                     for (int i = 0; i < levelValues.length && i < CHARTED_SCORE_LEVEL_SIZE; i++) {
                         if (i >= builderList.size()) {
-                            builderList.add(new LineChart.Builder<>());
+                            builderList.add(new LineChart.Builder<>(chartPointCountLimit));
                         }
                         LineChart.Builder<Long, Double> builder = builderList.get(i);
                         builder.add(solverLabel, timeMillisSpent, levelValues[i]);
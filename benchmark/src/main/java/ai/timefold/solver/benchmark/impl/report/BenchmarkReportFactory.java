@@ -24,6 +24,15 @@ public class BenchmarkReportFactory {
         BenchmarkReport benchmarkReport = new BenchmarkReport(plannerBenchmark);
         benchmarkReport.setLocale(config.determineLocale());
         benchmarkReport.setTimezoneId(ZoneId.systemDefault());
+        Integer chartPointCountLimit = config.getChartPointCountLimit();
+        if (chartPointCountLimit != null) {
+            if (chartPointCountLimit < LineChart.Builder.MIN_POINT_COUNT_LIMIT) {
+                throw new IllegalStateException("The chartPointCountLimit (" + chartPointCountLimit
+                        + ") cannot be less than " + LineChart.Builder.MIN_POINT_COUNT_LIMIT + ".");
+            }
+            benchmarkReport.setChartPointCountLimit(chartPointCountLimit);
+        }
+        benchmarkReport.setCsvExportEnabled(Boolean.TRUE.equals(config.getCsvExportEnabled()));
         supplySolverRanking(benchmarkReport);
         return benchmarkReport;
     }
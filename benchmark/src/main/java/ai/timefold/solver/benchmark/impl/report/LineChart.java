@@ -182,10 +182,38 @@ public record LineChart<X extends Number & Comparable<X>, Y extends Number & Com
     }
 
     public static final class Builder<X extends Number & Comparable<X>, Y extends Number & Comparable<Y>> {
-        private static final int MAX_CHART_WIDTH = 3840;
+
+        /**
+         * The width of a 4K screen: a chart can't show more points than that anyway.
+         */
+        public static final int DEFAULT_POINT_COUNT_LIMIT = 3840;
+        /**
+         * Largest-Triangle-Three-Buckets always keeps the first and the last point, and needs at least 1 bucket.
+         */
+        public static final int MIN_POINT_COUNT_LIMIT = 3;
+
+        private final int pointCountLimit;
         private final Map<String, NavigableMap<X, Y>> data = new LinkedHashMap<>();
         private final Set<String> favoriteSet = new HashSet<>();
 
+        public Builder() {
+            this(DEFAULT_POINT_COUNT_LIMIT);
+        }
+
+        /**
+         * @param pointCountLimit at least {@link #MIN_POINT_COUNT_LIMIT}, the number of X values of the chart,
+         *        shared by all its datasets in proportion to their point count.
+         *        Every dataset keeps its first and last point,
+         *        so a chart with more than half as many datasets exceeds it.
+         */
+        public Builder(int pointCountLimit) {
+            if (pointCountLimit < MIN_POINT_COUNT_LIMIT) {
+                throw new IllegalArgumentException("The pointCountLimit (" + pointCountLimit
+                        + ") must be at least " + MIN_POINT_COUNT_LIMIT + ".");
+            }
+            this.pointCountLimit = pointCountLimit;
+        }
+
         public Builder<X, Y> add(String dataset, X x, Y y) {
             data.computeIfAbsent(dataset, k -> new TreeMap<>())
                     .put(x, y);
@@ -238,14 +266,25 @@ public record LineChart<X extends Number & Comparable<X>, Y extends Number & Com
              * Sometimes, when the dataset size is large, it can cause the browser to freeze or use excessive memory
              * while rendering the line chart. To solve the issue of a large volume of data points, we use the
              * Largest-Triangle-Three-Buckets algorithm to down-sample the data.
+             * Every dataset gets a share of the point count limit in proportion to its point count,
+             * because every dataset has a (mostly null) Y value for the X values of all the other datasets.
+             * The shares add up to at most the limit, unless there are too many datasets to keep their endpoints.
              */
+            var totalPointCount = data.values().stream().mapToLong(Map::size).sum();
+            // Every dataset keeps its first and last point, the rest of the limit is shared.
+            var endpointCount = data.values().stream().mapToLong(map -> Math.min(map.size(), 2)).sum();
+            var sharedPointCount = Math.max(pointCountLimit - endpointCount, 0L);
             Map<String, Map<X, Y>> datasetMap = new LinkedHashMap<>(data.size());
             for (var entry : data.entrySet()) {
-                datasetMap.put(entry.getKey(), largestTriangleThreeBuckets(entry.getValue(), MAX_CHART_WIDTH));
+                var pointCount = entry.getValue().size();
+                var sampleSize = pointCount;
+                if (totalPointCount > pointCountLimit && pointCount > 2) {
+                    sampleSize = 2 + (int) (sharedPointCount * (pointCount - 2) / (totalPointCount - endpointCount));
+                }
+                datasetMap.put(entry.getKey(), largestTriangleThreeBuckets(entry.getValue(), sampleSize));
             }
             // We need to merge all the keys after the down-sampling process to create a consistent X values list.
-            // The xValues list size can be "MAX_CHART_WIDTH * data.size" in the worst case.
-            var xValues = data.values().stream()
+            var xValues = datasetMap.values().stream()
                     .flatMap(k -> k.keySet().stream())
                     .distinct()
                     .sorted(Comparable::compareTo)
@@ -280,6 +319,13 @@ public record LineChart<X extends Number & Comparable<X>, Y extends Number & Com
         private Map<X, Y> largestTriangleThreeBuckets(NavigableMap<X, Y> datasetDataMap, int sampleSize) {
             if (datasetDataMap.size() <= sampleSize) {
                 return datasetDataMap;
+            } else if (sampleSize < MIN_POINT_COUNT_LIMIT) { // No room for a bucket.
+                var sampled = new LinkedHashMap<X, Y>(2);
+                var firstEntry = datasetDataMap.firstEntry();
+                sampled.put(firstEntry.getKey(), firstEntry.getValue());
+                var lastEntry = datasetDataMap.lastEntry();
+                sampled.put(lastEntry.getKey(), lastEntry.getValue());
+                return sampled;
             }
             var sampled = new LinkedHashMap<X, Y>(sampleSize);
             List<X> keys = new ArrayList<>(datasetDataMap.keySet());
@@ -30,11 +30,14 @@ public class SolverBenchmarkResult {
     private String name = null;
 
     private Integer subSingleCount = null;
+    private Integer subSingleCountLimit = null;
 
     @XmlElement(namespace = SolverConfig.XML_NAMESPACE)
     private SolverConfig solverConfig = null;
     @XmlTransient // Restored through BenchmarkResultIO
     private ScoreDefinition scoreDefinition = null;
+    @XmlTransient // Only needed while benchmarking
+    private Integer moveThreadCount = null;
 
     @XmlElement(name = "singleBenchmarkResult")
     private List<SingleBenchmarkResult> singleBenchmarkResultList = null;
@@ -102,6 +105,25 @@ public class SolverBenchmarkResult {
         this.subSingleCount = subSingleCount;
     }
 
+    public Integer getSubSingleCountLimit() {
+        return subSingleCountLimit;
+    }
+
+    public void setSubSingleCountLimit(Integer subSingleCountLimit) {
+        this.subSingleCountLimit = subSingleCountLimit;
+    }
+
+    /**
+     * @return null if the solver does not use move threads
+     */
+    public Integer getMoveThreadCount() {
+        return moveThreadCount;
+    }
+
+    public void setMoveThreadCount(Integer moveThreadCount) {
+        this.moveThreadCount = moveThreadCount;
+    }
+
     public SolverConfig getSolverConfig() {
         return solverConfig;
     }
@@ -51,7 +51,7 @@ public class SubSingleBenchmarkResult implements BenchmarkResult {
     })
     private List<PureSubSingleStatistic> pureSubSingleStatisticList = null;
 
-    @XmlTransient // Lazily restored when read through ProblemStatistic and CSV files
+    @XmlTransient // Lazily restored when read through ProblemStatistic and statistic files
     private Map<StatisticType, SubSingleStatistic> effectiveSubSingleStatisticMap;
 
     private Long usedMemoryAfterInputSolution = null;
@@ -283,7 +283,7 @@ public class SubSingleBenchmarkResult implements BenchmarkResult {
         for (SubSingleStatistic newSubSingleStatistic : newResult.effectiveSubSingleStatisticMap.values()) {
             SubSingleStatistic oldSubSingleStatistic = oldResult
                     .getSubSingleStatistic(newSubSingleStatistic.getStatisticType());
-            if (!oldSubSingleStatistic.getCsvFile().exists()) {
+            if (!oldSubSingleStatistic.hasStatisticFile()) {
                 if (oldResult.hasAnyFailure()) {
                     newSubSingleStatistic.initPointList();
                     LOGGER.debug("Old result ({}) is a failure, skipping merge of its sub single statistic ({}).",
@@ -291,7 +291,7 @@ public class SubSingleBenchmarkResult implements BenchmarkResult {
                     continue;
                 } else {
                     throw new IllegalStateException("Could not find old result's (" + oldResult
-                            + ") sub single statistic's (" + oldSubSingleStatistic + ") CSV file.");
+                            + ") sub single statistic's (" + oldSubSingleStatistic + ") statistic file.");
                 }
             }
             oldSubSingleStatistic.unhibernatePointList();
@@ -0,0 +1,636 @@
+package ai.timefold.solver.benchmark.impl.statistic;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
+
+/**
+ * Stores the points of 1 {@link SubSingleStatistic} in a compact binary file,
+ * which is appended to in blocks of at most {@value #BLOCK_SIZE} points while solving.
+ * <p>
+ * The points write their fields as typed columns, see {@link StatisticPoint#writeColumns(StatisticColumnWriter)}.
+ * Inside a block, every column is stored together:
+ * <ul>
+ * <li>Long columns (such as the time spent) as zigzag varints of the deltas between consecutive values.</li>
+ * <li>Score columns as 1 such long column per score level, or as a string column for {@link BigDecimal} levels.</li>
+ * <li>String columns dictionary encoded, because most of them (such as constraint names) repeat a lot.</li>
+ * </ul>
+ * A file consists of a header, any number of blocks and an end marker with the failed flag.
+ * A file without an end marker (for example because the solver crashed) is read as failed.
+ */
+final class ColumnarStatisticFile {
+
+    static final int BLOCK_SIZE = 4096;
+
+    private static final int MAGIC_NUMBER = 0x54465354; // "TFST"
+    private static final byte VERSION = 2;
+
+    private static final byte LONG_COLUMN = 0;
+    private static final byte STRING_COLUMN = 1;
+    private static final byte SCORE_COLUMN = 2;
+
+    private static final byte INT_LEVEL = 0;
+    private static final byte LONG_LEVEL = 1;
+    private static final byte BIG_DECIMAL_LEVEL = 2;
+
+    private ColumnarStatisticFile() {
+    }
+
+    // ************************************************************************
+    // Write methods
+    // ************************************************************************
+
+    /**
+     * Creates the file, or truncates it if it already exists.
+     *
+     * @param file never null
+     * @param csvHeader never null, validated when reading the file back
+     */
+    static void writeHeader(File file, String csvHeader) {
+        try (DataOutputStream out = openOutputStream(file, StandardOpenOption.TRUNCATE_EXISTING)) {
+            out.writeInt(MAGIC_NUMBER);
+            out.writeByte(VERSION);
+            writeString(out, csvHeader);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed writing statisticFile (" + file + ").", e);
+        }
+    }
+
+    /**
+     * @param file never null, its header must already be written
+     * @param pointList never null, split into blocks of at most {@value #BLOCK_SIZE} points
+     */
+    static void appendPoints(File file, List<? extends StatisticPoint> pointList) {
+        if (pointList.isEmpty()) {
+            return;
+        }
+        try (DataOutputStream out = openOutputStream(file, StandardOpenOption.APPEND)) {
+            for (int from = 0; from < pointList.size(); from += BLOCK_SIZE) {
+                int to = Math.min(from + BLOCK_SIZE, pointList.size());
+                writeBlock(out, pointList.subList(from, to));
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed writing statisticFile (" + file + ").", e);
+        }
+    }
+
+    /**
+     * @param file never null, its header must already be written
+     * @param failed true if the sub single benchmark failed
+     */
+    static void writeEnd(File file, boolean failed) {
+        try (DataOutputStream out = openOutputStream(file, StandardOpenOption.APPEND)) {
+            writeVarLong(out, 0L);
+            out.writeBoolean(failed);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed writing statisticFile (" + file + ").", e);
+        }
+    }
+
+    private static DataOutputStream openOutputStream(File file, StandardOpenOption openOption) throws IOException {
+        OutputStream outputStream = Files.newOutputStream(file.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, openOption);
+        return new DataOutputStream(new BufferedOutputStream(outputStream));
+    }
+
+    private static void writeBlock(DataOutputStream out, List<? extends StatisticPoint> pointList) throws IOException {
+        BlockWriter blockWriter = new BlockWriter(pointList.size());
+        for (StatisticPoint point : pointList) {
+            point.writeColumns(blockWriter);
+            blockWriter.endPoint(point);
+        }
+        writeVarLong(out, pointList.size());
+        writeVarLong(out, blockWriter.columnList.size());
+        for (Column column : blockWriter.columnList) {
+            out.writeByte(column.type);
+            switch (column.type) {
+                case LONG_COLUMN -> writeLongColumn(out, column.longs);
+                case STRING_COLUMN -> writeStringColumn(out, column.strings);
+                case SCORE_COLUMN -> writeScoreColumn(out, column.scores);
+                default -> throw new IllegalStateException("Impossible state: the column type (" + column.type
+                        + ") is not implemented.");
+            }
+        }
+    }
+
+    private static void writeLongColumn(DataOutputStream out, long[] longColumn) throws IOException {
+        long previous = 0L;
+        for (long value : longColumn) {
+            writeVarLong(out, zigzagEncode(value - previous));
+            previous = value;
+        }
+    }
+
+    private static void writeScoreColumn(DataOutputStream out, Score<?>[] scoreColumn) throws IOException {
+        long[] initScoreColumn = new long[scoreColumn.length];
+        Number[][] levelNumbersColumn = new Number[scoreColumn.length][];
+        for (int i = 0; i < scoreColumn.length; i++) {
+            initScoreColumn[i] = scoreColumn[i].initScore();
+            levelNumbersColumn[i] = scoreColumn[i].toLevelNumbers();
+        }
+        writeLongColumn(out, initScoreColumn);
+        int levelCount = levelNumbersColumn[0].length;
+        writeVarLong(out, levelCount);
+        for (int levelIndex = 0; levelIndex < levelCount; levelIndex++) {
+            Number firstLevelNumber = levelNumbersColumn[0][levelIndex];
+            if (firstLevelNumber instanceof Integer || firstLevelNumber instanceof Long) {
+                out.writeByte(firstLevelNumber instanceof Integer ? INT_LEVEL : LONG_LEVEL);
+                long[] levelColumn = new long[scoreColumn.length];
+                for (int i = 0; i < scoreColumn.length; i++) {
+                    levelColumn[i] = levelNumbersColumn[i][levelIndex].longValue();
+                }
+                writeLongColumn(out, levelColumn);
+            } else if (firstLevelNumber instanceof BigDecimal) {
+                out.writeByte(BIG_DECIMAL_LEVEL);
+                String[] levelColumn = new String[scoreColumn.length];
+                for (int i = 0; i < scoreColumn.length; i++) {
+                    levelColumn[i] = levelNumbersColumn[i][levelIndex].toString();
+                }
+                writeStringColumn(out, levelColumn);
+            } else {
+                throw new IllegalStateException("The score level number class (" + firstLevelNumber.getClass()
+                        + ") of the score (" + scoreColumn[0] + ") is not supported.");
+            }
+        }
+    }
+
+    private static void writeStringColumn(DataOutputStream out, String[] column) throws IOException {
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<String> dictionaryList = new ArrayList<>();
+        int[] indexes = new int[column.length];
+        for (int i = 0; i < column.length; i++) {
+            indexes[i] = dictionary.computeIfAbsent(column[i], value -> {
+                dictionaryList.add(value);
+                return dictionaryList.size() - 1;
+            });
+        }
+        writeVarLong(out, dictionaryList.size());
+        for (String value : dictionaryList) {
+            writeString(out, value);
+        }
+        for (int index : indexes) {
+            writeVarLong(out, index);
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(out, bytes.length);
+        out.write(bytes);
+    }
+
+    private static void writeVarLong(DataOutputStream out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0L) {
+            out.writeByte((int) ((value & 0x7FL) | 0x80L));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long zigzagEncode(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    // ************************************************************************
+    // Read methods
+    // ************************************************************************
+
+    /**
+     * The caller must {@link BlockIterator#close() close} the returned iterator.
+     *
+     * @param file never null
+     * @param csvHeader never null, must equal the header the file was written with
+     * @param scoreDefinition sometimes null, but never null if the file contains score columns
+     * @param pointReader never null, creates a point from the columns its type has written
+     * @param <Point_> the type of the points in the file
+     * @return never null, iterates the blocks of points in order
+     */
+    static <Point_ extends StatisticPoint> BlockIterator<Point_> openBlockIterator(File file, String csvHeader,
+            ScoreDefinition<?> scoreDefinition, Function<StatisticColumnReader, Point_> pointReader) {
+        DataInputStream in;
+        try {
+            in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file.toPath())));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed reading statisticFile (" + file + ").", e);
+        }
+        try {
+            return new BlockIterator<>(file, in, csvHeader, scoreDefinition, pointReader);
+        } catch (RuntimeException e) {
+            try {
+                in.close();
+            } catch (IOException closeException) {
+                e.addSuppressed(closeException);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Reads 1 block at a time, so only the points of that block are in memory.
+     *
+     * @param <Point_> the type of the points in the file
+     */
+    static final class BlockIterator<Point_ extends StatisticPoint> implements Iterator<List<Point_>>, Closeable {
+
+        private final File file;
+        private final DataInputStream in;
+        private final ScoreDefinition<?> scoreDefinition;
+        private final Function<StatisticColumnReader, Point_> pointReader;
+        // Zero once the end marker is read, or the file ended without it.
+        private int nextPointCount;
+        private boolean failed = false;
+
+        private BlockIterator(File file, DataInputStream in, String csvHeader, ScoreDefinition<?> scoreDefinition,
+                Function<StatisticColumnReader, Point_> pointReader) {
+            this.file = file;
+            this.in = in;
+            this.scoreDefinition = scoreDefinition;
+            this.pointReader = pointReader;
+            try {
+                if (in.readInt() != MAGIC_NUMBER) {
+                    throw new IllegalStateException("The statisticFile (" + file + ") is not a statistic file.");
+                }
+                byte version = in.readByte();
+                if (version != VERSION) {
+                    throw new IllegalStateException("The statisticFile (" + file + ")'s version (" + version
+                            + ") is not supported, only version (" + VERSION + ") is.");
+                }
+                String header = readString(in);
+                if (!csvHeader.equals(header)) {
+                    throw new IllegalStateException("The read header (" + header
+                            + ") is expected to be the header (" + csvHeader + ").");
+                }
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Failed reading statisticFile (" + file + ").", e);
+            }
+            readNextPointCount();
+        }
+
+        private void readNextPointCount() {
+            try {
+                nextPointCount = readVarInt(in);
+                if (nextPointCount == 0) {
+                    failed = in.readBoolean();
+                }
+            } catch (EOFException e) {
+                // The run ended before the end marker was written.
+                nextPointCount = 0;
+                failed = true;
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Failed reading statisticFile (" + file + ").", e);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return nextPointCount != 0;
+        }
+
+        /**
+         * @return never null, only empty if the file ends in the middle of this block
+         */
+        @Override
+        public List<Point_> next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            List<Point_> block;
+            try {
+                block = readBlock(in, nextPointCount, scoreDefinition, pointReader);
+            } catch (EOFException e) {
+                // The run ended while the block was written, so it is incomplete.
+                nextPointCount = 0;
+                failed = true;
+                return List.of();
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Failed reading statisticFile (" + file + ").", e);
+            }
+            readNextPointCount();
+            return block;
+        }
+
+        /**
+         * Only known once {@link #hasNext()} returns false.
+         *
+         * @return true if the file was written for a failed sub single benchmark or has no end marker
+         */
+        boolean isFailed() {
+            if (hasNext()) {
+                throw new IllegalStateException("Impossible state: the statisticFile (" + file
+                        + ") is not read completely yet.");
+            }
+            return failed;
+        }
+
+        @Override
+        public void close() {
+            try {
+                in.close();
+            } catch (IOException e) {
+                throw new IllegalArgumentException("Failed closing statisticFile (" + file + ").", e);
+            }
+        }
+
+    }
+
+    private static <Point_ extends StatisticPoint> List<Point_> readBlock(DataInputStream in, int pointCount,
+            ScoreDefinition<?> scoreDefinition, Function<StatisticColumnReader, Point_> pointReader)
+            throws IOException {
+        int columnCount = readVarInt(in);
+        Column[] columns = new Column[columnCount];
+        for (int columnIndex = 0; columnIndex < columnCount; columnIndex++) {
+            byte columnType = in.readByte();
+            Column column = new Column(columnType, 0);
+            switch (columnType) {
+                case LONG_COLUMN -> column.longs = readLongColumn(in, pointCount);
+                case STRING_COLUMN -> column.strings = readStringColumn(in, pointCount);
+                case SCORE_COLUMN -> column.scores = readScoreColumn(in, pointCount, scoreDefinition);
+                default -> throw new IllegalStateException("The column type (" + columnType + ") is not supported.");
+            }
+            columns[columnIndex] = column;
+        }
+        BlockReader blockReader = new BlockReader(columns);
+        List<Point_> block = new ArrayList<>(pointCount);
+        for (int i = 0; i < pointCount; i++) {
+            block.add(pointReader.apply(blockReader));
+            blockReader.endPoint();
+        }
+        return block;
+    }
+
+    private static long[] readLongColumn(DataInputStream in, int pointCount) throws IOException {
+        long[] longColumn = new long[pointCount];
+        long previous = 0L;
+        for (int i = 0; i < pointCount; i++) {
+            previous += zigzagDecode(readVarLong(in));
+            longColumn[i] = previous;
+        }
+        return longColumn;
+    }
+
+    private static Score<?>[] readScoreColumn(DataInputStream in, int pointCount, ScoreDefinition<?> scoreDefinition)
+            throws IOException {
+        if (scoreDefinition == null) {
+            throw new IllegalStateException("Impossible state: the statistic file contains a score column,"
+                    + " but there is no scoreDefinition.");
+        }
+        long[] initScoreColumn = readLongColumn(in, pointCount);
+        int levelCount = readVarInt(in);
+        Number[][] levelNumbersColumn = new Number[pointCount][levelCount];
+        for (int levelIndex = 0; levelIndex < levelCount; levelIndex++) {
+            byte levelType = in.readByte();
+            switch (levelType) {
+                case INT_LEVEL, LONG_LEVEL -> {
+                    long[] levelColumn = readLongColumn(in, pointCount);
+                    for (int i = 0; i < pointCount; i++) {
+                        // No conditional expression, because that would promote the Integer to a Long.
+                        if (levelType == INT_LEVEL) {
+                            levelNumbersColumn[i][levelIndex] = (int) levelColumn[i];
+                        } else {
+                            levelNumbersColumn[i][levelIndex] = levelColumn[i];
+                        }
+                    }
+                }
+                case BIG_DECIMAL_LEVEL -> {
+                    String[] levelColumn = readStringColumn(in, pointCount);
+                    for (int i = 0; i < pointCount; i++) {
+                        levelNumbersColumn[i][levelIndex] = new BigDecimal(levelColumn[i]);
+                    }
+                }
+                default -> throw new IllegalStateException("The score level type (" + levelType + ") is not supported.");
+            }
+        }
+        Score<?>[] scoreColumn = new Score<?>[pointCount];
+        for (int i = 0; i < pointCount; i++) {
+            scoreColumn[i] = scoreDefinition.fromLevelNumbers((int) initScoreColumn[i], levelNumbersColumn[i]);
+        }
+        return scoreColumn;
+    }
+
+    private static String[] readStringColumn(DataInputStream in, int pointCount) throws IOException {
+        int dictionarySize = readVarInt(in);
+        String[] dictionary = new String[dictionarySize];
+        for (int i = 0; i < dictionarySize; i++) {
+            // Identical strings are the same instance, also across blocks and statistics, to save memory.
+            dictionary[i] = readString(in).intern();
+        }
+        String[] column = new String[pointCount];
+        for (int i = 0; i < pointCount; i++) {
+            column[i] = dictionary[readVarInt(in)];
+        }
+        return column;
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        byte[] bytes = new byte[readVarInt(in)];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int readVarInt(InputStream in) throws IOException {
+        long value = readVarLong(in);
+        if (value < 0L || value > Integer.MAX_VALUE) {
+            throw new IllegalStateException("The read value (" + value + ") is not a valid count or index.");
+        }
+        return (int) value;
+    }
+
+    private static long readVarLong(InputStream in) throws IOException {
+        long value = 0L;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = in.read();
+            if (b < 0) {
+                throw new EOFException();
+            }
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IllegalStateException("The read varint is longer than a long.");
+    }
+
+    private static long zigzagDecode(long value) {
+        return (value >>> 1) ^ -(value & 1L);
+    }
+
+    // ************************************************************************
+    // Column classes
+    // ************************************************************************
+
+    /**
+     * The values of 1 column of a block; only the array of its type is used.
+     */
+    private static final class Column {
+
+        private final byte type;
+        private long[] longs = null;
+        private String[] strings = null;
+        private Score<?>[] scores = null;
+
+        private Column(byte type, int pointCount) {
+            this.type = type;
+            if (pointCount > 0) {
+                switch (type) {
+                    case LONG_COLUMN -> longs = new long[pointCount];
+                    case STRING_COLUMN -> strings = new String[pointCount];
+                    case SCORE_COLUMN -> scores = new Score<?>[pointCount];
+                    default -> throw new IllegalStateException("Impossible state: the column type (" + type
+                            + ") is not implemented.");
+                }
+            }
+        }
+
+        private static String getTypeName(byte type) {
+            return switch (type) {
+                case LONG_COLUMN -> "long";
+                case STRING_COLUMN -> "string";
+                case SCORE_COLUMN -> "score";
+                default -> Byte.toString(type);
+            };
+        }
+
+    }
+
+    /**
+     * The first point of the block determines the columns, every other point must write the same ones.
+     */
+    private static final class BlockWriter implements StatisticColumnWriter {
+
+        private final int pointCount;
+        private final List<Column> columnList = new ArrayList<>();
+        private int pointIndex = 0;
+        private int columnIndex = 0;
+
+        private BlockWriter(int pointCount) {
+            this.pointCount = pointCount;
+        }
+
+        @Override
+        public void writeLong(long value) {
+            nextColumn(LONG_COLUMN).longs[pointIndex] = value;
+        }
+
+        @Override
+        public void writeString(String value) {
+            if (value == null) {
+                throw new IllegalArgumentException("The string value of column (" + columnIndex
+                        + ") of point (" + pointIndex + ") cannot be null.");
+            }
+            nextColumn(STRING_COLUMN).strings[pointIndex] = value;
+        }
+
+        @Override
+        public void writeScore(Score<?> score) {
+            if (score == null) {
+                throw new IllegalArgumentException("The score of column (" + columnIndex
+                        + ") of point (" + pointIndex + ") cannot be null.");
+            }
+            nextColumn(SCORE_COLUMN).scores[pointIndex] = score;
+        }
+
+        private Column nextColumn(byte type) {
+            if (pointIndex == 0) {
+                Column column = new Column(type, pointCount);
+                columnList.add(column);
+                columnIndex++;
+                return column;
+            }
+            if (columnIndex >= columnList.size()) {
+                throw new IllegalStateException("Impossible state: point (" + pointIndex + ") writes more columns ("
+                        + (columnIndex + 1) + ") than the first point of its block (" + columnList.size() + ").");
+            }
+            Column column = columnList.get(columnIndex);
+            if (column.type != type) {
+                throw new IllegalStateException("Impossible state: point (" + pointIndex + ") writes column ("
+                        + columnIndex + ") as a " + Column.getTypeName(type)
+                        + ", but the first point of its block wrote a " + Column.getTypeName(column.type) + ".");
+            }
+            columnIndex++;
+            return column;
+        }
+
+        private void endPoint(StatisticPoint point) {
+            if (columnIndex != columnList.size()) {
+                throw new IllegalStateException("Impossible state: the point (" + point + ") wrote (" + columnIndex
+                        + ") columns, but the first point of its block wrote (" + columnList.size() + ").");
+            }
+            pointIndex++;
+            columnIndex = 0;
+        }
+
+    }
+
+    private static final class BlockReader implements StatisticColumnReader {
+
+        private final Column[] columns;
+        private int pointIndex = 0;
+        private int columnIndex = 0;
+
+        private BlockReader(Column[] columns) {
+            this.columns = columns;
+        }
+
+        @Override
+        public long readLong() {
+            return nextColumn(LONG_COLUMN).longs[pointIndex];
+        }
+
+        @Override
+        public String readString() {
+            return nextColumn(STRING_COLUMN).strings[pointIndex];
+        }
+
+        @Override
+        public Score<?> readScore() {
+            return nextColumn(SCORE_COLUMN).scores[pointIndex];
+        }
+
+        private Column nextColumn(byte type) {
+            if (columnIndex >= columns.length) {
+                throw new IllegalStateException("The point reads more columns (" + (columnIndex + 1)
+                        + ") than the statistic file has (" + columns.length + ").");
+            }
+            Column column = columns[columnIndex];
+            if (column.type != type) {
+                throw new IllegalStateException("The point reads column (" + columnIndex + ") as a "
+                        + Column.getTypeName(type) + ", but the statistic file has a "
+                        + Column.getTypeName(column.type) + ".");
+            }
+            columnIndex++;
+            return column;
+        }
+
+        private void endPoint() {
+            if (columnIndex != columns.length) {
+                throw new IllegalStateException("The point reads (" + columnIndex
+                        + ") columns, but the statistic file has (" + columns.length + ").");
+            }
+            pointIndex++;
+            columnIndex = 0;
+        }
+
+    }
+
+}
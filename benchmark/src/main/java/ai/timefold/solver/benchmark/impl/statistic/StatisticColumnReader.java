@@ -0,0 +1,25 @@
+package ai.timefold.solver.benchmark.impl.statistic;
+
+import ai.timefold.solver.core.api.score.Score;
+
+/**
+ * Supplies the fields of a {@link StatisticPoint} from typed columns,
+ * in the order they were written by {@link StatisticPoint#writeColumns(StatisticColumnWriter)}.
+ *
+ * @see SubSingleStatistic#createPointFromColumns(StatisticColumnReader)
+ */
+public interface StatisticColumnReader {
+
+    long readLong();
+
+    /**
+     * @return never null
+     */
+    String readString();
+
+    /**
+     * @return never null
+     */
+    Score<?> readScore();
+
+}
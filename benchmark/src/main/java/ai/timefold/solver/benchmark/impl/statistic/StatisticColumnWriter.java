@@ -0,0 +1,25 @@
+package ai.timefold.solver.benchmark.impl.statistic;
+
+import ai.timefold.solver.core.api.score.Score;
+
+/**
+ * Receives the fields of a {@link StatisticPoint} as typed columns.
+ * Every point of a statistic must write the same columns, in the same order.
+ *
+ * @see StatisticPoint#writeColumns(StatisticColumnWriter)
+ */
+public interface StatisticColumnWriter {
+
+    void writeLong(long value);
+
+    /**
+     * @param value never null
+     */
+    void writeString(String value);
+
+    /**
+     * @param score never null, of the same type as the score of the benchmarked solution
+     */
+    void writeScore(Score<?> score);
+
+}
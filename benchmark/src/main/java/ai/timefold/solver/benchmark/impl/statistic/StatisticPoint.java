@@ -17,6 +17,14 @@ public abstract class StatisticPoint {
 
     public abstract String toCsvLine();
 
+    /**
+     * Writes the same fields as {@link #toCsvLine()}, in the same order,
+     * so the statistic file doesn't need to format and parse them.
+     *
+     * @param writer never null
+     */
+    public abstract void writeColumns(StatisticColumnWriter writer);
+
     public static String buildCsvLineWithLongs(long timeMillisSpent, long... values) {
         Object[] array = Stream.concat(Stream.of(timeMillisSpent), Arrays.stream(values).boxed())
                 .toArray(Object[]::new);
@@ -7,14 +7,18 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import jakarta.xml.bind.annotation.XmlAccessType;
 import jakarta.xml.bind.annotation.XmlAccessorType;
 import jakarta.xml.bind.annotation.XmlTransient;
 
+import ai.timefold.solver.benchmark.config.report.BenchmarkReportConfig;
 import ai.timefold.solver.benchmark.impl.report.ReportHelper;
 import ai.timefold.solver.benchmark.impl.result.PlannerBenchmarkResult;
 import ai.timefold.solver.benchmark.impl.result.SingleBenchmarkResult;
@@ -42,6 +46,12 @@ public abstract class SubSingleStatistic<Solution_, StatisticPoint_ extends Stat
     @XmlTransient
     protected List<StatisticPoint_> pointList;
 
+    @XmlTransient
+    private Executor statisticFileWriter = null;
+
+    @XmlTransient
+    private CompletableFuture<Void> pendingAppend = null;
+
     protected SubSingleStatistic() {
         // For JAXB.
     }
@@ -68,6 +78,14 @@ public abstract class SubSingleStatistic<Solution_, StatisticPoint_ extends Stat
         this.pointList = pointList;
     }
 
+    public String getStatisticFileName() {
+        return getStatisticType().name() + ".dat";
+    }
+
+    public File getStatisticFile() {
+        return new File(subSingleBenchmarkResult.getResultDirectory(), getStatisticFileName());
+    }
+
     /**
      * @return never null, the relative path from {@link PlannerBenchmarkResult#getBenchmarkReportDirectory()}.
      */
@@ -84,10 +102,18 @@ public abstract class SubSingleStatistic<Solution_, StatisticPoint_ extends Stat
         return getStatisticType().name() + ".csv";
     }
 
+    /**
+     * Only written by {@link #exportCsvFile()}, if {@link BenchmarkReportConfig#getCsvExportEnabled()} is true.
+     * Benchmarks of older versions only have this file, instead of the {@link #getStatisticFile() statistic file}.
+     */
     public File getCsvFile() {
         return new File(subSingleBenchmarkResult.getResultDirectory(), getCsvFileName());
     }
 
+    public boolean hasStatisticFile() {
+        return getStatisticFile().exists() || getCsvFile().exists();
+    }
+
     // ************************************************************************
     // Lifecycle methods
     // ************************************************************************
@@ -106,17 +132,83 @@ public abstract class SubSingleStatistic<Solution_, StatisticPoint_ extends Stat
         pointList = new ArrayList<>();
     }
 
+    /**
+     * Like {@link #initPointList()},
+     * but {@link #addPoint(StatisticPoint)} hands the points in blocks to the statisticFileWriter,
+     * which appends them to the statistic file.
+     * So a long run doesn't keep all its points in memory until {@link #hibernatePointList()},
+     * and the solver thread doesn't spend its measured time on encoding and writing them.
+     *
+     * @param statisticFileWriter never null, not the solver thread
+     */
+    public void initAppendingPointList(Executor statisticFileWriter) {
+        initPointList();
+        ColumnarStatisticFile.writeHeader(getStatisticFile(), getCsvHeader());
+        this.statisticFileWriter = statisticFileWriter;
+        pendingAppend = CompletableFuture.completedFuture(null);
+    }
+
+    protected void addPoint(StatisticPoint_ point) {
+        pointList.add(point);
+        if (statisticFileWriter != null && pointList.size() >= ColumnarStatisticFile.BLOCK_SIZE) {
+            List<StatisticPoint_> block = pointList;
+            pointList = new ArrayList<>(ColumnarStatisticFile.BLOCK_SIZE);
+            File statisticFile = getStatisticFile();
+            // Chained, so the blocks are appended in order.
+            pendingAppend = pendingAppend.thenRunAsync(
+                    () -> ColumnarStatisticFile.appendPoints(statisticFile, block),
+                    statisticFileWriter);
+        }
+    }
+
     protected abstract String getCsvHeader();
 
-    private void writeCsvStatisticFile() {
+    private ScoreDefinition<?> getScoreDefinition() {
+        return subSingleBenchmarkResult.getSingleBenchmarkResult().getSolverBenchmarkResult().getScoreDefinition();
+    }
+
+    private void writeStatisticFile() {
+        File statisticFile = getStatisticFile();
+        if (statisticFileWriter == null) {
+            ColumnarStatisticFile.writeHeader(statisticFile, getCsvHeader());
+        } else {
+            awaitPendingAppend();
+        }
+        ColumnarStatisticFile.appendPoints(statisticFile, pointList);
+        ColumnarStatisticFile.writeEnd(statisticFile, subSingleBenchmarkResult.hasAnyFailure());
+    }
+
+    private void awaitPendingAppend() {
+        try {
+            pendingAppend.join();
+        } catch (CompletionException e) {
+            throw new IllegalStateException("Failed appending the points of the statistic (" + getStatisticType()
+                    + ") to the statisticFile (" + getStatisticFile() + ").", e.getCause());
+        } finally {
+            statisticFileWriter = null;
+            pendingAppend = null;
+        }
+    }
+
+    /**
+     * Writes the points to a CSV file, which the benchmark report offers for download.
+     * Reads the points one block at a time, see {@link #forEachPointBlock(Consumer)}.
+     */
+    public void exportCsvFile() {
         File csvFile = getCsvFile();
         try (BufferedWriter writer = Files.newBufferedWriter(csvFile.toPath(), StandardCharsets.UTF_8)) {
             writer.append(getCsvHeader());
             writer.newLine();
-            for (StatisticPoint point : getPointList()) {
-                writer.append(point.toCsvLine());
-                writer.newLine();
-            }
+            forEachPointBlock(block -> {
+                try {
+                    for (StatisticPoint point : block) {
+                        writer.append(point.toCsvLine());
+                        writer.newLine();
+                    }
+                } catch (IOException e) {
+                    throw new IllegalArgumentException("Failed writing csvFile (" + csvFile + ").", e);
+                }
+            });
             if (subSingleBenchmarkResult.hasAnyFailure()) {
                 writer.append(FAILED);
                 writer.newLine();
@@ -126,22 +218,56 @@ public abstract class SubSingleStatistic<Solution_, StatisticPoint_ extends Stat
         }
     }
 
-    private void readCsvStatisticFile() {
-        File csvFile = getCsvFile();
-        ScoreDefinition<?> scoreDefinition = subSingleBenchmarkResult.getSingleBenchmarkResult().getSolverBenchmarkResult()
-                .getScoreDefinition();
-        if (!pointList.isEmpty()) {
-            throw new IllegalStateException("The pointList with size (" + pointList.size() + ") should be empty.");
+    /**
+     * Hands the points to the blockConsumer in order, one block at a time.
+     * If the points are not in memory, they are read from the statistic file,
+     * so only 1 block of them is in memory at a time.
+     *
+     * @param blockConsumer never null, must not keep a reference to the block
+     */
+    public void forEachPointBlock(Consumer<List<StatisticPoint_>> blockConsumer) {
+        if (pointList != null) {
+            if (!pointList.isEmpty()) {
+                blockConsumer.accept(pointList);
+            }
+            return;
         }
-        if (!csvFile.exists()) {
-            if (subSingleBenchmarkResult.hasAnyFailure()) {
-                pointList = Collections.emptyList();
+        readPointBlocks(blockConsumer);
+    }
+
+    private void readPointBlocks(Consumer<List<StatisticPoint_>> blockConsumer) {
+        File statisticFile = getStatisticFile();
+        ScoreDefinition<?> scoreDefinition = getScoreDefinition();
+        if (!statisticFile.exists()) {
+            if (getCsvFile().exists()) {
+                blockConsumer.accept(readCsvFile(scoreDefinition));
+                return;
+            } else if (subSingleBenchmarkResult.hasAnyFailure()) {
                 return;
             } else {
-                throw new IllegalStateException("The csvFile (" + csvFile + ") does not exist.");
+                throw new IllegalStateException("The statisticFile (" + statisticFile + ") does not exist.");
             }
         }
+        boolean failed;
+        try (ColumnarStatisticFile.BlockIterator<StatisticPoint_> blockIterator = ColumnarStatisticFile
+                .openBlockIterator(statisticFile, getCsvHeader(), scoreDefinition, this::createPointFromColumns)) {
+            while (blockIterator.hasNext()) {
+                blockConsumer.accept(blockIterator.next());
+            }
+            failed = blockIterator.isFailed();
+        } catch (IllegalStateException e) {
+            throw new IllegalStateException("Failed reading the statisticFile (" + statisticFile
+                    + ") for statisticType (" + getStatisticType() + ").", e);
+        }
+        if (failed && !subSingleBenchmarkResult.hasAnyFailure()) {
+            throw new IllegalStateException("SubSingleStatistic (" + this + ") failed even though the "
+                    + "corresponding subSingleBenchmarkResult (" + subSingleBenchmarkResult + ") is a success.");
+        }
+    }
 
+    private List<StatisticPoint_> readCsvFile(ScoreDefinition<?> scoreDefinition) {
+        File csvFile = getCsvFile();
+        List<StatisticPoint_> csvPointList = new ArrayList<>();
         try (BufferedReader reader = Files.newBufferedReader(csvFile.toPath(), StandardCharsets.UTF_8)) {
             String line = reader.readLine();
             if (!getCsvHeader().equals(line)) {
@@ -157,40 +283,45 @@ public abstract class SubSingleStatistic<Solution_, StatisticPoint_ extends Stat
                     throw new IllegalStateException("SubSingleStatistic (" + this + ") failed even though the "
                             + "corresponding subSingleBenchmarkResult (" + subSingleBenchmarkResult + ") is a success.");
                 }
-                // HACK
-                // Some statistics (such as CONSTRAINT_MATCH_TOTAL_STEP_SCORE) contain the same String many times
-                // During generation those are all the same instance to save memory.
-                // During aggregation this code assures they are the same instance too
+                // Identical strings are the same instance, like when reading the statistic file.
                 List<String> csvLine = StatisticPoint.parseCsvLine(line)
                         .stream()
                         .map(String::intern)
                         .collect(Collectors.toList());
-                pointList.add(createPointFromCsvLine(scoreDefinition, csvLine));
+                csvPointList.add(createPointFromCsvLine(scoreDefinition, csvLine));
             }
         } catch (IOException e) {
             throw new IllegalArgumentException("Failed reading csvFile (" + csvFile + ").", e);
         }
+        return csvPointList;
     }
 
     public void unhibernatePointList() {
-        if (!getCsvFile().exists()) {
-            throw new IllegalStateException("The csvFile (" + getCsvFile() + ") of the statistic (" + getStatisticType()
-                    + ") of the single benchmark (" + subSingleBenchmarkResult + ") doesn't exist.");
+        if (!hasStatisticFile()) {
+            throw new IllegalStateException("The statisticFile (" + getStatisticFile() + ") of the statistic ("
+                    + getStatisticType() + ") of the single benchmark (" + subSingleBenchmarkResult + ") doesn't exist.");
         } else if (pointList != null) {
             throw new IllegalStateException("The pointList (" + pointList + ") of the statistic (" + getStatisticType()
                     + ") of the single benchmark (" + subSingleBenchmarkResult + ") should be null when unhibernating.");
         }
-        initPointList();
-        readCsvStatisticFile();
+        List<StatisticPoint_> readPointList = new ArrayList<>();
+        readPointBlocks(readPointList::addAll);
+        pointList = readPointList;
     }
 
     public void hibernatePointList() {
-        writeCsvStatisticFile();
+        writeStatisticFile();
         pointList = null;
     }
 
     protected abstract StatisticPoint_ createPointFromCsvLine(ScoreDefinition<?> scoreDefinition, List<String> csvLine);
 
+    /**
+     * @param reader never null, supplies the columns written by {@link StatisticPoint#writeColumns(StatisticColumnWriter)}
+     * @return never null
+     */
+    protected abstract StatisticPoint_ createPointFromColumns(StatisticColumnReader reader);
+
     // ************************************************************************
     // Report accumulates
     // ************************************************************************
@@ -34,32 +34,34 @@ public class BestScoreProblemStatistic extends ProblemStatistic<LineChart<Long,
             // No direct ascending lines between 2 points, but a stepping line instead
             if (singleBenchmarkResult.hasAllSuccess()) {
                 String solverLabel = singleBenchmarkResult.getSolverBenchmarkResult().getNameWithFavoriteSuffix();
-                var subSingleStatistic = singleBenchmarkResult.getSubSingleStatistic(problemStatisticType);
-                List<BestScoreStatisticPoint> points = subSingleStatistic.getPointList();
-                for (BestScoreStatisticPoint point : points) {
-                    if (!point.getScore().isSolutionInitialized()) {
-                        continue;
-                    }
-                    long timeMillisSpent = point.getTimeMillisSpent();
-                    double[] levelValues = point.getScore().toLevelDoubles();
-                    for (int i = 0; i < levelValues.length && i < BenchmarkReport.CHARTED_SCORE_LEVEL_SIZE; i++) {
-                        if (i >= builderList.size()) {
-                            builderList.add(new LineChart.Builder<>());
+                SubSingleStatistic<?, BestScoreStatisticPoint> subSingleStatistic =
+                        singleBenchmarkResult.getSubSingleStatistic(problemStatisticType);
+                subSingleStatistic.forEachPointBlock(points -> {
+                    for (BestScoreStatisticPoint point : points) {
+                        if (!point.getScore().isSolutionInitialized()) {
+                            continue;
                         }
-                        LineChart.Builder<Long, Double> builder = builderList.get(i);
-                        if (singleBenchmarkResult.getSolverBenchmarkResult().isFavorite()) {
-                            builder.markFavorite(solverLabel);
+                        long timeMillisSpent = point.getTimeMillisSpent();
+                        double[] levelValues = point.getScore().toLevelDoubles();
+                        for (int i = 0; i < levelValues.length && i < BenchmarkReport.CHARTED_SCORE_LEVEL_SIZE; i++) {
+                            if (i >= builderList.size()) {
+                                builderList.add(new LineChart.Builder<>(benchmarkReport.getChartPointCountLimit()));
+                            }
+                            LineChart.Builder<Long, Double> builder = builderList.get(i);
+                            if (singleBenchmarkResult.getSolverBenchmarkResult().isFavorite()) {
+                                builder.markFavorite(solverLabel);
+                            }
+                            builder.add(solverLabel, timeMillisSpent, levelValues[i]);
                         }
-                        builder.add(solverLabel, timeMillisSpent, levelValues[i]);
                     }
-                }
+                });
                 // TODO if startingSolution is initialized and no improvement is made, a horizontal line should be shown
                 // Draw a horizontal line from the last new best step to how long the solver actually ran
                 long timeMillisSpent = singleBenchmarkResult.getTimeMillisSpent();
                 double[] bestScoreLevels = singleBenchmarkResult.getMedian().getScore().toLevelDoubles();
                 for (int i = 0; i < bestScoreLevels.length && i < BenchmarkReport.CHARTED_SCORE_LEVEL_SIZE; i++) {
                     if (i >= builderList.size()) {
-                        builderList.add(new LineChart.Builder<>());
+                        builderList.add(new LineChart.Builder<>(benchmarkReport.getChartPointCountLimit()));
                     }
                     LineChart.Builder<Long, Double> builder = builderList.get(i);
                     if (singleBenchmarkResult.getSolverBenchmarkResult().isFavorite()) {
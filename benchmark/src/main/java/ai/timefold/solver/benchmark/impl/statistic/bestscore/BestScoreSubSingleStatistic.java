@@ -5,6 +5,7 @@ import java.util.List;
 import ai.timefold.solver.benchmark.config.statistic.ProblemStatisticType;
 import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
 import ai.timefold.solver.benchmark.impl.statistic.ProblemBasedSubSingleStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.StatisticColumnReader;
 import ai.timefold.solver.benchmark.impl.statistic.StatisticPoint;
 import ai.timefold.solver.benchmark.impl.statistic.StatisticRegistry;
 import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
@@ -31,7 +32,7 @@ public class BestScoreSubSingleStatistic<Solution_>
     public void open(StatisticRegistry<Solution_> registry, Tags runTag) {
         registry.addListener(SolverMetric.BEST_SCORE,
                 timestamp -> registry.extractScoreFromMeters(SolverMetric.BEST_SCORE, runTag,
-                        score -> pointList.add(new BestScoreStatisticPoint(timestamp, score))));
+                        score -> addPoint(new BestScoreStatisticPoint(timestamp, score))));
     }
 
     // ************************************************************************
@@ -50,4 +51,9 @@ public class BestScoreSubSingleStatistic<Solution_>
                 scoreDefinition.parseScore(csvLine.get(1)));
     }
 
+    @Override
+    protected BestScoreStatisticPoint createPointFromColumns(StatisticColumnReader reader) {
+        return new BestScoreStatisticPoint(reader.readLong(), reader.readScore());
+    }
+
 }
@@ -30,21 +30,23 @@ public class BestSolutionMutationProblemStatistic extends ProblemStatistic<LineC
 
     @Override
     protected List<LineChart<Long, Long>> generateCharts(BenchmarkReport benchmarkReport) {
-        LineChart.Builder<Long, Long> builder = new LineChart.Builder<>();
+        LineChart.Builder<Long, Long> builder = new LineChart.Builder<>(benchmarkReport.getChartPointCountLimit());
         for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
             String solverLabel = singleBenchmarkResult.getSolverBenchmarkResult().getNameWithFavoriteSuffix();
             if (singleBenchmarkResult.getSolverBenchmarkResult().isFavorite()) {
                 builder.markFavorite(solverLabel);
             }
             if (singleBenchmarkResult.hasAllSuccess()) {
-                var subSingleStatistic = singleBenchmarkResult.getSubSingleStatistic(problemStatisticType);
-                List<BestSolutionMutationStatisticPoint> points = subSingleStatistic.getPointList();
-                for (BestSolutionMutationStatisticPoint point : points) {
-                    long timeMillisSpent = point.getTimeMillisSpent();
-                    long mutationCount = point.getMutationCount();
-                    builder.add(solverLabel, timeMillisSpent, mutationCount);
-                    builder.add(solverLabel, timeMillisSpent + 1, 0L); // Drop back to zero.
-                }
+                SubSingleStatistic<?, BestSolutionMutationStatisticPoint> subSingleStatistic =
+                        singleBenchmarkResult.getSubSingleStatistic(problemStatisticType);
+                subSingleStatistic.forEachPointBlock(points -> {
+                    for (BestSolutionMutationStatisticPoint point : points) {
+                        long timeMillisSpent = point.getTimeMillisSpent();
+                        long mutationCount = point.getMutationCount();
+                        builder.add(solverLabel, timeMillisSpent, mutationCount);
+                        builder.add(solverLabel, timeMillisSpent + 1, 0L); // Drop back to zero.
+                    }
+                });
             }
         }
         return singletonList(builder.build("bestSolutionMutationProblemStatisticChart",
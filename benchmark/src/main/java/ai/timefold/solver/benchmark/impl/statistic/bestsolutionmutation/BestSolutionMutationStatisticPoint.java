@@ -1,5 +1,6 @@
 package ai.timefold.solver.benchmark.impl.statistic.bestsolutionmutation;
 
+import ai.timefold.solver.benchmark.impl.statistic.StatisticColumnWriter;
 import ai.timefold.solver.benchmark.impl.statistic.StatisticPoint;
 
 public class BestSolutionMutationStatisticPoint extends StatisticPoint {
@@ -25,4 +26,10 @@ public class BestSolutionMutationStatisticPoint extends StatisticPoint {
         return buildCsvLineWithLongs(timeMillisSpent, mutationCount);
     }
 
+    @Override
+    public void writeColumns(StatisticColumnWriter writer) {
+        writer.writeLong(timeMillisSpent);
+        writer.writeLong(mutationCount);
+    }
+
 }
@@ -5,6 +5,7 @@ import java.util.List;
 import ai.timefold.solver.benchmark.config.statistic.ProblemStatisticType;
 import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
 import ai.timefold.solver.benchmark.impl.statistic.ProblemBasedSubSingleStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.StatisticColumnReader;
 import ai.timefold.solver.benchmark.impl.statistic.StatisticPoint;
 import ai.timefold.solver.benchmark.impl.statistic.StatisticRegistry;
 import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
@@ -31,8 +32,8 @@ public class BestSolutionMutationSubSingleStatistic<Solution_>
     public void open(StatisticRegistry<Solution_> registry, Tags runTag) {
         registry.addListener(SolverMetric.BEST_SOLUTION_MUTATION,
                 timestamp -> registry.getGaugeValue(SolverMetric.BEST_SOLUTION_MUTATION, runTag,
-                        mutationCount -> pointList
-                                .add(new BestSolutionMutationStatisticPoint(timestamp, mutationCount.intValue()))));
+                        mutationCount -> addPoint(
+                                new BestSolutionMutationStatisticPoint(timestamp, mutationCount.intValue()))));
     }
 
     // ************************************************************************
@@ -51,4 +52,9 @@ public class BestSolutionMutationSubSingleStatistic<Solution_>
                 Integer.parseInt(csvLine.get(1)));
     }
 
+    @Override
+    protected BestSolutionMutationStatisticPoint createPointFromColumns(StatisticColumnReader reader) {
+        return new BestSolutionMutationStatisticPoint(reader.readLong(), (int) reader.readLong());
+    }
+
 }
@@ -7,6 +7,7 @@ import java.util.function.Consumer;
 import ai.timefold.solver.benchmark.config.statistic.ProblemStatisticType;
 import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
 import ai.timefold.solver.benchmark.impl.statistic.ProblemBasedSubSingleStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.StatisticColumnReader;
 import ai.timefold.solver.benchmark.impl.statistic.StatisticRegistry;
 import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
 import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
@@ -53,7 +54,7 @@ public abstract class AbstractCalculationSpeedSubSingleStatistic<Solution_>
                             timeMillisSpentInterval = 1L;
                         }
                         var speed = countInterval * 1000L / timeMillisSpentInterval;
-                        pointList.add(new LongStatisticPoint(timeMillisSpent, speed));
+                        addPoint(new LongStatisticPoint(timeMillisSpent, speed));
                         lastCalculationCount.set(moveEvaluationCount);
                     });
                     lastTimeMillisSpent = timeMillisSpent;
@@ -75,4 +76,9 @@ public abstract class AbstractCalculationSpeedSubSingleStatistic<Solution_>
             List<String> csvLine) {
         return new LongStatisticPoint(Long.parseLong(csvLine.get(0)), Long.parseLong(csvLine.get(1)));
     }
+
+    @Override
+    protected LongStatisticPoint createPointFromColumns(StatisticColumnReader reader) {
+        return new LongStatisticPoint(reader.readLong(), reader.readLong());
+    }
 }
@@ -9,6 +9,7 @@ import ai.timefold.solver.benchmark.impl.report.BenchmarkReport;
 import ai.timefold.solver.benchmark.impl.report.LineChart;
 import ai.timefold.solver.benchmark.impl.result.ProblemBenchmarkResult;
 import ai.timefold.solver.benchmark.impl.statistic.ProblemStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.SubSingleStatistic;
 
 public abstract class AbstractTimeLineChartProblemStatistic extends ProblemStatistic<LineChart<Long, Long>> {
 
@@ -29,17 +30,19 @@ public abstract class AbstractTimeLineChartProblemStatistic extends ProblemStati
      */
     @Override
     protected List<LineChart<Long, Long>> generateCharts(BenchmarkReport benchmarkReport) {
-        var builder = new LineChart.Builder<Long, Long>();
+        var builder = new LineChart.Builder<Long, Long>(benchmarkReport.getChartPointCountLimit());
         for (var singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
             var solverLabel = singleBenchmarkResult.getSolverBenchmarkResult().getNameWithFavoriteSuffix();
             if (singleBenchmarkResult.hasAllSuccess()) {
-                var subSingleStatistic = singleBenchmarkResult.getSubSingleStatistic(problemStatisticType);
-                List<LongStatisticPoint> points = subSingleStatistic.getPointList();
-                for (var point : points) {
-                    var timeMillisSpent = point.getTimeMillisSpent();
-                    var calculationSpeed = point.getValue();
-                    builder.add(solverLabel, timeMillisSpent, calculationSpeed);
-                }
+                SubSingleStatistic<?, LongStatisticPoint> subSingleStatistic =
+                        singleBenchmarkResult.getSubSingleStatistic(problemStatisticType);
+                subSingleStatistic.forEachPointBlock(points -> {
+                    for (var point : points) {
+                        var timeMillisSpent = point.getTimeMillisSpent();
+                        var calculationSpeed = point.getValue();
+                        builder.add(solverLabel, timeMillisSpent, calculationSpeed);
+                    }
+                });
             }
             if (singleBenchmarkResult.getSolverBenchmarkResult().isFavorite()) {
                 builder.markFavorite(solverLabel);
@@ -1,5 +1,6 @@
 package ai.timefold.solver.benchmark.impl.statistic.common;
 
+import ai.timefold.solver.benchmark.impl.statistic.StatisticColumnWriter;
 import ai.timefold.solver.benchmark.impl.statistic.StatisticPoint;
 
 public class LongStatisticPoint extends StatisticPoint {
@@ -25,4 +26,10 @@ public class LongStatisticPoint extends StatisticPoint {
         return buildCsvLineWithLongs(timeMillisSpent, value);
     }
 
+    @Override
+    public void writeColumns(StatisticColumnWriter writer) {
+        writer.writeLong(timeMillisSpent);
+        writer.writeLong(value);
+    }
+
 }
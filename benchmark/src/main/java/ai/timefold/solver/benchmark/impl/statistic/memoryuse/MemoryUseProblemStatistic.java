@@ -42,19 +42,21 @@ public class MemoryUseProblemStatistic extends ProblemStatistic<LineChart<Long,
 
     @Override
     protected List<LineChart<Long, Long>> generateCharts(BenchmarkReport benchmarkReport) {
-        LineChart.Builder<Long, Long> builder = new LineChart.Builder<>();
+        LineChart.Builder<Long, Long> builder = new LineChart.Builder<>(benchmarkReport.getChartPointCountLimit());
         for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
             String solverLabel = singleBenchmarkResult.getSolverBenchmarkResult().getNameWithFavoriteSuffix();
             if (singleBenchmarkResult.getSolverBenchmarkResult().isFavorite()) {
                 builder.markFavorite(solverLabel);
             }
             if (singleBenchmarkResult.hasAllSuccess()) {
-                var subSingleStatistic = singleBenchmarkResult.getSubSingleStatistic(problemStatisticType);
-                List<MemoryUseStatisticPoint> points = subSingleStatistic.getPointList();
-                for (MemoryUseStatisticPoint point : points) {
-                    long timeMillisSpent = point.getTimeMillisSpent();
-                    builder.add(solverLabel, timeMillisSpent, point.getUsedMemory() / 1024 / 1024);
-                }
+                SubSingleStatistic<?, MemoryUseStatisticPoint> subSingleStatistic =
+                        singleBenchmarkResult.getSubSingleStatistic(problemStatisticType);
+                subSingleStatistic.forEachPointBlock(points -> {
+                    for (MemoryUseStatisticPoint point : points) {
+                        long timeMillisSpent = point.getTimeMillisSpent();
+                        builder.add(solverLabel, timeMillisSpent, point.getUsedMemory() / 1024 / 1024);
+                    }
+                });
             }
         }
         return singletonList(builder.build("memoryUseProblemStatisticChart",
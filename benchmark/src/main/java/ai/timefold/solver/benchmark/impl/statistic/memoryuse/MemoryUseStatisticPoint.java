@@ -1,5 +1,6 @@
 package ai.timefold.solver.benchmark.impl.statistic.memoryuse;
 
+import ai.timefold.solver.benchmark.impl.statistic.StatisticColumnWriter;
 import ai.timefold.solver.benchmark.impl.statistic.StatisticPoint;
 
 public class MemoryUseStatisticPoint extends StatisticPoint {
@@ -36,4 +37,11 @@ public class MemoryUseStatisticPoint extends StatisticPoint {
         return buildCsvLineWithLongs(timeMillisSpent, usedMemory, maxMemory);
     }
 
+    @Override
+    public void writeColumns(StatisticColumnWriter writer) {
+        writer.writeLong(timeMillisSpent);
+        writer.writeLong(usedMemory);
+        writer.writeLong(maxMemory);
+    }
+
 }
@@ -6,6 +6,7 @@ import java.util.function.Consumer;
 import ai.timefold.solver.benchmark.config.statistic.ProblemStatisticType;
 import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
 import ai.timefold.solver.benchmark.impl.statistic.ProblemBasedSubSingleStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.StatisticColumnReader;
 import ai.timefold.solver.benchmark.impl.statistic.StatisticPoint;
 import ai.timefold.solver.benchmark.impl.statistic.StatisticRegistry;
 import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
@@ -59,7 +60,7 @@ public class MemoryUseSubSingleStatistic<Solution_>
         public void accept(Long timeMillisSpent) {
             if (timeMillisSpent >= nextTimeMillisThreshold) {
                 registry.getGaugeValue(SolverMetric.MEMORY_USE, tags,
-                        memoryUse -> pointList.add(
+                        memoryUse -> addPoint(
                                 new MemoryUseStatisticPoint(timeMillisSpent, memoryUse.longValue(),
                                         (long) registry.find("jvm.memory.max").tags(tags).gauge().value())));
 
@@ -88,4 +89,9 @@ public class MemoryUseSubSingleStatistic<Solution_>
                 Long.parseLong(csvLine.get(2)));
     }
 
+    @Override
+    protected MemoryUseStatisticPoint createPointFromColumns(StatisticColumnReader reader) {
+        return new MemoryUseStatisticPoint(reader.readLong(), reader.readLong(), reader.readLong());
+    }
+
 }
@@ -30,20 +30,22 @@ public class MoveCountPerStepProblemStatistic extends ProblemStatistic<LineChart
 
     @Override
     protected List<LineChart<Long, Long>> generateCharts(BenchmarkReport benchmarkReport) {
-        LineChart.Builder<Long, Long> builder = new LineChart.Builder<>();
+        LineChart.Builder<Long, Long> builder = new LineChart.Builder<>(benchmarkReport.getChartPointCountLimit());
         for (SingleBenchmarkResult singleBenchmarkResult : problemBenchmarkResult.getSingleBenchmarkResultList()) {
             String acceptedSeriesLabel =
                     singleBenchmarkResult.getSolverBenchmarkResult().getNameWithFavoriteSuffix() + " accepted";
             String selectedSeriesLabel =
                     singleBenchmarkResult.getSolverBenchmarkResult().getNameWithFavoriteSuffix() + " selected";
             if (singleBenchmarkResult.hasAllSuccess()) {
-                var subSingleStatistic = singleBenchmarkResult.getSubSingleStatistic(problemStatisticType);
-                List<MoveCountPerStepStatisticPoint> list = subSingleStatistic.getPointList();
-                for (MoveCountPerStepStatisticPoint point : list) {
-                    long timeMillisSpent = point.getTimeMillisSpent();
-                    builder.add(acceptedSeriesLabel, timeMillisSpent, point.getAcceptedMoveCount());
-                    builder.add(selectedSeriesLabel, timeMillisSpent, point.getSelectedMoveCount());
-                }
+                SubSingleStatistic<?, MoveCountPerStepStatisticPoint> subSingleStatistic =
+                        singleBenchmarkResult.getSubSingleStatistic(problemStatisticType);
+                subSingleStatistic.forEachPointBlock(points -> {
+                    for (MoveCountPerStepStatisticPoint point : points) {
+                        long timeMillisSpent = point.getTimeMillisSpent();
+                        builder.add(acceptedSeriesLabel, timeMillisSpent, point.getAcceptedMoveCount());
+                        builder.add(selectedSeriesLabel, timeMillisSpent, point.getSelectedMoveCount());
+                    }
+                });
             }
             if (singleBenchmarkResult.getSolverBenchmarkResult().isFavorite()) {
                 builder.markFavorite(acceptedSeriesLabel);
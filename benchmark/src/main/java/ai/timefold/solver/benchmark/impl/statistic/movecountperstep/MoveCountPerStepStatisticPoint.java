@@ -1,5 +1,6 @@
 package ai.timefold.solver.benchmark.impl.statistic.movecountperstep;
 
+import ai.timefold.solver.benchmark.impl.statistic.StatisticColumnWriter;
 import ai.timefold.solver.benchmark.impl.statistic.StatisticPoint;
 
 public class MoveCountPerStepStatisticPoint extends StatisticPoint {
@@ -31,4 +32,11 @@ public class MoveCountPerStepStatisticPoint extends StatisticPoint {
         return buildCsvLineWithLongs(timeMillisSpent, acceptedMoveCount, selectedMoveCount);
     }
 
+    @Override
+    public void writeColumns(StatisticColumnWriter writer) {
+        writer.writeLong(timeMillisSpent);
+        writer.writeLong(acceptedMoveCount);
+        writer.writeLong(selectedMoveCount);
+    }
+
 }
@@ -5,6 +5,7 @@ import java.util.List;
 import ai.timefold.solver.benchmark.config.statistic.ProblemStatisticType;
 import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
 import ai.timefold.solver.benchmark.impl.statistic.ProblemBasedSubSingleStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.StatisticColumnReader;
 import ai.timefold.solver.benchmark.impl.statistic.StatisticPoint;
 import ai.timefold.solver.benchmark.impl.statistic.StatisticRegistry;
 import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
@@ -32,7 +33,7 @@ public class MoveCountPerStepSubSingleStatistic<Solution_>
         registry.addListener(SolverMetric.MOVE_COUNT_PER_STEP,
                 timeMillisSpent -> registry.getGaugeValue(SolverMetric.MOVE_COUNT_PER_STEP.getMeterId() + ".accepted", runTag,
                         accepted -> registry.getGaugeValue(SolverMetric.MOVE_COUNT_PER_STEP.getMeterId() + ".selected", runTag,
-                                selected -> pointList.add(new MoveCountPerStepStatisticPoint(timeMillisSpent,
+                                selected -> addPoint(new MoveCountPerStepStatisticPoint(timeMillisSpent,
                                         accepted.longValue(), selected.longValue())))));
     }
 
@@ -52,4 +53,9 @@ public class MoveCountPerStepSubSingleStatistic<Solution_>
                 Long.parseLong(csvLine.get(2)));
     }
 
+    @Override
+    protected MoveCountPerStepStatisticPoint createPointFromColumns(StatisticColumnReader reader) {
+        return new MoveCountPerStepStatisticPoint(reader.readLong(), reader.readLong(), reader.readLong());
+    }
+
 }
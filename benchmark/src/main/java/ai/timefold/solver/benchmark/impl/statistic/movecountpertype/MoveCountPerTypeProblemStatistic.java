@@ -35,11 +35,13 @@ public class MoveCountPerTypeProblemStatistic extends ProblemStatistic<BarChart<
             // No direct ascending lines between 2 points, but a stepping line instead
             if (singleBenchmarkResult.hasAllSuccess()) {
                 var solverLabel = singleBenchmarkResult.getSolverBenchmarkResult().getNameWithFavoriteSuffix();
-                var subSingleStatistic = singleBenchmarkResult.getSubSingleStatistic(problemStatisticType);
-                List<MoveCountPerTypeStatisticPoint> points = subSingleStatistic.getPointList();
-                for (var point : points) {
-                    builder.add(solverLabel, point.getMoveType(), point.getCount());
-                }
+                SubSingleStatistic<?, MoveCountPerTypeStatisticPoint> subSingleStatistic =
+                        singleBenchmarkResult.getSubSingleStatistic(problemStatisticType);
+                subSingleStatistic.forEachPointBlock(points -> {
+                    for (var point : points) {
+                        builder.add(solverLabel, point.getMoveType(), point.getCount());
+                    }
+                });
             }
         }
         return singletonList(builder.build("moveCountPerTypeProblemStatisticChart",
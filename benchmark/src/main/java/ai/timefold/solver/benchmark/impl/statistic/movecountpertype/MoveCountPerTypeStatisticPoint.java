@@ -1,5 +1,6 @@
 package ai.timefold.solver.benchmark.impl.statistic.movecountpertype;
 
+import ai.timefold.solver.benchmark.impl.statistic.StatisticColumnWriter;
 import ai.timefold.solver.benchmark.impl.statistic.StatisticPoint;
 
 public class MoveCountPerTypeStatisticPoint extends StatisticPoint {
@@ -25,4 +26,11 @@ public class MoveCountPerTypeStatisticPoint extends StatisticPoint {
         return buildCsvLineWithStrings(0L, moveType, String.valueOf(count));
     }
 
+    @Override
+    public void writeColumns(StatisticColumnWriter writer) {
+        writer.writeLong(0L);
+        writer.writeString(moveType);
+        writer.writeLong(count);
+    }
+
 }
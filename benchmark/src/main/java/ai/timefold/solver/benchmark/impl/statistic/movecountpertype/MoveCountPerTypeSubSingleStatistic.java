@@ -5,6 +5,7 @@ import java.util.List;
 import ai.timefold.solver.benchmark.config.statistic.ProblemStatisticType;
 import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
 import ai.timefold.solver.benchmark.impl.statistic.ProblemBasedSubSingleStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.StatisticColumnReader;
 import ai.timefold.solver.benchmark.impl.statistic.StatisticPoint;
 import ai.timefold.solver.benchmark.impl.statistic.StatisticRegistry;
 import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
@@ -29,7 +30,7 @@ public class MoveCountPerTypeSubSingleStatistic<Solution_>
     @Override
     public void open(StatisticRegistry<Solution_> registry, Tags runTag) {
         registry.addListener(solverScope -> registry.extractMoveCountPerType(solverScope,
-                (type, count) -> pointList.add(new MoveCountPerTypeStatisticPoint(type, count))));
+                (type, count) -> addPoint(new MoveCountPerTypeStatisticPoint(type, count))));
     }
 
     // ************************************************************************
@@ -47,4 +48,10 @@ public class MoveCountPerTypeSubSingleStatistic<Solution_>
         return new MoveCountPerTypeStatisticPoint(csvLine.get(1), Long.parseLong(csvLine.get(2)));
     }
 
+    @Override
+    protected MoveCountPerTypeStatisticPoint createPointFromColumns(StatisticColumnReader reader) {
+        reader.readLong(); // The unused time column.
+        return new MoveCountPerTypeStatisticPoint(reader.readString(), reader.readLong());
+    }
+
 }
@@ -34,25 +34,27 @@ public class StepScoreProblemStatistic extends ProblemStatistic<LineChart<Long,
             String solverLabel = singleBenchmarkResult.getSolverBenchmarkResult().getNameWithFavoriteSuffix();
             // No direct ascending lines between 2 points, but a stepping line instead
             if (singleBenchmarkResult.hasAllSuccess()) {
-                var subSingleStatistic = singleBenchmarkResult.getSubSingleStatistic(problemStatisticType);
-                List<StepScoreStatisticPoint> points = subSingleStatistic.getPointList();
-                for (StepScoreStatisticPoint point : points) {
-                    if (!point.getScore().isSolutionInitialized()) {
-                        continue;
-                    }
-                    long timeMillisSpent = point.getTimeMillisSpent();
-                    double[] levelValues = point.getScore().toLevelDoubles();
-                    for (int i = 0; i < levelValues.length && i < BenchmarkReport.CHARTED_SCORE_LEVEL_SIZE; i++) {
-                        if (i >= builderList.size()) {
-                            builderList.add(new LineChart.Builder<>());
+                SubSingleStatistic<?, StepScoreStatisticPoint> subSingleStatistic =
+                        singleBenchmarkResult.getSubSingleStatistic(problemStatisticType);
+                subSingleStatistic.forEachPointBlock(points -> {
+                    for (StepScoreStatisticPoint point : points) {
+                        if (!point.getScore().isSolutionInitialized()) {
+                            continue;
                         }
-                        LineChart.Builder<Long, Double> builder = builderList.get(i);
-                        if (singleBenchmarkResult.getSolverBenchmarkResult().isFavorite()) {
-                            builder.markFavorite(solverLabel);
+                        long timeMillisSpent = point.getTimeMillisSpent();
+                        double[] levelValues = point.getScore().toLevelDoubles();
+                        for (int i = 0; i < levelValues.length && i < BenchmarkReport.CHARTED_SCORE_LEVEL_SIZE; i++) {
+                            if (i >= builderList.size()) {
+                                builderList.add(new LineChart.Builder<>(benchmarkReport.getChartPointCountLimit()));
+                            }
+                            LineChart.Builder<Long, Double> builder = builderList.get(i);
+                            if (singleBenchmarkResult.getSolverBenchmarkResult().isFavorite()) {
+                                builder.markFavorite(solverLabel);
+                            }
+                            builder.add(solverLabel, timeMillisSpent, levelValues[i]);
                         }
-                        builder.add(solverLabel, timeMillisSpent, levelValues[i]);
                     }
-                }
+                });
             }
         }
         List<LineChart<Long, Double>> chartList = new ArrayList<>(BenchmarkReport.CHARTED_SCORE_LEVEL_SIZE);
@@ -1,5 +1,6 @@
 package ai.timefold.solver.benchmark.impl.statistic.stepscore;
 
+import ai.timefold.solver.benchmark.impl.statistic.StatisticColumnWriter;
 import ai.timefold.solver.benchmark.impl.statistic.StatisticPoint;
 import ai.timefold.solver.core.api.score.Score;
 
@@ -26,4 +27,10 @@ public class StepScoreStatisticPoint extends StatisticPoint {
         return buildCsvLineWithStrings(timeMillisSpent, score.toString());
     }
 
+    @Override
+    public void writeColumns(StatisticColumnWriter writer) {
+        writer.writeLong(timeMillisSpent);
+        writer.writeScore(score);
+    }
+
 }
@@ -5,6 +5,7 @@ import java.util.List;
 import ai.timefold.solver.benchmark.config.statistic.ProblemStatisticType;
 import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
 import ai.timefold.solver.benchmark.impl.statistic.ProblemBasedSubSingleStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.StatisticColumnReader;
 import ai.timefold.solver.benchmark.impl.statistic.StatisticPoint;
 import ai.timefold.solver.benchmark.impl.statistic.StatisticRegistry;
 import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
@@ -31,7 +32,7 @@ public class StepScoreSubSingleStatistic<Solution_>
     public void open(StatisticRegistry<Solution_> registry, Tags runTag) {
         registry.addListener(SolverMetric.STEP_SCORE,
                 timeMillisSpent -> registry.extractScoreFromMeters(SolverMetric.STEP_SCORE, runTag,
-                        score -> pointList.add(new StepScoreStatisticPoint(timeMillisSpent, score))));
+                        score -> addPoint(new StepScoreStatisticPoint(timeMillisSpent, score))));
     }
 
     // ************************************************************************
@@ -50,4 +51,9 @@ public class StepScoreSubSingleStatistic<Solution_>
                 scoreDefinition.parseScore(csvLine.get(1)));
     }
 
+    @Override
+    protected StepScoreStatisticPoint createPointFromColumns(StatisticColumnReader reader) {
+        return new StepScoreStatisticPoint(reader.readLong(), reader.readScore());
+    }
+
 }
@@ -1,5 +1,6 @@
 package ai.timefold.solver.benchmark.impl.statistic.subsingle.constraintmatchtotalstepscore;
 
+import ai.timefold.solver.benchmark.impl.statistic.StatisticColumnWriter;
 import ai.timefold.solver.benchmark.impl.statistic.StatisticPoint;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
@@ -41,4 +42,13 @@ public class ConstraintMatchTotalStepScoreStatisticPoint extends StatisticPoint
                 Integer.toString(constraintMatchCount), scoreTotal.toString());
     }
 
+    @Override
+    public void writeColumns(StatisticColumnWriter writer) {
+        writer.writeLong(timeMillisSpent);
+        writer.writeString(constraintRef.packageName());
+        writer.writeString(constraintRef.constraintName());
+        writer.writeLong(constraintMatchCount);
+        writer.writeScore(scoreTotal);
+    }
+
 }
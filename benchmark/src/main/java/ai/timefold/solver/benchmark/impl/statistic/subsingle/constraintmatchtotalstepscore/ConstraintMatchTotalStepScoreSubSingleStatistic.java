@@ -8,6 +8,7 @@ import ai.timefold.solver.benchmark.impl.report.BenchmarkReport;
 import ai.timefold.solver.benchmark.impl.report.LineChart;
 import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
 import ai.timefold.solver.benchmark.impl.statistic.PureSubSingleStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.StatisticColumnReader;
 import ai.timefold.solver.benchmark.impl.statistic.StatisticRegistry;
 import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
 import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
@@ -30,7 +31,7 @@ public class ConstraintMatchTotalStepScoreSubSingleStatistic<Solution_>
     public void open(StatisticRegistry<Solution_> registry, Tags runTag) {
         registry.addListener(SolverMetric.CONSTRAINT_MATCH_TOTAL_STEP_SCORE,
                 timeMillisSpent -> registry.extractConstraintSummariesFromMeters(SolverMetric.CONSTRAINT_MATCH_TOTAL_STEP_SCORE,
-                        runTag, constraintSummary -> pointList.add(new ConstraintMatchTotalStepScoreStatisticPoint(
+                        runTag, constraintSummary -> addPoint(new ConstraintMatchTotalStepScoreStatisticPoint(
                                 timeMillisSpent,
                                 constraintSummary.constraintRef(),
                                 constraintSummary.count(),
@@ -51,25 +52,34 @@ public class ConstraintMatchTotalStepScoreSubSingleStatistic<Solution_>
                 scoreDefinition.parseScore(csvLine.get(4)));
     }
 
+    @Override
+    protected ConstraintMatchTotalStepScoreStatisticPoint createPointFromColumns(StatisticColumnReader reader) {
+        return new ConstraintMatchTotalStepScoreStatisticPoint(reader.readLong(),
+                ConstraintRef.of(reader.readString(), reader.readString()), (int) reader.readLong(),
+                reader.readScore());
+    }
+
     @Override
     protected List<LineChart<Long, Double>> generateCharts(BenchmarkReport benchmarkReport) {
         List<LineChart.Builder<Long, Double>> builderList = new ArrayList<>(BenchmarkReport.CHARTED_SCORE_LEVEL_SIZE);
-        for (ConstraintMatchTotalStepScoreStatisticPoint point : getPointList()) {
-            long timeMillisSpent = point.getTimeMillisSpent();
-            double[] levelValues = point.getScoreTotal().toLevelDoubles();
-            for (int i = 0; i < levelValues.length && i < BenchmarkReport.CHARTED_SCORE_LEVEL_SIZE; i++) {
-                if (i >= builderList.size()) {
-                    builderList.add(new LineChart.Builder<>());
-                }
-                LineChart.Builder<Long, Double> builder = builderList.get(i);
-                String seriesLabel = point.getConstraintRef().constraintName() + " weight";
-                // Only add changes
-                double lastValue = (builder.count(seriesLabel) == 0) ? 0.0 : builder.getLastValue(seriesLabel);
-                if (levelValues[i] != lastValue) {
-                    builder.add(seriesLabel, timeMillisSpent, levelValues[i]);
+        forEachPointBlock(points -> {
+            for (ConstraintMatchTotalStepScoreStatisticPoint point : points) {
+                long timeMillisSpent = point.getTimeMillisSpent();
+                double[] levelValues = point.getScoreTotal().toLevelDoubles();
+                for (int i = 0; i < levelValues.length && i < BenchmarkReport.CHARTED_SCORE_LEVEL_SIZE; i++) {
+                    if (i >= builderList.size()) {
+                        builderList.add(new LineChart.Builder<>(benchmarkReport.getChartPointCountLimit()));
+                    }
+                    LineChart.Builder<Long, Double> builder = builderList.get(i);
+                    String seriesLabel = point.getConstraintRef().constraintName() + " weight";
+                    // Only add changes
+                    double lastValue = (builder.count(seriesLabel) == 0) ? 0.0 : builder.getLastValue(seriesLabel);
+                    if (levelValues[i] != lastValue) {
+                        builder.add(seriesLabel, timeMillisSpent, levelValues[i]);
+                    }
                 }
             }
-        }
+        });
         long timeMillisSpent = subSingleBenchmarkResult.getTimeMillisSpent();
         for (LineChart.Builder<Long, Double> builder : builderList) {
             for (String key : builder.keys()) {
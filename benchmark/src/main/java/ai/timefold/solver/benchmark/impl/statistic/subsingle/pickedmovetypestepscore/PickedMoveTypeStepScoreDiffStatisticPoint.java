@@ -1,6 +1,7 @@
 package ai.timefold.solver.benchmark.impl.statistic.subsingle.pickedmovetypestepscore;
 
 import ai.timefold.solver.benchmark.impl.aggregator.BenchmarkAggregator;
+import ai.timefold.solver.benchmark.impl.statistic.StatisticColumnWriter;
 import ai.timefold.solver.benchmark.impl.statistic.StatisticPoint;
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.impl.heuristic.move.CompositeMove;
@@ -39,4 +40,11 @@ public class PickedMoveTypeStepScoreDiffStatisticPoint extends StatisticPoint {
         return buildCsvLineWithStrings(timeMillisSpent, moveType, stepScoreDiff.toString());
     }
 
+    @Override
+    public void writeColumns(StatisticColumnWriter writer) {
+        writer.writeLong(timeMillisSpent);
+        writer.writeString(moveType);
+        writer.writeScore(stepScoreDiff);
+    }
+
 }
@@ -8,6 +8,7 @@ import ai.timefold.solver.benchmark.impl.report.BenchmarkReport;
 import ai.timefold.solver.benchmark.impl.report.LineChart;
 import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
 import ai.timefold.solver.benchmark.impl.statistic.PureSubSingleStatistic;
+import ai.timefold.solver.benchmark.impl.statistic.StatisticColumnReader;
 import ai.timefold.solver.benchmark.impl.statistic.StatisticRegistry;
 import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
@@ -34,7 +35,7 @@ public class PickedMoveTypeStepScoreDiffSubSingleStatistic<Solution_>
                 String moveType = ((LocalSearchStepScope<Solution_>) stepScope).getStep().describe();
                 registry.extractScoreFromMeters(SolverMetric.PICKED_MOVE_TYPE_STEP_SCORE_DIFF,
                         runTag.and(Tag.of("move.type", moveType)),
-                        score -> pointList.add(new PickedMoveTypeStepScoreDiffStatisticPoint(
+                        score -> addPoint(new PickedMoveTypeStepScoreDiffStatisticPoint(
                                 timeMillisSpent, moveType, score)));
             }
         });
@@ -52,21 +53,29 @@ public class PickedMoveTypeStepScoreDiffSubSingleStatistic<Solution_>
                 csvLine.get(1), scoreDefinition.parseScore(csvLine.get(2)));
     }
 
+    @Override
+    protected PickedMoveTypeStepScoreDiffStatisticPoint createPointFromColumns(StatisticColumnReader reader) {
+        return new PickedMoveTypeStepScoreDiffStatisticPoint(reader.readLong(), reader.readString(),
+                reader.readScore());
+    }
+
     @Override
     protected List<LineChart<Long, Double>> generateCharts(BenchmarkReport benchmarkReport) {
         List<LineChart.Builder<Long, Double>> builderList = new ArrayList<>(BenchmarkReport.CHARTED_SCORE_LEVEL_SIZE);
-        for (PickedMoveTypeStepScoreDiffStatisticPoint point : getPointList()) {
-            long timeMillisSpent = point.getTimeMillisSpent();
-            String moveType = point.getMoveType();
-            double[] levelValues = point.getStepScoreDiff().toLevelDoubles();
-            for (int i = 0; i < levelValues.length && i < BenchmarkReport.CHARTED_SCORE_LEVEL_SIZE; i++) {
-                if (i >= builderList.size()) {
-                    builderList.add(new LineChart.Builder<>());
+        forEachPointBlock(points -> {
+            for (PickedMoveTypeStepScoreDiffStatisticPoint point : points) {
+                long timeMillisSpent = point.getTimeMillisSpent();
+                String moveType = point.getMoveType();
+                double[] levelValues = point.getStepScoreDiff().toLevelDoubles();
+                for (int i = 0; i < levelValues.length && i < BenchmarkReport.CHARTED_SCORE_LEVEL_SIZE; i++) {
+                    if (i >= builderList.size()) {
+                        builderList.add(new LineChart.Builder<>(benchmarkReport.getChartPointCountLimit()));
+                    }
+                    LineChart.Builder<Long, Double> builder = builderList.get(i);
+                    builder.add(moveType, timeMillisSpent, levelValues[i]);
                 }
-                LineChart.Builder<Long, Double> builder = builderList.get(i);
-                builder.add(moveType, timeMillisSpent, levelValues[i]);
             }
-        }
+        });
         List<LineChart<Long, Double>> chartList = new ArrayList<>(builderList.size());
         for (int scoreLevelIndex = 0; scoreLevelIndex < builderList.size(); scoreLevelIndex++) {
             String scoreLevelLabel = subSingleBenchmarkResult.getSingleBenchmarkResult().getProblemBenchmarkResult()
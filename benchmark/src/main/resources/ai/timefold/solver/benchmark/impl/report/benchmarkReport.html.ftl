@@ -210,7 +210,7 @@
                                                     <#if !singleBenchmarkResult.hasAllSuccess()>
                                                         <td><span class="label label-important">Failed</span></td>
                                                     <#else>
-                                                        <#if solverBenchmarkResult.subSingleCount lte 1>
+                                                        <#if singleBenchmarkResult.getSubSingleCount() lte 1>
                                                             <td>${singleBenchmarkResult.averageScore!""}&nbsp;<@addSolverProblemBenchmarkResultBadges solverProblemBenchmarkResult=singleBenchmarkResult/></td>
                                                         <#else>
                                                             <td>
@@ -421,7 +421,7 @@
                                                     <#if !singleBenchmarkResult.hasAllSuccess()>
                                                         <td><span class="label label-important">Failed</span></td>
                                                     <#else>
-                                                        <#if solverBenchmarkResult.subSingleCount lte 1>
+                                                        <#if singleBenchmarkResult.getSubSingleCount() lte 1>
                                                             <td>${singleBenchmarkResult.scoreCalculationSpeed}/s</td>
                                                         <#else>
                                                             <td>
@@ -489,7 +489,7 @@
                                                     <#if !singleBenchmarkResult.hasAllSuccess()>
                                                         <td><span class="label label-important">Failed</span></td>
                                                     <#else>
-                                                        <#if solverBenchmarkResult.subSingleCount lte 1>
+                                                        <#if singleBenchmarkResult.getSubSingleCount() lte 1>
                                                             <td>${singleBenchmarkResult.moveEvaluationSpeed}/s</td>
                                                         <#else>
                                                             <td>
@@ -602,7 +602,7 @@
                                                     <#if !singleBenchmarkResult.hasAllSuccess()>
                                                         <td><span class="label label-important">Failed</span></td>
                                                     <#else>
-                                                        <#if solverBenchmarkResult.subSingleCount lte 1>
+                                                        <#if singleBenchmarkResult.getSubSingleCount() lte 1>
                                                             <td>${singleBenchmarkResult.timeMillisSpent?string.@msDuration}</td>
                                                         <#else>
                                                             <td>
@@ -731,7 +731,7 @@
                                                 <p>Graph not available. Either the statistic is not available for this solver configuration, or the benchmark failed.</p>
                                             </div>
                                         </#if>
-                                        <#if !benchmarkReport.plannerBenchmarkResult.aggregation>
+                                        <#if benchmarkReport.csvExportEnabled && !benchmarkReport.plannerBenchmarkResult.aggregation>
                                             <span>CSV files per solver:</span>
                                             <div class="btn-group">
                                                 <#list problemStatistic.subSingleStatisticList as subSingleStatistic>
@@ -759,7 +759,7 @@
                                                     <p>Graph not available. Either the statistic is not available for this solver configuration, or the benchmark failed.</p>
                                                 </div>
                                             </#if>
-                                            <#if !benchmarkReport.plannerBenchmarkResult.aggregation>
+                                            <#if benchmarkReport.csvExportEnabled && !benchmarkReport.plannerBenchmarkResult.aggregation>
                                                 <span>CSV file:</span>
                                                 <div class="btn-group">
                                                     <button class="btn" onclick="window.location.href='${pureSubSingleStatistic.relativeCsvFilePath}'"><i class="fa fa-solid fa-download"></i></button>
@@ -14,6 +14,7 @@ import java.util.Collections;
 import ai.timefold.solver.benchmark.config.PlannerBenchmarkConfig;
 import ai.timefold.solver.benchmark.config.SolverBenchmarkConfig;
 import ai.timefold.solver.benchmark.impl.DefaultPlannerBenchmark;
+import ai.timefold.solver.benchmark.impl.result.SingleBenchmarkResult;
 import ai.timefold.solver.core.api.score.stream.Constraint;
 import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
 import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
@@ -180,6 +181,24 @@ class PlannerBenchmarkFactoryTest {
         assertThat(plannerBenchmark.benchmark()).exists();
     }
 
+    @Test
+    void createFromXmlResource_subSingleCountLimit() {
+        PlannerBenchmarkConfig benchmarkConfig = PlannerBenchmarkConfig.createFromXmlResource(
+                "ai/timefold/solver/benchmark/api/testdataBenchmarkConfig.xml");
+        SolverBenchmarkConfig solverBenchmarkConfig = benchmarkConfig.getSolverBenchmarkConfigList().get(0);
+        solverBenchmarkConfig.setSubSingleCount(1);
+        solverBenchmarkConfig.setSubSingleCountLimit(5);
+        DefaultPlannerBenchmark plannerBenchmark =
+                (DefaultPlannerBenchmark) PlannerBenchmarkFactory.create(benchmarkConfig).buildPlannerBenchmark();
+        assertThat(plannerBenchmark.benchmark()).exists();
+        // Every sub single has the same score, so the confidence interval is narrow after the second sub single.
+        SingleBenchmarkResult singleBenchmarkResult = plannerBenchmark.getPlannerBenchmarkResult()
+                .getSolverBenchmarkResultList().get(0).getSingleBenchmarkResultList().get(0);
+        assertThat(singleBenchmarkResult.getSubSingleCount()).isEqualTo(2);
+        assertThat(singleBenchmarkResult.getSubSingleBenchmarkResultList())
+                .allMatch(subSingleBenchmarkResult -> subSingleBenchmarkResult.getSucceeded());
+    }
+
     @Test
     void createFromXmlFile() throws IOException {
         File file = new File(benchmarkTestDir, "testdataBenchmarkConfig.xml");
@@ -82,6 +82,17 @@ class SolverBenchmarkFactoryTest {
         assertThatIllegalStateException().isThrownBy(() -> validateConfig(config));
     }
 
+    @Test
+    void invalidSubSingleCountLimit() {
+        SolverBenchmarkConfig config = new SolverBenchmarkConfig();
+        config.setName("name");
+        config.setSubSingleCount(3);
+        config.setSubSingleCountLimit(2);
+        assertThatIllegalStateException().isThrownBy(() -> validateConfig(config));
+        config.setSubSingleCountLimit(3);
+        validateConfig(config);
+    }
+
     @Test
     void invalidMonitorConfig() {
         SolverConfig solverConfig = new SolverConfig();
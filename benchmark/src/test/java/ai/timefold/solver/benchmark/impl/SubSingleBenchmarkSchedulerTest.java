@@ -0,0 +1,139 @@
+package ai.timefold.solver.benchmark.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+
+import ai.timefold.solver.benchmark.impl.result.PlannerBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.result.ProblemBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.result.SingleBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.result.SolverBenchmarkResult;
+import ai.timefold.solver.benchmark.impl.result.SubSingleBenchmarkResult;
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.buildin.hardsoft.HardSoftScore;
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+
+import org.junit.jupiter.api.Test;
+
+class SubSingleBenchmarkSchedulerTest {
+
+    private final PlannerBenchmarkResult plannerBenchmarkResult = new PlannerBenchmarkResult();
+    private final SubSingleBenchmarkScheduler scheduler =
+            new SubSingleBenchmarkScheduler(mock(ExecutorService.class), 8);
+
+    @Test
+    void determineProcessorCount() {
+        SolverBenchmarkResult solverBenchmarkResult = new SolverBenchmarkResult(plannerBenchmarkResult);
+        assertThat(scheduler.determineProcessorCount(solverBenchmarkResult)).isEqualTo(1);
+        solverBenchmarkResult.setMoveThreadCount(3);
+        assertThat(scheduler.determineProcessorCount(solverBenchmarkResult)).isEqualTo(4);
+        solverBenchmarkResult.setMoveThreadCount(20);
+        assertThat(scheduler.determineProcessorCount(solverBenchmarkResult)).isEqualTo(8);
+    }
+
+    @Test
+    void subSingleCountLimit() {
+        ProblemBenchmarkResult<Object> problemBenchmarkResult = buildProblemBenchmarkResult();
+        SingleBenchmarkResult withoutLimit = buildSingleBenchmarkResult(problemBenchmarkResult, null,
+                SimpleScore.of(-1));
+        assertThat(scheduler.needsMoreSubSingles(withoutLimit)).isFalse();
+        SingleBenchmarkResult limitReached = buildSingleBenchmarkResult(problemBenchmarkResult, 2,
+                SimpleScore.of(-1), SimpleScore.of(-100));
+        assertThat(scheduler.needsMoreSubSingles(limitReached)).isFalse();
+        SingleBenchmarkResult singleSubSingle = buildSingleBenchmarkResult(problemBenchmarkResult, 2,
+                SimpleScore.of(-1));
+        assertThat(scheduler.needsMoreSubSingles(singleSubSingle)).isTrue();
+    }
+
+    @Test
+    void confidenceIntervalNarrowEnough() {
+        ProblemBenchmarkResult<Object> problemBenchmarkResult = buildProblemBenchmarkResult();
+        SingleBenchmarkResult wide = buildSingleBenchmarkResult(problemBenchmarkResult, 10,
+                SimpleScore.of(-100), SimpleScore.of(-120), SimpleScore.of(-90));
+        assertThat(scheduler.needsMoreSubSingles(wide)).isTrue();
+        SingleBenchmarkResult narrow = buildSingleBenchmarkResult(buildProblemBenchmarkResult(), 10,
+                SimpleScore.of(-1000), SimpleScore.of(-1001), SimpleScore.of(-1000), SimpleScore.of(-999));
+        assertThat(scheduler.needsMoreSubSingles(narrow)).isFalse();
+        SingleBenchmarkResult constant = buildSingleBenchmarkResult(buildProblemBenchmarkResult(), 10,
+                SimpleScore.of(0), SimpleScore.of(0));
+        assertThat(scheduler.needsMoreSubSingles(constant)).isFalse();
+    }
+
+    @Test
+    void failureIsNotRepeated() {
+        ProblemBenchmarkResult<Object> problemBenchmarkResult = buildProblemBenchmarkResult();
+        SingleBenchmarkResult singleBenchmarkResult = buildSingleBenchmarkResult(problemBenchmarkResult, 10,
+                SimpleScore.of(-100), SimpleScore.of(-120));
+        singleBenchmarkResult.getSubSingleBenchmarkResultList().get(1).setSucceeded(false);
+        assertThat(scheduler.needsMoreSubSingles(singleBenchmarkResult)).isFalse();
+    }
+
+    @Test
+    void statisticallyWorse() {
+        ProblemBenchmarkResult<Object> problemBenchmarkResult = buildProblemBenchmarkResult();
+        SingleBenchmarkResult worse = buildSingleBenchmarkResult(problemBenchmarkResult, 10,
+                SimpleScore.of(-100), SimpleScore.of(-120), SimpleScore.of(-90));
+        assertThat(scheduler.needsMoreSubSingles(worse)).isTrue();
+        // Overlapping confidence intervals are not statistically different.
+        SingleBenchmarkResult similar = buildSingleBenchmarkResult(problemBenchmarkResult, 10,
+                SimpleScore.of(-95), SimpleScore.of(-110), SimpleScore.of(-100));
+        assertThat(scheduler.needsMoreSubSingles(worse)).isTrue();
+        assertThat(scheduler.needsMoreSubSingles(similar)).isTrue();
+        SingleBenchmarkResult better = buildSingleBenchmarkResult(problemBenchmarkResult, 10,
+                SimpleScore.of(-10), SimpleScore.of(-12), SimpleScore.of(-9));
+        assertThat(scheduler.needsMoreSubSingles(worse)).isFalse();
+        assertThat(scheduler.needsMoreSubSingles(similar)).isFalse();
+        assertThat(scheduler.needsMoreSubSingles(better)).isTrue();
+    }
+
+    @Test
+    void scoreLevelsCompareFromHardToSoft() {
+        ProblemBenchmarkResult<Object> problemBenchmarkResult = buildProblemBenchmarkResult();
+        var a = SubSingleBenchmarkScheduler.ScoreConfidenceInterval.of(buildSingleBenchmarkResult(problemBenchmarkResult,
+                10, HardSoftScore.of(0, -100), HardSoftScore.of(0, -101)));
+        var b = SubSingleBenchmarkScheduler.ScoreConfidenceInterval.of(buildSingleBenchmarkResult(problemBenchmarkResult,
+                10, HardSoftScore.of(0, -10), HardSoftScore.of(0, -11)));
+        var c = SubSingleBenchmarkScheduler.ScoreConfidenceInterval.of(buildSingleBenchmarkResult(problemBenchmarkResult,
+                10, HardSoftScore.of(-1, 0), HardSoftScore.of(-1, 0)));
+        var d = SubSingleBenchmarkScheduler.ScoreConfidenceInterval.of(buildSingleBenchmarkResult(problemBenchmarkResult,
+                10, HardSoftScore.of(0, -100), HardSoftScore.of(-1, -10)));
+        // Equal constant hard levels: the soft level decides.
+        assertThat(a.isWorseThan(b)).isTrue();
+        assertThat(b.isWorseThan(a)).isFalse();
+        // The hard level decides, regardless of the soft level.
+        assertThat(c.isWorseThan(a)).isTrue();
+        assertThat(a.isWorseThan(c)).isFalse();
+        // Overlapping hard levels: undecided, regardless of the soft level.
+        assertThat(d.isWorseThan(b)).isFalse();
+        assertThat(c.isWorseThan(d)).isFalse();
+    }
+
+    private ProblemBenchmarkResult<Object> buildProblemBenchmarkResult() {
+        ProblemBenchmarkResult<Object> problemBenchmarkResult = new ProblemBenchmarkResult<>(plannerBenchmarkResult);
+        problemBenchmarkResult.setSingleBenchmarkResultList(new ArrayList<>());
+        return problemBenchmarkResult;
+    }
+
+    private SingleBenchmarkResult buildSingleBenchmarkResult(ProblemBenchmarkResult<Object> problemBenchmarkResult,
+            Integer subSingleCountLimit, Score<?>... scores) {
+        SolverBenchmarkResult solverBenchmarkResult = new SolverBenchmarkResult(plannerBenchmarkResult);
+        solverBenchmarkResult.setSubSingleCount(1);
+        solverBenchmarkResult.setSubSingleCountLimit(subSingleCountLimit);
+        SingleBenchmarkResult singleBenchmarkResult = new SingleBenchmarkResult(solverBenchmarkResult,
+                problemBenchmarkResult);
+        List<SubSingleBenchmarkResult> subSingleBenchmarkResultList = new ArrayList<>(scores.length);
+        for (int i = 0; i < scores.length; i++) {
+            SubSingleBenchmarkResult subSingleBenchmarkResult = new SubSingleBenchmarkResult(singleBenchmarkResult, i);
+            subSingleBenchmarkResult.setScore(scores[i]);
+            subSingleBenchmarkResult.setSucceeded(true);
+            subSingleBenchmarkResultList.add(subSingleBenchmarkResult);
+        }
+        singleBenchmarkResult.setSubSingleBenchmarkResultList(subSingleBenchmarkResultList);
+        problemBenchmarkResult.getSingleBenchmarkResultList().add(singleBenchmarkResult);
+        return singleBenchmarkResult;
+    }
+
+}
@@ -1,6 +1,7 @@
 package ai.timefold.solver.benchmark.impl.report;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 import java.io.BufferedReader;
 import java.io.FileReader;
@@ -102,4 +103,75 @@ class LineChartTest {
         assertThat(chart.datasets().get(0).data().stream().filter(Objects::nonNull).toList())
                 .containsAll(expectedResult.stream().mapToDouble(Pair::value).boxed().toList());
     }
+
+    @Test
+    void pointCountLimitIsSharedByDatasets() {
+        Builder<Long, Long> builder = new Builder<>(100);
+        for (long i = 0; i < 1000; i++) {
+            builder.add("a", i * 2, i % 7);
+            builder.add("b", i * 2 + 1, i % 11);
+        }
+        LineChart<Long, Long> chart = builder.build("test.txt", "test", "x", "y", false, false, false);
+        assertThat(chart.keys()).hasSizeLessThanOrEqualTo(100)
+                .contains(0L, 1L, 1998L, 1999L);
+        assertThat(chart.points("a")).hasSizeLessThanOrEqualTo(50);
+        assertThat(chart.points("b")).hasSizeLessThanOrEqualTo(50);
+    }
+
+    @Test
+    void pointCountLimitIsSharedInProportionToPointCount() {
+        Builder<Long, Long> builder = new Builder<>(100);
+        for (long i = 0; i < 900; i++) {
+            builder.add("a", i * 10, i % 7);
+        }
+        for (long i = 0; i < 100; i++) {
+            builder.add("b", i * 10 + 1, i % 11);
+        }
+        LineChart<Long, Long> chart = builder.build("test.txt", "test", "x", "y", false, false, false);
+        assertThat(chart.keys()).hasSizeLessThanOrEqualTo(100);
+        // Both keep their endpoints, and share the rest of the limit 898 to 98.
+        assertThat(chart.points("a")).hasSize(2 + 86);
+        assertThat(chart.points("b")).hasSize(2 + 9);
+    }
+
+    @Test
+    void pointCountLimitWithManyDatasets() {
+        Builder<Long, Long> builder = new Builder<>(200);
+        for (long dataset = 0; dataset < 60; dataset++) {
+            for (long i = 0; i < 100; i++) {
+                builder.add("d" + dataset, i * 60 + dataset, i % 7);
+            }
+        }
+        LineChart<Long, Long> chart = builder.build("test.txt", "test", "x", "y", false, false, false);
+        assertThat(chart.keys()).hasSizeLessThanOrEqualTo(200);
+        assertEveryDatasetKeepsItsEndpoints(chart, 60);
+    }
+
+    @Test
+    void pointCountLimitWithMoreDatasetsThanItsHalf() {
+        Builder<Long, Long> builder = new Builder<>(100);
+        for (long dataset = 0; dataset < 60; dataset++) {
+            for (long i = 0; i < 100; i++) {
+                builder.add("d" + dataset, i * 60 + dataset, i % 7);
+            }
+        }
+        LineChart<Long, Long> chart = builder.build("test.txt", "test", "x", "y", false, false, false);
+        // The endpoints of every dataset are kept, even beyond the limit.
+        assertThat(chart.keys()).hasSize(120);
+        assertEveryDatasetKeepsItsEndpoints(chart, 60);
+    }
+
+    private static void assertEveryDatasetKeepsItsEndpoints(LineChart<Long, Long> chart, int datasetCount) {
+        for (long dataset = 0; dataset < datasetCount; dataset++) {
+            var points = chart.points("d" + dataset);
+            assertThat(points).hasSizeGreaterThanOrEqualTo(2);
+            assertThat(points.get(0).key()).isEqualTo(dataset);
+            assertThat(points.get(points.size() - 1).key()).isEqualTo(99 * 60 + dataset);
+        }
+    }
+
+    @Test
+    void pointCountLimitTooSmall() {
+        assertThatIllegalArgumentException().isThrownBy(() -> new Builder<Long, Long>(Builder.MIN_POINT_COUNT_LIMIT - 1));
+    }
 }
@@ -10,6 +10,7 @@ import java.io.IOException;
 import java.io.Writer;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -57,6 +58,62 @@ public abstract class AbstractSubSingleStatisticTest<Point_ extends StatisticPoi
         assertSoftly(softly -> runTest(softly, subSingleStatisticUnhibernated.getPointList()));
     }
 
+    @Test
+    void hibernationWithAppendingPointList(@TempDir Path tempDir) {
+        SubSingleBenchmarkResult subSingleBenchmarkResult = createSubStatistic(tempDir.toFile());
+        Function<SubSingleBenchmarkResult, SubSingleStatistic_> constructor = getSubSingleStatisticConstructor();
+        SubSingleStatistic_ subSingleStatistic = constructor.apply(subSingleBenchmarkResult);
+
+        // Persist the point list.
+        subSingleStatistic.initAppendingPointList(Runnable::run);
+        getInputPoints().forEach(subSingleStatistic::addPoint);
+        subSingleStatistic.hibernatePointList();
+
+        // Re-read the point list.
+        SubSingleStatistic_ subSingleStatisticUnhibernated = constructor.apply(subSingleBenchmarkResult);
+        subSingleStatisticUnhibernated.unhibernatePointList();
+
+        assertSoftly(softly -> runTest(softly, subSingleStatisticUnhibernated.getPointList()));
+    }
+
+    @Test
+    void forEachPointBlockWithoutUnhibernation(@TempDir Path tempDir) {
+        SubSingleBenchmarkResult subSingleBenchmarkResult = createSubStatistic(tempDir.toFile());
+        Function<SubSingleBenchmarkResult, SubSingleStatistic_> constructor = getSubSingleStatisticConstructor();
+        SubSingleStatistic_ subSingleStatistic = constructor.apply(subSingleBenchmarkResult);
+
+        // Persist the point list.
+        subSingleStatistic.initAppendingPointList(Runnable::run);
+        getInputPoints().forEach(subSingleStatistic::addPoint);
+        subSingleStatistic.hibernatePointList();
+
+        // Stream the point list, without keeping it in the statistic.
+        SubSingleStatistic_ subSingleStatisticStreamed = constructor.apply(subSingleBenchmarkResult);
+        List<Point_> streamedPointList = new ArrayList<>();
+        subSingleStatisticStreamed.forEachPointBlock(streamedPointList::addAll);
+        assertThat(subSingleStatisticStreamed.getPointList()).isNull();
+
+        assertSoftly(softly -> runTest(softly, streamedPointList));
+    }
+
+    @Test
+    void legacyCsvFile(@TempDir Path tempDir) {
+        SubSingleBenchmarkResult subSingleBenchmarkResult = createSubStatistic(tempDir.toFile());
+        Function<SubSingleBenchmarkResult, SubSingleStatistic_> constructor = getSubSingleStatisticConstructor();
+        SubSingleStatistic_ subSingleStatistic = constructor.apply(subSingleBenchmarkResult);
+
+        // Older versions only wrote the CSV file.
+        subSingleStatistic.setPointList(getInputPoints());
+        subSingleStatistic.exportCsvFile();
+        assertThat(subSingleStatistic.getStatisticFile()).doesNotExist();
+
+        SubSingleStatistic_ subSingleStatisticUnhibernated = constructor.apply(subSingleBenchmarkResult);
+        assertThat(subSingleStatisticUnhibernated.hasStatisticFile()).isTrue();
+        subSingleStatisticUnhibernated.unhibernatePointList();
+
+        assertSoftly(softly -> runTest(softly, subSingleStatisticUnhibernated.getPointList()));
+    }
+
     @Test
     void serialization(@TempDir Path tempDir) throws IOException, JAXBException {
         SubSingleBenchmarkResult subSingleBenchmarkResult = createSubStatistic(tempDir.toFile());
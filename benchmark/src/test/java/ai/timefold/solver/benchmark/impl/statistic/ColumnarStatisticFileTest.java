@@ -0,0 +1,196 @@
+package ai.timefold.solver.benchmark.impl.statistic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.buildin.hardsoft.HardSoftScore;
+import ai.timefold.solver.core.api.score.buildin.hardsoftbigdecimal.HardSoftBigDecimalScore;
+import ai.timefold.solver.core.impl.score.buildin.HardSoftBigDecimalScoreDefinition;
+import ai.timefold.solver.core.impl.score.buildin.HardSoftScoreDefinition;
+import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ColumnarStatisticFileTest {
+
+    private static final String HEADER = "\"timeMillisSpent\",\"constraint\",\"count\",\"score\"";
+
+    @Test
+    void readAndWriteMultipleBlocks(@TempDir Path tempDir) {
+        File file = tempDir.resolve("test.dat").toFile();
+        List<TestPoint> pointList = new ArrayList<>();
+        for (int i = 0; i < ColumnarStatisticFile.BLOCK_SIZE * 2 + 10; i++) {
+            pointList.add(new TestPoint(1000L + i * 7L, "constraint, \"" + (i % 3) + "\"", -i,
+                    HardSoftScore.ofUninitialized(-(i % 2), -i / 100, i - 5000)));
+        }
+        // Extreme values.
+        pointList.add(new TestPoint(Long.MAX_VALUE, "", Integer.MIN_VALUE,
+                HardSoftScore.of(Integer.MIN_VALUE, Integer.MAX_VALUE)));
+        pointList.add(new TestPoint(Long.MIN_VALUE, "", 0, HardSoftScore.ZERO));
+
+        ColumnarStatisticFile.writeHeader(file, HEADER);
+        ColumnarStatisticFile.appendPoints(file, pointList.subList(0, 100));
+        ColumnarStatisticFile.appendPoints(file, pointList.subList(100, pointList.size()));
+        ColumnarStatisticFile.writeEnd(file, false);
+
+        List<Integer> blockSizeList = new ArrayList<>();
+        List<TestPoint> readPointList = new ArrayList<>();
+        boolean failed = readBlocks(file, HEADER, new HardSoftScoreDefinition(), block -> {
+            blockSizeList.add(block.size());
+            readPointList.addAll(block);
+        });
+        assertThat(failed).isFalse();
+        assertThat(blockSizeList).containsExactly(100, ColumnarStatisticFile.BLOCK_SIZE,
+                pointList.size() - 100 - ColumnarStatisticFile.BLOCK_SIZE);
+        assertThat(readPointList).containsExactlyElementsOf(pointList);
+        // Much smaller than the equivalent CSV file.
+        long csvLength = pointList.stream().mapToLong(point -> point.toCsvLine().length() + 1L).sum();
+        assertThat(file.length()).isLessThan(csvLength / 4);
+    }
+
+    @Test
+    void readAndWriteBigDecimalScores(@TempDir Path tempDir) {
+        File file = tempDir.resolve("test.dat").toFile();
+        List<TestPoint> pointList = List.of(
+                new TestPoint(0L, "a", 1, HardSoftBigDecimalScore.of(BigDecimal.ONE, new BigDecimal("-0.50"))),
+                new TestPoint(5L, "b", 2, HardSoftBigDecimalScore.of(BigDecimal.ZERO, new BigDecimal("3.125"))));
+        ColumnarStatisticFile.writeHeader(file, HEADER);
+        ColumnarStatisticFile.appendPoints(file, pointList);
+        ColumnarStatisticFile.writeEnd(file, true);
+
+        List<String> readScoreList = new ArrayList<>();
+        boolean failed = readBlocks(file, HEADER, new HardSoftBigDecimalScoreDefinition(),
+                block -> block.forEach(point -> readScoreList.add(point.score.toString())));
+        assertThat(failed).isTrue();
+        assertThat(readScoreList).containsExactly("1hard/-0.50soft", "0hard/3.125soft");
+    }
+
+    @Test
+    void readWithoutEndMarker(@TempDir Path tempDir) {
+        File file = tempDir.resolve("test.dat").toFile();
+        TestPoint point = new TestPoint(0L, "a", 1, HardSoftScore.ZERO);
+        ColumnarStatisticFile.writeHeader(file, HEADER);
+        ColumnarStatisticFile.appendPoints(file, List.of(point));
+
+        List<TestPoint> readPointList = new ArrayList<>();
+        boolean failed = readBlocks(file, HEADER, new HardSoftScoreDefinition(), readPointList::addAll);
+        assertThat(failed).isTrue();
+        assertThat(readPointList).containsExactly(point);
+    }
+
+    @Test
+    void readOtherHeader(@TempDir Path tempDir) {
+        File file = tempDir.resolve("test.dat").toFile();
+        ColumnarStatisticFile.writeHeader(file, HEADER);
+        ColumnarStatisticFile.writeEnd(file, false);
+        assertThatIllegalStateException()
+                .isThrownBy(() -> readBlocks(file, "\"timeMillisSpent\"", null, block -> {
+                }));
+    }
+
+    @Test
+    void readOtherColumnTypes(@TempDir Path tempDir) {
+        File file = tempDir.resolve("test.dat").toFile();
+        ColumnarStatisticFile.writeHeader(file, HEADER);
+        ColumnarStatisticFile.appendPoints(file, List.of(new TestPoint(0L, "a", 1, HardSoftScore.ZERO)));
+        ColumnarStatisticFile.writeEnd(file, false);
+        try (ColumnarStatisticFile.BlockIterator<TestPoint> blockIterator = ColumnarStatisticFile.openBlockIterator(file,
+                HEADER, new HardSoftScoreDefinition(),
+                reader -> new TestPoint(reader.readLong(), Long.toString(reader.readLong()), 0, HardSoftScore.ZERO))) {
+            assertThatIllegalStateException()
+                    .isThrownBy(blockIterator::next)
+                    .withMessageContaining("as a long, but the statistic file has a string");
+        }
+    }
+
+    @Test
+    void writeInconsistentColumns(@TempDir Path tempDir) {
+        File file = tempDir.resolve("test.dat").toFile();
+        ColumnarStatisticFile.writeHeader(file, HEADER);
+        StatisticPoint otherPoint = new StatisticPoint() {
+            @Override
+            public void writeColumns(StatisticColumnWriter writer) {
+                writer.writeLong(0L);
+            }
+
+            @Override
+            public String toCsvLine() {
+                return "0";
+            }
+        };
+        assertThatIllegalStateException()
+                .isThrownBy(() -> ColumnarStatisticFile.appendPoints(file,
+                        List.of(new TestPoint(0L, "a", 1, HardSoftScore.ZERO), otherPoint)))
+                .withMessageContaining("but the first point of its block wrote (4)");
+    }
+
+    private static boolean readBlocks(File file, String csvHeader, ScoreDefinition<?> scoreDefinition,
+            Consumer<List<TestPoint>> blockConsumer) {
+        try (ColumnarStatisticFile.BlockIterator<TestPoint> blockIterator = ColumnarStatisticFile.openBlockIterator(file,
+                csvHeader, scoreDefinition, TestPoint::new)) {
+            while (blockIterator.hasNext()) {
+                blockConsumer.accept(blockIterator.next());
+            }
+            return blockIterator.isFailed();
+        }
+    }
+
+    private static final class TestPoint extends StatisticPoint {
+
+        private final long timeMillisSpent;
+        private final String constraint;
+        private final int count;
+        private final Score<?> score;
+
+        private TestPoint(long timeMillisSpent, String constraint, int count, Score<?> score) {
+            this.timeMillisSpent = timeMillisSpent;
+            this.constraint = constraint;
+            this.count = count;
+            this.score = score;
+        }
+
+        private TestPoint(StatisticColumnReader reader) {
+            this(reader.readLong(), reader.readString(), (int) reader.readLong(), reader.readScore());
+        }
+
+        @Override
+        public void writeColumns(StatisticColumnWriter writer) {
+            writer.writeLong(timeMillisSpent);
+            writer.writeString(constraint);
+            writer.writeLong(count);
+            writer.writeScore(score);
+        }
+
+        @Override
+        public String toCsvLine() {
+            return buildCsvLineWithStrings(timeMillisSpent, constraint, Integer.toString(count), score.toString());
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            return other instanceof TestPoint that && timeMillisSpent == that.timeMillisSpent
+                    && constraint.equals(that.constraint) && count == that.count && score.equals(that.score);
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(timeMillisSpent);
+        }
+
+        @Override
+        public String toString() {
+            return toCsvLine();
+        }
+
+    }
+
+}
@@ -11,6 +11,7 @@ import java.util.function.Function;
 
 import ai.timefold.solver.benchmark.config.statistic.ProblemStatisticType;
 import ai.timefold.solver.benchmark.impl.report.BenchmarkReport;
+import ai.timefold.solver.benchmark.impl.report.LineChart;
 import ai.timefold.solver.benchmark.impl.result.ProblemBenchmarkResult;
 import ai.timefold.solver.benchmark.impl.result.SingleBenchmarkResult;
 import ai.timefold.solver.benchmark.impl.result.SolverBenchmarkResult;
@@ -51,6 +52,7 @@ final class ScoreCalculationSpeedSubSingleStatisticTest
     void generateCharts() {
         var problemBenchmarkResult = mock(ProblemBenchmarkResult.class);
         var benchmarkReport = mock(BenchmarkReport.class);
+        doReturn(LineChart.Builder.DEFAULT_POINT_COUNT_LIMIT).when(benchmarkReport).getChartPointCountLimit();
         var singleBenchmarkResult = mock(SingleBenchmarkResult.class);
         var solverBenchmarkResult = mock(SolverBenchmarkResult.class);
         var singleStatistic = mock(SubSingleStatistic.class);
@@ -7,9 +7,12 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.time.temporal.Temporal;
 import java.time.temporal.TemporalUnit;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
 
 import ai.timefold.solver.core.impl.domain.valuerange.buildin.bigdecimal.BigDecimalValueRange;
 import ai.timefold.solver.core.impl.domain.valuerange.buildin.biginteger.BigIntegerValueRange;
+import ai.timefold.solver.core.impl.domain.valuerange.buildin.indexed.IndexedValueRange;
 import ai.timefold.solver.core.impl.domain.valuerange.buildin.primboolean.BooleanValueRange;
 import ai.timefold.solver.core.impl.domain.valuerange.buildin.primdouble.DoubleValueRange;
 import ai.timefold.solver.core.impl.domain.valuerange.buildin.primint.IntValueRange;
@@ -197,4 +200,20 @@ public final class ValueRangeFactory {
         return new TemporalValueRange<>(from, to, incrementUnitAmount, incrementUnitType);
     }
 
+    /**
+     * Build a {@link CountableValueRange} of the values with the dense ids {@code 0} (inclusive) to {@code size} (exclusive),
+     * such as the indexes of an array of locations.
+     * Unlike a {@link java.util.List} value range, it does not hold the values,
+     * but resolves each value from its id when it is selected.
+     * This saves memory for value ranges with millions of values.
+     *
+     * @param size {@code >= 0}
+     * @param idToValueFunction maps each id in {@code [0, size)} to its value, never returns null
+     * @param valueToIdFunction the inverse of idToValueFunction, such as a getter of the value's id
+     */
+    public static <T> @NonNull CountableValueRange<T> createIndexedValueRange(int size,
+            @NonNull IntFunction<T> idToValueFunction, @NonNull ToIntFunction<T> valueToIdFunction) {
+        return new IndexedValueRange<>(size, idToValueFunction, valueToIdFunction);
+    }
+
 }
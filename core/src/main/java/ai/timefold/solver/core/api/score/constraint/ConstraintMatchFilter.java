@@ -0,0 +1,113 @@
+package ai.timefold.solver.core.api.score.constraint;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.stream.ConstraintJustification;
+import ai.timefold.solver.core.api.solver.ScoreAnalysisSession;
+
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Selects which {@link ConstraintMatch}es are
+ * {@link ScoreAnalysisSession#streamConstraintMatches(ConstraintMatchFilter, int, java.util.function.Consumer) streamed}.
+ * A constraint match passes if it passes every criterion that is set.
+ * <p>
+ * This class is immutable; every {@code with...()} method returns a new instance.
+ * Start from {@link #all()}.
+ */
+public final class ConstraintMatchFilter {
+
+    private static final ConstraintMatchFilter ALL = new ConstraintMatchFilter(null, null, null);
+
+    /**
+     * @return a filter which lets every constraint match pass
+     */
+    public static @NonNull ConstraintMatchFilter all() {
+        return ALL;
+    }
+
+    private final @Nullable Set<ConstraintRef> constraintRefSet;
+    private final @Nullable Object indictedObject;
+    private final @Nullable Class<? extends ConstraintJustification> justificationClass;
+
+    private ConstraintMatchFilter(@Nullable Set<ConstraintRef> constraintRefSet, @Nullable Object indictedObject,
+            @Nullable Class<? extends ConstraintJustification> justificationClass) {
+        this.constraintRefSet = constraintRefSet;
+        this.indictedObject = indictedObject;
+        this.justificationClass = justificationClass;
+    }
+
+    /**
+     * Only lets the matches of the given constraints pass.
+     * The other constraints are skipped entirely, their matches are never visited.
+     *
+     * @param constraintRefs at least one
+     */
+    public @NonNull ConstraintMatchFilter withConstraintRefs(@NonNull ConstraintRef @NonNull... constraintRefs) {
+        if (constraintRefs.length == 0) {
+            throw new IllegalArgumentException("The constraintRefs (%s) must not be empty."
+                    .formatted(Arrays.toString(constraintRefs)));
+        }
+        var newConstraintRefSet = new LinkedHashSet<ConstraintRef>(constraintRefs.length);
+        for (var constraintRef : constraintRefs) {
+            newConstraintRefSet.add(Objects.requireNonNull(constraintRef, "constraintRef"));
+        }
+        return new ConstraintMatchFilter(Collections.unmodifiableSet(newConstraintRefSet), indictedObject,
+                justificationClass);
+    }
+
+    /**
+     * Only lets the matches pass which {@link ConstraintMatch#getIndictedObjectList() indict} the given object,
+     * typically a planning entity or a problem fact.
+     * Objects are compared by {@link Object#equals(Object) equality}, like the keys of {@link Indictment}s.
+     */
+    public @NonNull ConstraintMatchFilter withIndictedObject(@NonNull Object indictedObject) {
+        return new ConstraintMatchFilter(constraintRefSet, Objects.requireNonNull(indictedObject, "indictedObject"),
+                justificationClass);
+    }
+
+    /**
+     * Only lets the matches pass whose {@link ConstraintMatch#getJustification() justification}
+     * is an instance of the given class.
+     */
+    public @NonNull ConstraintMatchFilter
+            withJustificationClass(@NonNull Class<? extends ConstraintJustification> justificationClass) {
+        return new ConstraintMatchFilter(constraintRefSet, indictedObject,
+                Objects.requireNonNull(justificationClass, "justificationClass"));
+    }
+
+    /**
+     * @return true if the matches of the constraint may pass {@link #test(ConstraintMatch)}
+     */
+    public boolean testConstraint(@NonNull ConstraintRef constraintRef) {
+        return constraintRefSet == null || constraintRefSet.contains(constraintRef);
+    }
+
+    /**
+     * @return true if the constraint match passes every criterion of this filter
+     */
+    public <Score_ extends Score<Score_>> boolean test(@NonNull ConstraintMatch<Score_> constraintMatch) {
+        if (!testConstraint(constraintMatch.getConstraintRef())) {
+            return false;
+        }
+        if (justificationClass != null && !justificationClass.isInstance(constraintMatch.getJustification())) {
+            return false;
+        }
+        return indictedObject == null || constraintMatch.getIndictedObjectList().contains(indictedObject);
+    }
+
+    @Override
+    public String toString() {
+        return "ConstraintMatchFilter(constraints=" + (constraintRefSet == null ? "all" : constraintRefSet)
+                + ", indictedObject=" + indictedObject
+                + ", justificationClass=" + (justificationClass == null ? null : justificationClass.getSimpleName())
+                + ")";
+    }
+
+}
@@ -0,0 +1,99 @@
+package ai.timefold.solver.core.api.solver;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.analysis.ConstraintAnalysis;
+import ai.timefold.solver.core.api.score.analysis.ScoreAnalysis;
+import ai.timefold.solver.core.api.score.constraint.ConstraintMatch;
+import ai.timefold.solver.core.api.score.constraint.ConstraintMatchFilter;
+import ai.timefold.solver.core.api.solver.change.ProblemChange;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Keeps the score calculation of a single solution alive between analyses,
+ * so that analyzing it again after a change only costs as much as the change itself.
+ * Typically used by a user interface, which needs an analysis after every edit of the user.
+ * <p>
+ * To create an instance, use {@link SolutionManager#openAnalysisSession(Object)}.
+ * The session works on the solution it was opened with, it does not clone it.
+ * That solution must only be changed through {@link #applyChange(ProblemChange, ScoreAnalysisFetchPolicy)}
+ * as long as the session is open.
+ * <p>
+ * An analysis session holds on to memory proportional to the number of constraint matches;
+ * {@link #close() close} it when it is no longer needed.
+ * This class is not thread-safe.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @param <Score_> the actual score type
+ */
+public interface ScoreAnalysisSession<Solution_, Score_ extends Score<Score_>> extends AutoCloseable {
+
+    /**
+     * @return the solution this session was opened with, which reflects every applied change
+     */
+    @NonNull
+    Solution_ getSolution();
+
+    /**
+     * @return the score of {@link #getSolution()}
+     */
+    @NonNull
+    Score_ getScore();
+
+    /**
+     * As defined by {@link SolutionManager#analyze(Object, ScoreAnalysisFetchPolicy)}.
+     * Only the constraints whose matches changed since the previous analysis of this session are analyzed again;
+     * the {@link ConstraintAnalysis} of the other constraints is reused.
+     *
+     * @param fetchPolicy if unsure, pick {@link ScoreAnalysisFetchPolicy#FETCH_ALL}
+     */
+    @NonNull
+    ScoreAnalysis<Score_> analyze(@NonNull ScoreAnalysisFetchPolicy fetchPolicy);
+
+    /**
+     * Applies the change to {@link #getSolution()}, updates its shadow variables and its score,
+     * and returns how the analysis changed, in the direction of {@code after - before}.
+     * <p>
+     * Unlike {@link ScoreAnalysis#diff(ScoreAnalysis)},
+     * the returned diff only contains the constraints whose matches changed;
+     * every other constraint has not changed, and is left out.
+     * To compare against another solution, express that solution as changes to the solution of this session;
+     * one change per user edit is typical.
+     *
+     * @param problemChange never null, looks up working objects like any other {@link ProblemChange}
+     * @param fetchPolicy if unsure, pick {@link ScoreAnalysisFetchPolicy#FETCH_ALL}
+     * @return the difference between the analysis after and the analysis before the change
+     */
+    @NonNull
+    ScoreAnalysis<Score_> applyChange(@NonNull ProblemChange<Solution_> problemChange,
+            @NonNull ScoreAnalysisFetchPolicy fetchPolicy);
+
+    /**
+     * Passes the {@link ConstraintMatch}es accepted by the filter to the consumer,
+     * one page at a time, without building a {@link ScoreAnalysis} or any other map of all the matches first.
+     * Constraints rejected by {@link ConstraintMatchFilter#testConstraint} are skipped entirely.
+     * The order of the matches is undefined.
+     * <p>
+     * The pages are only valid until the consumer returns;
+     * a consumer which keeps a page must copy it.
+     * No page is passed if no match passes the filter.
+     *
+     * @param filter never null, use {@link ConstraintMatchFilter#all()} to stream every match
+     * @param pageSize at least 1, the maximum number of matches per page; only the last page may be smaller
+     * @param pageConsumer never null, called once per page
+     */
+    void streamConstraintMatches(@NonNull ConstraintMatchFilter filter, int pageSize,
+            @NonNull Consumer<List<ConstraintMatch<Score_>>> pageConsumer);
+
+    /**
+     * Releases the score calculation of this session.
+     * Calling any other method afterwards fails.
+     */
+    @Override
+    void close();
+
+}
@@ -5,6 +5,7 @@ import static ai.timefold.solver.core.api.solver.SolutionUpdatePolicy.UPDATE_ALL
 
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.function.Function;
 
 import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
@@ -13,6 +14,8 @@ import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.score.ScoreExplanation;
 import ai.timefold.solver.core.api.score.analysis.ScoreAnalysis;
 import ai.timefold.solver.core.api.score.calculator.EasyScoreCalculator;
+import ai.timefold.solver.core.api.score.constraint.ConstraintMatch;
+import ai.timefold.solver.core.api.score.constraint.ConstraintMatchFilter;
 import ai.timefold.solver.core.api.score.constraint.ConstraintMatchTotal;
 import ai.timefold.solver.core.api.score.constraint.Indictment;
 import ai.timefold.solver.core.impl.solver.DefaultSolutionManager;
@@ -136,6 +139,33 @@ public interface SolutionManager<Solution_, Score_ extends Score<Score_>> {
     ScoreAnalysis<Score_> analyze(@NonNull Solution_ solution, @NonNull ScoreAnalysisFetchPolicy fetchPolicy,
             @NonNull SolutionUpdatePolicy solutionUpdatePolicy);
 
+    /**
+     * Opens a {@link ScoreAnalysisSession} on the given solution,
+     * which keeps its score calculation alive to analyze it again quickly after every change.
+     * The solution is updated as with {@link SolutionUpdatePolicy#UPDATE_ALL}.
+     * The caller must {@link ScoreAnalysisSession#close() close} the session.
+     *
+     * @param solution not cloned; from now on, only change it through the session
+     * @throws IllegalStateException when constraint matching is disabled or not supported by the underlying score
+     *         calculator, such as {@link EasyScoreCalculator}.
+     */
+    @NonNull
+    ScoreAnalysisSession<Solution_, Score_> openAnalysisSession(@NonNull Solution_ solution);
+
+    /**
+     * As defined by {@link ScoreAnalysisSession#streamConstraintMatches(ConstraintMatchFilter, int, Consumer)},
+     * on a session which is opened and closed for just this call.
+     * This is faster than {@link #analyze(Object)} when only some of the matches are needed.
+     *
+     * @param solution updated as with {@link SolutionUpdatePolicy#UPDATE_ALL}
+     */
+    default void streamConstraintMatches(@NonNull Solution_ solution, @NonNull ConstraintMatchFilter filter, int pageSize,
+            @NonNull Consumer<List<ConstraintMatch<Score_>>> pageConsumer) {
+        try (var analysisSession = openAnalysisSession(solution)) {
+            analysisSession.streamConstraintMatches(filter, pageSize, pageConsumer);
+        }
+    }
+
     /**
      * As defined by {@link #recommendAssignment(Object, Object, Function, ScoreAnalysisFetchPolicy)},
      * with {@link ScoreAnalysisFetchPolicy#FETCH_ALL}.
@@ -247,6 +277,45 @@ public interface SolutionManager<Solution_, Score_ extends Score<Score_>> {
             @NonNull Function<EntityOrElement_, Proposition_> propositionFunction,
             @NonNull ScoreAnalysisFetchPolicy fetchPolicy);
 
+    /**
+     * As defined by {@link #recommendAssignments(Object, List, Function, ScoreAnalysisFetchPolicy, int, int)},
+     * on the calling thread only.
+     */
+    default <EntityOrElement_, Proposition_> @NonNull List<List<RecommendedAssignment<Proposition_, Score_>>>
+            recommendAssignments(@NonNull Solution_ solution, @NonNull List<EntityOrElement_> evaluatedEntityOrElementList,
+                    @NonNull Function<EntityOrElement_, Proposition_> propositionFunction,
+                    @NonNull ScoreAnalysisFetchPolicy fetchPolicy, int recommendationLimit) {
+        return recommendAssignments(solution, evaluatedEntityOrElementList, propositionFunction, fetchPolicy,
+                recommendationLimit, 1);
+    }
+
+    /**
+     * As defined by {@link #recommendAssignment(Object, Object, Function, ScoreAnalysisFetchPolicy)},
+     * for many entities or elements at once.
+     * Much faster than calling that method once per entity or element,
+     * as the score calculation is set up once per thread instead of once per entity or element,
+     * and the score analysis is only built for the recommendations which are returned.
+     * <p>
+     * Every entity or element is evaluated against the solution as it was given;
+     * the recommendations for one do not take the recommendations for another into account.
+     * Unlike {@link #recommendAssignment(Object, Object, Function, ScoreAnalysisFetchPolicy)},
+     * the solution may have any number of entities or elements unassigned;
+     * those which are not evaluated stay unassigned.
+     * <p>
+     * If the parallelism is above 1, each thread works on its own clone of the solution,
+     * and the proposition function is called from several threads at the same time.
+     *
+     * @param evaluatedEntityOrElementList each must be part of the solution
+     * @param recommendationLimit at least 1, the maximum number of recommendations per entity or element
+     * @param parallelism at least 1, the maximum number of threads to use
+     * @return in the order of evaluatedEntityOrElementList, the recommendations per entity or element,
+     *         each sorted from best to worst
+     */
+    <EntityOrElement_, Proposition_> @NonNull List<List<RecommendedAssignment<Proposition_, Score_>>> recommendAssignments(
+            @NonNull Solution_ solution, @NonNull List<EntityOrElement_> evaluatedEntityOrElementList,
+            @NonNull Function<EntityOrElement_, Proposition_> propositionFunction,
+            @NonNull ScoreAnalysisFetchPolicy fetchPolicy, int recommendationLimit, int parallelism);
+
     /**
      * As defined by {@link #recommendAssignment(Object, Object, Function, ScoreAnalysisFetchPolicy)},
      * with {@link ScoreAnalysisFetchPolicy#FETCH_ALL}.
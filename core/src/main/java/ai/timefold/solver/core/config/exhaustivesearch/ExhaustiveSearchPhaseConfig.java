@@ -29,6 +29,7 @@ import ai.timefold.solver.core.config.util.ConfigUtils;
         "nodeExplorationType",
         "entitySorterManner",
         "valueSorterManner",
+        "expandableNodeLimit",
         "entitySelectorConfig",
         "moveSelectorConfig"
 })
@@ -43,6 +44,7 @@ public class ExhaustiveSearchPhaseConfig extends PhaseConfig<ExhaustiveSearchPha
     protected NodeExplorationType nodeExplorationType = null;
     protected EntitySorterManner entitySorterManner = null;
     protected ValueSorterManner valueSorterManner = null;
+    protected Integer expandableNodeLimit = null;
 
     @XmlElement(name = "entitySelector")
     protected EntitySelectorConfig entitySelectorConfig = null;
@@ -99,6 +101,22 @@ public class ExhaustiveSearchPhaseConfig extends PhaseConfig<ExhaustiveSearchPha
         this.valueSorterManner = valueSorterManner;
     }
 
+    /**
+     * The maximum number of nodes waiting to be expanded.
+     * When that number is exceeded, the least promising node is discarded,
+     * which bounds the memory usage but means the search is no longer exhaustive.
+     * Defaults to no limit.
+     *
+     * @return null or at least 1
+     */
+    public Integer getExpandableNodeLimit() {
+        return expandableNodeLimit;
+    }
+
+    public void setExpandableNodeLimit(Integer expandableNodeLimit) {
+        this.expandableNodeLimit = expandableNodeLimit;
+    }
+
     public EntitySelectorConfig getEntitySelectorConfig() {
         return entitySelectorConfig;
     }
@@ -139,6 +157,11 @@ public class ExhaustiveSearchPhaseConfig extends PhaseConfig<ExhaustiveSearchPha
         return this;
     }
 
+    public ExhaustiveSearchPhaseConfig withExpandableNodeLimit(Integer expandableNodeLimit) {
+        this.setExpandableNodeLimit(expandableNodeLimit);
+        return this;
+    }
+
     public ExhaustiveSearchPhaseConfig withEntitySelectorConfig(EntitySelectorConfig entitySelectorConfig) {
         this.setEntitySelectorConfig(entitySelectorConfig);
         return this;
@@ -160,6 +183,8 @@ public class ExhaustiveSearchPhaseConfig extends PhaseConfig<ExhaustiveSearchPha
                 inheritedConfig.getEntitySorterManner());
         valueSorterManner = ConfigUtils.inheritOverwritableProperty(valueSorterManner,
                 inheritedConfig.getValueSorterManner());
+        expandableNodeLimit = ConfigUtils.inheritOverwritableProperty(expandableNodeLimit,
+                inheritedConfig.getExpandableNodeLimit());
         entitySelectorConfig = ConfigUtils.inheritConfig(entitySelectorConfig, inheritedConfig.getEntitySelectorConfig());
         moveSelectorConfig = ConfigUtils.inheritConfig(moveSelectorConfig, inheritedConfig.getMoveSelectorConfig());
         return this;
@@ -34,7 +34,8 @@ import ai.timefold.solver.core.impl.heuristic.selector.common.nearby.NearbyDista
 
 @XmlType(propOrder = {
         "moveSelectorConfigList",
-        "selectorProbabilityWeightFactoryClass"
+        "selectorProbabilityWeightFactoryClass",
+        "adaptiveSelection"
 })
 public class UnionMoveSelectorConfig
         extends MoveSelectorConfig<UnionMoveSelectorConfig>
@@ -73,6 +74,8 @@ public class UnionMoveSelectorConfig
 
     private Class<? extends SelectionProbabilityWeightFactory> selectorProbabilityWeightFactoryClass = null;
 
+    private Boolean adaptiveSelection = null;
+
     // ************************************************************************
     // Constructors and simple getters/setters
     // ************************************************************************
@@ -119,6 +122,24 @@ public class UnionMoveSelectorConfig
         this.selectorProbabilityWeightFactoryClass = selectorProbabilityWeightFactoryClass;
     }
 
+    /**
+     * If true, the probability weight of every child move selector adapts during solving,
+     * based on how often its moves improved the score per millisecond spent on them recently.
+     * Requires random selection
+     * and can not be combined with {@link #getSelectorProbabilityWeightFactoryClass()}
+     * or a {@link MoveSelectorConfig#getFixedProbabilityWeight()} on a child.
+     * Defaults to false.
+     *
+     * @return sometimes null
+     */
+    public Boolean getAdaptiveSelection() {
+        return adaptiveSelection;
+    }
+
+    public void setAdaptiveSelection(Boolean adaptiveSelection) {
+        this.adaptiveSelection = adaptiveSelection;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -139,6 +160,11 @@ public class UnionMoveSelectorConfig
         return this;
     }
 
+    public UnionMoveSelectorConfig withAdaptiveSelection(Boolean adaptiveSelection) {
+        this.adaptiveSelection = adaptiveSelection;
+        return this;
+    }
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
@@ -157,6 +183,8 @@ public class UnionMoveSelectorConfig
                 ConfigUtils.inheritMergeableListConfig(moveSelectorConfigList, inheritedConfig.getMoveSelectorList());
         selectorProbabilityWeightFactoryClass = ConfigUtils.inheritOverwritableProperty(
                 selectorProbabilityWeightFactoryClass, inheritedConfig.getSelectorProbabilityWeightFactoryClass());
+        adaptiveSelection = ConfigUtils.inheritOverwritableProperty(adaptiveSelection,
+                inheritedConfig.getAdaptiveSelection());
         return this;
     }
 
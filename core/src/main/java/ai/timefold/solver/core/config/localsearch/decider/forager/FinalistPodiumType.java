@@ -27,4 +27,24 @@ public enum FinalistPodiumType {
         }
     }
 
+    /**
+     * @param finalistCountLimit at least 1, the maximum number of finalists kept in memory per step
+     * @param sampleFinalistsRandomly true to keep a uniform random sample of the finalists once the limit is reached,
+     *        false to keep the first finalists
+     */
+    public <Solution_> FinalistPodium<Solution_> buildFinalistPodium(int finalistCountLimit,
+            boolean sampleFinalistsRandomly) {
+        switch (this) {
+            case HIGHEST_SCORE:
+                return new HighestScoreFinalistPodium<>(finalistCountLimit, sampleFinalistsRandomly);
+            case STRATEGIC_OSCILLATION:
+            case STRATEGIC_OSCILLATION_BY_LEVEL:
+                return new StrategicOscillationByLevelFinalistPodium<>(false, finalistCountLimit, sampleFinalistsRandomly);
+            case STRATEGIC_OSCILLATION_BY_LEVEL_ON_BEST_SCORE:
+                return new StrategicOscillationByLevelFinalistPodium<>(true, finalistCountLimit, sampleFinalistsRandomly);
+            default:
+                throw new IllegalStateException("The finalistPodiumType (" + this + ") is not implemented.");
+        }
+    }
+
 }
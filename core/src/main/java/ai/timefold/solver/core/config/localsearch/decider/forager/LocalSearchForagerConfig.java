@@ -11,7 +11,8 @@ import ai.timefold.solver.core.config.util.ConfigUtils;
         "pickEarlyType",
         "acceptedCountLimit",
         "finalistPodiumType",
-        "breakTieRandomly"
+        "breakTieRandomly",
+        "finalistCountLimit"
 })
 public class LocalSearchForagerConfig extends AbstractConfig<LocalSearchForagerConfig> {
 
@@ -19,6 +20,7 @@ public class LocalSearchForagerConfig extends AbstractConfig<LocalSearchForagerC
     protected Integer acceptedCountLimit = null;
     protected FinalistPodiumType finalistPodiumType = null;
     protected Boolean breakTieRandomly = null;
+    protected Integer finalistCountLimit = null;
 
     public LocalSearchPickEarlyType getPickEarlyType() {
         return pickEarlyType;
@@ -52,6 +54,19 @@ public class LocalSearchForagerConfig extends AbstractConfig<LocalSearchForagerC
         this.breakTieRandomly = breakTieRandomly;
     }
 
+    public Integer getFinalistCountLimit() {
+        return finalistCountLimit;
+    }
+
+    /**
+     * @param finalistCountLimit null or at least 1, the maximum number of finalist moves kept in memory per step;
+     *        once reached, a random sample of the finalists is kept if ties are broken randomly,
+     *        otherwise the first finalists are kept
+     */
+    public void setFinalistCountLimit(Integer finalistCountLimit) {
+        this.finalistCountLimit = finalistCountLimit;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -76,6 +91,11 @@ public class LocalSearchForagerConfig extends AbstractConfig<LocalSearchForagerC
         return this;
     }
 
+    public LocalSearchForagerConfig withFinalistCountLimit(int finalistCountLimit) {
+        this.finalistCountLimit = finalistCountLimit;
+        return this;
+    }
+
     @Override
     public LocalSearchForagerConfig inherit(LocalSearchForagerConfig inheritedConfig) {
         pickEarlyType = ConfigUtils.inheritOverwritableProperty(pickEarlyType,
@@ -86,6 +106,8 @@ public class LocalSearchForagerConfig extends AbstractConfig<LocalSearchForagerC
                 inheritedConfig.getFinalistPodiumType());
         breakTieRandomly = ConfigUtils.inheritOverwritableProperty(breakTieRandomly,
                 inheritedConfig.getBreakTieRandomly());
+        finalistCountLimit = ConfigUtils.inheritOverwritableProperty(finalistCountLimit,
+                inheritedConfig.getFinalistCountLimit());
         return this;
     }
 
@@ -6,5 +6,12 @@ import jakarta.xml.bind.annotation.XmlEnum;
 public enum LocalSearchPickEarlyType {
     NEVER,
     FIRST_BEST_SCORE_IMPROVING,
-    FIRST_LAST_STEP_SCORE_IMPROVING;
+    FIRST_LAST_STEP_SCORE_IMPROVING,
+    /**
+     * Quit the step once it evaluated twice as many moves as previous steps needed on average
+     * to find their best accepted move, and then pick from the finalists found so far.
+     * Steps before the first statistics are available, and a regular sample of later steps,
+     * evaluate every move to keep those statistics up to date.
+     */
+    EXPECTED_IMPROVEMENT_EXHAUSTED;
 }
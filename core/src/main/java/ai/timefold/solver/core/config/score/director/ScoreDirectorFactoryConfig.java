@@ -24,6 +24,7 @@ import ai.timefold.solver.core.impl.io.jaxb.adapter.JaxbCustomPropertiesAdapter;
         "constraintProviderCustomProperties",
         "constraintStreamImplType",
         "constraintStreamAutomaticNodeSharing",
+        "constraintStreamPropagationThreadCount",
         "incrementalScoreCalculatorClass",
         "incrementalScoreCalculatorCustomProperties",
         "scoreDrlList",
@@ -43,6 +44,7 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
     protected Map<String, String> constraintProviderCustomProperties = null;
     protected ConstraintStreamImplType constraintStreamImplType;
     protected Boolean constraintStreamAutomaticNodeSharing;
+    protected Integer constraintStreamPropagationThreadCount;
 
     protected Class<? extends IncrementalScoreCalculator> incrementalScoreCalculatorClass = null;
 
@@ -111,6 +113,24 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         this.constraintStreamAutomaticNodeSharing = constraintStreamAutomaticNodeSharing;
     }
 
+    /**
+     * Opt-in: when more than 1, independent nodes of a constraint stream layer
+     * are propagated on a small thread pool of that size,
+     * provided the layer has enough queued work to make it worthwhile.
+     * This speeds up large deltas, such as the initial score calculation or big ruin-and-recreate moves,
+     * but it requires all constraint stream lambdas to be thread-safe.
+     * Defaults to 1, which propagates everything on the solver thread.
+     *
+     * @return null or at least 1
+     */
+    public Integer getConstraintStreamPropagationThreadCount() {
+        return constraintStreamPropagationThreadCount;
+    }
+
+    public void setConstraintStreamPropagationThreadCount(Integer constraintStreamPropagationThreadCount) {
+        this.constraintStreamPropagationThreadCount = constraintStreamPropagationThreadCount;
+    }
+
     public Class<? extends IncrementalScoreCalculator> getIncrementalScoreCalculatorClass() {
         return incrementalScoreCalculatorClass;
     }
@@ -202,6 +222,12 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
         return this;
     }
 
+    public ScoreDirectorFactoryConfig
+            withConstraintStreamPropagationThreadCount(Integer constraintStreamPropagationThreadCount) {
+        this.constraintStreamPropagationThreadCount = constraintStreamPropagationThreadCount;
+        return this;
+    }
+
     public ScoreDirectorFactoryConfig
             withIncrementalScoreCalculatorClass(Class<? extends IncrementalScoreCalculator> incrementalScoreCalculatorClass) {
         this.incrementalScoreCalculatorClass = incrementalScoreCalculatorClass;
@@ -263,6 +289,8 @@ public class ScoreDirectorFactoryConfig extends AbstractConfig<ScoreDirectorFact
                 constraintStreamImplType, inheritedConfig.getConstraintStreamImplType());
         constraintStreamAutomaticNodeSharing = ConfigUtils.inheritOverwritableProperty(constraintStreamAutomaticNodeSharing,
                 inheritedConfig.getConstraintStreamAutomaticNodeSharing());
+        constraintStreamPropagationThreadCount = ConfigUtils.inheritOverwritableProperty(
+                constraintStreamPropagationThreadCount, inheritedConfig.getConstraintStreamPropagationThreadCount());
         incrementalScoreCalculatorClass = ConfigUtils.inheritOverwritableProperty(
                 incrementalScoreCalculatorClass, inheritedConfig.getIncrementalScoreCalculatorClass());
         incrementalScoreCalculatorCustomProperties = ConfigUtils.inheritMergeableMapProperty(
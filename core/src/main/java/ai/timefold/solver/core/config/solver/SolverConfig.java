@@ -22,6 +22,7 @@ import jakarta.xml.bind.annotation.XmlElements;
 import jakarta.xml.bind.annotation.XmlRootElement;
 import jakarta.xml.bind.annotation.XmlTransient;
 import jakarta.xml.bind.annotation.XmlType;
+import jakarta.xml.bind.annotation.adapters.XmlJavaTypeAdapter;
 
 import ai.timefold.solver.core.api.domain.common.DomainAccessType;
 import ai.timefold.solver.core.api.domain.solution.cloner.SolutionCloner;
@@ -30,6 +31,8 @@ import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
 import ai.timefold.solver.core.api.score.stream.ConstraintStreamImplType;
 import ai.timefold.solver.core.api.solver.Solver;
 import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.api.solver.change.ProblemChange;
+import ai.timefold.solver.core.api.solver.event.SolverEventListener;
 import ai.timefold.solver.core.config.AbstractConfig;
 import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
 import ai.timefold.solver.core.config.exhaustivesearch.ExhaustiveSearchPhaseConfig;
@@ -48,6 +51,7 @@ import ai.timefold.solver.core.impl.domain.common.accessor.MemberAccessor;
 import ai.timefold.solver.core.impl.heuristic.selector.common.nearby.NearbyDistanceMeter;
 import ai.timefold.solver.core.impl.io.jaxb.SolverConfigIO;
 import ai.timefold.solver.core.impl.io.jaxb.TimefoldXmlSerializationException;
+import ai.timefold.solver.core.impl.io.jaxb.adapter.JaxbDurationAdapter;
 import ai.timefold.solver.core.impl.phase.PhaseFactory;
 import ai.timefold.solver.core.impl.solver.random.RandomFactory;
 
@@ -69,6 +73,10 @@ import ai.timefold.solver.core.impl.solver.random.RandomFactory;
         "solutionClass",
         "entityClassList",
         "domainAccessType",
+        "incrementalBestSolutionCloning",
+        "problemChangeStreaming",
+        "problemChangeBatchWindow",
+        "problemChangeBatchSizeLimit",
         "scoreDirectorFactoryConfig",
         "terminationConfig",
         "nearbyDistanceMeterClass",
@@ -231,6 +239,11 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
     @XmlElement(name = "entityClass")
     protected List<Class<?>> entityClassList = null;
     protected DomainAccessType domainAccessType = null;
+    protected Boolean incrementalBestSolutionCloning = null;
+    protected Boolean problemChangeStreaming = null;
+    @XmlJavaTypeAdapter(JaxbDurationAdapter.class)
+    protected Duration problemChangeBatchWindow = null;
+    protected Integer problemChangeBatchSizeLimit = null;
     @XmlTransient
     protected Map<String, MemberAccessor> gizmoMemberAccessorMap = null;
     @XmlTransient
@@ -383,6 +396,75 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         this.domainAccessType = domainAccessType;
     }
 
+    /**
+     * If true, each new best solution only clones the planning entities which changed since the previous best solution,
+     * and shares the other entity clones with that previous best solution.
+     * Only takes effect for domains where no planning entity references another planning entity,
+     * and only with the default solution cloner; other domains fall back to a full clone.
+     * Do not modify a best solution (nor its entities) in a {@link SolverEventListener} when this is enabled.
+     * Defaults to false.
+     *
+     * @return null if not set
+     */
+    public Boolean getIncrementalBestSolutionCloning() {
+        return incrementalBestSolutionCloning;
+    }
+
+    public void setIncrementalBestSolutionCloning(Boolean incrementalBestSolutionCloning) {
+        this.incrementalBestSolutionCloning = incrementalBestSolutionCloning;
+    }
+
+    /**
+     * If true, local search applies the {@link Solver#addProblemChange(ProblemChange) problem changes}
+     * in batches between two steps, instead of terminating all phases and restarting the solver.
+     * Like a restart, a batch is applied to the best solution, which the local search phase then continues from;
+     * its move selector caches are rebuilt and its acceptor and forager start over.
+     * The solver still restarts if a batch leaves the solution uninitialized (for example because it adds an entity),
+     * if the changes arrive outside of a local search phase, or if that phase uses move threads.
+     * Defaults to false.
+     *
+     * @return null if not set
+     */
+    public Boolean getProblemChangeStreaming() {
+        return problemChangeStreaming;
+    }
+
+    public void setProblemChangeStreaming(Boolean problemChangeStreaming) {
+        this.problemChangeStreaming = problemChangeStreaming;
+    }
+
+    /**
+     * Only used if {@link #getProblemChangeStreaming()} is true.
+     * The maximum time the oldest pending problem change waits for more changes to join its batch,
+     * which is therefore also the latency that batching adds.
+     * Defaults to zero, which applies the pending changes at the next step boundary.
+     *
+     * @return null if not set
+     */
+    public Duration getProblemChangeBatchWindow() {
+        return problemChangeBatchWindow;
+    }
+
+    public void setProblemChangeBatchWindow(Duration problemChangeBatchWindow) {
+        this.problemChangeBatchWindow = problemChangeBatchWindow;
+    }
+
+    /**
+     * Only used if {@link #getProblemChangeStreaming()} is true.
+     * The maximum number of problem changes applied between two steps;
+     * a batch is also applied before its {@link #getProblemChangeBatchWindow() window} ends once it reaches this size.
+     * Defaults to unlimited.
+     *
+     * @return null if not set
+     */
+    public Integer getProblemChangeBatchSizeLimit() {
+        return problemChangeBatchSizeLimit;
+    }
+
+    public void setProblemChangeBatchSizeLimit(Integer problemChangeBatchSizeLimit) {
+        this.problemChangeBatchSizeLimit = problemChangeBatchSizeLimit;
+    }
+
     public Map<String, MemberAccessor> getGizmoMemberAccessorMap() {
         return gizmoMemberAccessorMap;
     }
@@ -503,6 +585,26 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         return this;
     }
 
+    public SolverConfig withIncrementalBestSolutionCloning(Boolean incrementalBestSolutionCloning) {
+        this.incrementalBestSolutionCloning = incrementalBestSolutionCloning;
+        return this;
+    }
+
+    public SolverConfig withProblemChangeStreaming(Boolean problemChangeStreaming) {
+        this.problemChangeStreaming = problemChangeStreaming;
+        return this;
+    }
+
+    public SolverConfig withProblemChangeBatchWindow(Duration problemChangeBatchWindow) {
+        this.problemChangeBatchWindow = problemChangeBatchWindow;
+        return this;
+    }
+
+    public SolverConfig withProblemChangeBatchSizeLimit(Integer problemChangeBatchSizeLimit) {
+        this.problemChangeBatchSizeLimit = problemChangeBatchSizeLimit;
+        return this;
+    }
+
     public SolverConfig withGizmoMemberAccessorMap(Map<String, MemberAccessor> memberAccessorMap) {
         this.gizmoMemberAccessorMap = memberAccessorMap;
         return this;
@@ -673,6 +775,14 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         entityClassList = ConfigUtils.inheritMergeableListProperty(entityClassList,
                 inheritedConfig.getEntityClassList());
         domainAccessType = ConfigUtils.inheritOverwritableProperty(domainAccessType, inheritedConfig.getDomainAccessType());
+        incrementalBestSolutionCloning = ConfigUtils.inheritOverwritableProperty(incrementalBestSolutionCloning,
+                inheritedConfig.getIncrementalBestSolutionCloning());
+        problemChangeStreaming = ConfigUtils.inheritOverwritableProperty(problemChangeStreaming,
+                inheritedConfig.getProblemChangeStreaming());
+        problemChangeBatchWindow = ConfigUtils.inheritOverwritableProperty(problemChangeBatchWindow,
+                inheritedConfig.getProblemChangeBatchWindow());
+        problemChangeBatchSizeLimit = ConfigUtils.inheritOverwritableProperty(problemChangeBatchSizeLimit,
+                inheritedConfig.getProblemChangeBatchSizeLimit());
         gizmoMemberAccessorMap = ConfigUtils.inheritMergeableMapProperty(
                 gizmoMemberAccessorMap, inheritedConfig.getGizmoMemberAccessorMap());
         gizmoSolutionClonerMap = ConfigUtils.inheritMergeableMapProperty(
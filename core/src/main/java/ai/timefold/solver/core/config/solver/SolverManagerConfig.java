@@ -13,7 +13,9 @@ import org.slf4j.LoggerFactory;
 
 @XmlType(propOrder = {
         "parallelSolverCount",
-        "threadFactoryClass"
+        "threadFactoryClass",
+        "virtualConsumerThreads",
+        "elasticSolverPool"
 })
 public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
 
@@ -23,6 +25,8 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
 
     protected String parallelSolverCount = null;
     protected Class<? extends ThreadFactory> threadFactoryClass = null;
+    protected Boolean virtualConsumerThreads = null;
+    protected Boolean elasticSolverPool = null;
 
     // Future features:
     // throttlingDelay
@@ -51,6 +55,42 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         this.threadFactoryClass = threadFactoryClass;
     }
 
+    /**
+     * If true, the consumers of each solver job (such as the best solution consumer and the final best solution consumer)
+     * run on a virtual thread instead of a platform thread.
+     * Requires Java 21 or higher; on older JVMs, it falls back to a platform thread.
+     * Defaults to false.
+     *
+     * @return null if not set
+     */
+    public Boolean getVirtualConsumerThreads() {
+        return virtualConsumerThreads;
+    }
+
+    public void setVirtualConsumerThreads(Boolean virtualConsumerThreads) {
+        this.virtualConsumerThreads = virtualConsumerThreads;
+    }
+
+    /**
+     * If true, the solver threads stop after being idle for a minute,
+     * so a solver manager without solver jobs holds no solver threads.
+     * There are still at most {@link #resolveParallelSolverCount()} solver threads,
+     * and the queued solver jobs start in the order they were submitted.
+     * This is not a work-stealing scheduler and it does not time-slice:
+     * a solver job keeps its thread until it terminates,
+     * because a solver can't be paused and resumed without losing its state.
+     * Defaults to false.
+     *
+     * @return null if not set
+     */
+    public Boolean getElasticSolverPool() {
+        return elasticSolverPool;
+    }
+
+    public void setElasticSolverPool(Boolean elasticSolverPool) {
+        this.elasticSolverPool = elasticSolverPool;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -65,6 +105,16 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         return this;
     }
 
+    public SolverManagerConfig withVirtualConsumerThreads(Boolean virtualConsumerThreads) {
+        this.virtualConsumerThreads = virtualConsumerThreads;
+        return this;
+    }
+
+    public SolverManagerConfig withElasticSolverPool(Boolean elasticSolverPool) {
+        this.elasticSolverPool = elasticSolverPool;
+        return this;
+    }
+
     // ************************************************************************
     // Builder methods
     // ************************************************************************
@@ -111,6 +161,10 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
                 inheritedConfig.getParallelSolverCount());
         threadFactoryClass = ConfigUtils.inheritOverwritableProperty(threadFactoryClass,
                 inheritedConfig.getThreadFactoryClass());
+        virtualConsumerThreads = ConfigUtils.inheritOverwritableProperty(virtualConsumerThreads,
+                inheritedConfig.getVirtualConsumerThreads());
+        elasticSolverPool = ConfigUtils.inheritOverwritableProperty(elasticSolverPool,
+                inheritedConfig.getElasticSolverPool());
         return this;
     }
 
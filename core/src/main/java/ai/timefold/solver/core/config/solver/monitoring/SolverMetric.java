@@ -58,6 +58,12 @@ public enum SolverMetric {
     PICKED_MOVE_TYPE_BEST_SCORE_DIFF("timefold.solver.move.type.best.score.diff", new PickedMoveBestScoreDiffStatistic<>(),
             true),
     PICKED_MOVE_TYPE_STEP_SCORE_DIFF("timefold.solver.move.type.step.score.diff", new PickedMoveStepScoreDiffStatistic<>(),
+            false),
+    EXHAUSTIVE_SEARCH_EXPANDABLE_NODE_COUNT("timefold.solver.exhaustive.search.expandable.nodes",
+            SolverScope::getExhaustiveSearchExpandableNodeCount,
+            false),
+    EXHAUSTIVE_SEARCH_PRUNED_NODE_COUNT("timefold.solver.exhaustive.search.pruned.nodes",
+            SolverScope::getExhaustiveSearchPrunedNodeCount,
             false);
 
     private final String meterId;
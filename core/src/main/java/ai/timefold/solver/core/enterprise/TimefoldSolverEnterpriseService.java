@@ -42,15 +42,23 @@ public interface TimefoldSolverEnterpriseService {
     String DEVELOPMENT_SNAPSHOT = "Development Snapshot";
 
     static String identifySolverVersion() {
-        var packaging = COMMUNITY_NAME;
+        var packaging = isAvailable() ? ENTERPRISE_NAME : COMMUNITY_NAME;
+        var version = getVersionString(SolverFactory.class);
+        return packaging + " " + version;
+    }
+
+    /**
+     * @return true if {@link #load()} would succeed,
+     *         used by features which have a community fallback for when Enterprise is not on the classpath
+     */
+    static boolean isAvailable() {
         try {
             load();
-            packaging = ENTERPRISE_NAME;
+            return true;
         } catch (Exception e) {
             // No need to do anything, just checking if Enterprise exists.
+            return false;
         }
-        var version = getVersionString(SolverFactory.class);
-        return packaging + " " + version;
     }
 
     private static String getVersionString(Class<?> clz) {
@@ -21,6 +21,7 @@ import ai.timefold.solver.core.config.util.ConfigUtils;
 import ai.timefold.solver.core.enterprise.TimefoldSolverEnterpriseService;
 import ai.timefold.solver.core.impl.constructionheuristic.DefaultConstructionHeuristicPhase.DefaultConstructionHeuristicPhaseBuilder;
 import ai.timefold.solver.core.impl.constructionheuristic.decider.ConstructionHeuristicDecider;
+import ai.timefold.solver.core.impl.constructionheuristic.decider.MultiThreadedConstructionHeuristicDecider;
 import ai.timefold.solver.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForager;
 import ai.timefold.solver.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForagerFactory;
 import ai.timefold.solver.core.impl.constructionheuristic.placer.EntityPlacer;
@@ -34,6 +35,7 @@ import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
 import ai.timefold.solver.core.impl.phase.AbstractPhaseFactory;
 import ai.timefold.solver.core.impl.solver.recaller.BestSolutionRecaller;
 import ai.timefold.solver.core.impl.solver.termination.Termination;
+import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
 
 public class DefaultConstructionHeuristicPhaseFactory<Solution_>
         extends AbstractPhaseFactory<Solution_, ConstructionHeuristicPhaseConfig> {
@@ -169,14 +171,38 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
             Termination<Solution_> termination) {
         var forager = buildForager(configPolicy);
         var moveThreadCount = configPolicy.getMoveThreadCount();
-        var decider = (moveThreadCount == null)
-                ? new ConstructionHeuristicDecider<>(configPolicy.getLogIndentation(), termination, forager)
-                : TimefoldSolverEnterpriseService.loadOrFail(TimefoldSolverEnterpriseService.Feature.MULTITHREADED_SOLVING)
-                        .buildConstructionHeuristic(termination, forager, configPolicy);
+        ConstructionHeuristicDecider<Solution_> decider;
+        if (moveThreadCount == null) {
+            decider = new ConstructionHeuristicDecider<>(configPolicy.getLogIndentation(), termination, forager);
+        } else if (TimefoldSolverEnterpriseService.isAvailable()) {
+            decider = TimefoldSolverEnterpriseService.loadOrFail(TimefoldSolverEnterpriseService.Feature.MULTITHREADED_SOLVING)
+                    .buildConstructionHeuristic(termination, forager, configPolicy);
+        } else {
+            decider = buildMultiThreadedDecider(configPolicy, termination, forager, moveThreadCount);
+        }
         decider.enableAssertions(configPolicy.getEnvironmentMode());
         return decider;
     }
 
+    private MultiThreadedConstructionHeuristicDecider<Solution_> buildMultiThreadedDecider(
+            HeuristicConfigPolicy<Solution_> configPolicy, Termination<Solution_> termination,
+            ConstructionHeuristicForager<Solution_> forager, int moveThreadCount) {
+        Integer moveThreadBufferSize = configPolicy.getMoveThreadBufferSize();
+        if (moveThreadBufferSize == null) {
+            // If it's too low, move threads will need to wait on the buffer, which hurts performance.
+            // If it's too high, more moves are selected that aren't foraged.
+            moveThreadBufferSize = 10;
+        }
+        var selectedMoveBufferSize = moveThreadCount * moveThreadBufferSize;
+        var decider = new MultiThreadedConstructionHeuristicDecider<>(configPolicy.getLogIndentation(), termination,
+                forager, configPolicy.buildThreadFactory(ChildThreadType.MOVE_THREAD), moveThreadCount,
+                selectedMoveBufferSize);
+        if (configPolicy.getEnvironmentMode().isNonIntrusiveFullAsserted()) {
+            decider.setAssertStepScoreFromScratch(true);
+        }
+        return decider;
+    }
+
     protected ConstructionHeuristicForager<Solution_> buildForager(HeuristicConfigPolicy<Solution_> configPolicy) {
         var foragerConfig_ =
                 Objects.requireNonNullElseGet(phaseConfig.getForagerConfig(), ConstructionHeuristicForagerConfig::new);
@@ -131,7 +131,7 @@ public class ConstructionHeuristicDecider<Solution_> {
         }
     }
 
-    private static <Solution_> boolean isAllowedNonDoableMove(Move<Solution_> move) {
+    protected static <Solution_> boolean isAllowedNonDoableMove(Move<Solution_> move) {
         if (move instanceof LegacyMoveAdapter<Solution_> legacyMove) {
             var adaptedMove = legacyMove.legacyMove();
             return adaptedMove instanceof ai.timefold.solver.core.impl.heuristic.move.NoChangeMove<Solution_>
@@ -0,0 +1,227 @@
+package ai.timefold.solver.core.impl.constructionheuristic.decider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForager;
+import ai.timefold.solver.core.impl.constructionheuristic.placer.Placement;
+import ai.timefold.solver.core.impl.constructionheuristic.scope.ConstructionHeuristicMoveScope;
+import ai.timefold.solver.core.impl.constructionheuristic.scope.ConstructionHeuristicPhaseScope;
+import ai.timefold.solver.core.impl.constructionheuristic.scope.ConstructionHeuristicStepScope;
+import ai.timefold.solver.core.impl.heuristic.move.LegacyMoveAdapter;
+import ai.timefold.solver.core.impl.heuristic.thread.MoveThreadOperation;
+import ai.timefold.solver.core.impl.heuristic.thread.MoveThreadOperation.ApplyStepOperation;
+import ai.timefold.solver.core.impl.heuristic.thread.MoveThreadOperation.DestroyOperation;
+import ai.timefold.solver.core.impl.heuristic.thread.MoveThreadOperation.MoveEvaluationOperation;
+import ai.timefold.solver.core.impl.heuristic.thread.MoveThreadRunner;
+import ai.timefold.solver.core.impl.heuristic.thread.OrderByMoveIndexBlockingQueue;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.impl.solver.termination.Termination;
+import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
+import ai.timefold.solver.core.impl.solver.thread.ThreadUtils;
+
+/**
+ * Evaluates the moves of every {@link Placement} on multiple move threads.
+ * Every move thread has its own clone of the working solution and its own score director,
+ * created at the start of every phase.
+ * The solver thread iterates the placement and hands its moves to the move threads,
+ * which rebase and evaluate them in parallel.
+ * The results are passed to the forager in the order of their moveIndex,
+ * so the solver picks the same steps as with a single thread.
+ * <p>
+ * Once a step is picked, every move thread applies it too,
+ * while the solver thread does the step on the original working solution.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class MultiThreadedConstructionHeuristicDecider<Solution_> extends ConstructionHeuristicDecider<Solution_> {
+
+    protected final ThreadFactory threadFactory;
+    protected final int moveThreadCount;
+    protected final int selectedMoveBufferSize;
+
+    protected boolean assertStepScoreFromScratch = false;
+
+    protected BlockingQueue<MoveThreadOperation<Solution_>> operationQueue;
+    protected OrderByMoveIndexBlockingQueue<Solution_> resultQueue;
+    protected CyclicBarrier moveThreadBarrier;
+    protected ExecutorService executor;
+    protected List<MoveThreadRunner<Solution_, ?>> moveThreadRunnerList;
+
+    public MultiThreadedConstructionHeuristicDecider(String logIndentation, Termination<Solution_> termination,
+            ConstructionHeuristicForager<Solution_> forager, ThreadFactory threadFactory, int moveThreadCount,
+            int selectedMoveBufferSize) {
+        super(logIndentation, termination, forager);
+        this.threadFactory = threadFactory;
+        this.moveThreadCount = moveThreadCount;
+        this.selectedMoveBufferSize = selectedMoveBufferSize;
+    }
+
+    public void setAssertStepScoreFromScratch(boolean assertStepScoreFromScratch) {
+        this.assertStepScoreFromScratch = assertStepScoreFromScratch;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public void phaseStarted(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        // Capacity: MoveEvaluationOperations + ApplyStepOperations + DestroyOperations
+        operationQueue = new ArrayBlockingQueue<>(selectedMoveBufferSize + moveThreadCount + moveThreadCount);
+        // Capacity: evaluated moves + exceptions
+        resultQueue = new OrderByMoveIndexBlockingQueue<>(selectedMoveBufferSize + moveThreadCount);
+        moveThreadBarrier = new CyclicBarrier(moveThreadCount);
+        InnerScoreDirector<Solution_, ?> scoreDirector = phaseScope.getScoreDirector();
+        executor = Executors.newFixedThreadPool(moveThreadCount, threadFactory);
+        moveThreadRunnerList = new ArrayList<>(moveThreadCount);
+        for (var moveThreadIndex = 0; moveThreadIndex < moveThreadCount; moveThreadIndex++) {
+            // Cloned on the solver thread, so the working solution is not read while it might change.
+            var moveThreadRunner = buildMoveThreadRunner(phaseScope, moveThreadIndex,
+                    scoreDirector.createChildThreadScoreDirector(ChildThreadType.MOVE_THREAD));
+            moveThreadRunnerList.add(moveThreadRunner);
+            executor.submit(moveThreadRunner);
+        }
+    }
+
+    private <Score_ extends Score<Score_>> MoveThreadRunner<Solution_, Score_> buildMoveThreadRunner(
+            ConstructionHeuristicPhaseScope<Solution_> phaseScope, int moveThreadIndex,
+            InnerScoreDirector<Solution_, Score_> childScoreDirector) {
+        return new MoveThreadRunner<>(logIndentation, moveThreadIndex, phaseScope.getPhaseIndex(), operationQueue,
+                resultQueue, moveThreadBarrier, childScoreDirector, assertMoveScoreFromScratch,
+                assertExpectedUndoMoveScore, assertStepScoreFromScratch);
+    }
+
+    @Override
+    public void phaseEnded(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        // Tell the move thread runners to stop
+        // Don't clear the operationsQueue to avoid moveThreadBarrier deadlock:
+        // The MoveEvaluationOperations are already cleared and the new ApplyStepOperation isn't added yet.
+        DestroyOperation<Solution_> destroyOperation = new DestroyOperation<>();
+        for (var i = 0; i < moveThreadCount; i++) {
+            operationQueue.add(destroyOperation);
+        }
+        shutdownMoveThreads();
+        var childThreadsScoreCalculationCount = 0L;
+        for (var moveThreadRunner : moveThreadRunnerList) {
+            childThreadsScoreCalculationCount += moveThreadRunner.getCalculationCount();
+        }
+        phaseScope.addChildThreadsScoreCalculationCount(childThreadsScoreCalculationCount);
+        operationQueue = null;
+        resultQueue = null;
+        moveThreadRunnerList = null;
+    }
+
+    @Override
+    public void solvingError(SolverScope<Solution_> solverScope, Exception exception) {
+        super.solvingError(solverScope, exception);
+        shutdownMoveThreads();
+    }
+
+    protected void shutdownMoveThreads() {
+        if (executor != null && !executor.isShutdown()) {
+            ThreadUtils.shutdownAwaitOrKill(executor, logIndentation, "Multi-threaded Construction Heuristic");
+        }
+    }
+
+    @Override
+    public void decideNextStep(ConstructionHeuristicStepScope<Solution_> stepScope, Placement<Solution_> placement) {
+        var stepIndex = stepScope.getStepIndex();
+        resultQueue.startNextStep(stepIndex);
+
+        var selectMoveIndex = 0;
+        var movesInPlay = 0;
+        var terminatedPrematurely = false;
+        var moveDirector = stepScope.getMoveDirector();
+        var moveIterator = placement.iterator();
+        do {
+            var hasNextMove = moveIterator.hasNext();
+            // First fill the buffer so move evaluation can run freely in parallel.
+            // For every move evaluated, select 1 new move. This avoids a deadlock.
+            if (movesInPlay > 0 && (selectMoveIndex >= selectedMoveBufferSize || !hasNextMove)) {
+                var foragingResult = forageResult(stepScope, stepIndex);
+                if (foragingResult != ForagingResult.CONTINUE) {
+                    terminatedPrematurely = foragingResult == ForagingResult.TERMINATED;
+                    break;
+                }
+                movesInPlay--;
+            }
+            if (hasNextMove) {
+                var move = moveIterator.next();
+                // Same filter as the single threaded decider, checked on the solver thread's working solution,
+                // which is at the same step as the working solution of every move thread.
+                if (!isAllowedNonDoableMove(move) && !LegacyMoveAdapter.isDoable(moveDirector, move)) {
+                    continue;
+                }
+                operationQueue.add(new MoveEvaluationOperation<>(stepIndex, selectMoveIndex, move, true));
+                selectMoveIndex++;
+                movesInPlay++;
+            }
+        } while (movesInPlay > 0 || moveIterator.hasNext());
+        // Do not evaluate the remaining selected moves for this step that haven't started evaluation yet.
+        operationQueue.clear();
+        // See the single threaded decider on why a prematurely terminated step doesn't pick a move.
+        if (!terminatedPrematurely) {
+            pickMove(stepScope);
+        }
+        // Start doing the step on every move thread. Don't wait for the stepEnded() event.
+        if (stepScope.getStep() != null) {
+            // Increase stepIndex by 1, because it's a preliminary action.
+            var stepOperation = new ApplyStepOperation<>(stepIndex + 1, stepScope.getStep(), stepScope.getScore());
+            for (var i = 0; i < moveThreadCount; i++) {
+                operationQueue.add(stepOperation);
+            }
+        }
+    }
+
+    private ForagingResult forageResult(ConstructionHeuristicStepScope<Solution_> stepScope, int stepIndex) {
+        OrderByMoveIndexBlockingQueue.MoveResult<Solution_> result;
+        try {
+            result = resultQueue.take();
+        } catch (InterruptedException e) {
+            logger.error("{}        Interrupted while waiting for a move evaluation.", logIndentation, e);
+            Thread.currentThread().interrupt();
+            // The solver will terminate on the next termination check.
+            return ForagingResult.TERMINATED;
+        }
+        if (stepIndex != result.stepIndex()) {
+            throw new IllegalStateException("Impossible situation: the solverThread's stepIndex (" + stepIndex
+                    + ") differs from the result's stepIndex (" + result.stepIndex() + ").");
+        }
+        if (!result.moveDoable()) {
+            throw new IllegalStateException("Impossible state: the move (" + result.move()
+                    + ") was evaluated regardless of its doability, yet it was reported as not doable.");
+        }
+        var moveScope = new ConstructionHeuristicMoveScope<>(stepScope, result.moveIndex(), result.move());
+        moveScope.setScore(result.score());
+        forager.addMove(moveScope);
+        logger.trace("{}        Move index ({}), score ({}), move ({}).",
+                logIndentation, moveScope.getMoveIndex(), moveScope.getScore(), moveScope.getMove());
+        if (forager.isQuitEarly()) {
+            return ForagingResult.QUIT_EARLY;
+        }
+        stepScope.getPhaseScope().getSolverScope().checkYielding();
+        if (termination.isPhaseTerminated(stepScope.getPhaseScope())) {
+            return ForagingResult.TERMINATED;
+        }
+        return ForagingResult.CONTINUE;
+    }
+
+    private enum ForagingResult {
+        CONTINUE,
+        QUIT_EARLY,
+        TERMINATED
+    }
+
+}
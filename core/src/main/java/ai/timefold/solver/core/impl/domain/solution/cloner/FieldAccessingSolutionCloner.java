@@ -51,7 +51,17 @@ public final class FieldAccessingSolutionCloner<Solution_> implements SolutionCl
 
     @Override
     public @NonNull Solution_ cloneSolution(@NonNull Solution_ originalSolution) {
-        Map<Object, Object> originalToCloneMap = new IdentityHashMap<>();
+        return cloneSolution(originalSolution, new IdentityHashMap<>());
+    }
+
+    /**
+     * As defined by {@link #cloneSolution(Object)},
+     * but reuses any clone already present in the map instead of cloning that object again.
+     *
+     * @param originalToCloneMap never null, receives every new clone; identity-based
+     */
+    @NonNull
+    Solution_ cloneSolution(@NonNull Solution_ originalSolution, @NonNull Map<Object, Object> originalToCloneMap) {
         Queue<Unprocessed> unprocessedQueue = new ArrayDeque<>();
         Solution_ cloneSolution = clone(originalSolution, originalToCloneMap, unprocessedQueue,
                 retrieveClassMetadata(originalSolution.getClass()));
@@ -0,0 +1,246 @@
+package ai.timefold.solver.core.impl.domain.solution.cloner;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+
+/**
+ * Clones the working solution over and over again, for the best solution,
+ * but only clones the entities which changed since the previous clone.
+ * The other entities are shared with the previous clone, which is not modified.
+ * The solution itself, its collections and any other deep-cloned objects are always cloned again.
+ * <p>
+ * Sharing an entity clone is only correct if that clone does not reference any other entity (clone).
+ * Therefore this class only supports domains where no entity field can reference an entity or anything deep-cloned,
+ * which excludes list variables, chained variables and most shadow variables,
+ * see {@link #isSupported(SolutionDescriptor)}.
+ * It also requires the {@link FieldAccessingSolutionCloner}.
+ * <p>
+ * Every entity which changed needs to be {@link #markChanged(Object) marked},
+ * and {@link #reset()} needs to be called when entities are added or removed, or the working solution is replaced.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public final class IncrementalSolutionCloner<Solution_> {
+
+    /**
+     * List variables, chained variables and shadow variables which reference entities are out of scope:
+     * an unchanged entity clone would still reference the clones of the previous solution.
+     * Those domains keep using the full {@link FieldAccessingSolutionCloner} instead.
+     *
+     * @return true if the solution cloner is the {@link FieldAccessingSolutionCloner}
+     *         and no field of any entity class can reference an entity or any other deep-cloned object
+     */
+    public static boolean isSupported(SolutionDescriptor<?> solutionDescriptor) {
+        if (!(solutionDescriptor.getSolutionCloner() instanceof FieldAccessingSolutionCloner<?>)) {
+            return false;
+        }
+        for (var entityDescriptor : solutionDescriptor.getEntityDescriptors()) {
+            var entityClass = entityDescriptor.getEntityClass();
+            for (var clazz = entityClass; clazz != null && clazz != Object.class; clazz = clazz.getSuperclass()) {
+                for (var field : clazz.getDeclaredFields()) {
+                    if (mayReferenceClone(solutionDescriptor, field, entityClass)) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean mayReferenceClone(SolutionDescriptor<?> solutionDescriptor, Field field, Class<?> owningClass) {
+        var fieldType = field.getType();
+        if (Modifier.isStatic(field.getModifiers()) || DeepCloningUtils.isImmutable(fieldType)) {
+            return false;
+        } else if (DeepCloningUtils.needsDeepClone(solutionDescriptor, field, owningClass)) {
+            return true;
+        }
+        // A field of type Object, or of an interface which an entity implements, might still hold an entity.
+        if (fieldType.isAssignableFrom(solutionDescriptor.getSolutionClass())) {
+            return true;
+        }
+        for (var entityDescriptor : solutionDescriptor.getEntityDescriptors()) {
+            if (fieldType.isAssignableFrom(entityDescriptor.getEntityClass())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private final SolutionDescriptor<Solution_> solutionDescriptor;
+    private final FieldAccessingSolutionCloner<Solution_> solutionCloner;
+    private final Set<Object> changedEntitySet = Collections.newSetFromMap(new IdentityHashMap<>());
+    /**
+     * Maps each working entity to its most recent clone; null until the first clone, or after a {@link #reset()}.
+     */
+    private Map<Object, Object> entityToCloneMap = null;
+
+    public IncrementalSolutionCloner(SolutionDescriptor<Solution_> solutionDescriptor) {
+        if (!isSupported(solutionDescriptor)) {
+            throw new IllegalStateException("Impossible state: the solution class (%s) does not support incremental cloning."
+                    .formatted(solutionDescriptor.getSolutionClass().getCanonicalName()));
+        }
+        this.solutionDescriptor = solutionDescriptor;
+        this.solutionCloner = (FieldAccessingSolutionCloner<Solution_>) solutionDescriptor.getSolutionCloner();
+    }
+
+    /**
+     * @param entity never null, a working entity whose variable or property is about to change
+     */
+    public void markChanged(Object entity) {
+        if (entityToCloneMap != null) {
+            changedEntitySet.add(entity);
+        }
+    }
+
+    /**
+     * Forgets the previous clone, so that the next clone is a full clone.
+     */
+    public void reset() {
+        entityToCloneMap = null;
+        changedEntitySet.clear();
+    }
+
+    /**
+     * @param workingSolution never null
+     * @return never null, a planning clone which shares the clones of the unchanged entities with the previous clone
+     */
+    public Solution_ cloneSolution(Solution_ workingSolution) {
+        if (entityToCloneMap == null) {
+            var originalToCloneMap = new IdentityHashMap<Object, Object>();
+            var clone = solutionCloner.cloneSolution(workingSolution, originalToCloneMap);
+            entityToCloneMap = new IdentityHashMap<>();
+            solutionDescriptor.visitAllEntities(workingSolution,
+                    entity -> entityToCloneMap.put(entity, originalToCloneMap.get(entity)));
+            return clone;
+        }
+        for (var changedEntity : changedEntitySet) {
+            entityToCloneMap.remove(changedEntity);
+        }
+        var originalToCloneMap = new OverlayMap(entityToCloneMap);
+        var clone = solutionCloner.cloneSolution(workingSolution, originalToCloneMap);
+        for (var changedEntity : changedEntitySet) {
+            var entityClone = originalToCloneMap.overlay.get(changedEntity);
+            if (entityClone != null) {
+                entityToCloneMap.put(changedEntity, entityClone);
+            }
+        }
+        changedEntitySet.clear();
+        return clone;
+    }
+
+    /**
+     * Looks up existing clones in the unchanged entities first,
+     * but keeps the new clones separate, as those include the solution and other objects which are cloned every time.
+     * Writes only go to the overlay; {@link #entrySet()} is a read-only view of both maps.
+     */
+    static final class OverlayMap extends AbstractMap<Object, Object> {
+
+        private final Map<Object, Object> base;
+        private final Map<Object, Object> overlay = new IdentityHashMap<>();
+
+        OverlayMap(Map<Object, Object> base) {
+            this.base = base;
+        }
+
+        @Override
+        public Object get(Object key) {
+            var value = base.get(key);
+            return value != null ? value : overlay.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return base.containsKey(key) || overlay.containsKey(key);
+        }
+
+        @Override
+        public Object put(Object key, Object value) {
+            return overlay.put(key, value);
+        }
+
+        @Override
+        public int size() {
+            var size = base.size();
+            for (var key : overlay.keySet()) {
+                if (!base.containsKey(key)) {
+                    size++;
+                }
+            }
+            return size;
+        }
+
+        /**
+         * @return never null, the entries of the base map,
+         *         followed by the entries of the overlay whose key is not in the base map
+         */
+        @Override
+        public Set<Entry<Object, Object>> entrySet() {
+            return new AbstractSet<>() {
+
+                @Override
+                public Iterator<Entry<Object, Object>> iterator() {
+                    return new OverlayEntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return OverlayMap.this.size();
+                }
+
+            };
+        }
+
+        private final class OverlayEntryIterator implements Iterator<Entry<Object, Object>> {
+
+            private final Iterator<Entry<Object, Object>> baseIterator = base.entrySet().iterator();
+            private final Iterator<Entry<Object, Object>> overlayIterator = overlay.entrySet().iterator();
+            private Entry<Object, Object> next = null;
+
+            @Override
+            public boolean hasNext() {
+                if (next != null) {
+                    return true;
+                }
+                if (baseIterator.hasNext()) {
+                    var entry = baseIterator.next();
+                    next = new SimpleImmutableEntry<>(entry.getKey(), entry.getValue());
+                    return true;
+                }
+                while (overlayIterator.hasNext()) {
+                    var entry = overlayIterator.next();
+                    if (!base.containsKey(entry.getKey())) {
+                        next = new SimpleImmutableEntry<>(entry.getKey(), entry.getValue());
+                        return true;
+                    }
+                }
+                return false;
+            }
+
+            @Override
+            public Entry<Object, Object> next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                var entry = next;
+                next = null;
+                return entry;
+            }
+
+        }
+
+    }
+
+}
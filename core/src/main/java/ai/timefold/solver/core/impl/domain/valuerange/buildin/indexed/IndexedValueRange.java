@@ -0,0 +1,159 @@
+package ai.timefold.solver.core.impl.domain.valuerange.buildin.indexed;
+
+import java.util.AbstractList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Random;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
+import java.util.function.ToIntFunction;
+
+import ai.timefold.solver.core.impl.domain.valuerange.AbstractCountableValueRange;
+import ai.timefold.solver.core.impl.domain.valuerange.util.ValueRangeIterator;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * A range of the values with the dense ids {@code 0} (inclusive) to {@code size} (exclusive).
+ * Unlike a {@link ai.timefold.solver.core.impl.domain.valuerange.buildin.collection.ListValueRange},
+ * it does not hold the values (nor boxed ids), but resolves each value on demand when it is selected.
+ *
+ * @param <T> the value type
+ */
+public final class IndexedValueRange<T> extends AbstractCountableValueRange<T> {
+
+    private final int size;
+    private final IntFunction<T> idToValueFunction;
+    private final ToIntFunction<T> valueToIdFunction;
+
+    /**
+     * @param size {@code >= 0}
+     * @param idToValueFunction maps each id in {@code [0, size)} to its value, never returns null
+     * @param valueToIdFunction the inverse of idToValueFunction, called with non-null values only
+     */
+    public IndexedValueRange(int size, IntFunction<T> idToValueFunction, ToIntFunction<T> valueToIdFunction) {
+        if (size < 0) {
+            throw new IllegalArgumentException("The " + getClass().getSimpleName()
+                    + " cannot have a negative size (" + size + ").");
+        }
+        this.size = size;
+        this.idToValueFunction = Objects.requireNonNull(idToValueFunction);
+        this.valueToIdFunction = Objects.requireNonNull(valueToIdFunction);
+    }
+
+    /**
+     * @param value never null
+     * @return the id of the value, only in {@code [0, size)} if {@link #contains(Object)} returns true
+     */
+    public int getId(T value) {
+        return valueToIdFunction.applyAsInt(value);
+    }
+
+    @Override
+    public long getSize() {
+        return size;
+    }
+
+    @Override
+    public T get(long index) {
+        if (index < 0L || index >= size) {
+            throw new IndexOutOfBoundsException("The index (" + index + ") must be >= 0 and < size (" + size + ").");
+        }
+        return idToValueFunction.apply((int) index);
+    }
+
+    @Override
+    public boolean contains(T value) {
+        if (value == null) {
+            return false;
+        }
+        var id = valueToIdFunction.applyAsInt(value);
+        // The id of a value outside of this range might collide with the id of a value inside it.
+        return id >= 0 && id < size && Objects.equals(idToValueFunction.apply(id), value);
+    }
+
+    /**
+     * Like the values of a {@link ai.timefold.solver.core.impl.domain.valuerange.buildin.collection.ListValueRange},
+     * but without copying them.
+     *
+     * @return never null, an unmodifiable view which resolves each value on demand, in id order
+     */
+    public List<T> asList() {
+        return new IndexedValueList();
+    }
+
+    private final class IndexedValueList extends AbstractList<T> implements RandomAccess {
+
+        @Override
+        public T get(int index) {
+            return IndexedValueRange.this.get(index);
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+    }
+
+    @Override
+    public @NonNull Iterator<T> createOriginalIterator() {
+        return new OriginalIndexedValueRangeIterator();
+    }
+
+    private class OriginalIndexedValueRangeIterator extends ValueRangeIterator<T> {
+
+        private int upcomingId = 0;
+
+        @Override
+        public boolean hasNext() {
+            return upcomingId < size;
+        }
+
+        @Override
+        public T next() {
+            if (upcomingId >= size) {
+                throw new NoSuchElementException();
+            }
+            return idToValueFunction.apply(upcomingId++);
+        }
+
+    }
+
+    @Override
+    public @NonNull Iterator<T> createRandomIterator(@NonNull Random workingRandom) {
+        return new RandomIndexedValueRangeIterator(workingRandom);
+    }
+
+    private class RandomIndexedValueRangeIterator extends ValueRangeIterator<T> {
+
+        private final Random workingRandom;
+
+        public RandomIndexedValueRangeIterator(Random workingRandom) {
+            this.workingRandom = workingRandom;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return size > 0;
+        }
+
+        @Override
+        public T next() {
+            if (size <= 0) {
+                throw new NoSuchElementException();
+            }
+            return idToValueFunction.apply(workingRandom.nextInt(size));
+        }
+
+    }
+
+    @Override
+    public String toString() {
+        // Formatting: interval (mathematics) ISO 31-11
+        return size == 0 ? "[]" : "[" + idToValueFunction.apply(0) + "-" + idToValueFunction.apply(size - 1) + "]";
+    }
+
+}
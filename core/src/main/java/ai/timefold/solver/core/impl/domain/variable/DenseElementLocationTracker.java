@@ -0,0 +1,140 @@
+package ai.timefold.solver.core.impl.domain.variable;
+
+import java.util.Arrays;
+
+import ai.timefold.solver.core.api.domain.metamodel.ElementLocation;
+import ai.timefold.solver.core.impl.domain.valuerange.buildin.indexed.IndexedValueRange;
+
+/**
+ * Tracks the values of an {@link IndexedValueRange} by their dense id.
+ * Stores the element, entity and index of each assigned id in parallel arrays,
+ * so that neither a lookup nor a change needs to hash the element or allocate a location.
+ * <p>
+ * Any other element, such as one added by a problem change, might have an id beyond the value range
+ * or even an id that collides with a value of the value range.
+ * Those elements are recognized by identity when they are assigned,
+ * and tracked by an {@link IdentityMapElementLocationTracker} instead.
+ */
+final class DenseElementLocationTracker implements ElementLocationTracker {
+
+    private IndexedValueRange<Object> valueRange;
+    private int size = 0;
+    private Object[] elements = new Object[0];
+    private Object[] entities = new Object[0];
+    private int[] indexes = new int[0];
+    private IdentityMapElementLocationTracker otherElementTracker = null;
+
+    /**
+     * Must be called before {@link #clear(int)}, because the value range can differ per working solution.
+     *
+     * @param valueRange never null
+     */
+    void setValueRange(IndexedValueRange<Object> valueRange) {
+        this.valueRange = valueRange;
+    }
+
+    @Override
+    public void clear(int expectedElementCount) {
+        size = (int) valueRange.getSize();
+        if (elements.length < size) {
+            elements = new Object[size];
+            entities = new Object[size];
+            indexes = new int[size];
+        } else {
+            Arrays.fill(elements, null);
+            Arrays.fill(entities, null);
+        }
+        if (otherElementTracker != null) {
+            otherElementTracker.clear(0);
+        }
+    }
+
+    /**
+     * @param element never null
+     * @return {@code -1} if the element is not an assigned value of the value range
+     */
+    private int getId(Object element) {
+        var id = valueRange.getId(element);
+        return id >= 0 && id < size && elements[id] == element ? id : -1;
+    }
+
+    /**
+     * Only resolves the value of the id if the element isn't assigned yet.
+     *
+     * @param element never null
+     * @return {@code -1} if the element is not a value of the value range
+     */
+    private int getIdToAssign(Object element) {
+        var id = valueRange.getId(element);
+        if (id < 0 || id >= size) {
+            return -1;
+        } else if (elements[id] == element) {
+            return id;
+        }
+        return elements[id] == null && valueRange.get(id) == element ? id : -1;
+    }
+
+    private IdentityMapElementLocationTracker getOtherElementTracker() {
+        if (otherElementTracker == null) {
+            otherElementTracker = new IdentityMapElementLocationTracker();
+            otherElementTracker.clear(0);
+        }
+        return otherElementTracker;
+    }
+
+    @Override
+    public int set(Object element, Object entity, int index) {
+        var id = getIdToAssign(element);
+        if (id < 0) {
+            return getOtherElementTracker().set(element, entity, index);
+        }
+        elements[id] = element;
+        var oldEntity = entities[id];
+        var oldIndex = indexes[id];
+        entities[id] = entity;
+        indexes[id] = index;
+        if (oldEntity == null) {
+            return UNASSIGNED;
+        }
+        return oldEntity == entity ? oldIndex : OTHER_ENTITY;
+    }
+
+    @Override
+    public int remove(Object element) {
+        var id = getId(element);
+        if (id < 0) {
+            return otherElementTracker == null ? UNASSIGNED : otherElementTracker.remove(element);
+        }
+        elements[id] = null;
+        entities[id] = null;
+        return indexes[id];
+    }
+
+    @Override
+    public Object getEntity(Object element) {
+        var id = getId(element);
+        if (id < 0) {
+            return otherElementTracker == null ? null : otherElementTracker.getEntity(element);
+        }
+        return entities[id];
+    }
+
+    @Override
+    public int getIndex(Object element) {
+        var id = getId(element);
+        if (id < 0) {
+            return otherElementTracker == null ? UNASSIGNED : otherElementTracker.getIndex(element);
+        }
+        return indexes[id];
+    }
+
+    @Override
+    public ElementLocation getLocation(Object element) {
+        var id = getId(element);
+        if (id < 0) {
+            return otherElementTracker == null ? ElementLocation.unassigned() : otherElementTracker.getLocation(element);
+        }
+        return ElementLocation.of(entities[id], indexes[id]);
+    }
+
+}
@@ -0,0 +1,61 @@
+package ai.timefold.solver.core.impl.domain.variable;
+
+import ai.timefold.solver.core.api.domain.metamodel.ElementLocation;
+
+/**
+ * Stores the {@link ElementLocation location} of every assigned element of a list variable.
+ *
+ * @see ExternalizedListVariableStateSupply
+ */
+sealed interface ElementLocationTracker permits IdentityMapElementLocationTracker, DenseElementLocationTracker {
+
+    /**
+     * Returned by {@link #set(Object, Object, int)} if the element was unassigned.
+     */
+    int UNASSIGNED = -1;
+    /**
+     * Returned by {@link #set(Object, Object, int)} if the element was assigned to a different entity.
+     */
+    int OTHER_ENTITY = -2;
+
+    /**
+     * Unassigns all elements.
+     *
+     * @param expectedElementCount {@code >= 0}
+     */
+    void clear(int expectedElementCount);
+
+    /**
+     * @param element never null
+     * @param entity never null
+     * @param index {@code >= 0}
+     * @return the previous index of the element if it was assigned to the same entity,
+     *         otherwise {@link #UNASSIGNED} or {@link #OTHER_ENTITY}
+     */
+    int set(Object element, Object entity, int index);
+
+    /**
+     * @param element never null
+     * @return the previous index of the element, or {@link #UNASSIGNED} if it was unassigned
+     */
+    int remove(Object element);
+
+    /**
+     * @param element never null
+     * @return null if the element is unassigned
+     */
+    Object getEntity(Object element);
+
+    /**
+     * @param element never null
+     * @return {@link #UNASSIGNED} if the element is unassigned
+     */
+    int getIndex(Object element);
+
+    /**
+     * @param element never null
+     * @return never null
+     */
+    ElementLocation getLocation(Object element);
+
+}
@@ -1,12 +1,11 @@
 package ai.timefold.solver.core.impl.domain.variable;
 
-import java.util.IdentityHashMap;
-import java.util.Map;
 import java.util.Objects;
 
 import ai.timefold.solver.core.api.domain.metamodel.ElementLocation;
-import ai.timefold.solver.core.api.domain.metamodel.LocationInList;
 import ai.timefold.solver.core.api.score.director.ScoreDirector;
+import ai.timefold.solver.core.impl.domain.valuerange.buildin.indexed.IndexedValueRange;
+import ai.timefold.solver.core.impl.domain.valuerange.descriptor.EntityIndependentValueRangeDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
 
 import org.jspecify.annotations.NonNull;
@@ -15,7 +14,7 @@ final class ExternalizedListVariableStateSupply<Solution_>
         implements ListVariableStateSupply<Solution_> {
 
     private final ListVariableDescriptor<Solution_> sourceVariableDescriptor;
-    private Map<Object, LocationInList> elementLocationMap;
+    private ElementLocationTracker elementLocationTracker;
     private int unassignedCount;
 
     public ExternalizedListVariableStateSupply(ListVariableDescriptor<Solution_> sourceVariableDescriptor) {
@@ -25,26 +24,41 @@ final class ExternalizedListVariableStateSupply<Solution_>
     @Override
     public void resetWorkingSolution(@NonNull ScoreDirector<Solution_> scoreDirector) {
         var workingSolution = scoreDirector.getWorkingSolution();
-        if (elementLocationMap == null) {
-            elementLocationMap = new IdentityHashMap<>((int) sourceVariableDescriptor.getValueRangeSize(workingSolution, null));
-        } else {
-            elementLocationMap.clear();
-        }
+        var valueRangeSize = (int) sourceVariableDescriptor.getValueRangeSize(workingSolution, null);
+        elementLocationTracker = buildElementLocationTracker(workingSolution, valueRangeSize);
+        elementLocationTracker.clear(valueRangeSize);
         // Start with everything unassigned.
-        unassignedCount = (int) sourceVariableDescriptor.getValueRangeSize(workingSolution, null);
+        unassignedCount = valueRangeSize;
         // Will run over all entities and unmark all present elements as unassigned.
         sourceVariableDescriptor.getEntityDescriptor().visitAllEntities(workingSolution, this::insert);
     }
 
+    private ElementLocationTracker buildElementLocationTracker(Solution_ workingSolution, int valueRangeSize) {
+        // Values with a dense id are tracked in arrays, avoiding the hashing of every element on every change.
+        // An empty value range cannot be extracted, and has nothing to track anyway.
+        if (valueRangeSize > 0
+                && sourceVariableDescriptor.getValueRangeDescriptor() instanceof EntityIndependentValueRangeDescriptor<Solution_> d
+                && d.extractValueRange(workingSolution) instanceof IndexedValueRange<?> indexedValueRange) {
+            var denseElementLocationTracker =
+                    elementLocationTracker instanceof DenseElementLocationTracker reusableElementLocationTracker
+                            ? reusableElementLocationTracker // Reuse the arrays.
+                            : new DenseElementLocationTracker();
+            denseElementLocationTracker.setValueRange((IndexedValueRange<Object>) indexedValueRange);
+            return denseElementLocationTracker;
+        } else if (elementLocationTracker instanceof IdentityMapElementLocationTracker identityMapElementLocationTracker) {
+            return identityMapElementLocationTracker; // Reuse the map.
+        }
+        return new IdentityMapElementLocationTracker();
+    }
+
     private void insert(Object entity) {
         var assignedElements = sourceVariableDescriptor.getValue(entity);
         var index = 0;
         for (var element : assignedElements) {
-            var oldLocation = elementLocationMap.put(element, ElementLocation.of(entity, index));
-            if (oldLocation != null) {
+            if (elementLocationTracker.set(element, entity, index) != ElementLocationTracker.UNASSIGNED) {
                 throw new IllegalStateException(
-                        "The supply (%s) is corrupted, because the element (%s) at index (%d) already exists (%s)."
-                                .formatted(this, element, index, oldLocation));
+                        "The supply (%s) is corrupted, because the element (%s) at index (%d) already exists."
+                                .formatted(this, element, index));
             }
             index++;
             unassignedCount--;
@@ -53,7 +67,7 @@ final class ExternalizedListVariableStateSupply<Solution_>
 
     @Override
     public void close() {
-        elementLocationMap = null;
+        elementLocationTracker = null;
     }
 
     @Override
@@ -82,13 +96,12 @@ final class ExternalizedListVariableStateSupply<Solution_>
         var assignedElements = sourceVariableDescriptor.getValue(entity);
         for (var index = 0; index < assignedElements.size(); index++) {
             var element = assignedElements.get(index);
-            var oldElementLocation = elementLocationMap.remove(element);
-            if (oldElementLocation == null) {
+            var oldIndex = elementLocationTracker.remove(element);
+            if (oldIndex == ElementLocationTracker.UNASSIGNED) {
                 throw new IllegalStateException(
-                        "The supply (%s) is corrupted, because the element (%s) at index (%d) was already unassigned (%s)."
-                                .formatted(this, element, index, oldElementLocation));
+                        "The supply (%s) is corrupted, because the element (%s) at index (%d) was already unassigned."
+                                .formatted(this, element, index));
             }
-            var oldIndex = oldElementLocation.index();
             if (oldIndex != index) {
                 throw new IllegalStateException(
                         "The supply (%s) is corrupted, because the element (%s) at index (%d) had an old index (%d) which is not the current index (%d)."
@@ -100,8 +113,7 @@ final class ExternalizedListVariableStateSupply<Solution_>
 
     @Override
     public void afterListVariableElementUnassigned(@NonNull ScoreDirector<Solution_> scoreDirector, @NonNull Object element) {
-        var oldLocation = elementLocationMap.remove(element);
-        if (oldLocation == null) {
+        if (elementLocationTracker.remove(element) == ElementLocationTracker.UNASSIGNED) {
             throw new IllegalStateException(
                     "The supply (%s) is corrupted, because the element (%s) did not exist before unassigning."
                             .formatted(this, element));
@@ -125,11 +137,10 @@ final class ExternalizedListVariableStateSupply<Solution_>
         var assignedElements = sourceVariableDescriptor.getValue(entity);
         for (var index = startIndex; index < assignedElements.size(); index++) {
             var element = assignedElements.get(index);
-            var newLocation = ElementLocation.of(entity, index);
-            var oldLocation = elementLocationMap.put(element, newLocation);
-            if (oldLocation == null) {
+            var oldIndex = elementLocationTracker.set(element, entity, index);
+            if (oldIndex == ElementLocationTracker.UNASSIGNED) {
                 unassignedCount--;
-            } else if (index >= toIndex && newLocation.equals(oldLocation)) {
+            } else if (index >= toIndex && oldIndex == index) {
                 // Location is unchanged and we are past the part of the list that changed.
                 return;
             } else {
@@ -140,31 +151,26 @@ final class ExternalizedListVariableStateSupply<Solution_>
 
     @Override
     public ElementLocation getLocationInList(Object planningValue) {
-        return Objects.requireNonNullElse(elementLocationMap.get(Objects.requireNonNull(planningValue)),
-                ElementLocation.unassigned());
+        return elementLocationTracker.getLocation(Objects.requireNonNull(planningValue));
     }
 
     @Override
     public Integer getIndex(Object planningValue) {
-        var elementLocation = elementLocationMap.get(Objects.requireNonNull(planningValue));
-        if (elementLocation == null) {
+        var index = elementLocationTracker.getIndex(Objects.requireNonNull(planningValue));
+        if (index == ElementLocationTracker.UNASSIGNED) {
             return null;
         }
-        return elementLocation.index();
+        return index;
     }
 
     @Override
     public Object getInverseSingleton(Object planningValue) {
-        var elementLocation = elementLocationMap.get(Objects.requireNonNull(planningValue));
-        if (elementLocation == null) {
-            return null;
-        }
-        return elementLocation.entity();
+        return elementLocationTracker.getEntity(Objects.requireNonNull(planningValue));
     }
 
     @Override
     public boolean isAssigned(Object element) {
-        return getLocationInList(element) instanceof LocationInList;
+        return elementLocationTracker.getEntity(element) != null;
     }
 
     @Override
@@ -0,0 +1,58 @@
+package ai.timefold.solver.core.impl.domain.variable;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import ai.timefold.solver.core.api.domain.metamodel.ElementLocation;
+import ai.timefold.solver.core.api.domain.metamodel.LocationInList;
+
+/**
+ * Works for any element, by mapping it to its location.
+ */
+final class IdentityMapElementLocationTracker implements ElementLocationTracker {
+
+    private Map<Object, LocationInList> elementLocationMap;
+
+    @Override
+    public void clear(int expectedElementCount) {
+        if (elementLocationMap == null) {
+            elementLocationMap = new IdentityHashMap<>(expectedElementCount);
+        } else {
+            elementLocationMap.clear();
+        }
+    }
+
+    @Override
+    public int set(Object element, Object entity, int index) {
+        var oldLocation = elementLocationMap.put(element, ElementLocation.of(entity, index));
+        if (oldLocation == null) {
+            return UNASSIGNED;
+        }
+        return oldLocation.entity() == entity ? oldLocation.index() : OTHER_ENTITY;
+    }
+
+    @Override
+    public int remove(Object element) {
+        var oldLocation = elementLocationMap.remove(element);
+        return oldLocation == null ? UNASSIGNED : oldLocation.index();
+    }
+
+    @Override
+    public Object getEntity(Object element) {
+        var location = elementLocationMap.get(element);
+        return location == null ? null : location.entity();
+    }
+
+    @Override
+    public int getIndex(Object element) {
+        var location = elementLocationMap.get(element);
+        return location == null ? UNASSIGNED : location.index();
+    }
+
+    @Override
+    public ElementLocation getLocation(Object element) {
+        return Objects.requireNonNullElse(elementLocationMap.get(element), ElementLocation.unassigned());
+    }
+
+}
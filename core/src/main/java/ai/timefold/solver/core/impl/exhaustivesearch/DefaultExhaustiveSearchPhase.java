@@ -34,6 +34,7 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
     protected final Comparator<ExhaustiveSearchNode> nodeComparator;
     protected final EntitySelector<Solution_> entitySelector;
     protected final ExhaustiveSearchDecider<Solution_> decider;
+    protected final int expandableNodeLimit;
 
     protected final boolean assertWorkingSolutionScoreFromScratch;
     protected final boolean assertExpectedWorkingSolutionScore;
@@ -43,6 +44,7 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
         nodeComparator = builder.nodeComparator;
         entitySelector = builder.entitySelector;
         decider = builder.decider;
+        expandableNodeLimit = builder.expandableNodeLimit;
 
         assertWorkingSolutionScoreFromScratch = builder.assertWorkingSolutionScoreFromScratch;
         assertExpectedWorkingSolutionScore = builder.assertExpectedWorkingSolutionScore;
@@ -62,7 +64,9 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
         SortedSet<ExhaustiveSearchNode> expandableNodeQueue = new TreeSet<>(nodeComparator);
         ExhaustiveSearchPhaseScope<Solution_> phaseScope = new ExhaustiveSearchPhaseScope<>(solverScope, phaseIndex);
         phaseScope.setExpandableNodeQueue(expandableNodeQueue);
+        phaseScope.setExpandableNodeLimit(expandableNodeLimit);
         phaseStarted(phaseScope);
+        solverScope.setExhaustiveSearchExpandableNodeCount(expandableNodeQueue.size());
 
         while (!expandableNodeQueue.isEmpty() && !phaseTermination.isPhaseTerminated(phaseScope)) {
             ExhaustiveSearchStepScope<Solution_> stepScope = new ExhaustiveSearchStepScope<>(phaseScope);
@@ -72,6 +76,7 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
             stepStarted(stepScope);
             restoreWorkingSolution(stepScope);
             decider.expandNode(stepScope);
+            solverScope.setExhaustiveSearchExpandableNodeCount(expandableNodeQueue.size());
             stepEnded(stepScope);
             phaseScope.setLastCompletedStepScope(stepScope);
         }
@@ -153,24 +158,28 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
         ExhaustiveSearchNode oldNode = phaseScope.getLastCompletedStepScope().getExpandingNode();
         ExhaustiveSearchNode newNode = stepScope.getExpandingNode();
         List<Move<Solution_>> oldMoveList = new ArrayList<>(oldNode.getDepth());
-        List<Move<Solution_>> newMoveList = new ArrayList<>(newNode.getDepth());
+        List<ExhaustiveSearchNode> newNodeList = new ArrayList<>(newNode.getDepth());
         while (oldNode != newNode) {
             int oldDepth = oldNode.getDepth();
             int newDepth = newNode.getDepth();
             if (oldDepth < newDepth) {
-                newMoveList.add(newNode.getMove());
+                newNodeList.add(newNode);
                 newNode = newNode.getParent();
             } else {
                 oldMoveList.add(oldNode.getUndoMove());
                 oldNode = oldNode.getParent();
             }
         }
-        List<Move<Solution_>> restoreMoveList = new ArrayList<>(oldMoveList.size() + newMoveList.size());
-        restoreMoveList.addAll(oldMoveList);
-        Collections.reverse(newMoveList);
-        restoreMoveList.addAll(newMoveList);
+        Collections.reverse(newNodeList);
         MoveDirector<Solution_> moveDirector = phaseScope.getScoreDirector().getMoveDirector();
-        restoreMoveList.forEach(restoreMove -> restoreMove.execute(moveDirector));
+        oldMoveList.forEach(undoMove -> undoMove.execute(moveDirector));
+        List<Move<Solution_>> restoreMoveList = new ArrayList<>(oldMoveList.size() + newNodeList.size());
+        restoreMoveList.addAll(oldMoveList);
+        for (ExhaustiveSearchNode node : newNodeList) {
+            // Only the nodes on the path to the working solution hold an undo move, to save memory.
+            node.setUndoMove(moveDirector.executeAndCreateUndoMove(node.getMove()));
+            restoreMoveList.add(node.getMove());
+        }
         // There is no need to recalculate the score, but we still need to set it
         phaseScope.getSolutionDescriptor().setScore(phaseScope.getWorkingSolution(), stepScope.getStartingStepScore());
         if (assertWorkingSolutionScoreFromScratch) {
@@ -217,6 +226,16 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
                 phaseScope.getBestScore(),
                 phaseScope.getPhaseMoveEvaluationSpeed(),
                 phaseScope.getNextStepIndex());
+        logger.debug("{}    Expandable node queue peak ({}), estimated peak memory ({} bytes), pruned nodes ({}).",
+                logIndentation,
+                phaseScope.getPeakExpandableNodeCount(),
+                phaseScope.getPeakExpandableNodeCount() * ExhaustiveSearchNode.ESTIMATED_MEMORY_BYTES,
+                phaseScope.getPrunedExpandableNodeCount());
+        if (phaseScope.getPrunedExpandableNodeCount() > 0L) {
+            logger.warn("{}Exhaustive Search phase ({}) pruned ({}) nodes to respect the expandableNodeLimit ({}),"
+                    + " so the best solution is not guaranteed to be optimal.",
+                    logIndentation, phaseIndex, phaseScope.getPrunedExpandableNodeCount(), expandableNodeLimit);
+        }
     }
 
     @Override
@@ -232,6 +251,7 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
         private final EntitySelector<Solution_> entitySelector;
         private final ExhaustiveSearchDecider<Solution_> decider;
 
+        private int expandableNodeLimit = Integer.MAX_VALUE;
         private boolean assertWorkingSolutionScoreFromScratch = false;
         private boolean assertExpectedWorkingSolutionScore = false;
 
@@ -244,6 +264,10 @@ public class DefaultExhaustiveSearchPhase<Solution_> extends AbstractPhase<Solut
             this.decider = decider;
         }
 
+        public void setExpandableNodeLimit(int expandableNodeLimit) {
+            this.expandableNodeLimit = expandableNodeLimit;
+        }
+
         public void setAssertWorkingSolutionScoreFromScratch(boolean assertWorkingSolutionScoreFromScratch) {
             this.assertWorkingSolutionScoreFromScratch = assertWorkingSolutionScoreFromScratch;
         }
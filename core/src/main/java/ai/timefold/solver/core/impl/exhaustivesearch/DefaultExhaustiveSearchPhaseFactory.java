@@ -87,6 +87,14 @@ public class DefaultExhaustiveSearchPhaseFactory<Solution_>
                 solverConfigPolicy.getLogIndentation(), phaseTermination,
                 nodeExplorationType_.buildNodeComparator(scoreBounderEnabled), entitySelector, buildDecider(phaseConfigPolicy,
                         entitySelector, bestSolutionRecaller, phaseTermination, scoreBounderEnabled));
+        Integer expandableNodeLimit = phaseConfig.getExpandableNodeLimit();
+        if (expandableNodeLimit != null) {
+            if (expandableNodeLimit < 1) {
+                throw new IllegalArgumentException("The phaseConfig (" + phaseConfig
+                        + ") has an expandableNodeLimit (" + expandableNodeLimit + ") which is lower than 1.");
+            }
+            builder.setExpandableNodeLimit(expandableNodeLimit);
+        }
 
         EnvironmentMode environmentMode = phaseConfigPolicy.getEnvironmentMode();
         if (environmentMode.isNonIntrusiveFullAsserted()) {
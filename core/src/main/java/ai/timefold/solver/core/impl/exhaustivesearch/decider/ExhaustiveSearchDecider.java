@@ -136,7 +136,6 @@ public final class ExhaustiveSearchDecider<Solution_> implements ExhaustiveSearc
         try (var ephemeralMoveDirector = scoreDirector.getMoveDirector().ephemeral()) {
             move.execute(ephemeralMoveDirector);
             processMove(stepScope, moveNode);
-            moveNode.setUndoMove(ephemeralMoveDirector.createUndoMove());
         }
         // TODO reuse scoreDirector.doAndProcessMove() unless it's an expandableNode
         var executionPoint = SolverLifecyclePoint.of(stepScope, moveNode.getTreeId());
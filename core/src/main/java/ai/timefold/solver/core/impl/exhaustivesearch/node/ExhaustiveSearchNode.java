@@ -7,12 +7,20 @@ import ai.timefold.solver.core.impl.exhaustivesearch.node.bounder.ScoreBounder;
 
 public class ExhaustiveSearchNode {
 
+    /**
+     * A rough estimate of the heap memory an expandable node takes, on a 64-bit JVM with compressed references:
+     * the node, its entry in the expandable node queue, its move (with its adapter) and its 2 scores.
+     * The parent nodes are usually shared with other nodes, so they are not included.
+     */
+    public static final long ESTIMATED_MEMORY_BYTES = 176L;
+
     private final ExhaustiveSearchLayer layer;
     private final ExhaustiveSearchNode parent;
     private final long breadth;
 
     // The move to get from the parent to this node
     private Move move;
+    // Only set once the working solution has been on this node, to save memory on the nodes in the queue
     private Move undoMove;
     private Score score;
     /**
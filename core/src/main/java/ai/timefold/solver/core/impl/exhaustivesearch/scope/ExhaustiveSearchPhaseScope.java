@@ -17,7 +17,10 @@ public final class ExhaustiveSearchPhaseScope<Solution_> extends AbstractPhaseSc
 
     private List<ExhaustiveSearchLayer> layerList;
     private SortedSet<ExhaustiveSearchNode> expandableNodeQueue;
+    private int expandableNodeLimit = Integer.MAX_VALUE;
     private Score bestPessimisticBound;
+    private int peakExpandableNodeCount = 0;
+    private long prunedExpandableNodeCount = 0L;
 
     private ExhaustiveSearchStepScope<Solution_> lastCompletedStepScope;
 
@@ -42,6 +45,17 @@ public final class ExhaustiveSearchPhaseScope<Solution_> extends AbstractPhaseSc
         this.expandableNodeQueue = expandableNodeQueue;
     }
 
+    /**
+     * @return at least 1, the maximum size of the {@link #getExpandableNodeQueue() expandable node queue}
+     */
+    public int getExpandableNodeLimit() {
+        return expandableNodeLimit;
+    }
+
+    public void setExpandableNodeLimit(int expandableNodeLimit) {
+        this.expandableNodeLimit = expandableNodeLimit;
+    }
+
     public Score getBestPessimisticBound() {
         return bestPessimisticBound;
     }
@@ -79,6 +93,30 @@ public final class ExhaustiveSearchPhaseScope<Solution_> extends AbstractPhaseSc
     public void addExpandableNode(ExhaustiveSearchNode moveNode) {
         expandableNodeQueue.add(moveNode);
         moveNode.setExpandable(true);
+        if (expandableNodeQueue.size() > expandableNodeLimit) {
+            // Beam-style pruning: drop the least promising node, at the cost of no longer being exhaustive
+            ExhaustiveSearchNode prunedNode = expandableNodeQueue.first();
+            expandableNodeQueue.remove(prunedNode);
+            prunedNode.setExpandable(false);
+            prunedExpandableNodeCount++;
+            getSolverScope().addExhaustiveSearchPrunedNodeCount(1L);
+        }
+        peakExpandableNodeCount = Math.max(peakExpandableNodeCount, expandableNodeQueue.size());
+    }
+
+    /**
+     * @return the highest size the {@link #getExpandableNodeQueue() expandable node queue} had during this phase
+     */
+    public int getPeakExpandableNodeCount() {
+        return peakExpandableNodeCount;
+    }
+
+    /**
+     * @return the number of expandable nodes dropped because of the {@link #getExpandableNodeLimit()},
+     *         0 if the search is still exhaustive
+     */
+    public long getPrunedExpandableNodeCount() {
+        return prunedExpandableNodeCount;
     }
 
 }
@@ -0,0 +1,152 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.composite;
+
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.director.ScoreDirector;
+import ai.timefold.solver.core.impl.heuristic.move.LegacyMoveAdapter;
+import ai.timefold.solver.core.impl.heuristic.move.Move;
+import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.SelectionProbabilityWeightFactory;
+import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
+
+/**
+ * Re-weights the child {@link MoveSelector}s of a {@link UnionMoveSelector} during solving,
+ * so the time goes to the move types which currently pay off.
+ * <p>
+ * Every step, the child which selected the step is credited if that step improved the score.
+ * The time of the step is split over the children in proportion to the number of moves they selected.
+ * The quality of a child is an exponential moving average of its improving steps per millisecond.
+ * The probability weights follow the qualities (probability matching),
+ * but every child keeps a minimum share, so a move type which stopped paying off can still recover.
+ * <p>
+ * This class is not thread-safe.
+ *
+ * @param <Solution_> the solution type
+ */
+final class AdaptiveSelectorProbabilityWeightFactory<Solution_>
+        implements SelectionProbabilityWeightFactory<Solution_, MoveSelector<Solution_>> {
+
+    // How much the most recent step weighs in the moving average.
+    static final double QUALITY_ADAPTATION_RATE = 0.1;
+    // The part of the uniform weight that every child keeps, regardless of its quality.
+    static final double MINIMUM_WEIGHT_RATIO = 0.2;
+
+    private final List<MoveSelector<Solution_>> childMoveSelectorList;
+    private final Map<MoveSelector<Solution_>, ChildStatistics> childStatisticsMap;
+    // The child that selected each move of the current step, to find the child of the step once it's picked.
+    private final Map<Move<Solution_>, MoveSelector<Solution_>> stepMoveOriginMap = new IdentityHashMap<>();
+    private long stepStartNanos = -1L;
+
+    public AdaptiveSelectorProbabilityWeightFactory(List<MoveSelector<Solution_>> childMoveSelectorList) {
+        this.childMoveSelectorList = childMoveSelectorList;
+        this.childStatisticsMap = new IdentityHashMap<>(childMoveSelectorList.size());
+        for (var childMoveSelector : childMoveSelectorList) {
+            childStatisticsMap.put(childMoveSelector, new ChildStatistics());
+        }
+    }
+
+    @Override
+    public double createProbabilityWeight(ScoreDirector<Solution_> scoreDirector, MoveSelector<Solution_> selector) {
+        var qualityTotal = 0.0;
+        for (var childStatistics : childStatisticsMap.values()) {
+            qualityTotal += childStatistics.quality;
+        }
+        var childCount = childStatisticsMap.size();
+        if (qualityTotal == 0.0) {
+            return 1.0 / childCount;
+        }
+        var minimumWeight = MINIMUM_WEIGHT_RATIO / childCount;
+        var quality = childStatisticsMap.get(selector).quality;
+        return minimumWeight + (1.0 - MINIMUM_WEIGHT_RATIO) * (quality / qualityTotal);
+    }
+
+    public void phaseStarted() {
+        for (var childStatistics : childStatisticsMap.values()) {
+            childStatistics.quality = 0.0;
+        }
+    }
+
+    public void stepStarted() {
+        stepMoveOriginMap.clear();
+        for (var childStatistics : childStatisticsMap.values()) {
+            childStatistics.stepSelectedMoveCount = 0L;
+        }
+        stepStartNanos = System.nanoTime();
+    }
+
+    /**
+     * @param childMoveSelector never null, one of the children
+     * @param move never null, just selected by that child
+     */
+    public void moveSelected(MoveSelector<Solution_> childMoveSelector, Move<Solution_> move) {
+        stepMoveOriginMap.put(move, childMoveSelector);
+        childStatisticsMap.get(childMoveSelector).stepSelectedMoveCount++;
+    }
+
+    public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+        if (stepStartNanos < 0L) {
+            return;
+        }
+        var stepMillis = Math.max((System.nanoTime() - stepStartNanos) / 1_000_000.0, 0.001);
+        stepStartNanos = -1L;
+        var stepSelectedMoveCount = 0L;
+        for (var childStatistics : childStatisticsMap.values()) {
+            stepSelectedMoveCount += childStatistics.stepSelectedMoveCount;
+        }
+        if (stepSelectedMoveCount == 0L) {
+            stepMoveOriginMap.clear();
+            return;
+        }
+        var improvingChildMoveSelector = findImprovingChildMoveSelector(stepScope);
+        for (var childMoveSelector : childMoveSelectorList) {
+            var childStatistics = childStatisticsMap.get(childMoveSelector);
+            if (childStatistics.stepSelectedMoveCount == 0L) {
+                continue;
+            }
+            var childMillis = stepMillis * childStatistics.stepSelectedMoveCount / stepSelectedMoveCount;
+            var reward = childMoveSelector == improvingChildMoveSelector ? 1.0 / childMillis : 0.0;
+            childStatistics.quality += QUALITY_ADAPTATION_RATE * (reward - childStatistics.quality);
+        }
+        stepMoveOriginMap.clear();
+    }
+
+    @SuppressWarnings({ "rawtypes", "unchecked" })
+    private MoveSelector<Solution_> findImprovingChildMoveSelector(AbstractStepScope<Solution_> stepScope) {
+        if (!(stepScope instanceof LocalSearchStepScope<Solution_> localSearchStepScope)
+                || !(localSearchStepScope.getStep() instanceof LegacyMoveAdapter<Solution_> legacyStep)) {
+            return null;
+        }
+        var lastCompletedStepScope = stepScope.getPhaseScope().getLastCompletedStepScope();
+        Score stepScore = stepScope.getScore();
+        Score lastStepScore = lastCompletedStepScope.getScore();
+        if (stepScore == null || lastStepScore == null || stepScore.compareTo(lastStepScore) <= 0) {
+            return null;
+        }
+        return stepMoveOriginMap.get(legacyStep.legacyMove());
+    }
+
+    /**
+     * @param childMoveSelector never null, one of the children
+     * @return at least 0.0, the moving average of improving steps per millisecond
+     */
+    double getQuality(MoveSelector<Solution_> childMoveSelector) {
+        return childStatisticsMap.get(childMoveSelector).quality;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName();
+    }
+
+    private static final class ChildStatistics {
+
+        private double quality = 0.0;
+        private long stepSelectedMoveCount = 0L;
+
+    }
+
+}
@@ -7,6 +7,7 @@ import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Random;
 import java.util.TreeMap;
+import java.util.function.BiConsumer;
 import java.util.function.ToDoubleFunction;
 
 import ai.timefold.solver.core.impl.heuristic.move.Move;
@@ -19,12 +20,22 @@ final class BiasedRandomUnionMoveIterator<Solution_> extends SelectionIterator<M
     private final Map<Iterator<Move<Solution_>>, ProbabilityItem<Solution_>> probabilityItemMap;
     private final NavigableMap<Double, Iterator<Move<Solution_>>> moveIteratorMap;
     private final Random workingRandom;
+    private final BiConsumer<MoveSelector<Solution_>, Move<Solution_>> selectionListener;
     private double probabilityWeightTotal;
     private boolean stale;
 
     public BiasedRandomUnionMoveIterator(List<MoveSelector<Solution_>> childMoveSelectorList,
             ToDoubleFunction<MoveSelector<Solution_>> probabilityWeightFunction,
             Random workingRandom) {
+        this(childMoveSelectorList, probabilityWeightFunction, workingRandom, null);
+    }
+
+    /**
+     * @param selectionListener sometimes null, notified of every selected move and the child that selected it
+     */
+    public BiasedRandomUnionMoveIterator(List<MoveSelector<Solution_>> childMoveSelectorList,
+            ToDoubleFunction<MoveSelector<Solution_>> probabilityWeightFunction,
+            Random workingRandom, BiConsumer<MoveSelector<Solution_>, Move<Solution_>> selectionListener) {
         this.probabilityItemMap = new LinkedHashMap<>(childMoveSelectorList.size());
         for (MoveSelector<Solution_> moveSelector : childMoveSelectorList) {
             Iterator<Move<Solution_>> moveIterator = moveSelector.iterator();
@@ -37,6 +48,7 @@ final class BiasedRandomUnionMoveIterator<Solution_> extends SelectionIterator<M
         this.moveIteratorMap = new TreeMap<>();
         this.stale = true;
         this.workingRandom = workingRandom;
+        this.selectionListener = selectionListener;
     }
 
     @Override
@@ -57,6 +69,9 @@ final class BiasedRandomUnionMoveIterator<Solution_> extends SelectionIterator<M
         // The entry is never null because randomOffset < probabilityWeightTotal
         Iterator<Move<Solution_>> moveIterator = entry.getValue();
         Move<Solution_> next = moveIterator.next();
+        if (selectionListener != null) {
+            selectionListener.accept(probabilityItemMap.get(moveIterator).moveSelector, next);
+        }
         if (!moveIterator.hasNext()) {
             stale = true;
         }
@@ -2,6 +2,7 @@ package ai.timefold.solver.core.impl.heuristic.selector.move.composite;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -9,6 +10,7 @@ import ai.timefold.solver.core.api.score.director.ScoreDirector;
 import ai.timefold.solver.core.impl.heuristic.move.Move;
 import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.SelectionProbabilityWeightFactory;
 import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
+import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
 import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
 
 /**
@@ -23,6 +25,8 @@ import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
 public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution_> {
 
     protected final SelectionProbabilityWeightFactory<Solution_, MoveSelector<Solution_>> selectorProbabilityWeightFactory;
+    // Not null if the selectorProbabilityWeightFactory needs to learn from the selected moves and the steps
+    private final AdaptiveSelectorProbabilityWeightFactory<Solution_> adaptiveSelectorProbabilityWeightFactory;
 
     protected ScoreDirector<Solution_> scoreDirector;
 
@@ -34,6 +38,10 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
             SelectionProbabilityWeightFactory<Solution_, MoveSelector<Solution_>> selectorProbabilityWeightFactory) {
         super(childMoveSelectorList, randomSelection);
         this.selectorProbabilityWeightFactory = selectorProbabilityWeightFactory;
+        this.adaptiveSelectorProbabilityWeightFactory =
+                selectorProbabilityWeightFactory instanceof AdaptiveSelectorProbabilityWeightFactory<Solution_> adaptiveFactory
+                        ? adaptiveFactory
+                        : null;
         if (!randomSelection) {
             if (selectorProbabilityWeightFactory != null) {
                 throw new IllegalArgumentException("The selector (" + this
@@ -44,15 +52,29 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
         }
     }
 
+    @Override
+    public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        if (adaptiveSelectorProbabilityWeightFactory != null) {
+            adaptiveSelectorProbabilityWeightFactory.phaseStarted();
+        }
+    }
+
     @Override
     public void stepStarted(AbstractStepScope<Solution_> stepScope) {
         scoreDirector = stepScope.getScoreDirector();
         super.stepStarted(stepScope);
+        if (adaptiveSelectorProbabilityWeightFactory != null) {
+            adaptiveSelectorProbabilityWeightFactory.stepStarted();
+        }
     }
 
     @Override
     public void stepEnded(AbstractStepScope<Solution_> stepScope) {
         super.stepEnded(stepScope);
+        if (adaptiveSelectorProbabilityWeightFactory != null) {
+            adaptiveSelectorProbabilityWeightFactory.stepEnded(stepScope);
+        }
         scoreDirector = null;
     }
 
@@ -97,6 +119,9 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
         } else if (selectorProbabilityWeightFactory == null) {
             return new UniformRandomUnionMoveIterator<>(childMoveSelectorList, workingRandom);
         } else {
+            BiConsumer<MoveSelector<Solution_>, Move<Solution_>> selectionListener =
+                    adaptiveSelectorProbabilityWeightFactory == null ? null
+                            : adaptiveSelectorProbabilityWeightFactory::moveSelected;
             return new BiasedRandomUnionMoveIterator<>(childMoveSelectorList,
                     moveSelector -> {
                         double weight = selectorProbabilityWeightFactory.createProbabilityWeight(scoreDirector, moveSelector);
@@ -106,7 +131,7 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
                                             + ") returned a negative probabilityWeight (" + weight + ").");
                         }
                         return weight;
-                    }, workingRandom);
+                    }, workingRandom, selectionListener);
         }
     }
 
@@ -4,6 +4,7 @@ import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import ai.timefold.solver.core.config.heuristic.selector.common.SelectionCacheType;
 import ai.timefold.solver.core.config.heuristic.selector.move.MoveSelectorConfig;
@@ -53,7 +54,29 @@ public class UnionMoveSelectorFactory<Solution_>
                 buildInnerMoveSelectors(moveSelectorConfigList, configPolicy, minimumCacheType, randomSelection);
 
         SelectionProbabilityWeightFactory<Solution_, MoveSelector<Solution_>> selectorProbabilityWeightFactory;
-        if (config.getSelectorProbabilityWeightFactoryClass() != null) {
+        if (Objects.requireNonNullElse(config.getAdaptiveSelection(), false)) {
+            if (!randomSelection) {
+                throw new IllegalArgumentException("The moveSelectorConfig (" + config
+                        + ") with adaptiveSelection (" + config.getAdaptiveSelection()
+                        + ") has non-random randomSelection (" + randomSelection + ").");
+            }
+            if (config.getSelectorProbabilityWeightFactoryClass() != null) {
+                throw new IllegalArgumentException("The moveSelectorConfig (" + config
+                        + ") with adaptiveSelection (" + config.getAdaptiveSelection()
+                        + ") can not also have a selectorProbabilityWeightFactoryClass ("
+                        + config.getSelectorProbabilityWeightFactoryClass() + ").");
+            }
+            for (var innerMoveSelectorConfig : moveSelectorConfigList) {
+                if (innerMoveSelectorConfig.getFixedProbabilityWeight() != null) {
+                    throw new IllegalArgumentException("The moveSelectorConfig (" + config
+                            + ") with adaptiveSelection (" + config.getAdaptiveSelection()
+                            + ") can not have a child moveSelectorConfig (" + innerMoveSelectorConfig
+                            + ") with a fixedProbabilityWeight (" + innerMoveSelectorConfig.getFixedProbabilityWeight()
+                            + ").");
+                }
+            }
+            selectorProbabilityWeightFactory = new AdaptiveSelectorProbabilityWeightFactory<>(moveSelectorList);
+        } else if (config.getSelectorProbabilityWeightFactoryClass() != null) {
             if (!randomSelection) {
                 throw new IllegalArgumentException("The moveSelectorConfig (" + config
                         + ") with selectorProbabilityWeightFactoryClass ("
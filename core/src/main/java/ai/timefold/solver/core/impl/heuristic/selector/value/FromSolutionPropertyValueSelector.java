@@ -99,6 +99,14 @@ public final class FromSolutionPropertyValueSelector<Solution_>
     // Worker methods
     // ************************************************************************
 
+    /**
+     * @return null outside of a phase
+     */
+    public ValueRange<Object> getCachedValueRange() {
+        checkCachedEntityListIsDirty();
+        return cachedValueRange;
+    }
+
     @Override
     public boolean isCountable() {
         return valueRangeDescriptor.isCountable();
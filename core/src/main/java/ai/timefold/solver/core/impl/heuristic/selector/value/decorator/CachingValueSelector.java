@@ -4,11 +4,14 @@ import java.util.Iterator;
 import java.util.Objects;
 
 import ai.timefold.solver.core.config.heuristic.selector.common.SelectionCacheType;
+import ai.timefold.solver.core.impl.domain.valuerange.buildin.indexed.IndexedValueRange;
 import ai.timefold.solver.core.impl.heuristic.selector.common.iterator.CachedListRandomIterator;
 import ai.timefold.solver.core.impl.heuristic.selector.entity.decorator.CachingEntitySelector;
 import ai.timefold.solver.core.impl.heuristic.selector.move.decorator.CachingMoveSelector;
 import ai.timefold.solver.core.impl.heuristic.selector.value.EntityIndependentValueSelector;
+import ai.timefold.solver.core.impl.heuristic.selector.value.FromSolutionPropertyValueSelector;
 import ai.timefold.solver.core.impl.heuristic.selector.value.ValueSelector;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
 
 /**
  * A {@link ValueSelector} that caches the result of its child {@link ValueSelector}.
@@ -31,6 +34,19 @@ public final class CachingValueSelector<Solution_>
     // Worker methods
     // ************************************************************************
 
+    @Override
+    public void constructCache(SolverScope<Solution_> solverScope) {
+        if (childValueSelector instanceof FromSolutionPropertyValueSelector<Solution_> fromSolutionPropertyValueSelector
+                && fromSolutionPropertyValueSelector.getCachedValueRange() instanceof IndexedValueRange<Object> valueRange) {
+            // The indexed value range resolves its values on demand, so copying them would only cost memory.
+            cachedValueList = valueRange.asList();
+            logger.trace("    Created cachedValueList: size ({}), valueSelector ({}).",
+                    cachedValueList.size(), this);
+        } else {
+            super.constructCache(solverScope);
+        }
+    }
+
     @Override
     public boolean isNeverEnding() {
         // CachedListRandomIterator is neverEnding
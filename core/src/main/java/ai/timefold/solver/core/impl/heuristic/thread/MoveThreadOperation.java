@@ -0,0 +1,56 @@
+package ai.timefold.solver.core.impl.heuristic.thread;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.move.Move;
+import ai.timefold.solver.core.api.score.Score;
+
+/**
+ * An instruction from the solver thread to a {@link MoveThreadRunner}.
+ * All operations are taken from a single queue shared by every move thread,
+ * so operations are processed in the order they were added.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public sealed interface MoveThreadOperation<Solution_> {
+
+    /**
+     * Evaluates a single move on the move thread's own working solution.
+     *
+     * @param stepIndex the step the move was selected for
+     * @param moveIndex the index of the move within that step
+     * @param move never null, belongs to the solver thread's working solution and needs to be rebased
+     * @param evaluateNonDoable true if the move is evaluated even if it's not doable,
+     *        because the solver thread already decided it needs to be evaluated
+     */
+    record MoveEvaluationOperation<Solution_>(int stepIndex, int moveIndex, Move<Solution_> move,
+            boolean evaluateNonDoable)
+            implements MoveThreadOperation<Solution_> {
+
+        public MoveEvaluationOperation(int stepIndex, int moveIndex, Move<Solution_> move) {
+            this(stepIndex, moveIndex, move, false);
+        }
+
+    }
+
+    /**
+     * Applies a step on the move thread's own working solution.
+     * Every move thread needs to take exactly one such operation,
+     * so it must be added once per move thread.
+     *
+     * @param stepIndex the index of the step that follows this step
+     * @param step never null, belongs to the solver thread's working solution and needs to be rebased
+     * @param score never null, the score after the step, as calculated by the solver thread
+     */
+    record ApplyStepOperation<Solution_>(int stepIndex, Move<Solution_> step, Score<?> score)
+            implements MoveThreadOperation<Solution_> {
+
+    }
+
+    /**
+     * Stops the move thread; must be added once per move thread.
+     */
+    record DestroyOperation<Solution_>() implements MoveThreadOperation<Solution_> {
+
+    }
+
+}
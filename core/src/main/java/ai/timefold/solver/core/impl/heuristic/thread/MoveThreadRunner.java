@@ -0,0 +1,142 @@
+package ai.timefold.solver.core.impl.heuristic.thread;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.atomic.AtomicLong;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.impl.heuristic.move.LegacyMoveAdapter;
+import ai.timefold.solver.core.impl.heuristic.thread.MoveThreadOperation.ApplyStepOperation;
+import ai.timefold.solver.core.impl.heuristic.thread.MoveThreadOperation.DestroyOperation;
+import ai.timefold.solver.core.impl.heuristic.thread.MoveThreadOperation.MoveEvaluationOperation;
+import ai.timefold.solver.core.impl.phase.scope.SolverLifecyclePoint;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Evaluates moves on its own clone of the working solution, with its own score director.
+ * The solver thread hands out {@link MoveThreadOperation}s,
+ * and this runner reports the evaluated moves to an {@link OrderByMoveIndexBlockingQueue}.
+ * Moves and steps are {@link ai.timefold.solver.core.api.move.Move#rebase(ai.timefold.solver.core.api.move.Rebaser)
+ * rebased} from the solver thread's working solution to this runner's working solution.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @param <Score_> the score type to go with the solution
+ */
+public final class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implements Runnable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(MoveThreadRunner.class);
+
+    private final String logIndentation;
+    private final int moveThreadIndex;
+    private final int phaseIndex;
+    private final BlockingQueue<MoveThreadOperation<Solution_>> operationQueue;
+    private final OrderByMoveIndexBlockingQueue<Solution_> resultQueue;
+    private final CyclicBarrier moveThreadBarrier;
+    private final InnerScoreDirector<Solution_, Score_> scoreDirector;
+    private final boolean assertMoveScoreFromScratch;
+    private final boolean assertExpectedUndoMoveScore;
+    private final boolean assertStepScoreFromScratch;
+
+    private final AtomicLong calculationCount = new AtomicLong(0L);
+
+    /**
+     * @param scoreDirector never null, created with
+     *        {@link InnerScoreDirector#createChildThreadScoreDirector(ai.timefold.solver.core.impl.solver.thread.ChildThreadType)}
+     *        and only used by this runner from now on
+     */
+    public MoveThreadRunner(String logIndentation, int moveThreadIndex, int phaseIndex,
+            BlockingQueue<MoveThreadOperation<Solution_>> operationQueue,
+            OrderByMoveIndexBlockingQueue<Solution_> resultQueue, CyclicBarrier moveThreadBarrier,
+            InnerScoreDirector<Solution_, Score_> scoreDirector, boolean assertMoveScoreFromScratch,
+            boolean assertExpectedUndoMoveScore, boolean assertStepScoreFromScratch) {
+        this.logIndentation = logIndentation;
+        this.moveThreadIndex = moveThreadIndex;
+        this.phaseIndex = phaseIndex;
+        this.operationQueue = operationQueue;
+        this.resultQueue = resultQueue;
+        this.moveThreadBarrier = moveThreadBarrier;
+        this.scoreDirector = scoreDirector;
+        this.assertMoveScoreFromScratch = assertMoveScoreFromScratch;
+        this.assertExpectedUndoMoveScore = assertExpectedUndoMoveScore;
+        this.assertStepScoreFromScratch = assertStepScoreFromScratch;
+    }
+
+    @Override
+    public void run() {
+        try {
+            var moveDirector = scoreDirector.getMoveDirector();
+            var lastStepScore = scoreDirector.calculateScore();
+            LOGGER.trace("{}            Move thread ({}) started with score ({}).",
+                    logIndentation, moveThreadIndex, lastStepScore);
+            while (true) {
+                var operation = operationQueue.take();
+                if (operation instanceof MoveEvaluationOperation<Solution_> moveEvaluationOperation) {
+                    var stepIndex = moveEvaluationOperation.stepIndex();
+                    var moveIndex = moveEvaluationOperation.moveIndex();
+                    var move = moveEvaluationOperation.move().rebase(moveDirector);
+                    if (!moveEvaluationOperation.evaluateNonDoable() && !LegacyMoveAdapter.isDoable(moveDirector, move)) {
+                        resultQueue.addUndoableMove(moveThreadIndex, stepIndex, moveIndex,
+                                moveEvaluationOperation.move());
+                        continue;
+                    }
+                    scoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(true);
+                    var score = scoreDirector.doAndProcessMove(move, assertMoveScoreFromScratch);
+                    if (assertExpectedUndoMoveScore) {
+                        scoreDirector.assertExpectedUndoMoveScore(move, lastStepScore,
+                                SolverLifecyclePoint.of(moveThreadIndex, phaseIndex, stepIndex, moveIndex));
+                    }
+                    scoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(false);
+                    calculationCount.lazySet(scoreDirector.getCalculationCount());
+                    LOGGER.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), score ({}).",
+                            logIndentation, moveThreadIndex, stepIndex, moveIndex, score);
+                    resultQueue.addMove(moveThreadIndex, stepIndex, moveIndex, moveEvaluationOperation.move(), score);
+                } else if (operation instanceof ApplyStepOperation<Solution_> applyStepOperation) {
+                    var step = applyStepOperation.step().rebase(moveDirector);
+                    var score = (Score_) applyStepOperation.score();
+                    step.execute(moveDirector);
+                    // There is no need to recalculate the score, but we still need to set it.
+                    scoreDirector.getSolutionDescriptor().setScore(scoreDirector.getWorkingSolution(), score);
+                    if (assertStepScoreFromScratch) {
+                        scoreDirector.assertPredictedScoreFromScratch(score, step);
+                    }
+                    lastStepScore = score;
+                    LOGGER.trace("{}            Move thread ({}) step: step index ({}), score ({}).",
+                            logIndentation, moveThreadIndex, applyStepOperation.stepIndex(), lastStepScore);
+                    // Guarantees that every move thread takes exactly one ApplyStepOperation per step.
+                    moveThreadBarrier.await();
+                } else if (operation instanceof DestroyOperation<Solution_>) {
+                    calculationCount.set(scoreDirector.getCalculationCount());
+                    break;
+                }
+            }
+        } catch (InterruptedException | BrokenBarrierException e) {
+            // The solver thread stops the move threads this way when it failed or got interrupted.
+            LOGGER.debug("{}            Move thread ({}) stopped due to ({}).",
+                    logIndentation, moveThreadIndex, e.getClass().getSimpleName());
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException | Error throwable) {
+            // Any Exception or even Error that happens here (on a move thread) must be stored
+            // in the resultQueue in order to be propagated to the solver thread.
+            LOGGER.trace("{}            Move thread ({}) exception that will be propagated to the solver thread.",
+                    logIndentation, moveThreadIndex, throwable);
+            resultQueue.addExceptionThrown(moveThreadIndex, throwable);
+        } finally {
+            scoreDirector.close();
+        }
+    }
+
+    /**
+     * This method is thread-safe.
+     *
+     * @return at least 0, the number of score calculations done on this move thread so far
+     */
+    public long getCalculationCount() {
+        return calculationCount.get();
+    }
+
+}
@@ -0,0 +1,171 @@
+package ai.timefold.solver.core.impl.heuristic.thread;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.move.Move;
+import ai.timefold.solver.core.api.score.Score;
+
+/**
+ * Receives the results of the move threads in any order,
+ * but hands them to the solver thread in the order of their moveIndex.
+ * That makes multithreaded solving reproducible,
+ * because the acceptor and the forager see the moves in the same order as they would single-threaded.
+ * <p>
+ * Results of a previous step are discarded.
+ * Exceptions thrown by a move thread are relayed to the solver thread on the next {@link #take()}.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public final class OrderByMoveIndexBlockingQueue<Solution_> {
+
+    private final BlockingQueue<MoveResult<Solution_>> innerQueue;
+    private final Map<Integer, MoveResult<Solution_>> backlog;
+
+    private int filterStepIndex = Integer.MIN_VALUE;
+    private int nextMoveIndex = Integer.MIN_VALUE;
+
+    public OrderByMoveIndexBlockingQueue(int capacity) {
+        innerQueue = new ArrayBlockingQueue<>(capacity);
+        backlog = new HashMap<>(capacity);
+    }
+
+    /**
+     * Not thread-safe. Can only be called from the solver thread.
+     *
+     * @param stepIndex at least 0
+     */
+    public void startNextStep(int stepIndex) {
+        synchronized (this) {
+            if (filterStepIndex >= stepIndex) {
+                throw new IllegalStateException("The old filterStepIndex (" + filterStepIndex
+                        + ") must be less than the stepIndex (" + stepIndex + ")");
+            }
+            filterStepIndex = stepIndex;
+            var exceptionResult = innerQueue.stream().filter(MoveResult::hasThrownException)
+                    .findFirst().orElse(null);
+            if (exceptionResult != null) {
+                throw new IllegalStateException("The move thread with moveThreadIndex ("
+                        + exceptionResult.moveThreadIndex() + ") has thrown an exception."
+                        + " Relayed here in the parent thread.",
+                        exceptionResult.throwable());
+            }
+            innerQueue.clear();
+        }
+        nextMoveIndex = 0;
+        backlog.clear();
+    }
+
+    /**
+     * This method is thread-safe. It can be called from any move thread.
+     *
+     * @param moveThreadIndex {@code 0 <= moveThreadIndex < moveThreadCount}
+     * @param stepIndex at least 0
+     * @param moveIndex at least 0
+     * @param move never null
+     * @see BlockingQueue#add(Object)
+     */
+    public void addUndoableMove(int moveThreadIndex, int stepIndex, int moveIndex, Move<Solution_> move) {
+        var result = new MoveResult<>(moveThreadIndex, stepIndex, moveIndex, move, false, null, null);
+        synchronized (this) {
+            if (result.stepIndex() != filterStepIndex) {
+                // Discard element from previous step
+                return;
+            }
+            innerQueue.add(result);
+        }
+    }
+
+    /**
+     * This method is thread-safe. It can be called from any move thread.
+     *
+     * @param moveThreadIndex {@code 0 <= moveThreadIndex < moveThreadCount}
+     * @param stepIndex at least 0
+     * @param moveIndex at least 0
+     * @param move never null
+     * @param score never null
+     * @see BlockingQueue#add(Object)
+     */
+    public void addMove(int moveThreadIndex, int stepIndex, int moveIndex, Move<Solution_> move, Score<?> score) {
+        var result = new MoveResult<>(moveThreadIndex, stepIndex, moveIndex, move, true, score, null);
+        synchronized (this) {
+            if (result.stepIndex() != filterStepIndex) {
+                // Discard element from previous step
+                return;
+            }
+            innerQueue.add(result);
+        }
+    }
+
+    /**
+     * This method is thread-safe. It can be called from any move thread.
+     * Previous results (that haven't been consumed yet), will still be returned during iteration
+     * before the iteration throws an exception,
+     * unless there's a lower moveIndex that isn't in the queue yet.
+     *
+     * @param moveThreadIndex {@code 0 <= moveThreadIndex < moveThreadCount}
+     * @param throwable never null
+     */
+    public void addExceptionThrown(int moveThreadIndex, Throwable throwable) {
+        var result = new MoveResult<Solution_>(moveThreadIndex, -1, -1, null, false, null, throwable);
+        synchronized (this) {
+            innerQueue.add(result);
+        }
+    }
+
+    /**
+     * Not thread-safe. Can only be called from the solver thread.
+     *
+     * @return never null
+     * @throws InterruptedException if interrupted
+     * @see BlockingQueue#take()
+     */
+    public MoveResult<Solution_> take() throws InterruptedException {
+        var moveIndex = nextMoveIndex;
+        nextMoveIndex++;
+        if (!backlog.isEmpty()) {
+            var result = backlog.remove(moveIndex);
+            if (result != null) {
+                return result;
+            }
+        }
+        while (true) {
+            var result = innerQueue.take();
+            // If 2 exceptions are added from different threads concurrently, either one could end up first.
+            // This is a known deviation from 100% reproducibility, that never occurs in a success scenario.
+            if (result.hasThrownException()) {
+                throw new IllegalStateException("The move thread with moveThreadIndex ("
+                        + result.moveThreadIndex() + ") has thrown an exception."
+                        + " Relayed here in the parent thread.",
+                        result.throwable());
+            }
+            if (result.moveIndex() == moveIndex) {
+                return result;
+            } else {
+                backlog.put(result.moveIndex(), result);
+            }
+        }
+    }
+
+    /**
+     * @param moveThreadIndex the move thread which evaluated the move
+     * @param stepIndex the step the move was selected for, or -1 if an exception was thrown
+     * @param moveIndex the index of the move within the step, or -1 if an exception was thrown
+     * @param move null if an exception was thrown
+     * @param moveDoable false if the move was not doable or an exception was thrown
+     * @param score null if the move was not doable or an exception was thrown
+     * @param throwable null unless an exception was thrown
+     */
+    public record MoveResult<Solution_>(int moveThreadIndex, int stepIndex, int moveIndex, Move<Solution_> move,
+            boolean moveDoable, Score<?> score, Throwable throwable) {
+
+        private boolean hasThrownException() {
+            return throwable != null;
+        }
+
+    }
+
+}
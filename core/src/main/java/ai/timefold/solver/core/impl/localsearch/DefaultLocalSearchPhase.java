@@ -38,6 +38,11 @@ public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
     protected final Map<Tags, List<AtomicReference<Number>>> constraintMatchTotalStepScoreMap = new ConcurrentHashMap<>();
     protected final Map<Tags, List<AtomicReference<Number>>> constraintMatchTotalBestScoreMap = new ConcurrentHashMap<>();
 
+    /**
+     * True while this phase applies the problem changes between its steps.
+     */
+    private boolean problemChangeStreaming = false;
+
     private DefaultLocalSearchPhase(Builder<Solution_> builder) {
         super(builder);
         decider = builder.decider;
@@ -93,6 +98,9 @@ public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
             doStep(stepScope);
             stepEnded(stepScope);
             phaseScope.setLastCompletedStepScope(stepScope);
+            if (problemChangeStreaming) {
+                applyProblemChangeBatch(stepScope);
+            }
         }
         phaseEnded(phaseScope);
     }
@@ -104,6 +112,22 @@ public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
         solver.getBestSolutionRecaller().processWorkingSolutionDuringStep(stepScope);
     }
 
+    private void applyProblemChangeBatch(LocalSearchStepScope<Solution_> stepScope) {
+        var phaseScope = stepScope.getPhaseScope();
+        var problemRevision = phaseScope.getScoreDirector().getWorkingProblemRevision();
+        var score = solver.applyProblemChangeBatch(phaseScope.getSolverScope());
+        // An uninitialized score causes a solver restart, which terminates this phase.
+        if (score != null && score.isSolutionInitialized()) {
+            // The next moves are compared to the changed working solution, which is also the new best solution.
+            stepScope.setScore(score);
+            phaseScope.setBestSolutionStepIndex(stepScope.getStepIndex());
+            // Changes of planning variables only don't outdate the move selector caches.
+            if (phaseScope.getScoreDirector().getWorkingProblemRevision() != problemRevision) {
+                decider.problemChangesApplied(phaseScope);
+            }
+        }
+    }
+
     @Override
     public void solvingStarted(SolverScope<Solution_> solverScope) {
         super.solvingStarted(solverScope);
@@ -116,6 +140,7 @@ public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
         decider.phaseStarted(phaseScope);
         // TODO maybe this restriction should be lifted to allow LocalSearch to initialize a solution too?
         assertWorkingSolutionInitialized(phaseScope);
+        problemChangeStreaming = decider.isProblemChangeStreamingSupported() && solver.startProblemChangeStreaming();
     }
 
     @Override
@@ -192,6 +217,10 @@ public class DefaultLocalSearchPhase<Solution_> extends AbstractPhase<Solution_>
     @Override
     public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseEnded(phaseScope);
+        if (problemChangeStreaming) {
+            solver.endProblemChangeStreaming();
+            problemChangeStreaming = false;
+        }
         decider.phaseEnded(phaseScope);
         phaseScope.endingNow();
         logger.info("{}Local Search phase ({}) ended: time spent ({}), best score ({}),"
@@ -29,6 +29,7 @@ import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
 import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelectorFactory;
 import ai.timefold.solver.core.impl.heuristic.selector.move.composite.UnionMoveSelectorFactory;
 import ai.timefold.solver.core.impl.localsearch.decider.LocalSearchDecider;
+import ai.timefold.solver.core.impl.localsearch.decider.MultiThreadedLocalSearchDecider;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.Acceptor;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.AcceptorFactory;
 import ai.timefold.solver.core.impl.localsearch.decider.forager.LocalSearchForager;
@@ -36,6 +37,7 @@ import ai.timefold.solver.core.impl.localsearch.decider.forager.LocalSearchForag
 import ai.timefold.solver.core.impl.phase.AbstractPhaseFactory;
 import ai.timefold.solver.core.impl.solver.recaller.BestSolutionRecaller;
 import ai.timefold.solver.core.impl.solver.termination.Termination;
+import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
 
 public class DefaultLocalSearchPhaseFactory<Solution_> extends AbstractPhaseFactory<Solution_, LocalSearchPhaseConfig> {
 
@@ -80,10 +82,13 @@ public class DefaultLocalSearchPhaseFactory<Solution_> extends AbstractPhaseFact
         LocalSearchDecider<Solution_> decider;
         if (moveThreadCount == null) {
             decider = new LocalSearchDecider<>(configPolicy.getLogIndentation(), termination, moveSelector, acceptor, forager);
-        } else {
+        } else if (TimefoldSolverEnterpriseService.isAvailable()) {
             decider = TimefoldSolverEnterpriseService.loadOrFail(TimefoldSolverEnterpriseService.Feature.MULTITHREADED_SOLVING)
                     .buildLocalSearch(moveThreadCount, termination, moveSelector, acceptor, forager, environmentMode,
                             configPolicy);
+        } else {
+            decider = buildMultiThreadedDecider(configPolicy, termination, moveSelector, acceptor, forager,
+                    moveThreadCount);
         }
         if (environmentMode.isNonIntrusiveFullAsserted()) {
             decider.setAssertMoveScoreFromScratch(true);
@@ -94,6 +99,26 @@ public class DefaultLocalSearchPhaseFactory<Solution_> extends AbstractPhaseFact
         return decider;
     }
 
+    private MultiThreadedLocalSearchDecider<Solution_> buildMultiThreadedDecider(
+            HeuristicConfigPolicy<Solution_> configPolicy, Termination<Solution_> termination,
+            MoveSelector<Solution_> moveSelector, Acceptor<Solution_> acceptor, LocalSearchForager<Solution_> forager,
+            int moveThreadCount) {
+        Integer moveThreadBufferSize = configPolicy.getMoveThreadBufferSize();
+        if (moveThreadBufferSize == null) {
+            // If it's too low, move threads will need to wait on the buffer, which hurts performance.
+            // If it's too high, more moves are selected that aren't foraged.
+            moveThreadBufferSize = 10;
+        }
+        var selectedMoveBufferSize = moveThreadCount * moveThreadBufferSize;
+        var decider = new MultiThreadedLocalSearchDecider<>(configPolicy.getLogIndentation(), termination, moveSelector,
+                acceptor, forager, configPolicy.buildThreadFactory(ChildThreadType.MOVE_THREAD), moveThreadCount,
+                selectedMoveBufferSize);
+        if (configPolicy.getEnvironmentMode().isNonIntrusiveFullAsserted()) {
+            decider.setAssertStepScoreFromScratch(true);
+        }
+        return decider;
+    }
+
     protected Acceptor<Solution_> buildAcceptor(HeuristicConfigPolicy<Solution_> configPolicy) {
         LocalSearchAcceptorConfig acceptorConfig_;
         if (phaseConfig.getAcceptorConfig() != null) {
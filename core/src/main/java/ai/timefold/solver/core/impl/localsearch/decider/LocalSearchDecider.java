@@ -159,6 +159,28 @@ public class LocalSearchDecider<Solution_> {
         forager.phaseEnded(phaseScope);
     }
 
+    /**
+     * @return true if the working solution may change between two steps, through streamed problem changes
+     */
+    public boolean isProblemChangeStreamingSupported() {
+        return true;
+    }
+
+    /**
+     * Called after problem changes changed the problem of the working solution between two steps,
+     * for example by adding or removing an entity or a problem fact.
+     * Rebuilds the move selector caches, including the solver level ones,
+     * because they may still hold removed entities or values, miss added ones or be sorted by outdated properties.
+     * The acceptor and the forager keep their state, because the working solution is still the same instance.
+     */
+    public void problemChangesApplied(LocalSearchPhaseScope<Solution_> phaseScope) {
+        var solverScope = phaseScope.getSolverScope();
+        moveSelector.phaseEnded(phaseScope);
+        moveSelector.solvingEnded(solverScope);
+        moveSelector.solvingStarted(solverScope);
+        moveSelector.phaseStarted(phaseScope);
+    }
+
     public void solvingEnded(SolverScope<Solution_> solverScope) {
         moveSelector.solvingEnded(solverScope);
         acceptor.solvingEnded(solverScope);
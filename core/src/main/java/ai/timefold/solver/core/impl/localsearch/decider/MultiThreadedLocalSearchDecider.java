@@ -0,0 +1,215 @@
+package ai.timefold.solver.core.impl.localsearch.decider;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.impl.heuristic.move.LegacyMoveAdapter;
+import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
+import ai.timefold.solver.core.impl.heuristic.thread.MoveThreadOperation;
+import ai.timefold.solver.core.impl.heuristic.thread.MoveThreadOperation.ApplyStepOperation;
+import ai.timefold.solver.core.impl.heuristic.thread.MoveThreadOperation.DestroyOperation;
+import ai.timefold.solver.core.impl.heuristic.thread.MoveThreadOperation.MoveEvaluationOperation;
+import ai.timefold.solver.core.impl.heuristic.thread.MoveThreadRunner;
+import ai.timefold.solver.core.impl.heuristic.thread.OrderByMoveIndexBlockingQueue;
+import ai.timefold.solver.core.impl.localsearch.decider.acceptor.Acceptor;
+import ai.timefold.solver.core.impl.localsearch.decider.forager.LocalSearchForager;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.impl.solver.termination.Termination;
+import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
+import ai.timefold.solver.core.impl.solver.thread.ThreadUtils;
+
+/**
+ * Evaluates the selected moves on multiple move threads.
+ * Every move thread has its own clone of the working solution and its own score director,
+ * created at the start of every phase.
+ * The solver thread selects the moves and hands them to the move threads,
+ * which rebase and evaluate them in parallel.
+ * The results are passed to the acceptor and the forager in the order of their moveIndex,
+ * so the solver picks the same steps as with a single thread.
+ * <p>
+ * Once a step is picked, every move thread applies it too,
+ * while the solver thread does the step on the original working solution.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecider<Solution_> {
+
+    protected final ThreadFactory threadFactory;
+    protected final int moveThreadCount;
+    protected final int selectedMoveBufferSize;
+
+    protected boolean assertStepScoreFromScratch = false;
+
+    protected BlockingQueue<MoveThreadOperation<Solution_>> operationQueue;
+    protected OrderByMoveIndexBlockingQueue<Solution_> resultQueue;
+    protected CyclicBarrier moveThreadBarrier;
+    protected ExecutorService executor;
+    protected List<MoveThreadRunner<Solution_, ?>> moveThreadRunnerList;
+
+    public MultiThreadedLocalSearchDecider(String logIndentation, Termination<Solution_> termination,
+            MoveSelector<Solution_> moveSelector, Acceptor<Solution_> acceptor, LocalSearchForager<Solution_> forager,
+            ThreadFactory threadFactory, int moveThreadCount, int selectedMoveBufferSize) {
+        super(logIndentation, termination, moveSelector, acceptor, forager);
+        this.threadFactory = threadFactory;
+        this.moveThreadCount = moveThreadCount;
+        this.selectedMoveBufferSize = selectedMoveBufferSize;
+    }
+
+    public void setAssertStepScoreFromScratch(boolean assertStepScoreFromScratch) {
+        this.assertStepScoreFromScratch = assertStepScoreFromScratch;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseStarted(phaseScope);
+        // Capacity: MoveEvaluationOperations + ApplyStepOperations + DestroyOperations
+        operationQueue = new ArrayBlockingQueue<>(selectedMoveBufferSize + moveThreadCount + moveThreadCount);
+        // Capacity: evaluated moves + exceptions
+        resultQueue = new OrderByMoveIndexBlockingQueue<>(selectedMoveBufferSize + moveThreadCount);
+        moveThreadBarrier = new CyclicBarrier(moveThreadCount);
+        InnerScoreDirector<Solution_, ?> scoreDirector = phaseScope.getScoreDirector();
+        executor = Executors.newFixedThreadPool(moveThreadCount, threadFactory);
+        moveThreadRunnerList = new ArrayList<>(moveThreadCount);
+        for (var moveThreadIndex = 0; moveThreadIndex < moveThreadCount; moveThreadIndex++) {
+            // Cloned on the solver thread, so the working solution is not read while it might change.
+            var moveThreadRunner = buildMoveThreadRunner(phaseScope, moveThreadIndex,
+                    scoreDirector.createChildThreadScoreDirector(ChildThreadType.MOVE_THREAD));
+            moveThreadRunnerList.add(moveThreadRunner);
+            executor.submit(moveThreadRunner);
+        }
+    }
+
+    private <Score_ extends Score<Score_>> MoveThreadRunner<Solution_, Score_> buildMoveThreadRunner(
+            LocalSearchPhaseScope<Solution_> phaseScope, int moveThreadIndex,
+            InnerScoreDirector<Solution_, Score_> childScoreDirector) {
+        return new MoveThreadRunner<>(logIndentation, moveThreadIndex, phaseScope.getPhaseIndex(), operationQueue,
+                resultQueue, moveThreadBarrier, childScoreDirector, assertMoveScoreFromScratch,
+                assertExpectedUndoMoveScore, assertStepScoreFromScratch);
+    }
+
+    @Override
+    public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        // Tell the move thread runners to stop
+        // Don't clear the operationsQueue to avoid moveThreadBarrier deadlock:
+        // The MoveEvaluationOperations are already cleared and the new ApplyStepOperation isn't added yet.
+        DestroyOperation<Solution_> destroyOperation = new DestroyOperation<>();
+        for (var i = 0; i < moveThreadCount; i++) {
+            operationQueue.add(destroyOperation);
+        }
+        shutdownMoveThreads();
+        var childThreadsScoreCalculationCount = 0L;
+        for (var moveThreadRunner : moveThreadRunnerList) {
+            childThreadsScoreCalculationCount += moveThreadRunner.getCalculationCount();
+        }
+        phaseScope.addChildThreadsScoreCalculationCount(childThreadsScoreCalculationCount);
+        operationQueue = null;
+        resultQueue = null;
+        moveThreadRunnerList = null;
+    }
+
+    @Override
+    public boolean isProblemChangeStreamingSupported() {
+        // The move threads replay the steps on their own clone of the working solution, not the problem changes.
+        return false;
+    }
+
+    @Override
+    public void solvingError(SolverScope<Solution_> solverScope, Exception exception) {
+        super.solvingError(solverScope, exception);
+        shutdownMoveThreads();
+    }
+
+    protected void shutdownMoveThreads() {
+        if (executor != null && !executor.isShutdown()) {
+            ThreadUtils.shutdownAwaitOrKill(executor, logIndentation, "Multi-threaded Local Search");
+        }
+    }
+
+    @Override
+    public void decideNextStep(LocalSearchStepScope<Solution_> stepScope) {
+        var stepIndex = stepScope.getStepIndex();
+        resultQueue.startNextStep(stepIndex);
+
+        var selectMoveIndex = 0;
+        var movesInPlay = 0;
+        var moveIterator = moveSelector.iterator();
+        do {
+            var hasNextMove = moveIterator.hasNext();
+            // First fill the buffer so move evaluation can run freely in parallel.
+            // For every move evaluated, select 1 new move. This avoids a deadlock.
+            if (movesInPlay > 0 && (selectMoveIndex >= selectedMoveBufferSize || !hasNextMove)) {
+                if (forageResult(stepScope, stepIndex)) {
+                    break;
+                }
+                movesInPlay--;
+            }
+            if (hasNextMove) {
+                var move = new LegacyMoveAdapter<>(moveIterator.next());
+                operationQueue.add(new MoveEvaluationOperation<>(stepIndex, selectMoveIndex, move));
+                selectMoveIndex++;
+                movesInPlay++;
+            }
+        } while (movesInPlay > 0);
+        // Do not evaluate the remaining selected moves for this step that haven't started evaluation yet.
+        operationQueue.clear();
+        pickMove(stepScope);
+        // Start doing the step on every move thread. Don't wait for the stepEnded() event.
+        if (stepScope.getStep() != null) {
+            // Increase stepIndex by 1, because it's a preliminary action.
+            var stepOperation = new ApplyStepOperation<>(stepIndex + 1, stepScope.getStep(), stepScope.getScore());
+            for (var i = 0; i < moveThreadCount; i++) {
+                operationQueue.add(stepOperation);
+            }
+        }
+    }
+
+    private boolean forageResult(LocalSearchStepScope<Solution_> stepScope, int stepIndex) {
+        OrderByMoveIndexBlockingQueue.MoveResult<Solution_> result;
+        try {
+            result = resultQueue.take();
+        } catch (InterruptedException e) {
+            logger.error("{}        Interrupted while waiting for a move evaluation.", logIndentation, e);
+            Thread.currentThread().interrupt();
+            // The solver will terminate on the next termination check.
+            return true;
+        }
+        if (stepIndex != result.stepIndex()) {
+            throw new IllegalStateException("Impossible situation: the solverThread's stepIndex (" + stepIndex
+                    + ") differs from the result's stepIndex (" + result.stepIndex() + ").");
+        }
+        var moveScope = new LocalSearchMoveScope<>(stepScope, result.moveIndex(), result.move());
+        if (!result.moveDoable()) {
+            throw new IllegalStateException("Impossible state: Local search move selector (" + moveSelector
+                    + ") provided a non-doable move (" + result.move() + ").");
+        }
+        moveScope.setScore(result.score());
+        var accepted = acceptor.isAccepted(moveScope);
+        moveScope.setAccepted(accepted);
+        forager.addMove(moveScope);
+        logger.trace("{}        Move index ({}), score ({}), accepted ({}), move ({}).",
+                logIndentation, moveScope.getMoveIndex(), moveScope.getScore(), moveScope.getAccepted(), moveScope.getMove());
+        if (forager.isQuitEarly()) {
+            return true;
+        }
+        stepScope.getPhaseScope().getSolverScope().checkYielding();
+        return termination.isPhaseTerminated(stepScope.getPhaseScope());
+    }
+
+}
@@ -1,11 +1,6 @@
 package ai.timefold.solver.core.impl.localsearch.decider.acceptor.tabu;
 
-import java.util.ArrayDeque;
 import java.util.Collection;
-import java.util.Deque;
-import java.util.HashMap;
-import java.util.Iterator;
-import java.util.Map;
 
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.AbstractAcceptor;
 import ai.timefold.solver.core.impl.localsearch.decider.acceptor.Acceptor;
@@ -29,8 +24,7 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
 
     protected boolean assertTabuHashCodeCorrectness = false;
 
-    protected Map<Object, Integer> tabuToStepIndexMap;
-    protected Deque<Object> tabuSequenceDeque;
+    private TabuStore tabuStore;
 
     protected int workingTabuSize = -1;
     protected int workingFadingTabuSize = -1;
@@ -68,15 +62,13 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
         workingFadingTabuSize = fadingTabuSizeStrategy == null ? 0
                 : fadingTabuSizeStrategy.determineTabuSize(lastCompletedStepScope);
         int totalTabuListSize = workingTabuSize + workingFadingTabuSize; // is at least 1
-        tabuToStepIndexMap = new HashMap<>(totalTabuListSize);
-        tabuSequenceDeque = new ArrayDeque<>();
+        tabuStore = new TabuStore(totalTabuListSize);
     }
 
     @Override
     public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseEnded(phaseScope);
-        tabuToStepIndexMap = null;
-        tabuSequenceDeque = null;
+        tabuStore = null;
         workingTabuSize = -1;
         workingFadingTabuSize = -1;
     }
@@ -93,30 +85,10 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
     protected void adjustTabuList(int tabuStepIndex, Collection<? extends Object> tabus) {
         int totalTabuListSize = workingTabuSize + workingFadingTabuSize; // is at least 1
         // Remove the oldest tabu(s)
-        for (Iterator<Object> it = tabuSequenceDeque.iterator(); it.hasNext();) {
-            Object oldTabu = it.next();
-            Integer oldTabuStepIndexInteger = tabuToStepIndexMap.get(oldTabu);
-            if (oldTabuStepIndexInteger == null) {
-                throw new IllegalStateException("HashCode stability violation: the hashCode() of tabu ("
-                        + oldTabu + ") of class (" + oldTabu.getClass()
-                        + ") changed during planning, since it was inserted in the tabu Map or Set.");
-            }
-            int oldTabuStepCount = tabuStepIndex - oldTabuStepIndexInteger; // at least 1
-            if (oldTabuStepCount < totalTabuListSize) {
-                break;
-            }
-            it.remove();
-            tabuToStepIndexMap.remove(oldTabu);
-        }
-        // Add the new tabu(s)
+        tabuStore.removeExpired(tabuStepIndex, totalTabuListSize);
+        // Add the new tabu(s), which pushes an existing tabu to the end of the line
         for (Object tabu : tabus) {
-            // Push tabu to the end of the line
-            if (tabuToStepIndexMap.containsKey(tabu)) {
-                tabuToStepIndexMap.remove(tabu);
-                tabuSequenceDeque.remove(tabu);
-            }
-            tabuToStepIndexMap.put(tabu, tabuStepIndex);
-            tabuSequenceDeque.add(tabu);
+            tabuStore.put(tabu, tabuStepIndex);
         }
     }
 
@@ -161,12 +133,10 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
         Collection<? extends Object> checkingTabus = findTabu(moveScope);
         int maximumTabuStepIndex = -1;
         for (Object checkingTabu : checkingTabus) {
-            Integer tabuStepIndexInteger = tabuToStepIndexMap.get(checkingTabu);
-            if (tabuStepIndexInteger != null) {
-                maximumTabuStepIndex = Math.max(tabuStepIndexInteger, maximumTabuStepIndex);
-            }
+            int tabuStepIndex = tabuStore.getStepIndex(checkingTabu);
+            maximumTabuStepIndex = Math.max(tabuStepIndex, maximumTabuStepIndex);
             if (assertTabuHashCodeCorrectness) {
-                for (Object tabu : tabuSequenceDeque) {
+                tabuStore.forEach(tabu -> {
                     // tabu and checkingTabu can be null with a planning variable which allows unassigned values
                     if (tabu != null && tabu.equals(checkingTabu)) {
                         if (tabu.hashCode() != checkingTabu.hashCode()) {
@@ -175,13 +145,13 @@ public abstract class AbstractTabuAcceptor<Solution_> extends AbstractAcceptor<S
                                     + ") and checkingTabu (" + checkingTabu
                                     + ") are equals() but have a different hashCode().");
                         }
-                        if (tabuStepIndexInteger == null) {
+                        if (tabuStepIndex < 0) {
                             throw new IllegalStateException("HashCode stability violation: the hashCode() of tabu ("
                                     + tabu + ") of class (" + tabu.getClass()
                                     + ") changed during planning, since it was inserted in the tabu Map or Set.");
                         }
                     }
-                }
+                });
             }
         }
         return maximumTabuStepIndex;
@@ -0,0 +1,262 @@
+package ai.timefold.solver.core.impl.localsearch.decider.acceptor.tabu;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Remembers the step index of each tabu, in order of that step index, in a ring buffer of primitive arrays.
+ * Tabus are compared with {@link Object#equals(Object)} and may be null.
+ * <p>
+ * Most tabu checks are for tabus that aren't in the store.
+ * A counting Bloom filter on the {@link Object#hashCode() hash code} answers those without any lookup.
+ * The other checks go through an open addressing index on the hash code, which points into the ring buffer.
+ * <p>
+ * This class is not thread-safe.
+ */
+final class TabuStore {
+
+    private static final int BLOOM_FILTER_SIZE_RATIO = 8;
+    private static final int COUNTER_SATURATED = 0xFF;
+    private static final int DEAD = -1;
+
+    // The ring buffer, ordered by step index, from head (oldest) to tail (newest).
+    // A tabu added again leaves a dead slot (step index DEAD) behind, which is skipped when it reaches the head.
+    private Object[] tabus;
+    private int[] tabuHashes;
+    private int[] stepIndexes;
+    private int head = 0;
+    private int slotCount = 0;
+    private int size = 0;
+
+    // Maps a hash code to ring buffer slot + 1, with 0 as empty.
+    private int[] index;
+    // Counting Bloom filter with 2 counters per tabu; a saturated counter sticks, which is never wrong.
+    private byte[] counters;
+
+    /**
+     * @param expectedSize at least 0, the number of tabus which will be stored at the same time
+     */
+    TabuStore(int expectedSize) {
+        allocate(Math.max(expectedSize, 1));
+    }
+
+    private void allocate(int minimumCapacity) {
+        var capacity = Integer.highestOneBit(Math.max(minimumCapacity, 2) - 1) << 1;
+        tabus = new Object[capacity];
+        tabuHashes = new int[capacity];
+        stepIndexes = new int[capacity];
+        head = 0;
+        slotCount = 0;
+        size = 0;
+        index = new int[capacity << 1];
+        counters = new byte[capacity * BLOOM_FILTER_SIZE_RATIO];
+    }
+
+    /**
+     * @return the number of tabus
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * @param tabu sometimes null
+     * @return the step index of the tabu, or -1 if it isn't tabu
+     */
+    int getStepIndex(Object tabu) {
+        var hash = Objects.hashCode(tabu);
+        if (!mightContain(hash)) {
+            return -1;
+        }
+        var position = findPosition(tabu, hash);
+        return position < 0 ? -1 : stepIndexes[index[position] - 1];
+    }
+
+    /**
+     * Adds the tabu as the newest tabu, removing it first if it's already tabu.
+     *
+     * @param tabu sometimes null
+     * @param stepIndex at least the step index of every other tabu
+     */
+    void put(Object tabu, int stepIndex) {
+        var hash = Objects.hashCode(tabu);
+        if (mightContain(hash)) {
+            var position = findPosition(tabu, hash);
+            if (position >= 0) {
+                var slot = index[position] - 1;
+                removeFromIndex(position);
+                updateCounters(hash, -1);
+                stepIndexes[slot] = DEAD;
+                tabus[slot] = null;
+                size--;
+            }
+        }
+        if (slotCount == tabus.length) {
+            grow();
+        }
+        var slot = (head + slotCount) & (tabus.length - 1);
+        tabus[slot] = tabu;
+        tabuHashes[slot] = hash;
+        stepIndexes[slot] = stepIndex;
+        slotCount++;
+        size++;
+        addToIndex(hash, slot);
+        updateCounters(hash, 1);
+    }
+
+    /**
+     * Removes the oldest tabus, as long as the step count between them and the given step index is too big.
+     *
+     * @param stepIndex the current step index
+     * @param tabuStepCountLimit at least 1, the step count from which a tabu is removed
+     * @throws IllegalStateException if the hash code of a removed tabu changed since it was added
+     */
+    void removeExpired(int stepIndex, int tabuStepCountLimit) {
+        while (slotCount > 0) {
+            var slot = head;
+            var tabuStepIndex = stepIndexes[slot];
+            if (tabuStepIndex != DEAD) {
+                if (stepIndex - tabuStepIndex < tabuStepCountLimit) {
+                    return;
+                }
+                var tabu = tabus[slot];
+                var hash = tabuHashes[slot];
+                if (Objects.hashCode(tabu) != hash) {
+                    throw new IllegalStateException("HashCode stability violation: the hashCode() of tabu ("
+                            + tabu + ") of class (" + tabu.getClass()
+                            + ") changed during planning, since it was inserted in the tabu Map or Set.");
+                }
+                removeFromIndex(findPositionOfSlot(hash, slot));
+                updateCounters(hash, -1);
+                size--;
+            }
+            tabus[slot] = null;
+            head = (head + 1) & (tabus.length - 1);
+            slotCount--;
+        }
+    }
+
+    /**
+     * @param tabuConsumer never null, receives every tabu, from the oldest to the newest
+     */
+    void forEach(Consumer<Object> tabuConsumer) {
+        for (var i = 0; i < slotCount; i++) {
+            var slot = (head + i) & (tabus.length - 1);
+            if (stepIndexes[slot] != DEAD) {
+                tabuConsumer.accept(tabus[slot]);
+            }
+        }
+    }
+
+    private void grow() {
+        var oldTabus = tabus;
+        var oldTabuHashes = tabuHashes;
+        var oldStepIndexes = stepIndexes;
+        var oldHead = head;
+        var oldSlotCount = slotCount;
+        // Dead slots are dropped, so only grow if more than half of the slots are alive.
+        allocate(size > (oldTabus.length >> 1) ? oldTabus.length << 1 : oldTabus.length);
+        for (var i = 0; i < oldSlotCount; i++) {
+            var oldSlot = (oldHead + i) & (oldTabus.length - 1);
+            if (oldStepIndexes[oldSlot] != DEAD) {
+                var slot = slotCount;
+                tabus[slot] = oldTabus[oldSlot];
+                tabuHashes[slot] = oldTabuHashes[oldSlot];
+                stepIndexes[slot] = oldStepIndexes[oldSlot];
+                slotCount++;
+                size++;
+                addToIndex(tabuHashes[slot], slot);
+                updateCounters(tabuHashes[slot], 1);
+            }
+        }
+    }
+
+    // ************************************************************************
+    // Index
+    // ************************************************************************
+
+    private int findPosition(Object tabu, int hash) {
+        var mask = index.length - 1;
+        for (var position = mix(hash) & mask; index[position] != 0; position = (position + 1) & mask) {
+            var slot = index[position] - 1;
+            if (tabuHashes[slot] == hash && Objects.equals(tabus[slot], tabu)) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    private int findPositionOfSlot(int hash, int slot) {
+        var mask = index.length - 1;
+        var position = mix(hash) & mask;
+        while (index[position] != slot + 1) {
+            position = (position + 1) & mask;
+        }
+        return position;
+    }
+
+    private void addToIndex(int hash, int slot) {
+        var mask = index.length - 1;
+        var position = mix(hash) & mask;
+        while (index[position] != 0) {
+            position = (position + 1) & mask;
+        }
+        index[position] = slot + 1;
+    }
+
+    private void removeFromIndex(int position) {
+        // Backward shift deletion keeps every probe sequence unbroken, without tombstones.
+        var mask = index.length - 1;
+        var emptyPosition = position;
+        var nextPosition = (position + 1) & mask;
+        while (index[nextPosition] != 0) {
+            var idealPosition = mix(tabuHashes[index[nextPosition] - 1]) & mask;
+            if (((nextPosition - idealPosition) & mask) >= ((nextPosition - emptyPosition) & mask)) {
+                index[emptyPosition] = index[nextPosition];
+                emptyPosition = nextPosition;
+            }
+            nextPosition = (nextPosition + 1) & mask;
+        }
+        index[emptyPosition] = 0;
+    }
+
+    // ************************************************************************
+    // Counting Bloom filter
+    // ************************************************************************
+
+    private boolean mightContain(int hash) {
+        var mixed = mix(hash);
+        var mask = counters.length - 1;
+        return counters[mixed & mask] != 0 && counters[secondCounterPosition(mixed, mask)] != 0;
+    }
+
+    private void updateCounters(int hash, int delta) {
+        var mixed = mix(hash);
+        var mask = counters.length - 1;
+        updateCounter(mixed & mask, delta);
+        updateCounter(secondCounterPosition(mixed, mask), delta);
+    }
+
+    private static int secondCounterPosition(int mixed, int mask) {
+        return (Integer.rotateLeft(mixed, 16) * 0x2C1B3C6D) & mask;
+    }
+
+    private void updateCounter(int position, int delta) {
+        var count = counters[position] & 0xFF;
+        if (count != COUNTER_SATURATED) {
+            counters[position] = (byte) (count + delta);
+        }
+    }
+
+    private static int mix(int hash) {
+        // Murmur3 finalizer, because hash codes such as small integers are far from uniform.
+        var mixed = hash;
+        mixed ^= mixed >>> 16;
+        mixed *= 0x85EBCA6B;
+        mixed ^= mixed >>> 13;
+        mixed *= 0xC2B2AE35;
+        mixed ^= mixed >>> 16;
+        return mixed;
+    }
+
+}
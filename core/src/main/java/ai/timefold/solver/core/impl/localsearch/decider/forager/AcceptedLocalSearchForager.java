@@ -19,6 +19,19 @@ import ai.timefold.solver.core.impl.solver.scope.SolverScope;
  */
 public class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSearchForager<Solution_> {
 
+    /**
+     * How many times more moves a step evaluates than previous steps needed to find their best accepted move.
+     */
+    protected static final double EXPECTED_IMPROVEMENT_MARGIN = 2.0;
+    /**
+     * The weight of the latest step in the moving average of the previous steps.
+     */
+    protected static final double EXPECTED_IMPROVEMENT_SMOOTHING = 0.1;
+    /**
+     * Every so many steps, a step evaluates every move, so that the moving average keeps up with the search.
+     */
+    protected static final int EXPECTED_IMPROVEMENT_SAMPLE_STEP_INTERVAL = 10;
+
     protected final FinalistPodium<Solution_> finalistPodium;
     protected final LocalSearchPickEarlyType pickEarlyType;
     protected final int acceptedCountLimit;
@@ -28,6 +41,12 @@ public class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSearchFo
     protected long acceptedMoveCount;
     protected LocalSearchMoveScope<Solution_> earlyPickedMoveScope;
 
+    // Only used by LocalSearchPickEarlyType.EXPECTED_IMPROVEMENT_EXHAUSTED.
+    protected Score stepBestAcceptedScore;
+    protected long stepBestAcceptedSelectedMoveCount;
+    protected double expectedImprovementSelectedMoveCount = -1.0;
+    protected long expectedImprovementQuitMoveCount = Long.MAX_VALUE;
+
     public AcceptedLocalSearchForager(FinalistPodium<Solution_> finalistPodium,
             LocalSearchPickEarlyType pickEarlyType, int acceptedCountLimit, boolean breakTieRandomly) {
         this.finalistPodium = finalistPodium;
@@ -54,6 +73,8 @@ public class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSearchFo
     public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseStarted(phaseScope);
         finalistPodium.phaseStarted(phaseScope);
+        // Another phase may have another neighborhood, so it starts without statistics.
+        expectedImprovementSelectedMoveCount = -1.0;
     }
 
     @Override
@@ -63,6 +84,16 @@ public class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSearchFo
         selectedMoveCount = 0L;
         acceptedMoveCount = 0L;
         earlyPickedMoveScope = null;
+        stepBestAcceptedScore = null;
+        stepBestAcceptedSelectedMoveCount = 0L;
+        if (pickEarlyType == LocalSearchPickEarlyType.EXPECTED_IMPROVEMENT_EXHAUSTED
+                && expectedImprovementSelectedMoveCount >= 0.0
+                && stepScope.getStepIndex() % EXPECTED_IMPROVEMENT_SAMPLE_STEP_INTERVAL != 0) {
+            expectedImprovementQuitMoveCount = Math.max(1L,
+                    (long) Math.ceil(EXPECTED_IMPROVEMENT_MARGIN * expectedImprovementSelectedMoveCount));
+        } else {
+            expectedImprovementQuitMoveCount = Long.MAX_VALUE;
+        }
     }
 
     @Override
@@ -99,6 +130,13 @@ public class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSearchFo
                     earlyPickedMoveScope = moveScope;
                 }
                 break;
+            case EXPECTED_IMPROVEMENT_EXHAUSTED:
+                // Nothing is picked early, the finalist podium picks once the step quits early.
+                if (stepBestAcceptedScore == null || moveScope.getScore().compareTo(stepBestAcceptedScore) > 0) {
+                    stepBestAcceptedScore = moveScope.getScore();
+                    stepBestAcceptedSelectedMoveCount = selectedMoveCount;
+                }
+                break;
             default:
                 throw new IllegalStateException("The pickEarlyType (" + pickEarlyType + ") is not implemented.");
         }
@@ -106,7 +144,8 @@ public class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSearchFo
 
     @Override
     public boolean isQuitEarly() {
-        return earlyPickedMoveScope != null || acceptedMoveCount >= acceptedCountLimit;
+        return earlyPickedMoveScope != null || acceptedMoveCount >= acceptedCountLimit
+                || (acceptedMoveCount > 0L && selectedMoveCount >= expectedImprovementQuitMoveCount);
     }
 
     @Override
@@ -131,6 +170,15 @@ public class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSearchFo
     public void stepEnded(LocalSearchStepScope<Solution_> stepScope) {
         super.stepEnded(stepScope);
         finalistPodium.stepEnded(stepScope);
+        // A step which quit early would bias the statistics towards quitting even earlier.
+        if (stepBestAcceptedScore != null && selectedMoveCount < expectedImprovementQuitMoveCount) {
+            if (expectedImprovementSelectedMoveCount < 0.0) {
+                expectedImprovementSelectedMoveCount = stepBestAcceptedSelectedMoveCount;
+            } else {
+                expectedImprovementSelectedMoveCount += EXPECTED_IMPROVEMENT_SMOOTHING
+                        * (stepBestAcceptedSelectedMoveCount - expectedImprovementSelectedMoveCount);
+            }
+        }
     }
 
     @Override
@@ -140,6 +188,7 @@ public class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSearchFo
         selectedMoveCount = 0L;
         acceptedMoveCount = 0L;
         earlyPickedMoveScope = null;
+        stepBestAcceptedScore = null;
     }
 
     @Override
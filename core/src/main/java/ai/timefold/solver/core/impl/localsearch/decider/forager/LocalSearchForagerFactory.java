@@ -5,6 +5,7 @@ import java.util.Objects;
 import ai.timefold.solver.core.config.localsearch.decider.forager.FinalistPodiumType;
 import ai.timefold.solver.core.config.localsearch.decider.forager.LocalSearchForagerConfig;
 import ai.timefold.solver.core.config.localsearch.decider.forager.LocalSearchPickEarlyType;
+import ai.timefold.solver.core.impl.localsearch.decider.forager.finalist.FinalistPodium;
 
 public class LocalSearchForagerFactory<Solution_> {
 
@@ -26,7 +27,10 @@ public class LocalSearchForagerFactory<Solution_> {
                 Objects.requireNonNullElse(foragerConfig.getFinalistPodiumType(), FinalistPodiumType.HIGHEST_SCORE);
         // Breaking ties randomly leads to better results statistically
         boolean breakTieRandomly_ = Objects.requireNonNullElse(foragerConfig.getBreakTieRandomly(), true);
-        return new AcceptedLocalSearchForager<>(finalistPodiumType_.buildFinalistPodium(), pickEarlyType_,
-                acceptedCountLimit_, breakTieRandomly_);
+        Integer finalistCountLimit_ = foragerConfig.getFinalistCountLimit();
+        FinalistPodium<Solution_> finalistPodium = finalistCountLimit_ == null
+                ? finalistPodiumType_.buildFinalistPodium()
+                : finalistPodiumType_.buildFinalistPodium(finalistCountLimit_, breakTieRandomly_);
+        return new AcceptedLocalSearchForager<>(finalistPodium, pickEarlyType_, acceptedCountLimit_, breakTieRandomly_);
     }
 }
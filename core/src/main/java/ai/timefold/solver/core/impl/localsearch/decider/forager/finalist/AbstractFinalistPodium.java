@@ -7,6 +7,7 @@ import ai.timefold.solver.core.impl.localsearch.event.LocalSearchPhaseLifecycleL
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchMoveScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
 import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.solver.random.RandomUtils;
 
 /**
  * Abstract superclass for {@link FinalistPodium}.
@@ -18,27 +19,65 @@ public abstract class AbstractFinalistPodium<Solution_> extends LocalSearchPhase
 
     protected static final int FINALIST_LIST_MAX_SIZE = 1_024_000;
 
+    protected final int finalistCountLimit;
+    protected final boolean sampleFinalistsRandomly;
+
     protected boolean finalistIsAccepted;
-    protected List<LocalSearchMoveScope<Solution_>> finalistList = new ArrayList<>(1024);
+    protected final List<LocalSearchMoveScope<Solution_>> finalistList;
+    /**
+     * How many moves qualified as a finalist since the finalists were last cleared,
+     * including those which were not kept because the {@link #finalistCountLimit} was reached.
+     */
+    protected long finalistCandidateCount;
+
+    protected AbstractFinalistPodium() {
+        this(FINALIST_LIST_MAX_SIZE, false);
+    }
+
+    /**
+     * @param finalistCountLimit at least 1, the maximum number of finalists kept in memory
+     * @param sampleFinalistsRandomly if true, once the limit is reached,
+     *        every later finalist replaces a random kept finalist (reservoir sampling),
+     *        so that every finalist has the same chance to be kept;
+     *        otherwise every later finalist is ignored, so that the first finalists are kept
+     */
+    protected AbstractFinalistPodium(int finalistCountLimit, boolean sampleFinalistsRandomly) {
+        if (finalistCountLimit < 1) {
+            throw new IllegalArgumentException("The finalistCountLimit (" + finalistCountLimit
+                    + ") cannot be negative or zero.");
+        }
+        this.finalistCountLimit = Math.min(finalistCountLimit, FINALIST_LIST_MAX_SIZE);
+        this.sampleFinalistsRandomly = sampleFinalistsRandomly;
+        this.finalistList = new ArrayList<>(Math.min(this.finalistCountLimit, 1024));
+    }
 
     @Override
     public void stepStarted(LocalSearchStepScope<Solution_> stepScope) {
         super.stepStarted(stepScope);
         finalistIsAccepted = false;
         finalistList.clear();
+        finalistCandidateCount = 0L;
     }
 
     protected void clearAndAddFinalist(LocalSearchMoveScope<Solution_> moveScope) {
         finalistList.clear();
         finalistList.add(moveScope);
+        finalistCandidateCount = 1L;
     }
 
     protected void addFinalist(LocalSearchMoveScope<Solution_> moveScope) {
-        if (finalistList.size() >= FINALIST_LIST_MAX_SIZE) {
-            // Avoid unbounded growth and OutOfMemoryException
+        finalistCandidateCount++;
+        if (finalistList.size() < finalistCountLimit) {
+            finalistList.add(moveScope);
             return;
         }
-        finalistList.add(moveScope);
+        // Avoid unbounded growth and OutOfMemoryException
+        if (sampleFinalistsRandomly) {
+            var index = RandomUtils.nextLong(moveScope.getWorkingRandom(), finalistCandidateCount);
+            if (index < finalistCountLimit) {
+                finalistList.set((int) index, moveScope);
+            }
+        }
     }
 
     @Override
@@ -51,6 +90,7 @@ public abstract class AbstractFinalistPodium<Solution_> extends LocalSearchPhase
         super.phaseEnded(phaseScope);
         finalistIsAccepted = false;
         finalistList.clear();
+        finalistCandidateCount = 0L;
     }
 
 }
@@ -14,6 +14,17 @@ public final class HighestScoreFinalistPodium<Solution_> extends AbstractFinalis
 
     protected Score finalistScore;
 
+    public HighestScoreFinalistPodium() {
+        super();
+    }
+
+    /**
+     * @see AbstractFinalistPodium#AbstractFinalistPodium(int, boolean)
+     */
+    public HighestScoreFinalistPodium(int finalistCountLimit, boolean sampleFinalistsRandomly) {
+        super(finalistCountLimit, sampleFinalistsRandomly);
+    }
+
     @Override
     public void stepStarted(LocalSearchStepScope<Solution_> stepScope) {
         super.stepStarted(stepScope);
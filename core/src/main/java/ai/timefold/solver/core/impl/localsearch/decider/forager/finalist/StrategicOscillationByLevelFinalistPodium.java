@@ -25,6 +25,15 @@ public final class StrategicOscillationByLevelFinalistPodium<Solution_> extends
         this.referenceBestScoreInsteadOfLastStepScore = referenceBestScoreInsteadOfLastStepScore;
     }
 
+    /**
+     * @see AbstractFinalistPodium#AbstractFinalistPodium(int, boolean)
+     */
+    public StrategicOscillationByLevelFinalistPodium(boolean referenceBestScoreInsteadOfLastStepScore,
+            int finalistCountLimit, boolean sampleFinalistsRandomly) {
+        super(finalistCountLimit, sampleFinalistsRandomly);
+        this.referenceBestScoreInsteadOfLastStepScore = referenceBestScoreInsteadOfLastStepScore;
+    }
+
     @Override
     public void stepStarted(LocalSearchStepScope<Solution_> stepScope) {
         super.stepStarted(stepScope);
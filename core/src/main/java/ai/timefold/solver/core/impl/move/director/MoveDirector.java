@@ -5,6 +5,7 @@ import java.util.Objects;
 import ai.timefold.solver.core.api.domain.metamodel.ElementLocation;
 import ai.timefold.solver.core.api.domain.metamodel.PlanningListVariableMetaModel;
 import ai.timefold.solver.core.api.domain.metamodel.PlanningVariableMetaModel;
+import ai.timefold.solver.core.api.move.Move;
 import ai.timefold.solver.core.api.move.Rebaser;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.DefaultPlanningListVariableMetaModel;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.DefaultPlanningVariableMetaModel;
@@ -129,6 +130,20 @@ public sealed class MoveDirector<Solution_>
         return new EphemeralMoveDirector<>(scoreDirector);
     }
 
+    /**
+     * Executes a move which is not undone when it's done, unlike with {@link #ephemeral()},
+     * but records its changes so that it can still be undone later.
+     *
+     * @param move never null
+     * @return never null, a move which undoes the given move, if nothing else changed in between
+     */
+    public Move<Solution_> executeAndCreateUndoMove(Move<Solution_> move) {
+        // Deliberately not closed, because closing would undo the move.
+        var ephemeralMoveDirector = ephemeral();
+        move.execute(ephemeralMoveDirector);
+        return ephemeralMoveDirector.createUndoMove();
+    }
+
     @Override
     public VariableDescriptorAwareScoreDirector<Solution_> getScoreDirector() {
         return scoreDirector;
@@ -10,6 +10,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
 
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.domain.solution.cloner.SolutionCloner;
@@ -25,6 +26,7 @@ import ai.timefold.solver.core.config.solver.EnvironmentMode;
 import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
 import ai.timefold.solver.core.impl.domain.lookup.LookUpManager;
 import ai.timefold.solver.core.impl.domain.solution.ConstraintWeightSupplier;
+import ai.timefold.solver.core.impl.domain.solution.cloner.IncrementalSolutionCloner;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.ListVariableStateSupply;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
@@ -69,6 +71,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     protected final boolean constraintMatchEnabledPreference;
 
     private long workingEntityListRevision = 0L;
+    private long workingProblemRevision = 0L;
     private int workingGenuineEntityCount = 0;
     private boolean allChangesWillBeUndoneBeforeStepEnds = false;
     private long calculationCount = 0L;
@@ -81,6 +84,9 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
     private final SolutionTracker<Solution_> solutionTracker;
     private final MoveDirector<Solution_> moveDirector = new MoveDirector<>(this);
 
+    // Null when incremental best solution cloning is disabled or unsupported
+    private IncrementalSolutionCloner<Solution_> incrementalSolutionCloner = null;
+
     // Null when no list variable
     private final ListVariableStateSupply<Solution_> listVariableStateSupply;
 
@@ -163,6 +169,11 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         return workingEntityListRevision;
     }
 
+    @Override
+    public long getWorkingProblemRevision() {
+        return workingProblemRevision;
+    }
+
     @Override
     public int getWorkingGenuineEntityCount() {
         return workingGenuineEntityCount;
@@ -238,6 +249,9 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         assertInitScoreZeroOrLess();
         workingGenuineEntityCount = initializationStatistics.genuineEntityCount();
         variableListenerSupport.resetWorkingSolution();
+        if (incrementalSolutionCloner != null) {
+            incrementalSolutionCloner.reset();
+        }
     }
 
     private void assertInitScoreZeroOrLess() {
@@ -278,13 +292,40 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     protected void setWorkingEntityListDirty() {
         workingEntityListRevision++;
+        workingProblemRevision++;
     }
 
     @Override
     public Solution_ cloneSolution(Solution_ originalSolution) {
+        return cloneSolution(originalSolution, getSolutionDescriptor().getSolutionCloner()::cloneSolution);
+    }
+
+    @Override
+    public Solution_ cloneWorkingSolutionAsBestSolution() {
+        if (incrementalSolutionCloner == null) {
+            return cloneWorkingSolution();
+        }
+        return cloneSolution(workingSolution, incrementalSolutionCloner::cloneSolution);
+    }
+
+    @Override
+    public void setIncrementalBestSolutionCloning(boolean incrementalBestSolutionCloning) {
+        if (!incrementalBestSolutionCloning) {
+            incrementalSolutionCloner = null;
+        } else if (IncrementalSolutionCloner.isSupported(getSolutionDescriptor())) {
+            incrementalSolutionCloner = new IncrementalSolutionCloner<>(getSolutionDescriptor());
+        } else {
+            logger.info("Incremental best solution cloning is not supported for the solution class ({}), "
+                    + "because an entity can reference another entity or the solution uses a custom solution cloner. "
+                    + "Falling back to full cloning.", getSolutionDescriptor().getSolutionClass().getSimpleName());
+            incrementalSolutionCloner = null;
+        }
+    }
+
+    private Solution_ cloneSolution(Solution_ originalSolution, UnaryOperator<Solution_> solutionCloner) {
         SolutionDescriptor<Solution_> solutionDescriptor = getSolutionDescriptor();
         Score_ originalScore = solutionDescriptor.getScore(originalSolution);
-        Solution_ cloneSolution = solutionDescriptor.getSolutionCloner().cloneSolution(originalSolution);
+        Solution_ cloneSolution = solutionCloner.apply(originalSolution);
         Score_ cloneScore = solutionDescriptor.getScore(cloneSolution);
         if (scoreDirectorFactory.isAssertClonedSolution()) {
             if (!Objects.equals(originalScore, cloneScore)) {
@@ -374,6 +415,9 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     public void beforeEntityAdded(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
         variableListenerSupport.beforeEntityAdded(entityDescriptor, entity);
+        if (incrementalSolutionCloner != null) {
+            incrementalSolutionCloner.reset();
+        }
     }
 
     public void afterEntityAdded(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
@@ -396,6 +440,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         }
         assertInitScoreZeroOrLess();
         variableListenerSupport.beforeVariableChanged(variableDescriptor, entity);
+        markChanged(entity);
     }
 
     @Override
@@ -452,6 +497,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
                             .formatted(variableDescriptor, entity, fromIndex, toIndex));
         }
         variableListenerSupport.beforeListVariableChanged(variableDescriptor, entity, fromIndex, toIndex);
+        markChanged(entity);
     }
 
     @Override
@@ -464,6 +510,9 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         workingInitScore += entityDescriptor.countUninitializedVariables(entity);
         assertInitScoreZeroOrLess();
         variableListenerSupport.beforeEntityRemoved(entityDescriptor, entity);
+        if (incrementalSolutionCloner != null) {
+            incrementalSolutionCloner.reset();
+        }
     }
 
     public void afterEntityRemoved(EntityDescriptor<Solution_> entityDescriptor, Object entity) {
@@ -478,6 +527,13 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
         }
     }
 
+    private void markChanged(Object entity) {
+        // Changes which will be undone leave the entity as it was, so its previous clone can still be shared.
+        if (incrementalSolutionCloner != null && !allChangesWillBeUndoneBeforeStepEnds) {
+            incrementalSolutionCloner.markChanged(entity);
+        }
+    }
+
     // ************************************************************************
     // Problem fact add/change/remove methods
     // ************************************************************************
@@ -489,6 +545,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public void afterProblemFactAdded(Object problemFact) {
+        workingProblemRevision++;
         if (lookUpEnabled) {
             lookUpManager.addWorkingObject(problemFact);
         }
@@ -497,11 +554,12 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public void beforeProblemPropertyChanged(Object problemFactOrEntity) {
-        // Do nothing
+        markChanged(problemFactOrEntity);
     }
 
     @Override
     public void afterProblemPropertyChanged(Object problemFactOrEntity) {
+        workingProblemRevision++;
         if (isConstraintConfiguration(problemFactOrEntity)) {
             setWorkingSolution(workingSolution); // Nuke everything and recalculate, constraint weights have changed.
         } else {
@@ -520,6 +578,7 @@ public abstract class AbstractScoreDirector<Solution_, Score_ extends Score<Scor
 
     @Override
     public void afterProblemFactRemoved(Object problemFact) {
+        workingProblemRevision++;
         if (lookUpEnabled) {
             lookUpManager.removeWorkingObject(problemFact);
         }
@@ -6,6 +6,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.TreeMap;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
@@ -26,6 +27,7 @@ import ai.timefold.solver.core.api.score.stream.Constraint;
 import ai.timefold.solver.core.api.score.stream.ConstraintJustification;
 import ai.timefold.solver.core.api.solver.SolutionManager;
 import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
+import ai.timefold.solver.core.impl.domain.solution.cloner.IncrementalSolutionCloner;
 import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
 import ai.timefold.solver.core.impl.domain.variable.ListVariableStateSupply;
 import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
@@ -130,11 +132,52 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     Map<Object, Indictment<Score_>> getIndictmentMap();
 
+    /**
+     * Visits the {@link ConstraintMatch}es of the accepted {@link Constraint}s one by one.
+     * Implementations which can, do so without building the {@link #getConstraintMatchTotalMap() constraint match totals}.
+     * <p>
+     * Call {@link #calculateScore()} before calling this method,
+     * unless that method has already been called since the last {@link PlanningVariable} changes.
+     *
+     * @param constraintRefFilter never null, decides which constraints to visit
+     * @param constraintMatchVisitor never null
+     * @throws IllegalStateException if {@link #isConstraintMatchEnabled()} returns false
+     */
+    default void visitConstraintMatches(Predicate<ConstraintRef> constraintRefFilter,
+            Consumer<ConstraintMatch<Score_>> constraintMatchVisitor) {
+        for (var constraintMatchTotal : getConstraintMatchTotalMap().values()) {
+            if (constraintRefFilter.test(constraintMatchTotal.getConstraintRef())) {
+                constraintMatchTotal.getConstraintMatchSet().forEach(constraintMatchVisitor);
+            }
+        }
+    }
+
+    /**
+     * Allows callers to skip re-analyzing a {@link Constraint} whose matches did not change.
+     *
+     * @param constraintRef never null
+     * @return changes every time a {@link ConstraintMatch} of that constraint is added or removed;
+     *         -1 if the implementation does not track that, in which case the constraint must be presumed changed
+     * @throws IllegalStateException if {@link #isConstraintMatchEnabled()} returns false
+     */
+    default long getConstraintMatchVersion(ConstraintRef constraintRef) {
+        return -1L;
+    }
+
     /**
      * @return used to check {@link #isWorkingEntityListDirty(long)} later on
      */
     long getWorkingEntityListRevision();
 
+    /**
+     * Changes whenever the problem itself might have changed,
+     * such as when an entity or a problem fact is added or removed, or when a problem property changes.
+     * Planning variable changes don't change it.
+     *
+     * @return used to check if anything derived from the problem, such as a cached value range, is outdated
+     */
+    long getWorkingProblemRevision();
+
     int getWorkingGenuineEntityCount();
 
     /**
@@ -219,6 +262,24 @@ public interface InnerScoreDirector<Solution_, Score_ extends Score<Score_>>
      */
     Solution_ cloneSolution(Solution_ originalSolution);
 
+    /**
+     * As defined by {@link #cloneWorkingSolution()},
+     * but if {@link #setIncrementalBestSolutionCloning(boolean) incremental best solution cloning} is enabled,
+     * the clone shares the entities which did not change with the previous clone returned by this method.
+     * Only use it for clones that are never modified, such as the best solution.
+     *
+     * @return never null, planning clone
+     */
+    Solution_ cloneWorkingSolutionAsBestSolution();
+
+    /**
+     * Has no effect if the domain does not support incremental cloning,
+     * see {@link IncrementalSolutionCloner#isSupported(SolutionDescriptor)}.
+     *
+     * @param incrementalBestSolutionCloning true to enable incremental cloning in {@link #cloneWorkingSolutionAsBestSolution()}
+     */
+    void setIncrementalBestSolutionCloning(boolean incrementalBestSolutionCloning);
+
     /**
      * @return at least 0L
      */
@@ -1,11 +1,15 @@
 package ai.timefold.solver.core.impl.score.director.stream;
 
 import java.util.Map;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
 import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.constraint.ConstraintMatch;
 import ai.timefold.solver.core.api.score.constraint.ConstraintMatchTotal;
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
 import ai.timefold.solver.core.api.score.constraint.Indictment;
 import ai.timefold.solver.core.api.score.director.ScoreDirector;
 import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
@@ -82,6 +86,32 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
         return session.getIndictmentMap();
     }
 
+    @Override
+    public void visitConstraintMatches(Predicate<ConstraintRef> constraintRefFilter,
+            Consumer<ConstraintMatch<Score_>> constraintMatchVisitor) {
+        assertConstraintMatchEnabled("visitConstraintMatches");
+        session.getScoreInliner().visitConstraintMatches(constraintRefFilter, constraintMatchVisitor);
+    }
+
+    @Override
+    public long getConstraintMatchVersion(ConstraintRef constraintRef) {
+        assertConstraintMatchEnabled("getConstraintMatchVersion");
+        return session.getScoreInliner().getConstraintMatchVersion(constraintRef);
+    }
+
+    private void assertConstraintMatchEnabled(String methodName) {
+        if (workingSolution == null) {
+            throw new IllegalStateException(
+                    "The method setWorkingSolution() must be called before the method %s()."
+                            .formatted(methodName));
+        }
+        if (!constraintMatchEnabledPreference) {
+            throw new IllegalStateException(
+                    "When constraint matching is disabled, the method %s() can not be called."
+                            .formatted(methodName));
+        }
+    }
+
     @Override
     public boolean requiresFlushing() {
         return true; // Tuple refresh happens during score calculation.
@@ -42,7 +42,13 @@ public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ e
         var constraintProvider = ConfigUtils.newInstance(config, "constraintProviderClass", constraintProviderClass);
         ConfigUtils.applyCustomProperties(constraintProvider, "constraintProviderClass",
                 config.getConstraintProviderCustomProperties(), "constraintProviderCustomProperties");
-        return new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor, constraintProvider, environmentMode);
+        var propagationThreadCount = Objects.requireNonNullElse(config.getConstraintStreamPropagationThreadCount(), 1);
+        if (propagationThreadCount < 1) {
+            throw new IllegalArgumentException("The constraintStreamPropagationThreadCount (%d) must be at least 1."
+                    .formatted(propagationThreadCount));
+        }
+        return new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor, constraintProvider, environmentMode,
+                propagationThreadCount);
     }
 
     private static Class<? extends ConstraintProvider> getConstraintProviderClass(ScoreDirectorFactoryConfig config) {
@@ -60,11 +66,17 @@ public final class BavetConstraintStreamScoreDirectorFactory<Solution_, Score_ e
 
     public BavetConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
             ConstraintProvider constraintProvider, EnvironmentMode environmentMode) {
+        this(solutionDescriptor, constraintProvider, environmentMode, 1);
+    }
+
+    public BavetConstraintStreamScoreDirectorFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            ConstraintProvider constraintProvider, EnvironmentMode environmentMode, int propagationThreadCount) {
         super(solutionDescriptor);
         var constraintFactory = new BavetConstraintFactory<>(solutionDescriptor, environmentMode);
         constraintMetaModel =
                 DefaultConstraintMetaModel.of(constraintFactory.buildConstraints(constraintProvider));
-        constraintSessionFactory = new BavetConstraintSessionFactory<>(solutionDescriptor, constraintMetaModel);
+        constraintSessionFactory =
+                new BavetConstraintSessionFactory<>(solutionDescriptor, constraintMetaModel, propagationThreadCount);
     }
 
     @Override
@@ -2,12 +2,15 @@ package ai.timefold.solver.core.impl.score.stream.bavet;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
 
 import ai.timefold.solver.core.api.score.Score;
@@ -19,9 +22,7 @@ import ai.timefold.solver.core.impl.score.stream.bavet.common.AbstractIfExistsNo
 import ai.timefold.solver.core.impl.score.stream.bavet.common.AbstractJoinNode;
 import ai.timefold.solver.core.impl.score.stream.bavet.common.AbstractNode;
 import ai.timefold.solver.core.impl.score.stream.bavet.common.BavetAbstractConstraintStream;
-import ai.timefold.solver.core.impl.score.stream.bavet.common.BavetConcatConstraintStream;
-import ai.timefold.solver.core.impl.score.stream.bavet.common.BavetIfExistsConstraintStream;
-import ai.timefold.solver.core.impl.score.stream.bavet.common.BavetJoinConstraintStream;
+import ai.timefold.solver.core.impl.score.stream.bavet.common.BavetScoringConstraintStream;
 import ai.timefold.solver.core.impl.score.stream.bavet.common.BavetStreamBinaryOperation;
 import ai.timefold.solver.core.impl.score.stream.bavet.common.NodeBuildHelper;
 import ai.timefold.solver.core.impl.score.stream.bavet.common.PropagationQueue;
@@ -41,11 +42,37 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
 
     private final SolutionDescriptor<Solution_> solutionDescriptor;
     private final ConstraintMetaModel constraintMetaModel;
+    private final int propagationThreadCount;
+    private final int parallelPropagationThreshold;
+    private ForkJoinPool propagationPool = null;
 
     public BavetConstraintSessionFactory(SolutionDescriptor<Solution_> solutionDescriptor,
             ConstraintMetaModel constraintMetaModel) {
+        this(solutionDescriptor, constraintMetaModel, 1);
+    }
+
+    /**
+     * @param solutionDescriptor never null
+     * @param constraintMetaModel never null
+     * @param propagationThreadCount at least 1; if more than 1,
+     *        independent nodes within a layer are propagated in parallel when the layer has enough queued work
+     */
+    public BavetConstraintSessionFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            ConstraintMetaModel constraintMetaModel, int propagationThreadCount) {
+        this(solutionDescriptor, constraintMetaModel, propagationThreadCount,
+                ParallelLayerPropagator.DEFAULT_PARALLEL_PROPAGATION_THRESHOLD);
+    }
+
+    BavetConstraintSessionFactory(SolutionDescriptor<Solution_> solutionDescriptor,
+            ConstraintMetaModel constraintMetaModel, int propagationThreadCount, int parallelPropagationThreshold) {
         this.solutionDescriptor = Objects.requireNonNull(solutionDescriptor);
         this.constraintMetaModel = Objects.requireNonNull(constraintMetaModel);
+        if (propagationThreadCount < 1) {
+            throw new IllegalArgumentException("The propagationThreadCount (" + propagationThreadCount
+                    + ") must be at least 1.");
+        }
+        this.propagationThreadCount = propagationThreadCount;
+        this.parallelPropagationThreshold = parallelPropagationThreshold;
     }
 
     // ************************************************************************
@@ -121,8 +148,19 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
         return new BavetConstraintSession<>(scoreInliner, buildNodeNetwork(constraintStreamSet, scoreInliner));
     }
 
+    /**
+     * The pool is shared by all sessions of this factory.
+     * Its worker threads are daemon threads and terminate when idle, so the pool needs no explicit shutdown.
+     */
+    private synchronized ForkJoinPool getPropagationPool() {
+        if (propagationPool == null) {
+            propagationPool = new ForkJoinPool(propagationThreadCount);
+        }
+        return propagationPool;
+    }
+
     @SuppressWarnings("unchecked")
-    private static <Solution_, Score_ extends Score<Score_>> NodeNetwork buildNodeNetwork(
+    private <Score_ extends Score<Score_>> NodeNetwork buildNodeNetwork(
             Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet, AbstractScoreInliner<Score_> scoreInliner) {
         /*
          * Build constraintStreamSet in reverse order to create downstream nodes first
@@ -135,6 +173,9 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
             constraintStream.buildNode(buildHelper);
         }
         var nodeList = buildHelper.destroyAndGetNodeList();
+        // Reusing tuples would hide the use of a dead tuple, so the asserting modes detect it instead.
+        var useAfterRecycleDetection = constraintStreamSet.iterator().next().getConstraintFactory().getEnvironmentMode()
+                .isNonIntrusiveFullAsserted();
         var declaredClassToNodeMap = new LinkedHashMap<Class<?>, List<AbstractForEachUniNode<Object>>>();
         var nextNodeId = 0L;
         for (var node : nodeList) {
@@ -144,6 +185,10 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
              */
             node.setId(nextNodeId++);
             node.setLayerIndex(determineLayerIndex(node, buildHelper));
+            var tuplePool = node.getTuplePool();
+            if (useAfterRecycleDetection && tuplePool != null) {
+                tuplePool.enableUseAfterRecycleDetection();
+            }
             if (node instanceof AbstractForEachUniNode<?> forEachUniNode) {
                 var forEachClass = forEachUniNode.getForEachClass();
                 var forEachUniNodeList =
@@ -168,7 +213,81 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
             var layer = layerMap.get((long) i);
             layeredNodes[i] = layer.toArray(new Propagator[0]);
         }
-        return new NodeNetwork(declaredClassToNodeMap, layeredNodes);
+        if (propagationThreadCount == 1) {
+            return new NodeNetwork(declaredClassToNodeMap, layeredNodes);
+        }
+        var parallelLayerPropagator = new ParallelLayerPropagator(getPropagationPool(), parallelPropagationThreshold,
+                groupNodesInLayers(constraintStreamSet, nodeList, layerCount, buildHelper));
+        return new NodeNetwork(declaredClassToNodeMap, layeredNodes, parallelLayerPropagator);
+    }
+
+    /**
+     * Splits each layer into groups of nodes which can propagate independently of the other groups.
+     * Nodes which propagate into the same child node end up in the same group,
+     * and so do all nodes which propagate into a scoring stream, as they share the score inliner.
+     *
+     * @return for each layer, the groups of nodes in that layer
+     */
+    private static <Solution_, Score_ extends Score<Score_>> Propagator[][][] groupNodesInLayers(
+            Set<BavetAbstractConstraintStream<Solution_>> constraintStreamSet, List<AbstractNode> nodeList, int layerCount,
+            NodeBuildHelper<Score_> buildHelper) {
+        // Union-find over the nodes; each node points towards the representative of its group.
+        var nodeToGroupParentMap = new IdentityHashMap<AbstractNode, AbstractNode>(nodeList.size());
+        for (var node : nodeList) {
+            nodeToGroupParentMap.put(node, node);
+        }
+        for (var node : nodeList) {
+            var parentNodeList = determineParentNodes(node, buildHelper);
+            for (var i = 1; i < parentNodeList.size(); i++) {
+                union(nodeToGroupParentMap, parentNodeList.get(0), parentNodeList.get(i));
+            }
+        }
+        AbstractNode firstScoringNode = null;
+        for (var constraintStream : constraintStreamSet) {
+            if (constraintStream instanceof BavetScoringConstraintStream<?>) {
+                var scoringNode = buildHelper.findParentNode(constraintStream.getParent());
+                if (firstScoringNode == null) {
+                    firstScoringNode = scoringNode;
+                } else {
+                    union(nodeToGroupParentMap, firstScoringNode, scoringNode);
+                }
+            }
+        }
+        var layeredGroupMap = new ArrayList<Map<AbstractNode, List<Propagator>>>(layerCount);
+        for (var i = 0; i < layerCount; i++) {
+            layeredGroupMap.add(new LinkedHashMap<>());
+        }
+        for (var node : nodeList) {
+            layeredGroupMap.get((int) node.getLayerIndex())
+                    .computeIfAbsent(find(nodeToGroupParentMap, node), k -> new ArrayList<>())
+                    .add(node.getPropagator());
+        }
+        var layeredNodeGroups = new Propagator[layerCount][][];
+        for (var i = 0; i < layerCount; i++) {
+            layeredNodeGroups[i] = layeredGroupMap.get(i).values().stream()
+                    .map(group -> group.toArray(new Propagator[0]))
+                    .toArray(Propagator[][]::new);
+        }
+        return layeredNodeGroups;
+    }
+
+    private static AbstractNode find(Map<AbstractNode, AbstractNode> nodeToGroupParentMap, AbstractNode node) {
+        var parent = nodeToGroupParentMap.get(node);
+        while (parent != node) {
+            var grandParent = nodeToGroupParentMap.get(parent);
+            nodeToGroupParentMap.put(node, grandParent); // Path halving keeps the chains short.
+            node = grandParent;
+            parent = nodeToGroupParentMap.get(node);
+        }
+        return node;
+    }
+
+    private static void union(Map<AbstractNode, AbstractNode> nodeToGroupParentMap, AbstractNode left, AbstractNode right) {
+        var leftRoot = find(nodeToGroupParentMap, left);
+        var rightRoot = find(nodeToGroupParentMap, right);
+        if (leftRoot != rightRoot) {
+            nodeToGroupParentMap.put(rightRoot, leftRoot);
+        }
     }
 
     /**
@@ -190,29 +309,34 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
             NodeBuildHelper<Score_> buildHelper) {
         if (node instanceof AbstractForEachUniNode<?>) { // ForEach nodes, and only they, are in layer 0.
             return 0;
-        } else if (node instanceof AbstractJoinNode<?, ?, ?> joinNode) {
-            return determineLayerIndexOfBinaryOperation(
-                    (BavetJoinConstraintStream<?>) buildHelper.getNodeCreatingStream(joinNode), buildHelper);
-        } else if (node instanceof AbstractConcatNode<?, ?, ?> concatNode) {
-            return determineLayerIndexOfBinaryOperation(
-                    (BavetConcatConstraintStream<?>) buildHelper.getNodeCreatingStream(concatNode), buildHelper);
-        } else if (node instanceof AbstractIfExistsNode<?, ?> ifExistsNode) {
-            return determineLayerIndexOfBinaryOperation(
-                    (BavetIfExistsConstraintStream<?>) buildHelper.getNodeCreatingStream(ifExistsNode), buildHelper);
-        } else {
-            var nodeCreator = (BavetAbstractConstraintStream<?>) buildHelper.getNodeCreatingStream(node);
-            var parentNode = buildHelper.findParentNode(nodeCreator.getParent());
-            return parentNode.getLayerIndex() + 1;
         }
+        var layerIndex = 0L;
+        for (var parentNode : determineParentNodes(node, buildHelper)) {
+            layerIndex = Math.max(layerIndex, parentNode.getLayerIndex() + 1);
+        }
+        return layerIndex;
     }
 
-    private static <Score_ extends Score<Score_>> long determineLayerIndexOfBinaryOperation(
-            BavetStreamBinaryOperation<?> nodeCreator, NodeBuildHelper<Score_> buildHelper) {
-        var leftParent = nodeCreator.getLeftParent();
-        var rightParent = nodeCreator.getRightParent();
-        var leftParentNode = buildHelper.findParentNode(leftParent);
-        var rightParentNode = buildHelper.findParentNode(rightParent);
-        return Math.max(leftParentNode.getLayerIndex(), rightParentNode.getLayerIndex()) + 1;
+    /**
+     * Nodes with multiple parents are {@link AbstractJoinNode}, {@link AbstractConcatNode} and {@link AbstractIfExistsNode}.
+     *
+     * @param node never null
+     * @param buildHelper never null
+     * @return empty for forEach nodes
+     */
+    private static <Score_ extends Score<Score_>> List<AbstractNode> determineParentNodes(AbstractNode node,
+            NodeBuildHelper<Score_> buildHelper) {
+        if (node instanceof AbstractForEachUniNode<?>) {
+            return Collections.emptyList();
+        } else if (node instanceof AbstractJoinNode<?, ?, ?> || node instanceof AbstractConcatNode<?, ?, ?>
+                || node instanceof AbstractIfExistsNode<?, ?>) {
+            var nodeCreator = (BavetStreamBinaryOperation<?>) buildHelper.getNodeCreatingStream(node);
+            return List.of(buildHelper.findParentNode(nodeCreator.getLeftParent()),
+                    buildHelper.findParentNode(nodeCreator.getRightParent()));
+        } else {
+            var nodeCreator = (BavetAbstractConstraintStream<?>) buildHelper.getNodeCreatingStream(node);
+            return List.of(buildHelper.findParentNode(nodeCreator.getParent()));
+        }
     }
 
 }
@@ -16,11 +16,19 @@ import ai.timefold.solver.core.impl.score.stream.bavet.uni.AbstractForEachUniNod
  *        root nodes, layer index 0.
  * @param layeredNodes nodes grouped first by their layer, then by their index within the layer;
  *        propagation needs to happen in this order.
+ * @param parallelLayerPropagator null unless parallel propagation is enabled;
+ *        if present, it gets the first chance to propagate each layer.
  */
-record NodeNetwork(Map<Class<?>, List<AbstractForEachUniNode<Object>>> declaredClassToNodeMap, Propagator[][] layeredNodes) {
+record NodeNetwork(Map<Class<?>, List<AbstractForEachUniNode<Object>>> declaredClassToNodeMap, Propagator[][] layeredNodes,
+        ParallelLayerPropagator parallelLayerPropagator) {
 
     public static final NodeNetwork EMPTY = new NodeNetwork(Map.of(), new Propagator[0][0]);
 
+    public NodeNetwork(Map<Class<?>, List<AbstractForEachUniNode<Object>>> declaredClassToNodeMap,
+            Propagator[][] layeredNodes) {
+        this(declaredClassToNodeMap, layeredNodes, null);
+    }
+
     public int forEachNodeCount() {
         return declaredClassToNodeMap.size();
     }
@@ -40,12 +48,20 @@ record NodeNetwork(Map<Class<?>, List<AbstractForEachUniNode<Object>>> declaredC
     }
 
     public void propagate() {
-        for (var layerIndex = 0; layerIndex < layerCount(); layerIndex++) {
-            propagateInLayer(layeredNodes[layerIndex]);
+        if (parallelLayerPropagator == null) {
+            for (var layerIndex = 0; layerIndex < layerCount(); layerIndex++) {
+                propagateInLayer(layeredNodes[layerIndex]);
+            }
+        } else {
+            for (var layerIndex = 0; layerIndex < layerCount(); layerIndex++) {
+                if (!parallelLayerPropagator.tryPropagateLayer(layerIndex)) {
+                    propagateInLayer(layeredNodes[layerIndex]);
+                }
+            }
         }
     }
 
-    private static void propagateInLayer(Propagator[] nodesInLayer) {
+    static void propagateInLayer(Propagator[] nodesInLayer) {
         var nodeCount = nodesInLayer.length;
         if (nodeCount == 1) {
             nodesInLayer[0].propagateEverything();
@@ -69,12 +85,13 @@ record NodeNetwork(Map<Class<?>, List<AbstractForEachUniNode<Object>>> declaredC
         if (!(o instanceof NodeNetwork that))
             return false;
         return Objects.equals(declaredClassToNodeMap, that.declaredClassToNodeMap)
-                && Objects.deepEquals(layeredNodes, that.layeredNodes);
+                && Objects.deepEquals(layeredNodes, that.layeredNodes)
+                && Objects.equals(parallelLayerPropagator, that.parallelLayerPropagator);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(declaredClassToNodeMap, Arrays.deepHashCode(layeredNodes));
+        return Objects.hash(declaredClassToNodeMap, Arrays.deepHashCode(layeredNodes), parallelLayerPropagator);
     }
 
     @Override
@@ -0,0 +1,117 @@
+package ai.timefold.solver.core.impl.score.stream.bavet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+
+import ai.timefold.solver.core.impl.score.stream.bavet.common.Propagator;
+
+/**
+ * Propagates a layer of the {@link NodeNetwork} on a {@link ForkJoinPool},
+ * one task per group of nodes.
+ * <p>
+ * Nodes in a layer do not depend on each other,
+ * but propagating a node runs the insert/update/retract logic of its child nodes.
+ * Nodes which share a child therefore need to propagate on the same thread,
+ * and in the retracts-updates-inserts order described in {@link Propagator}.
+ * The same applies to all nodes which feed a scoring stream,
+ * as they all write into the same score inliner.
+ * The groups are computed when the network is built;
+ * nodes in different groups never touch the same node or the same score inliner.
+ * <p>
+ * Only layers with more than one group and with at least {@link #parallelPropagationThreshold} queued items
+ * are propagated in parallel;
+ * small deltas, typical for a single move, propagate faster on the calling thread.
+ */
+final class ParallelLayerPropagator {
+
+    static final int DEFAULT_PARALLEL_PROPAGATION_THRESHOLD = 1_000;
+
+    private final ForkJoinPool pool;
+    private final int parallelPropagationThreshold;
+    private final Propagator[][] layeredNodes;
+    private final List<List<Callable<Throwable>>> layeredGroupTaskList;
+
+    /**
+     * @param pool never null
+     * @param parallelPropagationThreshold at least 0
+     * @param layeredNodeGroups for each layer, the nodes grouped so that nodes from different groups
+     *        can propagate concurrently
+     */
+    ParallelLayerPropagator(ForkJoinPool pool, int parallelPropagationThreshold, Propagator[][][] layeredNodeGroups) {
+        this.pool = pool;
+        this.parallelPropagationThreshold = parallelPropagationThreshold;
+        var layerCount = layeredNodeGroups.length;
+        this.layeredNodes = new Propagator[layerCount][];
+        this.layeredGroupTaskList = new ArrayList<>(layerCount);
+        for (var layerIndex = 0; layerIndex < layerCount; layerIndex++) {
+            var groups = layeredNodeGroups[layerIndex];
+            var nodeList = new ArrayList<Propagator>();
+            var groupTaskList = new ArrayList<Callable<Throwable>>(groups.length);
+            for (var group : groups) {
+                nodeList.addAll(List.of(group));
+                // Built once, so that parallel propagation does not create new tasks every time.
+                groupTaskList.add(() -> {
+                    try {
+                        NodeNetwork.propagateInLayer(group);
+                        return null;
+                    } catch (RuntimeException | Error e) {
+                        // Returned instead of thrown, as the pool would otherwise wrap it.
+                        return e;
+                    }
+                });
+            }
+            layeredNodes[layerIndex] = nodeList.toArray(new Propagator[0]);
+            layeredGroupTaskList.add(groupTaskList);
+        }
+    }
+
+    /**
+     * @param layerIndex at least 0
+     * @return true if the layer was propagated, false if it is not worth propagating in parallel
+     *         and the caller needs to propagate it instead
+     */
+    boolean tryPropagateLayer(int layerIndex) {
+        var groupTaskList = layeredGroupTaskList.get(layerIndex);
+        if (groupTaskList.size() < 2 || !isAboveThreshold(layeredNodes[layerIndex])) {
+            return false;
+        }
+        for (var future : pool.invokeAll(groupTaskList)) {
+            Throwable throwable;
+            try {
+                throwable = future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while propagating layer (" + layerIndex + ").", e);
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Impossible state: propagation of layer (" + layerIndex + ") failed.", e);
+            }
+            // Rethrow exceptions from constraint code as they are, as if they were thrown on the calling thread.
+            if (throwable instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (throwable instanceof Error error) {
+                throw error;
+            }
+        }
+        return true;
+    }
+
+    private boolean isAboveThreshold(Propagator[] nodesInLayer) {
+        var size = 0;
+        for (var node : nodesInLayer) {
+            size += node.size();
+            if (size >= parallelPropagationThreshold) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + " with parallelism (" + pool.getParallelism() + ").";
+    }
+
+}
@@ -21,6 +21,12 @@ final class FlattenLastBiNode<A, B, NewB> extends AbstractFlattenLastNode<BiTupl
         return new BiTuple<>(originalTuple.factA, newB, outputStoreSize);
     }
 
+    @Override
+    protected void setTupleFacts(BiTuple<A, NewB> tuple, BiTuple<A, B> originalTuple, NewB newB) {
+        tuple.factA = originalTuple.factA;
+        tuple.factB = newB;
+    }
+
     @Override
     protected B getEffectiveFactIn(BiTuple<A, B> tuple) {
         return tuple.factB;
@@ -10,6 +10,7 @@ import java.util.function.Function;
 
 import ai.timefold.solver.core.impl.score.stream.bavet.common.tuple.AbstractTuple;
 import ai.timefold.solver.core.impl.score.stream.bavet.common.tuple.TupleLifecycle;
+import ai.timefold.solver.core.impl.score.stream.bavet.common.tuple.TuplePool;
 import ai.timefold.solver.core.impl.score.stream.bavet.common.tuple.TupleState;
 
 public abstract class AbstractFlattenLastNode<InTuple_ extends AbstractTuple, OutTuple_ extends AbstractTuple, EffectiveItem_, FlattenedItem_>
@@ -18,6 +19,7 @@ public abstract class AbstractFlattenLastNode<InTuple_ extends AbstractTuple, Ou
 
     private final int flattenLastStoreIndex;
     private final Function<EffectiveItem_, Iterable<FlattenedItem_>> mappingFunction;
+    private final TuplePool<OutTuple_> tuplePool = new TuplePool<>();
     private final StaticPropagationQueue<OutTuple_> propagationQueue;
 
     protected AbstractFlattenLastNode(int flattenLastStoreIndex,
@@ -25,7 +27,7 @@ public abstract class AbstractFlattenLastNode<InTuple_ extends AbstractTuple, Ou
             TupleLifecycle<OutTuple_> nextNodesTupleLifecycle) {
         this.flattenLastStoreIndex = flattenLastStoreIndex;
         this.mappingFunction = Objects.requireNonNull(mappingFunction);
-        this.propagationQueue = new StaticPropagationQueue<>(nextNodesTupleLifecycle);
+        this.propagationQueue = new StaticPropagationQueue<>(nextNodesTupleLifecycle, tuplePool);
     }
 
     @Override
@@ -60,13 +62,23 @@ public abstract class AbstractFlattenLastNode<InTuple_ extends AbstractTuple, Ou
     }
 
     private void addTuple(InTuple_ originalTuple, FlattenedItem_ item, List<OutTuple_> outTupleList) {
-        OutTuple_ tuple = createTuple(originalTuple, item);
+        OutTuple_ tuple = tuplePool.poll();
+        if (tuple == null) {
+            tuple = createTuple(originalTuple, item);
+        } else {
+            setTupleFacts(tuple, originalTuple, item);
+        }
         outTupleList.add(tuple);
         propagationQueue.insert(tuple);
     }
 
     protected abstract OutTuple_ createTuple(InTuple_ originalTuple, FlattenedItem_ item);
 
+    /**
+     * @param tuple never null; a recycled tuple with no facts
+     */
+    protected abstract void setTupleFacts(OutTuple_ tuple, InTuple_ originalTuple, FlattenedItem_ item);
+
     @Override
     public final void update(InTuple_ tuple) {
         List<OutTuple_> outTupleList = tuple.getStore(flattenLastStoreIndex);
@@ -169,4 +181,9 @@ public abstract class AbstractFlattenLastNode<InTuple_ extends AbstractTuple, Ou
         return propagationQueue;
     }
 
+    @Override
+    public TuplePool<?> getTuplePool() {
+        return tuplePool;
+    }
+
 }
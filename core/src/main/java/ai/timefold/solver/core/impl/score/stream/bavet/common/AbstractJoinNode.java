@@ -6,6 +6,7 @@ import ai.timefold.solver.core.impl.score.stream.bavet.common.tuple.AbstractTupl
 import ai.timefold.solver.core.impl.score.stream.bavet.common.tuple.LeftTupleLifecycle;
 import ai.timefold.solver.core.impl.score.stream.bavet.common.tuple.RightTupleLifecycle;
 import ai.timefold.solver.core.impl.score.stream.bavet.common.tuple.TupleLifecycle;
+import ai.timefold.solver.core.impl.score.stream.bavet.common.tuple.TuplePool;
 import ai.timefold.solver.core.impl.score.stream.bavet.common.tuple.TupleState;
 import ai.timefold.solver.core.impl.score.stream.bavet.common.tuple.UniTuple;
 import ai.timefold.solver.core.impl.util.ElementAwareList;
@@ -29,6 +30,7 @@ public abstract class AbstractJoinNode<LeftTuple_ extends AbstractTuple, Right_,
     private final boolean isFiltering;
     private final int outputStoreIndexLeftOutEntry;
     private final int outputStoreIndexRightOutEntry;
+    private final TuplePool<OutTuple_> tuplePool = new TuplePool<>();
     private final StaticPropagationQueue<OutTuple_> propagationQueue;
 
     protected AbstractJoinNode(int inputStoreIndexLeftOutTupleList, int inputStoreIndexRightOutTupleList,
@@ -39,7 +41,7 @@ public abstract class AbstractJoinNode<LeftTuple_ extends AbstractTuple, Right_,
         this.isFiltering = isFiltering;
         this.outputStoreIndexLeftOutEntry = outputStoreIndexLeftOutEntry;
         this.outputStoreIndexRightOutEntry = outputStoreIndexRightOutEntry;
-        this.propagationQueue = new StaticPropagationQueue<>(nextNodesTupleLifecycle);
+        this.propagationQueue = new StaticPropagationQueue<>(nextNodesTupleLifecycle, tuplePool);
     }
 
     protected abstract OutTuple_ createOutTuple(LeftTuple_ leftTuple, UniTuple<Right_> rightTuple);
@@ -51,7 +53,13 @@ public abstract class AbstractJoinNode<LeftTuple_ extends AbstractTuple, Right_,
     protected abstract boolean testFiltering(LeftTuple_ leftTuple, UniTuple<Right_> rightTuple);
 
     protected final void insertOutTuple(LeftTuple_ leftTuple, UniTuple<Right_> rightTuple) {
-        var outTuple = createOutTuple(leftTuple, rightTuple);
+        var outTuple = tuplePool.poll();
+        if (outTuple == null) {
+            outTuple = createOutTuple(leftTuple, rightTuple);
+        } else {
+            setOutTupleLeftFacts(outTuple, leftTuple);
+            setOutTupleRightFact(outTuple, rightTuple);
+        }
         ElementAwareList<OutTuple_> outTupleListLeft = leftTuple.getStore(inputStoreIndexLeftOutTupleList);
         var outEntryLeft = outTupleListLeft.add(outTuple);
         outTuple.setStore(outputStoreIndexLeftOutEntry, outEntryLeft);
@@ -168,4 +176,9 @@ public abstract class AbstractJoinNode<LeftTuple_ extends AbstractTuple, Right_,
         return propagationQueue;
     }
 
+    @Override
+    public TuplePool<?> getTuplePool() {
+        return tuplePool;
+    }
+
 }
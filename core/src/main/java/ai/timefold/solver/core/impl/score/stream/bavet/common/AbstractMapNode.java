@@ -2,6 +2,7 @@ package ai.timefold.solver.core.impl.score.stream.bavet.common;
 
 import ai.timefold.solver.core.impl.score.stream.bavet.common.tuple.AbstractTuple;
 import ai.timefold.solver.core.impl.score.stream.bavet.common.tuple.TupleLifecycle;
+import ai.timefold.solver.core.impl.score.stream.bavet.common.tuple.TuplePool;
 import ai.timefold.solver.core.impl.score.stream.bavet.common.tuple.TupleState;
 
 public abstract class AbstractMapNode<InTuple_ extends AbstractTuple, OutTuple_ extends AbstractTuple>
@@ -10,12 +11,13 @@ public abstract class AbstractMapNode<InTuple_ extends AbstractTuple, OutTuple_
 
     private final int inputStoreIndex;
     protected final int outputStoreSize;
+    private final TuplePool<OutTuple_> tuplePool = new TuplePool<>();
     private final StaticPropagationQueue<OutTuple_> propagationQueue;
 
     protected AbstractMapNode(int inputStoreIndex, TupleLifecycle<OutTuple_> nextNodesTupleLifecycle, int outputStoreSize) {
         this.inputStoreIndex = inputStoreIndex;
         this.outputStoreSize = outputStoreSize;
-        this.propagationQueue = new StaticPropagationQueue<>(nextNodesTupleLifecycle);
+        this.propagationQueue = new StaticPropagationQueue<>(nextNodesTupleLifecycle, tuplePool);
     }
 
     @Override
@@ -24,7 +26,12 @@ public abstract class AbstractMapNode<InTuple_ extends AbstractTuple, OutTuple_
             throw new IllegalStateException("Impossible state: the input for the tuple (" + tuple
                     + ") was already added in the tupleStore.");
         }
-        OutTuple_ outTuple = map(tuple);
+        OutTuple_ outTuple = tuplePool.poll();
+        if (outTuple == null) {
+            outTuple = map(tuple);
+        } else {
+            remap(tuple, outTuple);
+        }
         tuple.setStore(inputStoreIndex, outTuple);
         propagationQueue.insert(outTuple);
     }
@@ -52,7 +59,8 @@ public abstract class AbstractMapNode<InTuple_ extends AbstractTuple, OutTuple_
 
     /**
      * @param inTuple never null; the tuple to apply mappings on
-     * @param oldOutTuple never null; the tuple that was previously mapped to the inTuple
+     * @param oldOutTuple never null; the tuple that was previously mapped to the inTuple,
+     *        or a recycled tuple with no facts
      */
     protected abstract void remap(InTuple_ inTuple, OutTuple_ oldOutTuple);
 
@@ -71,4 +79,9 @@ public abstract class AbstractMapNode<InTuple_ extends AbstractTuple, OutTuple_
         return propagationQueue;
     }
 
+    @Override
+    public TuplePool<?> getTuplePool() {
+        return tuplePool;
+    }
+
 }
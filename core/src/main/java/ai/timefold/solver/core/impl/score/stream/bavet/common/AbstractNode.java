@@ -1,6 +1,7 @@
 package ai.timefold.solver.core.impl.score.stream.bavet.common;
 
 import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintSession;
+import ai.timefold.solver.core.impl.score.stream.bavet.common.tuple.TuplePool;
 
 /**
  * @see PropagationQueue Description of the propagation mechanism.
@@ -21,6 +22,13 @@ public abstract class AbstractNode {
      */
     public abstract Propagator getPropagator();
 
+    /**
+     * @return null if this node does not reuse its out tuples
+     */
+    public TuplePool<?> getTuplePool() {
+        return null;
+    }
+
     public final void setId(long id) {
         this.id = id;
     }
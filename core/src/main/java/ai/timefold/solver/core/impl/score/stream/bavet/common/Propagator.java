@@ -66,4 +66,11 @@ public sealed interface Propagator permits PropagationQueue {
         propagateInserts();
     }
 
+    /**
+     * Used to decide whether a layer has enough work to be worth propagating in parallel.
+     *
+     * @return number of items waiting to be propagated; may over-count items which will later be skipped
+     */
+    int size();
+
 }
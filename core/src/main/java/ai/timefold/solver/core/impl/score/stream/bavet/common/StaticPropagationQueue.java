@@ -6,6 +6,7 @@ import java.util.function.Consumer;
 
 import ai.timefold.solver.core.impl.score.stream.bavet.common.tuple.AbstractTuple;
 import ai.timefold.solver.core.impl.score.stream.bavet.common.tuple.TupleLifecycle;
+import ai.timefold.solver.core.impl.score.stream.bavet.common.tuple.TuplePool;
 import ai.timefold.solver.core.impl.score.stream.bavet.common.tuple.TupleState;
 
 /**
@@ -25,8 +26,14 @@ public final class StaticPropagationQueue<Tuple_ extends AbstractTuple>
     private final Consumer<Tuple_> retractPropagator;
     private final Consumer<Tuple_> updatePropagator;
     private final Consumer<Tuple_> insertPropagator;
+    private final TuplePool<Tuple_> tuplePool;
 
-    public StaticPropagationQueue(TupleLifecycle<Tuple_> nextNodesTupleLifecycle, int size) {
+    /**
+     * @param tuplePool null if the tuples are not reused;
+     *        otherwise receives every tuple which dies in this queue,
+     *        and is recycled at the start of the next propagation
+     */
+    public StaticPropagationQueue(TupleLifecycle<Tuple_> nextNodesTupleLifecycle, int size, TuplePool<Tuple_> tuplePool) {
         // Guesstimate that updates are dominant.
         this.retractQueue = new ArrayDeque<>(size / 20);
         this.updateQueue = new ArrayDeque<>((size / 20) * 18);
@@ -35,10 +42,19 @@ public final class StaticPropagationQueue<Tuple_ extends AbstractTuple>
         this.retractPropagator = nextNodesTupleLifecycle::retract;
         this.updatePropagator = nextNodesTupleLifecycle::update;
         this.insertPropagator = nextNodesTupleLifecycle::insert;
+        this.tuplePool = tuplePool;
+    }
+
+    public StaticPropagationQueue(TupleLifecycle<Tuple_> nextNodesTupleLifecycle, int size) {
+        this(nextNodesTupleLifecycle, size, null);
+    }
+
+    public StaticPropagationQueue(TupleLifecycle<Tuple_> nextNodesTupleLifecycle, TuplePool<Tuple_> tuplePool) {
+        this(nextNodesTupleLifecycle, 1000, tuplePool);
     }
 
     public StaticPropagationQueue(TupleLifecycle<Tuple_> nextNodesTupleLifecycle) {
-        this(nextNodesTupleLifecycle, 1000);
+        this(nextNodesTupleLifecycle, 1000, null);
     }
 
     @Override
@@ -73,8 +89,17 @@ public final class StaticPropagationQueue<Tuple_ extends AbstractTuple>
         retractQueue.add(carrier);
     }
 
+    @Override
+    public int size() {
+        return retractQueue.size() + updateQueue.size() + insertQueue.size();
+    }
+
     @Override
     public void propagateRetracts() {
+        if (tuplePool != null) {
+            // The previous propagation has finished, so nothing references the tuples which died in it anymore.
+            tuplePool.recycle();
+        }
         if (retractQueue.isEmpty()) {
             return;
         }
@@ -83,6 +108,9 @@ public final class StaticPropagationQueue<Tuple_ extends AbstractTuple>
                 case DYING -> propagate(tuple, retractPropagator, TupleState.DEAD);
                 case ABORTING -> tuple.state = TupleState.DEAD;
             }
+            if (tuplePool != null) {
+                tuplePool.retire(tuple);
+            }
         }
         retractQueue.clear();
     }
@@ -7,12 +7,36 @@ import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
+import ai.timefold.solver.core.impl.util.LongObjectHashMap;
 
+/**
+ * Indexes by equality of the key.
+ * <p>
+ * Keys produced by joiner mappings are erased to {@link Object},
+ * so the key type is only known once the first key arrives.
+ * At that point, the indexer specializes its storage to the {@link KeyType key type}:
+ * int and long keys go into an open-addressing {@link LongObjectHashMap},
+ * enum keys go into an array indexed by ordinal,
+ * and any other key goes into a {@link HashMap}.
+ * This avoids {@link Object#hashCode()}/{@link Object#equals(Object)} dispatch
+ * and the allocation of a map entry per key for the most common join keys.
+ * If a key arrives that does not fit the specialized storage (such as null or a key of another type),
+ * the indexer falls back to the {@link HashMap} for good.
+ *
+ * @param <T> the element type
+ * @param <Key_> the key type
+ */
 final class EqualsIndexer<T, Key_> implements Indexer<T> {
 
     private final int propertyIndex;
     private final Supplier<Indexer<T>> downstreamIndexerSupplier;
-    private final Map<Key_, Indexer<T>> downstreamIndexerMap = new HashMap<>();
+
+    private KeyType keyType = KeyType.UNDECIDED;
+    private LongObjectHashMap<Indexer<T>> primitiveKeyMap = null;
+    private Class<?> enumClass = null;
+    private Indexer<T>[] enumOrdinalIndexers = null;
+    private int enumKeyCount = 0;
+    private Map<Key_, Indexer<T>> objectKeyMap = null;
 
     public EqualsIndexer(Supplier<Indexer<T>> downstreamIndexerSupplier) {
         this(0, downstreamIndexerSupplier);
@@ -27,10 +51,10 @@ final class EqualsIndexer<T, Key_> implements Indexer<T> {
     public ElementAwareListEntry<T> put(IndexProperties indexProperties, T tuple) {
         Key_ indexKey = indexProperties.toKey(propertyIndex);
         // Avoids computeIfAbsent in order to not create lambdas on the hot path.
-        Indexer<T> downstreamIndexer = downstreamIndexerMap.get(indexKey);
+        Indexer<T> downstreamIndexer = getDownstreamIndexer(indexKey);
         if (downstreamIndexer == null) {
             downstreamIndexer = downstreamIndexerSupplier.get();
-            downstreamIndexerMap.put(indexKey, downstreamIndexer);
+            putDownstreamIndexer(indexKey, downstreamIndexer);
         }
         return downstreamIndexer.put(indexProperties, tuple);
     }
@@ -38,28 +62,22 @@ final class EqualsIndexer<T, Key_> implements Indexer<T> {
     @Override
     public void remove(IndexProperties indexProperties, ElementAwareListEntry<T> entry) {
         Key_ indexKey = indexProperties.toKey(propertyIndex);
-        Indexer<T> downstreamIndexer = getDownstreamIndexer(indexProperties, indexKey, entry);
-        downstreamIndexer.remove(indexProperties, entry);
-        if (downstreamIndexer.isEmpty()) {
-            downstreamIndexerMap.remove(indexKey);
-        }
-    }
-
-    private Indexer<T> getDownstreamIndexer(IndexProperties indexProperties, Key_ indexerKey,
-            ElementAwareListEntry<T> entry) {
-        Indexer<T> downstreamIndexer = downstreamIndexerMap.get(indexerKey);
+        Indexer<T> downstreamIndexer = getDownstreamIndexer(indexKey);
         if (downstreamIndexer == null) {
             throw new IllegalStateException("Impossible state: the tuple (" + entry.getElement()
                     + ") with indexProperties (" + indexProperties
                     + ") doesn't exist in the indexer " + this + ".");
         }
-        return downstreamIndexer;
+        downstreamIndexer.remove(indexProperties, entry);
+        if (downstreamIndexer.isEmpty()) {
+            removeDownstreamIndexer(indexKey);
+        }
     }
 
     @Override
     public int size(IndexProperties indexProperties) {
         Key_ indexKey = indexProperties.toKey(propertyIndex);
-        Indexer<T> downstreamIndexer = downstreamIndexerMap.get(indexKey);
+        Indexer<T> downstreamIndexer = getDownstreamIndexer(indexKey);
         if (downstreamIndexer == null) {
             return 0;
         }
@@ -69,7 +87,7 @@ final class EqualsIndexer<T, Key_> implements Indexer<T> {
     @Override
     public void forEach(IndexProperties indexProperties, Consumer<T> tupleConsumer) {
         Key_ indexKey = indexProperties.toKey(propertyIndex);
-        Indexer<T> downstreamIndexer = downstreamIndexerMap.get(indexKey);
+        Indexer<T> downstreamIndexer = getDownstreamIndexer(indexKey);
         if (downstreamIndexer == null) {
             return;
         }
@@ -78,12 +96,139 @@ final class EqualsIndexer<T, Key_> implements Indexer<T> {
 
     @Override
     public boolean isEmpty() {
-        return downstreamIndexerMap.isEmpty();
+        return keyCount() == 0;
+    }
+
+    KeyType getKeyType() {
+        return keyType;
+    }
+
+    private int keyCount() {
+        return switch (keyType) {
+            case UNDECIDED -> 0;
+            case INT, LONG -> primitiveKeyMap.size();
+            case ENUM -> enumKeyCount;
+            case OBJECT -> objectKeyMap.size();
+        };
+    }
+
+    private Indexer<T> getDownstreamIndexer(Key_ indexKey) {
+        return switch (keyType) {
+            case UNDECIDED -> null;
+            case INT -> indexKey instanceof Integer intKey ? primitiveKeyMap.get(intKey) : null;
+            case LONG -> indexKey instanceof Long longKey ? primitiveKeyMap.get(longKey) : null;
+            case ENUM -> indexKey instanceof Enum<?> enumKey && enumKey.getDeclaringClass() == enumClass
+                    ? enumOrdinalIndexers[enumKey.ordinal()]
+                    : null;
+            case OBJECT -> objectKeyMap.get(indexKey);
+        };
+    }
+
+    private void putDownstreamIndexer(Key_ indexKey, Indexer<T> downstreamIndexer) {
+        if (keyType == KeyType.UNDECIDED) {
+            specialize(indexKey);
+        }
+        switch (keyType) {
+            case INT -> {
+                if (indexKey instanceof Integer intKey) {
+                    primitiveKeyMap.put(intKey, downstreamIndexer);
+                    return;
+                }
+            }
+            case LONG -> {
+                if (indexKey instanceof Long longKey) {
+                    primitiveKeyMap.put(longKey, downstreamIndexer);
+                    return;
+                }
+            }
+            case ENUM -> {
+                if (indexKey instanceof Enum<?> enumKey && enumKey.getDeclaringClass() == enumClass) {
+                    enumOrdinalIndexers[enumKey.ordinal()] = downstreamIndexer;
+                    enumKeyCount++;
+                    return;
+                }
+            }
+            case OBJECT -> {
+                objectKeyMap.put(indexKey, downstreamIndexer);
+                return;
+            }
+            default -> throw new IllegalStateException("Impossible state: the keyType (" + keyType + ") is not decided.");
+        }
+        // The key does not fit the specialized storage.
+        generalize();
+        objectKeyMap.put(indexKey, downstreamIndexer);
+    }
+
+    private void removeDownstreamIndexer(Key_ indexKey) {
+        switch (keyType) {
+            case INT -> primitiveKeyMap.remove((Integer) indexKey);
+            case LONG -> primitiveKeyMap.remove((Long) indexKey);
+            case ENUM -> {
+                enumOrdinalIndexers[((Enum<?>) indexKey).ordinal()] = null;
+                enumKeyCount--;
+            }
+            case OBJECT -> objectKeyMap.remove(indexKey);
+            default -> throw new IllegalStateException("Impossible state: the keyType (" + keyType + ") is not decided.");
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void specialize(Key_ indexKey) {
+        if (indexKey instanceof Integer) {
+            keyType = KeyType.INT;
+            primitiveKeyMap = new LongObjectHashMap<>();
+        } else if (indexKey instanceof Long) {
+            keyType = KeyType.LONG;
+            primitiveKeyMap = new LongObjectHashMap<>();
+        } else if (indexKey instanceof Enum<?> enumKey) {
+            keyType = KeyType.ENUM;
+            enumClass = enumKey.getDeclaringClass();
+            enumOrdinalIndexers = new Indexer[enumClass.getEnumConstants().length];
+        } else {
+            keyType = KeyType.OBJECT;
+            objectKeyMap = new HashMap<>();
+        }
+    }
+
+    /**
+     * Moves all downstream indexers from the specialized storage into a {@link HashMap}.
+     * The downstream indexers themselves are kept, so the entries held by the tuples stay valid.
+     */
+    @SuppressWarnings("unchecked")
+    private void generalize() {
+        objectKeyMap = new HashMap<>(Math.max(16, keyCount() * 2));
+        switch (keyType) {
+            case INT -> primitiveKeyMap.forEach((key, indexer) -> objectKeyMap.put((Key_) Integer.valueOf((int) key), indexer));
+            case LONG -> primitiveKeyMap.forEach((key, indexer) -> objectKeyMap.put((Key_) Long.valueOf(key), indexer));
+            case ENUM -> {
+                var enumConstants = enumClass.getEnumConstants();
+                for (var ordinal = 0; ordinal < enumOrdinalIndexers.length; ordinal++) {
+                    var indexer = enumOrdinalIndexers[ordinal];
+                    if (indexer != null) {
+                        objectKeyMap.put((Key_) enumConstants[ordinal], indexer);
+                    }
+                }
+            }
+            default -> throw new IllegalStateException("Impossible state: the keyType (" + keyType + ") is not specialized.");
+        }
+        keyType = KeyType.OBJECT;
+        primitiveKeyMap = null;
+        enumClass = null;
+        enumOrdinalIndexers = null;
+        enumKeyCount = 0;
     }
 
     @Override
     public String toString() {
-        return "size = " + downstreamIndexerMap.size();
+        return "size = " + keyCount();
+    }
+
+    enum KeyType {
+        UNDECIDED,
+        INT,
+        LONG,
+        ENUM,
+        OBJECT
     }
 
 }
@@ -1,6 +1,7 @@
 package ai.timefold.solver.core.impl.score.stream.bavet.common.index;
 
 import java.util.ArrayList;
+import java.util.List;
 import java.util.NavigableMap;
 import java.util.TreeMap;
 import java.util.function.BiFunction;
@@ -62,6 +63,14 @@ import ai.timefold.solver.core.impl.util.Triple;
  * there are three indexers in the chain,
  * and the middle one's keyFunction length is 2.</li>
  * </ul>
+ * <p>
+ * The key type of each {@link EqualsIndexer} is not known when the indexer is built,
+ * as joiner mappings are erased to {@link Object}.
+ * Instead, the indexer specializes its storage for int, long and enum keys once it sees its first key.
+ * <p>
+ * A LESS_THAN joiner immediately followed by a GREATER_THAN joiner,
+ * such as produced by {@link ai.timefold.solver.core.api.score.stream.Joiners#overlapping(Function, Function)},
+ * results in a single {@link OverlappingIndexer} which consumes both index properties.
  *
  * @param <Right_>
  */
@@ -585,13 +594,21 @@ public class IndexerFactory<Right_> {
             }
         }
         // The following code builds the children first, so it needs to iterate over the joiners in reverse order.
-        var descendingJoinerTypeMap = joinerTypeMap.descendingMap();
+        var joinerTypeList = new ArrayList<>(joinerTypeMap.values());
         Supplier<ai.timefold.solver.core.impl.score.stream.bavet.common.index.Indexer<T>> downstreamIndexerSupplier =
                 NoneIndexer::new;
-        var indexPropertyId = descendingJoinerTypeMap.size() - 1;
-        for (var entry : descendingJoinerTypeMap.entrySet()) {
-            var joinerType = entry.getValue();
+        var indexPropertyId = joinerTypeList.size() - 1;
+        while (indexPropertyId >= 0) {
+            var joinerType = joinerTypeList.get(indexPropertyId);
             var actualDownstreamIndexerSupplier = downstreamIndexerSupplier;
+            if (isOverlapping(joinerTypeList, indexPropertyId - 1)) {
+                // LESS_THAN followed by GREATER_THAN, as produced by Joiners.overlapping(), shares a single indexer.
+                var effectivelyFinalIndexPropertyId = indexPropertyId - 1;
+                downstreamIndexerSupplier = () -> new OverlappingIndexer<>(isLeftBridge, effectivelyFinalIndexPropertyId,
+                        actualDownstreamIndexerSupplier);
+                indexPropertyId -= 2;
+                continue;
+            }
             var effectivelyFinalIndexPropertyId = indexPropertyId;
             if (joinerType == JoinerType.EQUAL) {
                 downstreamIndexerSupplier =
@@ -609,4 +626,10 @@ public class IndexerFactory<Right_> {
         return downstreamIndexerSupplier.get();
     }
 
+    private static boolean isOverlapping(List<JoinerType> joinerTypeList, int indexPropertyId) {
+        return indexPropertyId >= 0
+                && joinerTypeList.get(indexPropertyId) == JoinerType.LESS_THAN
+                && joinerTypeList.get(indexPropertyId + 1) == JoinerType.GREATER_THAN;
+    }
+
 }
@@ -0,0 +1,282 @@
+package ai.timefold.solver.core.impl.score.stream.bavet.common.index;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
+
+/**
+ * Serves a {@link ai.timefold.solver.core.impl.score.stream.JoinerType#LESS_THAN} joiner
+ * immediately followed by a {@link ai.timefold.solver.core.impl.score.stream.JoinerType#GREATER_THAN} joiner,
+ * which is what {@link Joiners#overlapping(java.util.function.Function, java.util.function.Function)} compiles into.
+ * <p>
+ * Every stored element has a low key and a high key, taken from two consecutive index properties.
+ * An element matches a query if its low key is strictly less than the query's low bound
+ * and its high key is strictly greater than the query's high bound.
+ * For intervals, that means the stored interval overlaps the queried interval.
+ * <p>
+ * The elements are kept in an AVL tree ordered by the low key,
+ * where every node also tracks the maximum high key in its subtree.
+ * A query only descends into subtrees which can contain a match,
+ * so it visits {@code O(log n + k)} nodes instead of scanning a half-range like two nested {@link ComparisonIndexer}s.
+ *
+ * @param <T> the element type
+ * @param <Key_> the type of the interval bounds
+ */
+final class OverlappingIndexer<T, Key_ extends Comparable<Key_>> implements Indexer<T> {
+
+    private final int lowPropertyIndex;
+    private final int highPropertyIndex;
+    private final Supplier<Indexer<T>> downstreamIndexerSupplier;
+    private Node<T, Key_> root = null;
+    private int nodeCount = 0;
+
+    /**
+     * @param isLeftBridge the left index properties map to (start, end), the right ones to (end, start)
+     * @param propertyIndex the index of the first of the two consecutive index properties
+     * @param downstreamIndexerSupplier never null
+     */
+    public OverlappingIndexer(boolean isLeftBridge, int propertyIndex, Supplier<Indexer<T>> downstreamIndexerSupplier) {
+        /*
+         * The left side stores (start, end) and is queried with the right side's (end, start).
+         * The right side stores (end, start) and is queried with the left side's (start, end).
+         * In both cases, the stored start must be less than the queried end,
+         * and the stored end must be greater than the queried start.
+         */
+        this.lowPropertyIndex = isLeftBridge ? propertyIndex : propertyIndex + 1;
+        this.highPropertyIndex = isLeftBridge ? propertyIndex + 1 : propertyIndex;
+        this.downstreamIndexerSupplier = Objects.requireNonNull(downstreamIndexerSupplier);
+    }
+
+    @Override
+    public ElementAwareListEntry<T> put(IndexProperties indexProperties, T tuple) {
+        Key_ low = indexProperties.toKey(lowPropertyIndex);
+        Key_ high = indexProperties.toKey(highPropertyIndex);
+        var node = find(low, high);
+        if (node == null) {
+            node = new Node<>(low, high, downstreamIndexerSupplier.get());
+            root = insert(root, node);
+            nodeCount++;
+        }
+        return node.downstreamIndexer.put(indexProperties, tuple);
+    }
+
+    @Override
+    public void remove(IndexProperties indexProperties, ElementAwareListEntry<T> entry) {
+        Key_ low = indexProperties.toKey(lowPropertyIndex);
+        Key_ high = indexProperties.toKey(highPropertyIndex);
+        var node = find(low, high);
+        if (node == null) {
+            throw new IllegalStateException("Impossible state: the tuple (" + entry.getElement()
+                    + ") with indexProperties (" + indexProperties
+                    + ") doesn't exist in the indexer " + this + ".");
+        }
+        node.downstreamIndexer.remove(indexProperties, entry);
+        if (node.downstreamIndexer.isEmpty()) {
+            root = delete(root, low, high);
+            nodeCount--;
+        }
+    }
+
+    @Override
+    public int size(IndexProperties indexProperties) {
+        if (root == null) {
+            return 0;
+        }
+        Key_ lowBound = indexProperties.toKey(lowPropertyIndex);
+        Key_ highBound = indexProperties.toKey(highPropertyIndex);
+        return size(root, indexProperties, lowBound, highBound);
+    }
+
+    private int size(Node<T, Key_> node, IndexProperties indexProperties, Key_ lowBound, Key_ highBound) {
+        if (node == null || node.maxHigh.compareTo(highBound) <= 0) {
+            // No node in this subtree ends late enough.
+            return 0;
+        }
+        var size = size(node.left, indexProperties, lowBound, highBound);
+        if (node.low.compareTo(lowBound) < 0) {
+            if (node.high.compareTo(highBound) > 0) {
+                size += node.downstreamIndexer.size(indexProperties);
+            }
+            size += size(node.right, indexProperties, lowBound, highBound);
+        } // Else every node in the right subtree starts too late.
+        return size;
+    }
+
+    @Override
+    public void forEach(IndexProperties indexProperties, Consumer<T> tupleConsumer) {
+        if (root == null) {
+            return;
+        }
+        Key_ lowBound = indexProperties.toKey(lowPropertyIndex);
+        Key_ highBound = indexProperties.toKey(highPropertyIndex);
+        forEach(root, indexProperties, tupleConsumer, lowBound, highBound);
+    }
+
+    private void forEach(Node<T, Key_> node, IndexProperties indexProperties, Consumer<T> tupleConsumer, Key_ lowBound,
+            Key_ highBound) {
+        if (node == null || node.maxHigh.compareTo(highBound) <= 0) {
+            // No node in this subtree ends late enough.
+            return;
+        }
+        forEach(node.left, indexProperties, tupleConsumer, lowBound, highBound);
+        if (node.low.compareTo(lowBound) < 0) {
+            if (node.high.compareTo(highBound) > 0) {
+                node.downstreamIndexer.forEach(indexProperties, tupleConsumer);
+            }
+            forEach(node.right, indexProperties, tupleConsumer, lowBound, highBound);
+        } // Else every node in the right subtree starts too late.
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    private Node<T, Key_> find(Key_ low, Key_ high) {
+        var node = root;
+        while (node != null) {
+            var comparison = node.compareTo(low, high);
+            if (comparison == 0) {
+                return node;
+            }
+            node = comparison > 0 ? node.left : node.right;
+        }
+        return null;
+    }
+
+    private static <T, Key_ extends Comparable<Key_>> Node<T, Key_> insert(Node<T, Key_> subtree, Node<T, Key_> node) {
+        if (subtree == null) {
+            return node;
+        }
+        if (subtree.compareTo(node.low, node.high) > 0) {
+            subtree.left = insert(subtree.left, node);
+        } else {
+            subtree.right = insert(subtree.right, node);
+        }
+        return rebalance(subtree);
+    }
+
+    private static <T, Key_ extends Comparable<Key_>> Node<T, Key_> delete(Node<T, Key_> subtree, Key_ low, Key_ high) {
+        if (subtree == null) {
+            throw new IllegalStateException("Impossible state: the interval (" + low + ", " + high + ") is not indexed.");
+        }
+        var comparison = subtree.compareTo(low, high);
+        if (comparison > 0) {
+            subtree.left = delete(subtree.left, low, high);
+        } else if (comparison < 0) {
+            subtree.right = delete(subtree.right, low, high);
+        } else if (subtree.left == null) {
+            return subtree.right;
+        } else if (subtree.right == null) {
+            return subtree.left;
+        } else {
+            // Replace the node by its in-order successor, which has no left child.
+            var successor = subtree.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            successor.right = deleteMin(subtree.right);
+            successor.left = subtree.left;
+            subtree = successor;
+        }
+        return rebalance(subtree);
+    }
+
+    private static <T, Key_ extends Comparable<Key_>> Node<T, Key_> deleteMin(Node<T, Key_> subtree) {
+        if (subtree.left == null) {
+            return subtree.right;
+        }
+        subtree.left = deleteMin(subtree.left);
+        return rebalance(subtree);
+    }
+
+    private static <T, Key_ extends Comparable<Key_>> Node<T, Key_> rebalance(Node<T, Key_> node) {
+        node.update();
+        var balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        } else if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private static <T, Key_ extends Comparable<Key_>> Node<T, Key_> rotateRight(Node<T, Key_> node) {
+        var newRoot = node.left;
+        node.left = newRoot.right;
+        newRoot.right = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private static <T, Key_ extends Comparable<Key_>> Node<T, Key_> rotateLeft(Node<T, Key_> node) {
+        var newRoot = node.right;
+        node.right = newRoot.left;
+        newRoot.left = node;
+        node.update();
+        newRoot.update();
+        return newRoot;
+    }
+
+    private static int height(Node<?, ?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    @Override
+    public String toString() {
+        return "size = " + nodeCount;
+    }
+
+    private static final class Node<T, Key_ extends Comparable<Key_>> {
+
+        private final Key_ low;
+        private final Key_ high;
+        private final Indexer<T> downstreamIndexer;
+        private Node<T, Key_> left = null;
+        private Node<T, Key_> right = null;
+        private int height = 1;
+        private Key_ maxHigh;
+
+        private Node(Key_ low, Key_ high, Indexer<T> downstreamIndexer) {
+            this.low = Objects.requireNonNull(low);
+            this.high = Objects.requireNonNull(high);
+            this.downstreamIndexer = downstreamIndexer;
+            this.maxHigh = high;
+        }
+
+        /**
+         * Orders by the low key first, so that queries can prune on it, and by the high key to break ties.
+         */
+        private int compareTo(Key_ otherLow, Key_ otherHigh) {
+            var comparison = low.compareTo(otherLow);
+            if (comparison != 0) {
+                return comparison;
+            }
+            return high.compareTo(otherHigh);
+        }
+
+        private void update() {
+            height = Math.max(height(left), height(right)) + 1;
+            var newMaxHigh = high;
+            if (left != null && left.maxHigh.compareTo(newMaxHigh) > 0) {
+                newMaxHigh = left.maxHigh;
+            }
+            if (right != null && right.maxHigh.compareTo(newMaxHigh) > 0) {
+                newMaxHigh = right.maxHigh;
+            }
+            maxHigh = newMaxHigh;
+        }
+
+    }
+
+}
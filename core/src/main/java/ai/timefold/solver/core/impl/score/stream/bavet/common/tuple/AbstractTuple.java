@@ -1,5 +1,6 @@
 package ai.timefold.solver.core.impl.score.stream.bavet.common.tuple;
 
+import java.util.Arrays;
 import java.util.function.Function;
 
 import ai.timefold.solver.core.api.score.stream.uni.UniConstraintStream;
@@ -59,4 +60,37 @@ public abstract sealed class AbstractTuple permits UniTuple, BiTuple, TriTuple,
         return value;
     }
 
+    /**
+     * Empties the store and the facts, so that a recycled tuple does not keep anything alive.
+     * Only to be called by {@link TuplePool}.
+     */
+    final void clear() {
+        if (storeIsArray) {
+            Arrays.fill((Object[]) store, null);
+        } else {
+            store = null;
+        }
+        clearFacts();
+    }
+
+    /**
+     * @return true if neither the store nor the facts were set since {@link #clear()}
+     */
+    final boolean isClear() {
+        if (storeIsArray) {
+            for (var value : (Object[]) store) {
+                if (value != null) {
+                    return false;
+                }
+            }
+        } else if (store != null) {
+            return false;
+        }
+        return areFactsClear();
+    }
+
+    abstract void clearFacts();
+
+    abstract boolean areFactsClear();
+
 }
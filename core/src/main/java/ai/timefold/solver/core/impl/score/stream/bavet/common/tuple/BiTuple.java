@@ -12,6 +12,17 @@ public final class BiTuple<A, B> extends AbstractTuple {
         this.factB = factB;
     }
 
+    @Override
+    void clearFacts() {
+        factA = null;
+        factB = null;
+    }
+
+    @Override
+    boolean areFactsClear() {
+        return factA == null && factB == null;
+    }
+
     @Override
     public String toString() {
         return "{" + factA + ", " + factB + "}";
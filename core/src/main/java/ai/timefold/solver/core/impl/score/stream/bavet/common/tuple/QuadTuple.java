@@ -16,6 +16,19 @@ public final class QuadTuple<A, B, C, D> extends AbstractTuple {
         this.factD = factD;
     }
 
+    @Override
+    void clearFacts() {
+        factA = null;
+        factB = null;
+        factC = null;
+        factD = null;
+    }
+
+    @Override
+    boolean areFactsClear() {
+        return factA == null && factB == null && factC == null && factD == null;
+    }
+
     @Override
     public String toString() {
         return "{" + factA + ", " + factB + ", " + factC + ", " + factD + "}";
@@ -14,6 +14,18 @@ public final class TriTuple<A, B, C> extends AbstractTuple {
         this.factC = factC;
     }
 
+    @Override
+    void clearFacts() {
+        factA = null;
+        factB = null;
+        factC = null;
+    }
+
+    @Override
+    boolean areFactsClear() {
+        return factA == null && factB == null && factC == null;
+    }
+
     @Override
     public String toString() {
         return "{" + factA + ", " + factB + ", " + factC + "}";
@@ -0,0 +1,85 @@
+package ai.timefold.solver.core.impl.score.stream.bavet.common.tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Keeps the out tuples of a single node after they died, so that the node can reuse them
+ * instead of allocating new ones.
+ * <p>
+ * A tuple which became {@link TupleState#DEAD} may still be referenced by the nodes downstream,
+ * until the entire propagation has finished.
+ * Therefore a dead tuple is first {@link #retire(AbstractTuple) retired},
+ * and only becomes available for reuse after the next call to {@link #recycle()}.
+ * The propagation queue of the node calls it at the start of its next propagation,
+ * when the previous propagation is guaranteed to have finished.
+ * <p>
+ * With use-after-recycle detection enabled, no tuple is ever reused.
+ * Instead, recycled tuples are emptied and kept aside until the next {@link #recycle()},
+ * which fails fast if any of them was touched in the meantime.
+ *
+ * @param <Tuple_>
+ */
+public final class TuplePool<Tuple_ extends AbstractTuple> {
+
+    /**
+     * Dead tuples beyond this number are left to the garbage collector,
+     * so that a single large retraction does not keep its tuples in memory forever.
+     */
+    static final int MAX_SIZE = 1024;
+
+    private final List<Tuple_> retiredList = new ArrayList<>();
+    private final List<Tuple_> freeList = new ArrayList<>();
+    private boolean useAfterRecycleDetection = false;
+
+    public void enableUseAfterRecycleDetection() {
+        this.useAfterRecycleDetection = true;
+    }
+
+    /**
+     * @return null if there is no tuple to reuse;
+     *         otherwise a {@link TupleState#DEAD} tuple with an empty store and no facts,
+     *         which the caller needs to fill in
+     */
+    public Tuple_ poll() {
+        var size = freeList.size();
+        if (size == 0 || useAfterRecycleDetection) { // Detection keeps the recycled tuples aside.
+            return null;
+        }
+        return freeList.remove(size - 1);
+    }
+
+    /**
+     * @param tuple never null, a tuple which has just become {@link TupleState#DEAD}
+     */
+    public void retire(Tuple_ tuple) {
+        if (useAfterRecycleDetection || retiredList.size() + freeList.size() < MAX_SIZE) {
+            retiredList.add(tuple);
+        }
+    }
+
+    /**
+     * Makes the retired tuples available for reuse.
+     * Must only be called once the propagation in which they were retired has finished.
+     */
+    public void recycle() {
+        if (useAfterRecycleDetection) {
+            for (var tuple : freeList) {
+                if (tuple.state != TupleState.DEAD || !tuple.isClear()) {
+                    throw new IllegalStateException("Impossible state: The tuple (" + tuple + ") in state (" + tuple.state
+                            + ") was used after it had been recycled.");
+                }
+            }
+            freeList.clear();
+        }
+        if (retiredList.isEmpty()) {
+            return;
+        }
+        for (var tuple : retiredList) {
+            tuple.clear();
+            freeList.add(tuple);
+        }
+        retiredList.clear();
+    }
+
+}
@@ -10,6 +10,16 @@ public final class UniTuple<A> extends AbstractTuple {
         this.factA = factA;
     }
 
+    @Override
+    void clearFacts() {
+        factA = null;
+    }
+
+    @Override
+    boolean areFactsClear() {
+        return factA == null;
+    }
+
     @Override
     public String toString() {
         return "{" + factA + "}";
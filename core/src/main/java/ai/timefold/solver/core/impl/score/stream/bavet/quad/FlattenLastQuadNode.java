@@ -23,6 +23,14 @@ final class FlattenLastQuadNode<A, B, C, D, NewD>
                 outputStoreSize);
     }
 
+    @Override
+    protected void setTupleFacts(QuadTuple<A, B, C, NewD> tuple, QuadTuple<A, B, C, D> originalTuple, NewD newD) {
+        tuple.factA = originalTuple.factA;
+        tuple.factB = originalTuple.factB;
+        tuple.factC = originalTuple.factC;
+        tuple.factD = newD;
+    }
+
     @Override
     protected D getEffectiveFactIn(QuadTuple<A, B, C, D> tuple) {
         return tuple.factD;
@@ -22,6 +22,13 @@ final class FlattenLastTriNode<A, B, C, NewC>
         return new TriTuple<>(originalTuple.factA, originalTuple.factB, newC, outputStoreSize);
     }
 
+    @Override
+    protected void setTupleFacts(TriTuple<A, B, NewC> tuple, TriTuple<A, B, C> originalTuple, NewC newC) {
+        tuple.factA = originalTuple.factA;
+        tuple.factB = originalTuple.factB;
+        tuple.factC = newC;
+    }
+
     @Override
     protected C getEffectiveFactIn(TriTuple<A, B, C> tuple) {
         return tuple.factC;
@@ -21,6 +21,11 @@ final class FlattenLastUniNode<A, NewA> extends AbstractFlattenLastNode<UniTuple
         return new UniTuple<>(item, outputStoreSize);
     }
 
+    @Override
+    protected void setTupleFacts(UniTuple<NewA> tuple, UniTuple<A> originalTuple, NewA item) {
+        tuple.factA = item;
+    }
+
     @Override
     protected A getEffectiveFactIn(UniTuple<A> tuple) {
         return tuple.factA;
@@ -3,63 +3,119 @@ package ai.timefold.solver.core.impl.score.stream.collector;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
-import java.util.Objects;
 
 import ai.timefold.solver.core.api.score.stream.common.LoadBalance;
 
 import org.jspecify.annotations.NonNull;
 
+/**
+ * Every balanced item is registered once and gets a dense index,
+ * which its metric value and its registration count are stored at in primitive arrays.
+ * Only registering looks up that index; the retractor remembers it.
+ * The squared deviation is maintained with long arithmetic;
+ * {@link BigDecimal} is only created when the {@link #unfairness() unfairness} is read,
+ * and cached until the next change.
+ *
+ * @param <Balanced_> type of the item being balanced
+ */
 public final class LoadBalanceImpl<Balanced_> implements LoadBalance<Balanced_> {
 
     // If need be, precision can be made configurable on the constraint collector level.
     private static final MathContext RESULT_MATH_CONTEXT = new MathContext(6, RoundingMode.HALF_EVEN);
+    private static final int INITIAL_CAPACITY = 16;
 
-    private final Map<Balanced_, Integer> balancedItemCountMap = new HashMap<>();
-    private final Map<Balanced_, Long> balancedItemToMetricValueMap = new LinkedHashMap<>();
+    private final Map<Balanced_, Integer> balancedItemIndexMap = new HashMap<>();
+    private Object[] balancedItems = new Object[INITIAL_CAPACITY];
+    private long[] metricValues = new long[INITIAL_CAPACITY];
+    private int[] balancedItemCounts = new int[INITIAL_CAPACITY];
+    // Indexes of unregistered items, reused before the high water mark grows.
+    private int[] freeIndexes = new int[INITIAL_CAPACITY];
+    private int freeIndexCount = 0;
+    private int indexHighWaterMark = 0;
 
     private long sum = 0;
     private long squaredDeviationIntegralPart = 0;
     private long squaredDeviationFractionNumerator = 0;
+    // Null if it needs to be recalculated.
+    private BigDecimal unfairness = BigDecimal.ZERO;
 
     public Runnable registerBalanced(Balanced_ balanced, long metricValue, long initialMetricValue) {
-        var balancedItemCount = balancedItemCountMap.compute(balanced, (k, v) -> v == null ? 1 : v + 1);
-        if (balancedItemCount == 1) {
-            addToMetric(balanced, metricValue + initialMetricValue);
+        var index = balancedItemIndexMap.get(balanced);
+        if (index == null) {
+            index = allocateIndex(balanced);
+            balancedItemIndexMap.put(balanced, index);
+            balancedItemCounts[index] = 1;
+            addToMetric(index, metricValue + initialMetricValue);
         } else {
-            addToMetric(balanced, metricValue);
+            balancedItemCounts[index]++;
+            addToMetric(index, metricValue);
         }
-        return () -> unregisterBalanced(balanced, metricValue);
+        var registeredIndex = index.intValue();
+        return () -> unregisterBalanced(registeredIndex, metricValue);
     }
 
-    public void unregisterBalanced(Balanced_ balanced, long metricValue) {
-        var count = balancedItemCountMap.compute(balanced, (k, v) -> v == 1 ? null : v - 1);
-        if (count == null) {
-            resetMetric(balanced);
+    private void unregisterBalanced(int index, long metricValue) {
+        var count = --balancedItemCounts[index];
+        if (count == 0) {
+            resetMetric(index);
+            @SuppressWarnings("unchecked")
+            var balanced = (Balanced_) balancedItems[index];
+            balancedItemIndexMap.remove(balanced);
+            freeIndex(index);
         } else {
-            addToMetric(balanced, -metricValue);
+            addToMetric(index, -metricValue);
         }
     }
 
-    private void addToMetric(Balanced_ balanced, long diff) {
-        long oldValue = balancedItemToMetricValueMap.getOrDefault(balanced, 0L);
+    private int allocateIndex(Balanced_ balanced) {
+        int index;
+        if (freeIndexCount > 0) {
+            index = freeIndexes[--freeIndexCount];
+        } else {
+            if (indexHighWaterMark == balancedItems.length) {
+                var newCapacity = balancedItems.length << 1;
+                balancedItems = Arrays.copyOf(balancedItems, newCapacity);
+                metricValues = Arrays.copyOf(metricValues, newCapacity);
+                balancedItemCounts = Arrays.copyOf(balancedItemCounts, newCapacity);
+            }
+            index = indexHighWaterMark++;
+        }
+        balancedItems[index] = balanced;
+        return index;
+    }
+
+    private void freeIndex(int index) {
+        balancedItems[index] = null;
+        metricValues[index] = 0L;
+        if (freeIndexCount == freeIndexes.length) {
+            freeIndexes = Arrays.copyOf(freeIndexes, freeIndexes.length << 1);
+        }
+        freeIndexes[freeIndexCount++] = index;
+    }
+
+    private void addToMetric(int index, long diff) {
+        var oldValue = metricValues[index];
         var newValue = oldValue + diff;
-        balancedItemToMetricValueMap.put(balanced, newValue);
+        metricValues[index] = newValue;
         if (oldValue != newValue) {
             updateSquaredDeviation(oldValue, newValue);
             sum += diff;
         }
+        unfairness = null;
     }
 
-    private void resetMetric(Balanced_ balanced) {
-        long oldValue = Objects.requireNonNullElse(balancedItemToMetricValueMap.remove(balanced), 0L);
+    private void resetMetric(int index) {
+        var oldValue = metricValues[index];
         if (oldValue != 0) {
             updateSquaredDeviation(oldValue, 0);
             sum -= oldValue;
         }
+        unfairness = null;
     }
 
     private void updateSquaredDeviation(long oldValue, long newValue) {
@@ -87,17 +143,35 @@ public final class LoadBalanceImpl<Balanced_> implements LoadBalance<Balanced_>
         squaredDeviationFractionNumerator += squaredDeviationSecondTermNumerator;
     }
 
+    /**
+     * Builds a snapshot, because the loads are only needed for justifications and score analysis.
+     */
     @Override
     public @NonNull Map<Balanced_, Long> loads() {
-        if (balancedItemCountMap.isEmpty()) {
+        if (balancedItemIndexMap.isEmpty()) {
             return Collections.emptyMap();
         }
-        return Collections.unmodifiableMap(balancedItemToMetricValueMap);
+        var loadMap = new LinkedHashMap<Balanced_, Long>(balancedItemIndexMap.size() * 2);
+        for (var index = 0; index < indexHighWaterMark; index++) {
+            if (balancedItemCounts[index] > 0) {
+                @SuppressWarnings("unchecked")
+                var balanced = (Balanced_) balancedItems[index];
+                loadMap.put(balanced, metricValues[index]);
+            }
+        }
+        return Collections.unmodifiableMap(loadMap);
     }
 
     @Override
     public @NonNull BigDecimal unfairness() {
-        var totalToBalanceCount = balancedItemCountMap.size();
+        if (unfairness == null) {
+            unfairness = calculateUnfairness();
+        }
+        return unfairness;
+    }
+
+    private BigDecimal calculateUnfairness() {
+        var totalToBalanceCount = balancedItemIndexMap.size();
         return switch (totalToBalanceCount) {
             case 0 -> BigDecimal.ZERO;
             case 1 -> BigDecimal.valueOf(squaredDeviationFractionNumerator + squaredDeviationIntegralPart)
@@ -4,11 +4,14 @@ import java.lang.reflect.InvocationTargetException;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.score.constraint.ConstraintMatch;
 import ai.timefold.solver.core.api.score.constraint.ConstraintMatchTotal;
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
 import ai.timefold.solver.core.api.score.constraint.Indictment;
 import ai.timefold.solver.core.api.score.stream.Constraint;
 import ai.timefold.solver.core.impl.score.buildin.BendableBigDecimalScoreDefinition;
@@ -106,7 +109,8 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
 
     protected final boolean constraintMatchEnabled;
     protected final Map<Constraint, Score_> constraintWeightMap;
-    private final Map<Constraint, ElementAwareList<ConstraintMatchCarrier<Score_>>> constraintMatchMap;
+    private final Map<Constraint, ConstraintMatchList<Score_>> constraintMatchMap;
+    private final Map<ConstraintRef, ConstraintMatchList<Score_>> constraintRefToConstraintMatchMap;
     private Map<String, ConstraintMatchTotal<Score_>> constraintIdToConstraintMatchTotalMap = null;
     private Map<Object, Indictment<Score_>> indictmentMap = null;
 
@@ -116,10 +120,14 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
         this.constraintWeightMap = constraintWeightMap;
         this.constraintMatchMap =
                 constraintMatchEnabled ? CollectionUtils.newIdentityHashMap(constraintWeightMap.size()) : null;
+        this.constraintRefToConstraintMatchMap =
+                constraintMatchEnabled ? CollectionUtils.newHashMap(constraintWeightMap.size()) : null;
         if (constraintMatchEnabled) {
             for (var constraint : constraintWeightMap.keySet()) {
                 // Ensure that even constraints without matches have their entry.
-                constraintMatchMap.put(constraint, new ElementAwareList<>());
+                var constraintMatchList = new ConstraintMatchList<Score_>();
+                constraintMatchMap.put(constraint, constraintMatchList);
+                constraintRefToConstraintMatchMap.put(constraint.getConstraintRef(), constraintMatchList);
             }
         }
     }
@@ -144,24 +152,26 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
 
     protected final UndoScoreImpacter addConstraintMatch(Constraint constraint, Score_ score,
             ConstraintMatchSupplier<Score_> constraintMatchSupplier, UndoScoreImpacter undoScoreImpact) {
-        ElementAwareList<ConstraintMatchCarrier<Score_>> constraintMatchList = getConstraintMatchList(constraint);
+        ConstraintMatchList<Score_> constraintMatchList = getConstraintMatchList(constraint);
         /*
          * Creating a constraint match is a heavy operation which may yet be undone.
          * Defer creation of the constraint match until a later point.
          */
         ElementAwareListEntry<ConstraintMatchCarrier<Score_>> entry =
-                constraintMatchList.add(new ConstraintMatchCarrier<>(constraintMatchSupplier, constraint, score));
+                constraintMatchList.carrierList.add(new ConstraintMatchCarrier<>(constraintMatchSupplier, constraint, score));
+        constraintMatchList.version++;
         clearMaps();
         return () -> {
             undoScoreImpact.run();
             entry.remove();
+            constraintMatchList.version++;
             clearMaps();
         };
     }
 
-    private ElementAwareList<ConstraintMatchCarrier<Score_>> getConstraintMatchList(Constraint constraint) {
+    private ConstraintMatchList<Score_> getConstraintMatchList(Constraint constraint) {
         // Optimization: computeIfAbsent() would have created a lambda on the hot path.
-        ElementAwareList<ConstraintMatchCarrier<Score_>> constraintMatchList = constraintMatchMap.get(constraint);
+        ConstraintMatchList<Score_> constraintMatchList = constraintMatchMap.get(constraint);
         if (constraintMatchList == null) {
             throw new IllegalStateException(
                     "Impossible state: Unknown constraint (%s)."
@@ -192,7 +202,7 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
             var constraint = entry.getKey();
             var constraintMatchTotal =
                     new DefaultConstraintMatchTotal<>(constraint.getConstraintRef(), constraintWeightMap.get(constraint));
-            for (var carrier : entry.getValue()) {
+            for (var carrier : entry.getValue().carrierList) {
                 // Constraint match instances are only created here when we actually need them.
                 var constraintMatch = carrier.get();
                 constraintMatchTotal.addConstraintMatch(constraintMatch);
@@ -212,7 +222,7 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
     private void rebuildIndictments() {
         var workingIndictmentMap = new LinkedHashMap<Object, Indictment<Score_>>();
         for (var entry : constraintMatchMap.entrySet()) {
-            for (var carrier : entry.getValue()) {
+            for (var carrier : entry.getValue().carrierList) {
                 // Constraint match instances are only created here when we actually need them.
                 var constraintMatch = carrier.get();
                 for (var indictedObject : constraintMatch.getIndictedObjectList()) {
@@ -233,6 +243,38 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
         indictmentMap = workingIndictmentMap;
     }
 
+    /**
+     * Visits the constraint matches of the accepted constraints
+     * without building {@link ConstraintMatchTotal}s or {@link Indictment}s.
+     *
+     * @param constraintRefFilter never null, decides which constraints to visit
+     * @param constraintMatchVisitor never null
+     */
+    public final void visitConstraintMatches(Predicate<ConstraintRef> constraintRefFilter,
+            Consumer<ConstraintMatch<Score_>> constraintMatchVisitor) {
+        for (var entry : constraintRefToConstraintMatchMap.entrySet()) {
+            if (!constraintRefFilter.test(entry.getKey())) {
+                continue;
+            }
+            for (var carrier : entry.getValue().carrierList) {
+                constraintMatchVisitor.accept(carrier.get());
+            }
+        }
+    }
+
+    /**
+     * @param constraintRef never null
+     * @return changes every time a constraint match of that constraint is added or removed
+     */
+    public final long getConstraintMatchVersion(ConstraintRef constraintRef) {
+        var constraintMatchList = constraintRefToConstraintMatchMap.get(constraintRef);
+        if (constraintMatchList == null) {
+            throw new IllegalStateException("Impossible state: Unknown constraint (%s)."
+                    .formatted(constraintRef));
+        }
+        return constraintMatchList.version;
+    }
+
     private DefaultIndictment<Score_> getIndictment(Map<Object, Indictment<Score_>> indictmentMap,
             ConstraintMatch<Score_> constraintMatch, Object indictedObject) {
         // Like computeIfAbsent(), but doesn't create a capturing lambda on the hot path.
@@ -244,6 +286,14 @@ public abstract class AbstractScoreInliner<Score_ extends Score<Score_>> {
         return indictment;
     }
 
+    private static final class ConstraintMatchList<Score_ extends Score<Score_>> {
+
+        private final ElementAwareList<ConstraintMatchCarrier<Score_>> carrierList = new ElementAwareList<>();
+        // Changes with every added or removed constraint match, so that unchanged constraints can skip re-analysis.
+        private long version = 0L;
+
+    }
+
     private static final class ConstraintMatchCarrier<Score_ extends Score<Score_>>
             implements
             Supplier<ConstraintMatch<Score_>> {
@@ -4,6 +4,7 @@ import java.util.Iterator;
 import java.util.List;
 
 import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
 import ai.timefold.solver.core.api.solver.Solver;
 import ai.timefold.solver.core.api.solver.event.SolverEventListener;
 import ai.timefold.solver.core.impl.phase.AbstractPhase;
@@ -133,6 +134,32 @@ public abstract class AbstractSolver<Solution_> implements Solver<Solution_> {
         // Do not propagate to phases; the active phase does that for itself and they should not propagate further.
     }
 
+    /**
+     * Called by a phase when it starts, if it can apply problem changes between its steps
+     * through {@link #applyProblemChangeBatch(SolverScope)}, instead of terminating for a solver restart.
+     *
+     * @return true if problem change streaming is enabled, in which case {@link #endProblemChangeStreaming()}
+     *         must be called when the phase ends
+     */
+    public boolean startProblemChangeStreaming() {
+        return false;
+    }
+
+    public void endProblemChangeStreaming() {
+        // Overridable by a subclass.
+    }
+
+    /**
+     * Applies the next batch of problem changes (if it is due) without a solver restart.
+     * Must only be called between two steps, by a phase for which {@link #startProblemChangeStreaming()} returned true.
+     *
+     * @param solverScope never null
+     * @return null if no problem change was applied, otherwise the score of the new working solution
+     */
+    public Score<?> applyProblemChangeBatch(SolverScope<Solution_> solverScope) {
+        return null;
+    }
+
     // ************************************************************************
     // Event listeners
     // ************************************************************************
@@ -50,45 +50,13 @@ final class AssignmentProcessor<Solution_, Score_ extends Score<Score_>, Recomme
     public List<Recommendation_> apply(InnerScoreDirector<Solution_, Score_> scoreDirector) {
         // The cloned element may already be assigned.
         // If it is, we need to unassign it before we can run the construction heuristic.
-        var moveDirector = scoreDirector.getMoveDirector();
-        var supplyManager = scoreDirector.getSupplyManager();
-        var solutionDescriptor = solverFactory.getSolutionDescriptor();
-        var listVariableDescriptor = solutionDescriptor.getListVariableDescriptor();
-        if (listVariableDescriptor != null) {
-            var demand = listVariableDescriptor.getStateDemand();
-            var listVariableStateSupply = supplyManager.demand(demand);
-            var elementLocation = listVariableStateSupply.getLocationInList(clonedElement);
-            if (elementLocation instanceof LocationInList locationInList) { // Unassign the cloned element.
-                var entity = locationInList.entity();
-                var index = locationInList.index();
-                wrapAndExecute(moveDirector, new ListUnassignMove<>(listVariableDescriptor, entity, index));
-            }
-            supplyManager.cancel(demand);
-        } else {
-            var entityDescriptor = solutionDescriptor.findEntityDescriptorOrFail(clonedElement.getClass());
-            for (var variableDescriptor : entityDescriptor.getGenuineVariableDescriptorList()) {
-                var basicVariableDescriptor = (BasicVariableDescriptor<Solution_>) variableDescriptor;
-                if (basicVariableDescriptor.getValue(clonedElement) == null) {
-                    // The variable is already unassigned.
-                    continue;
-                }
-                // Uninitialize the basic variable.
-                if (basicVariableDescriptor.isChained()) {
-                    var demand = new SingletonInverseVariableDemand<>(basicVariableDescriptor);
-                    var supply = supplyManager.demand(demand);
-                    wrapAndExecute(moveDirector, new ChainedChangeMove<>(basicVariableDescriptor, clonedElement, null, supply));
-                    supplyManager.cancel(demand);
-                } else {
-                    wrapAndExecute(moveDirector, new ChangeMove<>(basicVariableDescriptor, clonedElement, null));
-                }
-            }
-        }
+        unassign(scoreDirector, clonedElement);
         scoreDirector.triggerVariableListeners();
 
         // The placers needs to be filtered.
         // If anything else than the cloned element is unassigned, we want to keep it unassigned.
         // Otherwise the solution would have to explicitly pin everything other than the cloned element.
-        var entityPlacer = buildEntityPlacer()
+        var entityPlacer = buildEntityPlacer(solverFactory)
                 .rebuildWithFilter((solution, selection) -> selection == clonedElement);
 
         var solverScope = new SolverScope<Solution_>();
@@ -123,12 +91,57 @@ final class AssignmentProcessor<Solution_, Score_ extends Score<Score_>, Recomme
         }
     }
 
-    private void wrapAndExecute(MoveDirector<Solution_> moveDirector,
+    /**
+     * Unassigns every genuine variable of the element, or removes the element from its list variable.
+     *
+     * @param element never null, a working object
+     * @return never null, the moves which undo the unassignment, in the order they were executed
+     */
+    static <Solution_> List<Move<Solution_>> unassign(InnerScoreDirector<Solution_, ?> scoreDirector, Object element) {
+        var moveDirector = scoreDirector.getMoveDirector();
+        var supplyManager = scoreDirector.getSupplyManager();
+        var solutionDescriptor = scoreDirector.getSolutionDescriptor();
+        var listVariableDescriptor = solutionDescriptor.getListVariableDescriptor();
+        var undoMoveList = new ArrayList<Move<Solution_>>();
+        if (listVariableDescriptor != null) {
+            var demand = listVariableDescriptor.getStateDemand();
+            var listVariableStateSupply = supplyManager.demand(demand);
+            var elementLocation = listVariableStateSupply.getLocationInList(element);
+            if (elementLocation instanceof LocationInList locationInList) { // Unassign the element.
+                var entity = locationInList.entity();
+                var index = locationInList.index();
+                undoMoveList.add(wrapAndExecute(moveDirector, new ListUnassignMove<>(listVariableDescriptor, entity, index)));
+            }
+            supplyManager.cancel(demand);
+        } else {
+            var entityDescriptor = solutionDescriptor.findEntityDescriptorOrFail(element.getClass());
+            for (var variableDescriptor : entityDescriptor.getGenuineVariableDescriptorList()) {
+                var basicVariableDescriptor = (BasicVariableDescriptor<Solution_>) variableDescriptor;
+                if (basicVariableDescriptor.getValue(element) == null) {
+                    // The variable is already unassigned.
+                    continue;
+                }
+                // Uninitialize the basic variable.
+                if (basicVariableDescriptor.isChained()) {
+                    var demand = new SingletonInverseVariableDemand<>(basicVariableDescriptor);
+                    var supply = supplyManager.demand(demand);
+                    undoMoveList.add(wrapAndExecute(moveDirector,
+                            new ChainedChangeMove<>(basicVariableDescriptor, element, null, supply)));
+                    supplyManager.cancel(demand);
+                } else {
+                    undoMoveList.add(wrapAndExecute(moveDirector, new ChangeMove<>(basicVariableDescriptor, element, null)));
+                }
+            }
+        }
+        return undoMoveList;
+    }
+
+    private static <Solution_> Move<Solution_> wrapAndExecute(MoveDirector<Solution_> moveDirector,
             ai.timefold.solver.core.impl.heuristic.move.Move<Solution_> move) {
-        new LegacyMoveAdapter<>(move).execute(moveDirector);
+        return moveDirector.executeAndCreateUndoMove(new LegacyMoveAdapter<>(move));
     }
 
-    private EntityPlacer<Solution_> buildEntityPlacer() {
+    static <Solution_> EntityPlacer<Solution_> buildEntityPlacer(DefaultSolverFactory<Solution_> solverFactory) {
         var solver = (DefaultSolver<Solution_>) solverFactory.buildSolver();
         var phaseList = solver.getPhaseList();
         var constructionHeuristicCount = phaseList.stream()
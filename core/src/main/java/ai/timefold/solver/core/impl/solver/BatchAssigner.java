@@ -0,0 +1,231 @@
+package ai.timefold.solver.core.impl.solver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+import ai.timefold.solver.core.api.move.Move;
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.analysis.ScoreAnalysis;
+import ai.timefold.solver.core.api.solver.RecommendedAssignment;
+import ai.timefold.solver.core.api.solver.ScoreAnalysisFetchPolicy;
+import ai.timefold.solver.core.impl.constructionheuristic.placer.EntityPlacer;
+import ai.timefold.solver.core.impl.constructionheuristic.scope.ConstructionHeuristicPhaseScope;
+import ai.timefold.solver.core.impl.constructionheuristic.scope.ConstructionHeuristicStepScope;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirectorFactory;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.core.impl.solver.thread.DefaultSolverThreadFactory;
+import ai.timefold.solver.core.impl.solver.thread.ThreadUtils;
+
+/**
+ * Recommends assignments for many entities or elements,
+ * sharing one score director (and its constraint session) among all of them,
+ * instead of building one per entity or element like {@link Assigner} does.
+ * With a parallelism above 1, the entities or elements are split in contiguous chunks,
+ * each with its own clone of the solution and its own score director, evaluated on its own thread.
+ * <p>
+ * Every placement is first only scored;
+ * the score analysis and the proposition are only built for the best placements within the recommendation limit.
+ * Every entity or element is evaluated against the solution as it was given,
+ * the others keep their original assignment.
+ */
+final class BatchAssigner<Solution_, Score_ extends Score<Score_>, In_, Out_> {
+
+    private final DefaultSolverFactory<Solution_> solverFactory;
+    private final InnerScoreDirectorFactory<Solution_, Score_> scoreDirectorFactory;
+    private final Function<In_, Out_> propositionFunction;
+    private final ScoreAnalysisFetchPolicy fetchPolicy;
+    private final int recommendationLimit;
+    private final int parallelism;
+
+    public BatchAssigner(DefaultSolverFactory<Solution_> solverFactory, Function<In_, Out_> propositionFunction,
+            ScoreAnalysisFetchPolicy fetchPolicy, int recommendationLimit, int parallelism) {
+        this.solverFactory = Objects.requireNonNull(solverFactory);
+        this.scoreDirectorFactory = solverFactory.getScoreDirectorFactory();
+        this.propositionFunction = Objects.requireNonNull(propositionFunction);
+        this.fetchPolicy = Objects.requireNonNull(fetchPolicy);
+        if (recommendationLimit < 1) {
+            throw new IllegalArgumentException("The recommendationLimit (%d) must be at least 1."
+                    .formatted(recommendationLimit));
+        }
+        this.recommendationLimit = recommendationLimit;
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("The parallelism (%d) must be at least 1."
+                    .formatted(parallelism));
+        }
+        this.parallelism = parallelism;
+    }
+
+    public List<List<RecommendedAssignment<Out_, Score_>>> recommend(Solution_ originalSolution,
+            List<In_> originalElementList) {
+        Objects.requireNonNull(originalSolution);
+        if (originalElementList.isEmpty()) {
+            return Collections.emptyList();
+        }
+        var chunkCount = Math.min(parallelism, originalElementList.size());
+        if (chunkCount == 1) {
+            return recommendChunk(originalSolution, originalElementList);
+        }
+        var chunkSize = (originalElementList.size() + chunkCount - 1) / chunkCount;
+        var executor = Executors.newFixedThreadPool(chunkCount, new DefaultSolverThreadFactory("RecommendationThread"));
+        try {
+            var futureList = new ArrayList<Future<List<List<RecommendedAssignment<Out_, Score_>>>>>(chunkCount);
+            for (var fromIndex = 0; fromIndex < originalElementList.size(); fromIndex += chunkSize) {
+                var chunk = originalElementList.subList(fromIndex,
+                        Math.min(fromIndex + chunkSize, originalElementList.size()));
+                futureList.add(executor.submit(() -> recommendChunk(originalSolution, chunk)));
+            }
+            var recommendationListList = new ArrayList<List<RecommendedAssignment<Out_, Score_>>>(originalElementList.size());
+            for (var future : futureList) {
+                recommendationListList.addAll(future.get());
+            }
+            return recommendationListList;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the assignment recommendations.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Failed to compute the assignment recommendations.", e.getCause());
+        } finally {
+            ThreadUtils.shutdownAwaitOrKill(executor, "", "Assignment Recommendation API");
+        }
+    }
+
+    private List<List<RecommendedAssignment<Out_, Score_>>> recommendChunk(Solution_ originalSolution,
+            List<In_> originalElementList) {
+        // Look-up is enabled, as every thread works on its own clone of the solution.
+        try (var scoreDirector = scoreDirectorFactory.buildScoreDirector(true, true, false)) {
+            scoreDirector.setWorkingSolution(scoreDirector.cloneSolution(originalSolution));
+            if (!scoreDirector.isConstraintMatchEnabled()) {
+                throw new IllegalStateException(DefaultSolutionManager.CONSTRAINT_MATCH_NOT_SUPPORTED_MESSAGE);
+            }
+            scoreDirector.forceTriggerVariableListeners();
+            var originalScoreAnalysis = scoreDirector.buildScoreAnalysis(fetchPolicy == ScoreAnalysisFetchPolicy.FETCH_ALL,
+                    InnerScoreDirector.ScoreAnalysisMode.RECOMMENDATION_API);
+            // The placer is built once; its filter follows the element currently being evaluated.
+            var currentElementHolder = new Object[1];
+            var entityPlacer = AssignmentProcessor.buildEntityPlacer(solverFactory)
+                    .rebuildWithFilter((solution, selection) -> selection == currentElementHolder[0]);
+            var solverScope = new SolverScope<Solution_>();
+            solverScope.setWorkingRandom(new Random(0)); // We will evaluate every option; random does not matter.
+            solverScope.setScoreDirector(scoreDirector);
+            entityPlacer.solvingStarted(solverScope);
+            try {
+                var recommendationListList = new ArrayList<List<RecommendedAssignment<Out_, Score_>>>(
+                        originalElementList.size());
+                for (var originalElement : originalElementList) {
+                    var clonedElement = scoreDirector.lookUpWorkingObject(Objects.requireNonNull(originalElement));
+                    currentElementHolder[0] = clonedElement;
+                    recommendationListList.add(recommendElement(scoreDirector, entityPlacer, solverScope, clonedElement,
+                            originalScoreAnalysis));
+                }
+                return recommendationListList;
+            } finally {
+                entityPlacer.solvingEnded(solverScope);
+            }
+        }
+    }
+
+    private List<RecommendedAssignment<Out_, Score_>> recommendElement(InnerScoreDirector<Solution_, Score_> scoreDirector,
+            EntityPlacer<Solution_> entityPlacer, SolverScope<Solution_> solverScope, In_ clonedElement,
+            ScoreAnalysis<Score_> originalScoreAnalysis) {
+        var undoMoveList = AssignmentProcessor.unassign(scoreDirector, clonedElement);
+        scoreDirector.triggerVariableListeners();
+        // A new phase for every element, so that the selectors see it unassigned, even if it was assigned before.
+        var phaseScope = new ConstructionHeuristicPhaseScope<>(solverScope, -1);
+        var stepScope = new ConstructionHeuristicStepScope<>(phaseScope);
+        entityPlacer.phaseStarted(phaseScope);
+        entityPlacer.stepStarted(stepScope);
+        List<ScoredPlacement<Solution_, Score_>> bestPlacementList;
+        try {
+            var placementIterator = entityPlacer.iterator();
+            if (!placementIterator.hasNext()) {
+                throw new IllegalStateException("""
+                        Impossible state: entity placer (%s) has no placements for the element (%s).
+                        """.formatted(entityPlacer, clonedElement));
+            }
+            bestPlacementList = scoreBestPlacements(scoreDirector, placementIterator.next());
+        } finally {
+            entityPlacer.stepEnded(stepScope);
+            entityPlacer.phaseEnded(phaseScope);
+        }
+        var recommendationList = new ArrayList<RecommendedAssignment<Out_, Score_>>(bestPlacementList.size());
+        for (var scoredPlacement : bestPlacementList) {
+            try (var ephemeralMoveDirector = scoreDirector.getMoveDirector().ephemeral()) {
+                scoredPlacement.move().execute(ephemeralMoveDirector);
+                var newScoreAnalysis = scoreDirector.buildScoreAnalysis(fetchPolicy == ScoreAnalysisFetchPolicy.FETCH_ALL,
+                        InnerScoreDirector.ScoreAnalysisMode.RECOMMENDATION_API);
+                var proposition = propositionFunction.apply(clonedElement);
+                recommendationList.add(new DefaultRecommendedAssignment<>(scoredPlacement.moveIndex(), proposition,
+                        newScoreAnalysis.diff(originalScoreAnalysis)));
+            }
+        }
+        // Restore the original assignment for the next element.
+        var moveDirector = scoreDirector.getMoveDirector();
+        for (var i = undoMoveList.size() - 1; i >= 0; i--) {
+            undoMoveList.get(i).execute(moveDirector);
+        }
+        scoreDirector.triggerVariableListeners();
+        return recommendationList;
+    }
+
+    /**
+     * @return best first, at most {@link #recommendationLimit} placements
+     */
+    private List<ScoredPlacement<Solution_, Score_>> scoreBestPlacements(InnerScoreDirector<Solution_, Score_> scoreDirector,
+            Iterable<Move<Solution_>> placement) {
+        // Worst first, so that the worst of the best placements is the one to drop.
+        var bestPlacementQueue = new PriorityQueue<ScoredPlacement<Solution_, Score_>>(
+                Comparator.<ScoredPlacement<Solution_, Score_>> naturalOrder().reversed());
+        var moveIndex = 0L;
+        for (var move : placement) {
+            Score_ score;
+            try (var ephemeralMoveDirector = scoreDirector.getMoveDirector().ephemeral()) {
+                move.execute(ephemeralMoveDirector);
+                score = scoreDirector.calculateScore().withInitScore(0);
+            }
+            var scoredPlacement = new ScoredPlacement<>(moveIndex, move, score);
+            if (bestPlacementQueue.size() < recommendationLimit) {
+                bestPlacementQueue.add(scoredPlacement);
+            } else if (scoredPlacement.compareTo(bestPlacementQueue.peek()) < 0) {
+                bestPlacementQueue.poll();
+                bestPlacementQueue.add(scoredPlacement);
+            }
+            moveIndex++;
+        }
+        var bestPlacementList = new ArrayList<>(bestPlacementQueue);
+        bestPlacementList.sort(null);
+        return bestPlacementList;
+    }
+
+    /**
+     * Ordered like {@link DefaultRecommendedAssignment}: better scores first, then in the order of evaluation.
+     */
+    private record ScoredPlacement<Solution_, Score_ extends Score<Score_>>(long moveIndex, Move<Solution_> move,
+            Score_ score)
+            implements
+                Comparable<ScoredPlacement<Solution_, Score_>> {
+
+        @Override
+        public int compareTo(ScoredPlacement<Solution_, Score_> other) {
+            var scoreComparison = score.compareTo(other.score);
+            if (scoreComparison != 0) {
+                return -scoreComparison;
+            }
+            return Long.compareUnsigned(moveIndex, other.moveIndex);
+        }
+
+    }
+
+}
@@ -4,6 +4,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
 import java.util.function.Consumer;
@@ -20,7 +21,7 @@ final class ConsumerSupport<Solution_, ProblemId_> implements AutoCloseable {
     private final Semaphore firstSolutionConsumption = new Semaphore(1);
     private final Semaphore startSolverJobConsumption = new Semaphore(1);
     private final BestSolutionHolder<Solution_> bestSolutionHolder;
-    private final ExecutorService consumerExecutor = Executors.newSingleThreadExecutor();
+    private final ExecutorService consumerExecutor;
     private Solution_ firstInitializedSolution;
     private Solution_ initialSolution;
 
@@ -29,6 +30,15 @@ final class ConsumerSupport<Solution_, ProblemId_> implements AutoCloseable {
             Consumer<? super Solution_> solverJobStartedConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
             BestSolutionHolder<Solution_> bestSolutionHolder) {
+        this(problemId, bestSolutionConsumer, finalBestSolutionConsumer, firstInitializedSolutionConsumer,
+                solverJobStartedConsumer, exceptionHandler, bestSolutionHolder, Executors.defaultThreadFactory());
+    }
+
+    public ConsumerSupport(ProblemId_ problemId, Consumer<? super Solution_> bestSolutionConsumer,
+            Consumer<? super Solution_> finalBestSolutionConsumer, Consumer<? super Solution_> firstInitializedSolutionConsumer,
+            Consumer<? super Solution_> solverJobStartedConsumer,
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
+            BestSolutionHolder<Solution_> bestSolutionHolder, ThreadFactory consumerThreadFactory) {
         this.problemId = problemId;
         this.bestSolutionConsumer = bestSolutionConsumer;
         this.finalBestSolutionConsumer = finalBestSolutionConsumer == null ? finalBestSolution -> {
@@ -39,6 +49,8 @@ final class ConsumerSupport<Solution_, ProblemId_> implements AutoCloseable {
         this.bestSolutionHolder = bestSolutionHolder;
         this.firstInitializedSolution = null;
         this.initialSolution = null;
+        // A single thread per solver job, so that its consumers are called in order.
+        this.consumerExecutor = Executors.newSingleThreadExecutor(consumerThreadFactory);
     }
 
     // Called on the Solver thread.
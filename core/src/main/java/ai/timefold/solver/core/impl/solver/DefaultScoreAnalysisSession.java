@@ -0,0 +1,212 @@
+package ai.timefold.solver.core.impl.solver;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.analysis.ConstraintAnalysis;
+import ai.timefold.solver.core.api.score.analysis.ScoreAnalysis;
+import ai.timefold.solver.core.api.score.constraint.ConstraintMatch;
+import ai.timefold.solver.core.api.score.constraint.ConstraintMatchFilter;
+import ai.timefold.solver.core.api.score.constraint.ConstraintMatchTotal;
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
+import ai.timefold.solver.core.api.solver.ScoreAnalysisFetchPolicy;
+import ai.timefold.solver.core.api.solver.ScoreAnalysisSession;
+import ai.timefold.solver.core.api.solver.change.ProblemChange;
+import ai.timefold.solver.core.impl.score.constraint.DefaultConstraintMatchTotal;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.solver.change.DefaultProblemChangeDirector;
+
+import org.jspecify.annotations.NonNull;
+
+/**
+ * Caches a {@link ConstraintAnalysis} per constraint,
+ * together with the {@link InnerScoreDirector#getConstraintMatchVersion(ConstraintRef) constraint match version}
+ * it was built at.
+ * After a change, only the constraints whose version moved are analyzed again.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+final class DefaultScoreAnalysisSession<Solution_, Score_ extends Score<Score_>>
+        implements ScoreAnalysisSession<Solution_, Score_> {
+
+    private final InnerScoreDirector<Solution_, Score_> scoreDirector;
+    private final DefaultProblemChangeDirector<Solution_> problemChangeDirector;
+    private final Map<ConstraintRef, ConstraintState<Score_>> constraintStateMap;
+    private Score_ score;
+    private boolean closed = false;
+
+    /**
+     * @param scoreDirector its working solution set and its score calculated, with constraint matching enabled;
+     *        from now on owned by this session
+     */
+    DefaultScoreAnalysisSession(InnerScoreDirector<Solution_, Score_> scoreDirector) {
+        this.scoreDirector = scoreDirector;
+        this.problemChangeDirector = new DefaultProblemChangeDirector<>(scoreDirector);
+        this.score = scoreDirector.calculateScore();
+        // Constraint weights don't change while the working solution stays the same.
+        var constraintMatchTotalMap = scoreDirector.getConstraintMatchTotalMap();
+        this.constraintStateMap = new LinkedHashMap<>(constraintMatchTotalMap.size() * 2);
+        for (var constraintMatchTotal : constraintMatchTotalMap.values()) {
+            var constraintRef = constraintMatchTotal.getConstraintRef();
+            constraintStateMap.put(constraintRef, new ConstraintState<>(constraintMatchTotal,
+                    scoreDirector.getConstraintMatchVersion(constraintRef)));
+        }
+    }
+
+    @Override
+    public @NonNull Solution_ getSolution() {
+        assertOpen();
+        return scoreDirector.getWorkingSolution();
+    }
+
+    @Override
+    public @NonNull Score_ getScore() {
+        assertOpen();
+        return score;
+    }
+
+    @Override
+    public @NonNull ScoreAnalysis<Score_> analyze(@NonNull ScoreAnalysisFetchPolicy fetchPolicy) {
+        Objects.requireNonNull(fetchPolicy, "fetchPolicy");
+        assertOpen();
+        refreshChangedConstraints();
+        var analyzeConstraintMatches = fetchPolicy == ScoreAnalysisFetchPolicy.FETCH_ALL;
+        var constraintAnalysisMap = new LinkedHashMap<ConstraintRef, ConstraintAnalysis<Score_>>(
+                constraintStateMap.size() * 2);
+        for (var entry : constraintStateMap.entrySet()) {
+            constraintAnalysisMap.put(entry.getKey(), entry.getValue().getConstraintAnalysis(analyzeConstraintMatches));
+        }
+        return new ScoreAnalysis<>(score, constraintAnalysisMap);
+    }
+
+    @Override
+    public @NonNull ScoreAnalysis<Score_> applyChange(@NonNull ProblemChange<Solution_> problemChange,
+            @NonNull ScoreAnalysisFetchPolicy fetchPolicy) {
+        Objects.requireNonNull(problemChange, "problemChange");
+        Objects.requireNonNull(fetchPolicy, "fetchPolicy");
+        assertOpen();
+        refreshChangedConstraints();
+        var analyzeConstraintMatches = fetchPolicy == ScoreAnalysisFetchPolicy.FETCH_ALL;
+        var oldScore = score;
+        // Keep the old states, which are replaced for every changed constraint.
+        // Their analyses are only built for the constraints that turn out changed.
+        var oldConstraintStateMap = new LinkedHashMap<>(constraintStateMap);
+        problemChangeDirector.doProblemChange(problemChange);
+        var changedConstraintRefList = refreshChangedConstraints();
+        var oldConstraintAnalysisMap = new LinkedHashMap<ConstraintRef, ConstraintAnalysis<Score_>>(
+                changedConstraintRefList.size() * 2);
+        var newConstraintAnalysisMap = new LinkedHashMap<ConstraintRef, ConstraintAnalysis<Score_>>(
+                changedConstraintRefList.size() * 2);
+        for (var constraintRef : changedConstraintRefList) {
+            oldConstraintAnalysisMap.put(constraintRef,
+                    oldConstraintStateMap.get(constraintRef).getConstraintAnalysis(analyzeConstraintMatches));
+            newConstraintAnalysisMap.put(constraintRef,
+                    constraintStateMap.get(constraintRef).getConstraintAnalysis(analyzeConstraintMatches));
+        }
+        return new ScoreAnalysis<>(score, newConstraintAnalysisMap)
+                .diff(new ScoreAnalysis<>(oldScore, oldConstraintAnalysisMap));
+    }
+
+    /**
+     * Replaces the state of every constraint whose matches changed since its state was built.
+     *
+     * @return never null, the constraints which were replaced
+     */
+    private List<ConstraintRef> refreshChangedConstraints() {
+        score = scoreDirector.calculateScore();
+        var changedConstraintRefList = new ArrayList<ConstraintRef>();
+        for (var entry : constraintStateMap.entrySet()) {
+            var constraintRef = entry.getKey();
+            var constraintState = entry.getValue();
+            var version = scoreDirector.getConstraintMatchVersion(constraintRef);
+            if (version < 0L || version != constraintState.version) {
+                var constraintMatchTotal = new DefaultConstraintMatchTotal<>(constraintRef,
+                        constraintState.constraintMatchTotal.getConstraintWeight());
+                scoreDirector.visitConstraintMatches(constraintRef::equals, constraintMatchTotal::addConstraintMatch);
+                entry.setValue(new ConstraintState<>(constraintMatchTotal, version));
+                changedConstraintRefList.add(constraintRef);
+            }
+        }
+        return changedConstraintRefList;
+    }
+
+    @Override
+    public void streamConstraintMatches(@NonNull ConstraintMatchFilter filter, int pageSize,
+            @NonNull Consumer<List<ConstraintMatch<Score_>>> pageConsumer) {
+        Objects.requireNonNull(filter, "filter");
+        Objects.requireNonNull(pageConsumer, "pageConsumer");
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("The pageSize (%d) must be at least 1.".formatted(pageSize));
+        }
+        assertOpen();
+        score = scoreDirector.calculateScore();
+        // The same list is reused for every page, as the pages are only valid until the consumer returns.
+        var page = new ArrayList<ConstraintMatch<Score_>>(Math.min(pageSize, 1024));
+        var pageView = Collections.unmodifiableList(page);
+        scoreDirector.visitConstraintMatches(filter::testConstraint, constraintMatch -> {
+            if (!filter.test(constraintMatch)) {
+                return;
+            }
+            page.add(constraintMatch);
+            if (page.size() == pageSize) {
+                pageConsumer.accept(pageView);
+                page.clear();
+            }
+        });
+        if (!page.isEmpty()) {
+            pageConsumer.accept(pageView);
+        }
+    }
+
+    private void assertOpen() {
+        if (closed) {
+            throw new IllegalStateException("The %s has already been closed."
+                    .formatted(ScoreAnalysisSession.class.getSimpleName()));
+        }
+    }
+
+    @Override
+    public void close() {
+        if (!closed) {
+            closed = true;
+            scoreDirector.close();
+        }
+    }
+
+    private static final class ConstraintState<Score_ extends Score<Score_>> {
+
+        private final ConstraintMatchTotal<Score_> constraintMatchTotal;
+        private final long version;
+        // Built lazily, as not every analysis needs the matches.
+        private ConstraintAnalysis<Score_> shallowConstraintAnalysis = null;
+        private ConstraintAnalysis<Score_> fullConstraintAnalysis = null;
+
+        private ConstraintState(ConstraintMatchTotal<Score_> constraintMatchTotal, long version) {
+            this.constraintMatchTotal = constraintMatchTotal;
+            this.version = version;
+        }
+
+        private ConstraintAnalysis<Score_> getConstraintAnalysis(boolean analyzeConstraintMatches) {
+            if (analyzeConstraintMatches) {
+                if (fullConstraintAnalysis == null) {
+                    fullConstraintAnalysis = InnerScoreDirector.getConstraintAnalysis(constraintMatchTotal, true);
+                }
+                return fullConstraintAnalysis;
+            } else {
+                if (shallowConstraintAnalysis == null) {
+                    shallowConstraintAnalysis = InnerScoreDirector.getConstraintAnalysis(constraintMatchTotal, false);
+                }
+                return shallowConstraintAnalysis;
+            }
+        }
+
+    }
+
+}
@@ -11,6 +11,7 @@ import ai.timefold.solver.core.api.score.analysis.ScoreAnalysis;
 import ai.timefold.solver.core.api.solver.RecommendedAssignment;
 import ai.timefold.solver.core.api.solver.RecommendedFit;
 import ai.timefold.solver.core.api.solver.ScoreAnalysisFetchPolicy;
+import ai.timefold.solver.core.api.solver.ScoreAnalysisSession;
 import ai.timefold.solver.core.api.solver.SolutionManager;
 import ai.timefold.solver.core.api.solver.SolutionUpdatePolicy;
 import ai.timefold.solver.core.api.solver.SolverFactory;
@@ -29,6 +30,10 @@ import org.jspecify.annotations.Nullable;
 public final class DefaultSolutionManager<Solution_, Score_ extends Score<Score_>>
         implements SolutionManager<Solution_, Score_> {
 
+    static final String CONSTRAINT_MATCH_NOT_SUPPORTED_MESSAGE = """
+            Requested constraint matching but score director doesn't support it.
+            Maybe use Constraint Streams instead of Easy or Incremental score calculator?""";
+
     private final DefaultSolverFactory<Solution_> solverFactory;
     private final InnerScoreDirectorFactory<Solution_, Score_> scoreDirectorFactory;
 
@@ -65,9 +70,7 @@ public final class DefaultSolutionManager<Solution_, Score_ extends Score<Score_
             nonNullSolution = cloneSolution ? scoreDirector.cloneSolution(nonNullSolution) : nonNullSolution;
             scoreDirector.setWorkingSolution(nonNullSolution);
             if (enableConstraintMatch && !scoreDirector.isConstraintMatchEnabled()) {
-                throw new IllegalStateException("""
-                        Requested constraint matching but score director doesn't support it.
-                        Maybe use Constraint Streams instead of Easy or Incremental score calculator?""");
+                throw new IllegalStateException(CONSTRAINT_MATCH_NOT_SUPPORTED_MESSAGE);
             }
             if (isShadowVariableUpdateEnabled) {
                 scoreDirector.forceTriggerVariableListeners();
@@ -120,6 +123,25 @@ public final class DefaultSolutionManager<Solution_, Score_ extends Score<Score_
         return analysis;
     }
 
+    @Override
+    public @NonNull ScoreAnalysisSession<Solution_, Score_> openAnalysisSession(@NonNull Solution_ solution) {
+        var nonNullSolution = Objects.requireNonNull(solution);
+        // Look-up is enabled for the problem changes of the session.
+        var scoreDirector = getScoreDirectorFactory().buildScoreDirector(true, true, false);
+        try {
+            scoreDirector.setWorkingSolution(nonNullSolution);
+            if (!scoreDirector.isConstraintMatchEnabled()) {
+                throw new IllegalStateException(CONSTRAINT_MATCH_NOT_SUPPORTED_MESSAGE);
+            }
+            scoreDirector.forceTriggerVariableListeners();
+            scoreDirector.calculateScore();
+            return new DefaultScoreAnalysisSession<>(scoreDirector);
+        } catch (RuntimeException e) {
+            scoreDirector.close();
+            throw e;
+        }
+    }
+
     @Override
     public @NonNull <In_, Out_> List<RecommendedAssignment<Out_, Score_>> recommendAssignment(@NonNull Solution_ solution,
             @NonNull In_ evaluatedEntityOrElement, @NonNull Function<In_, Out_> propositionFunction,
@@ -129,6 +151,16 @@ public final class DefaultSolutionManager<Solution_, Score_ extends Score<Score_
         return callScoreDirector(solution, SolutionUpdatePolicy.UPDATE_ALL, assigner, true, true);
     }
 
+    @Override
+    public @NonNull <In_, Out_> List<List<RecommendedAssignment<Out_, Score_>>> recommendAssignments(
+            @NonNull Solution_ solution, @NonNull List<In_> evaluatedEntityOrElementList,
+            @NonNull Function<In_, Out_> propositionFunction, @NonNull ScoreAnalysisFetchPolicy fetchPolicy,
+            int recommendationLimit, int parallelism) {
+        var assigner = new BatchAssigner<Solution_, Score_, In_, Out_>(solverFactory, propositionFunction, fetchPolicy,
+                recommendationLimit, parallelism);
+        return assigner.recommend(solution, evaluatedEntityOrElementList);
+    }
+
     @Override
     public <In_, Out_> List<RecommendedFit<Out_, Score_>> recommendFit(Solution_ solution, In_ fittedEntityOrElement,
             Function<In_, Out_> propositionFunction, ScoreAnalysisFetchPolicy fetchPolicy) {
@@ -219,7 +219,7 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
 
     @Override
     public void solvingStarted(SolverScope<Solution_> solverScope) {
-        assertCorrectSolutionState();
+        assertCorrectSolutionState(solverScope.getBestSolution());
         solverScope.startingNow();
         solverScope.getScoreDirector().resetCalculationCount();
         super.solvingStarted(solverScope);
@@ -254,10 +254,9 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
         solverScope.getSolverMetricSet().forEach(solverMetric -> solverMetric.unregister(this));
     }
 
-    private void assertCorrectSolutionState() {
-        var bestSolution = solverScope.getBestSolution();
-        solverScope.getSolutionDescriptor().visitAllProblemFacts(bestSolution, this::assertNonNullPlanningId);
-        solverScope.getSolutionDescriptor().visitAllEntities(bestSolution, entity -> {
+    private void assertCorrectSolutionState(Solution_ solution) {
+        solverScope.getSolutionDescriptor().visitAllProblemFacts(solution, this::assertNonNullPlanningId);
+        solverScope.getSolutionDescriptor().visitAllEntities(solution, entity -> {
             assertNonNullPlanningId(entity);
             // Ensure correct state of pinning properties.
             var entityDescriptor = solverScope.getSolutionDescriptor().findEntityDescriptorOrFail(entity.getClass());
@@ -343,7 +342,7 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
             }
             // All PFCs are processed, fail fast if any of the new facts have null planning IDs.
             InnerScoreDirector<Solution_, ?> scoreDirector = solverScope.getScoreDirector();
-            assertCorrectSolutionState();
+            assertCorrectSolutionState(solverScope.getBestSolution());
             // Everything is fine, proceed.
             Score<?> score = scoreDirector.calculateScore();
             basicPlumbingTermination.endProblemFactChangesProcessing();
@@ -353,4 +352,49 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
             return true;
         }
     }
+
+    @Override
+    public boolean startProblemChangeStreaming() {
+        return basicPlumbingTermination.startProblemChangeStreaming();
+    }
+
+    @Override
+    public void endProblemChangeStreaming() {
+        basicPlumbingTermination.endProblemChangeStreaming();
+    }
+
+    /**
+     * Applies the problem changes to the working solution,
+     * through the incremental before/after notifications of the score director,
+     * so neither the working solution is cloned nor its score calculated from scratch.
+     * The changed working solution becomes the new best solution,
+     * because the old best solution no longer matches the problem.
+     * If the changed working solution is not initialized, the solver terminates and restarts from it instead.
+     */
+    @Override
+    public Score<?> applyProblemChangeBatch(SolverScope<Solution_> solverScope) {
+        var problemChangeBatch = basicPlumbingTermination.pollProblemChangeBatch();
+        if (problemChangeBatch.isEmpty()) {
+            return null;
+        }
+        for (var problemChangeAdapter : problemChangeBatch) {
+            problemChangeAdapter.doProblemChange(solverScope);
+        }
+        var scoreDirector = solverScope.getScoreDirector();
+        assertCorrectSolutionState(scoreDirector.getWorkingSolution());
+        Score<?> score = scoreDirector.calculateScore();
+        if (!score.isSolutionInitialized()) {
+            // The construction heuristic needs to run again; it starts from the best solution.
+            bestSolutionRecaller.updateBestSolutionAndFireIfInitialized(solverScope);
+            basicPlumbingTermination.requestRestart();
+            logger.info("Real-time problem changes streamed: batch size ({}), uninitialized score ({}), restarting.",
+                    problemChangeBatch.size(), score);
+            return score;
+        }
+        basicPlumbingTermination.endProblemFactChangesProcessing();
+        bestSolutionRecaller.updateBestSolutionAndFire(solverScope);
+        logger.debug("Real-time problem changes streamed: batch size ({}), new best score ({}).",
+                problemChangeBatch.size(), score);
+        return score;
+    }
 }
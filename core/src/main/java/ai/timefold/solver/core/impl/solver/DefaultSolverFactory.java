@@ -1,5 +1,6 @@
 package ai.timefold.solver.core.impl.solver;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumSet;
@@ -105,6 +106,9 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
         }
 
         var castScoreDirector = scoreDirectorFactory.buildScoreDirector(true, constraintMatchEnabled);
+        if (Objects.requireNonNullElse(solverConfig.getIncrementalBestSolutionCloning(), false)) {
+            castScoreDirector.setIncrementalBestSolutionCloning(true);
+        }
         solverScope.setScoreDirector(castScoreDirector);
         solverScope.setProblemChangeDirector(new DefaultProblemChangeDirector<>(castScoreDirector));
 
@@ -122,7 +126,10 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
                 scoreDirectorFactory.getInitializingScoreTrend(),
                 solutionDescriptor,
                 ClassInstanceCache.create()).build();
-        var basicPlumbingTermination = new BasicPlumbingTermination<Solution_>(isDaemon);
+        var basicPlumbingTermination = new BasicPlumbingTermination<Solution_>(isDaemon,
+                Objects.requireNonNullElse(solverConfig.getProblemChangeStreaming(), false),
+                Objects.requireNonNullElse(solverConfig.getProblemChangeBatchWindow(), Duration.ZERO),
+                Objects.requireNonNullElse(solverConfig.getProblemChangeBatchSizeLimit(), Integer.MAX_VALUE));
         var termination = buildTerminationConfig(basicPlumbingTermination, configPolicy, configOverride);
         var phaseList = buildPhaseList(configPolicy, bestSolutionRecaller, termination);
 
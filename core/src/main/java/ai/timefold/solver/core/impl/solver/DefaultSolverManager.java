@@ -9,6 +9,10 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
@@ -24,6 +28,7 @@ import ai.timefold.solver.core.api.solver.SolverStatus;
 import ai.timefold.solver.core.api.solver.change.ProblemChange;
 import ai.timefold.solver.core.config.solver.SolverManagerConfig;
 import ai.timefold.solver.core.config.util.ConfigUtils;
+import ai.timefold.solver.core.impl.solver.thread.ThreadUtils;
 
 import org.jspecify.annotations.NonNull;
 import org.slf4j.Logger;
@@ -36,10 +41,12 @@ import org.slf4j.LoggerFactory;
 public final class DefaultSolverManager<Solution_, ProblemId_> implements SolverManager<Solution_, ProblemId_> {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultSolverManager.class);
+    private static final long ELASTIC_SOLVER_POOL_KEEP_ALIVE_SECONDS = 60L;
 
     private final BiConsumer<ProblemId_, Throwable> defaultExceptionHandler;
     private final SolverFactory<Solution_> solverFactory;
     private final ExecutorService solverThreadPool;
+    private final ThreadFactory consumerThreadFactory;
     private final ConcurrentMap<Object, DefaultSolverJob<Solution_, ProblemId_>> problemIdToSolverJobMap;
 
     public DefaultSolverManager(SolverFactory<Solution_> solverFactory,
@@ -49,19 +56,48 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
         this.solverFactory = solverFactory;
         validateSolverFactory();
         int parallelSolverCount = solverManagerConfig.resolveParallelSolverCount();
+        solverThreadPool = buildSolverThreadPool(solverManagerConfig, parallelSolverCount);
+        consumerThreadFactory = buildConsumerThreadFactory(solverManagerConfig);
+        problemIdToSolverJobMap = new ConcurrentHashMap<>(parallelSolverCount * 10);
+    }
+
+    private static ExecutorService buildSolverThreadPool(SolverManagerConfig solverManagerConfig,
+            int parallelSolverCount) {
         var threadFactory = Executors.defaultThreadFactory();
         if (solverManagerConfig.getThreadFactoryClass() != null) {
             threadFactory = ConfigUtils.newInstance(solverManagerConfig, "threadFactoryClass",
                     solverManagerConfig.getThreadFactoryClass());
         }
-        solverThreadPool = Executors.newFixedThreadPool(parallelSolverCount, threadFactory);
-        problemIdToSolverJobMap = new ConcurrentHashMap<>(parallelSolverCount * 10);
+        if (Objects.requireNonNullElse(solverManagerConfig.getElasticSolverPool(), false)) {
+            // The unbounded queue starts the queued solver jobs in FIFO order.
+            var threadPool = new ThreadPoolExecutor(parallelSolverCount, parallelSolverCount,
+                    ELASTIC_SOLVER_POOL_KEEP_ALIVE_SECONDS, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), threadFactory);
+            threadPool.allowCoreThreadTimeOut(true);
+            return threadPool;
+        }
+        return Executors.newFixedThreadPool(parallelSolverCount, threadFactory);
+    }
+
+    private static ThreadFactory buildConsumerThreadFactory(SolverManagerConfig solverManagerConfig) {
+        if (Objects.requireNonNullElse(solverManagerConfig.getVirtualConsumerThreads(), false)) {
+            var virtualThreadFactory = ThreadUtils.newVirtualThreadFactoryOrNull();
+            if (virtualThreadFactory != null) {
+                return virtualThreadFactory;
+            }
+            LOGGER.warn("The virtualConsumerThreads (true) requires Java 21 or higher; "
+                    + "the consumers run on platform threads instead.");
+        }
+        return Executors.defaultThreadFactory();
     }
 
     public SolverFactory<Solution_> getSolverFactory() {
         return solverFactory;
     }
 
+    ThreadFactory getConsumerThreadFactory() {
+        return consumerThreadFactory;
+    }
+
     private void validateSolverFactory() {
         solverFactory.buildSolver();
     }
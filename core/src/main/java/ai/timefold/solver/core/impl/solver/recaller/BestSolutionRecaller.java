@@ -102,7 +102,7 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
         }
         if (bestScoreImproved) {
             phaseScope.setBestSolutionStepIndex(stepScope.getStepIndex());
-            Solution_ newBestSolution = solverScope.getScoreDirector().cloneWorkingSolution();
+            Solution_ newBestSolution = solverScope.getScoreDirector().cloneWorkingSolutionAsBestSolution();
             updateBestSolutionAndFire(solverScope, score, newBestSolution);
         } else if (assertBestScoreIsUnmodified) {
             solverScope.assertScoreFromScratch(solverScope.getBestSolution());
@@ -127,7 +127,7 @@ public class BestSolutionRecaller<Solution_> extends PhaseLifecycleListenerAdapt
     }
 
     private void updateBestSolutionWithoutFiring(SolverScope<Solution_> solverScope) {
-        Solution_ newBestSolution = solverScope.getScoreDirector().cloneWorkingSolution();
+        Solution_ newBestSolution = solverScope.getScoreDirector().cloneWorkingSolutionAsBestSolution();
         Score newBestScore = solverScope.getSolutionDescriptor().getScore(newBestSolution);
         updateBestSolutionWithoutFiring(solverScope, newBestScore, newBestSolution);
     }
@@ -57,6 +57,9 @@ public class SolverScope<Solution_> {
     private long moveEvaluationCount = 0L;
     private long childThreadsMoveEvaluationCount = 0L;
 
+    private long exhaustiveSearchExpandableNodeCount = 0L;
+    private long exhaustiveSearchPrunedNodeCount = 0L;
+
     private Score<?> startingInitializedScore;
 
     private Long bestSolutionTimeMillis;
@@ -208,6 +211,28 @@ public class SolverScope<Solution_> {
         return moveEvaluationCount + childThreadsMoveEvaluationCount;
     }
 
+    public void setExhaustiveSearchExpandableNodeCount(long exhaustiveSearchExpandableNodeCount) {
+        this.exhaustiveSearchExpandableNodeCount = exhaustiveSearchExpandableNodeCount;
+    }
+
+    /**
+     * @return the size of the expandable node queue of the current exhaustive search phase, or the last one
+     */
+    public long getExhaustiveSearchExpandableNodeCount() {
+        return exhaustiveSearchExpandableNodeCount;
+    }
+
+    public void addExhaustiveSearchPrunedNodeCount(long addition) {
+        exhaustiveSearchPrunedNodeCount += addition;
+    }
+
+    /**
+     * @return the number of nodes which the exhaustive search phases pruned to respect their expandable node limit
+     */
+    public long getExhaustiveSearchPrunedNodeCount() {
+        return exhaustiveSearchPrunedNodeCount;
+    }
+
     public Solution_ getBestSolution() {
         return bestSolution.get();
     }
@@ -258,6 +283,8 @@ public class SolverScope<Solution_> {
         startingSystemTimeMillis.set(System.currentTimeMillis());
         resetAtomicLongTimeMillis(endingSystemTimeMillis);
         this.moveEvaluationCount = 0L;
+        this.exhaustiveSearchExpandableNodeCount = 0L;
+        this.exhaustiveSearchPrunedNodeCount = 0L;
     }
 
     public Long getBestSolutionTimeMillisSpent() {
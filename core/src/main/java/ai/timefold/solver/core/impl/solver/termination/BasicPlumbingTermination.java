@@ -1,6 +1,11 @@
 package ai.timefold.solver.core.impl.solver.termination;
 
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.LinkedBlockingQueue;
@@ -12,18 +17,53 @@ import ai.timefold.solver.core.impl.solver.thread.ChildThreadType;
 
 /**
  * Concurrency notes:
- * Condition predicate on ({@link #problemFactChangeQueue} is not empty or {@link #terminatedEarly} is true).
+ * Condition predicate on ({@link #problemFactChangeQueue} is not empty, {@link #restartRequested} is true
+ * or {@link #terminatedEarly} is true).
  */
 public final class BasicPlumbingTermination<Solution_> extends AbstractTermination<Solution_> {
 
     private final boolean daemon;
+    private final boolean problemChangeStreaming;
+    private final long problemChangeBatchWindowNanos;
+    private final int problemChangeBatchSizeLimit;
     private final BlockingQueue<ProblemChangeAdapter<Solution_>> problemFactChangeQueue = new LinkedBlockingQueue<>();
 
     private boolean terminatedEarly = false;
+    private boolean restartRequested = false;
     private boolean problemFactChangesBeingProcessed = false;
+    private boolean problemChangeStreamingActive = false;
+    /**
+     * When the problem changes in {@link #problemFactChangeQueue} arrived, oldest first.
+     * The solver takes changes from the head of the queue, so the oldest arrivals are trimmed to match its size.
+     */
+    private final Deque<PendingProblemChanges> pendingProblemChangesDeque = new ArrayDeque<>();
+    private int pendingProblemChangeCount = 0;
 
     public BasicPlumbingTermination(boolean daemon) {
+        this(daemon, false, Duration.ZERO, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @param daemon as defined by {@link ai.timefold.solver.core.config.solver.SolverConfig#getDaemon()}
+     * @param problemChangeStreaming true if a phase may {@link #startProblemChangeStreaming() consume} the problem changes
+     *        while it is running, instead of terminating for a solver restart
+     * @param problemChangeBatchWindow never null, how long the oldest pending problem change waits for a batch
+     * @param problemChangeBatchSizeLimit at least 1, the maximum number of problem changes in a batch
+     */
+    public BasicPlumbingTermination(boolean daemon, boolean problemChangeStreaming, Duration problemChangeBatchWindow,
+            int problemChangeBatchSizeLimit) {
+        if (problemChangeBatchWindow.isNegative()) {
+            throw new IllegalArgumentException("The problemChangeBatchWindow (%s) cannot be negative."
+                    .formatted(problemChangeBatchWindow));
+        }
+        if (problemChangeBatchSizeLimit < 1) {
+            throw new IllegalArgumentException("The problemChangeBatchSizeLimit (%d) must be at least 1."
+                    .formatted(problemChangeBatchSizeLimit));
+        }
         this.daemon = daemon;
+        this.problemChangeStreaming = problemChangeStreaming;
+        this.problemChangeBatchWindowNanos = problemChangeBatchWindow.toNanos();
+        this.problemChangeBatchSizeLimit = problemChangeBatchSizeLimit;
     }
 
     // ************************************************************************
@@ -67,9 +107,9 @@ public final class BasicPlumbingTermination<Solution_> extends AbstractTerminati
      */
     public synchronized boolean waitForRestartSolverDecision() {
         if (!daemon) {
-            return !problemFactChangeQueue.isEmpty() && !terminatedEarly;
+            return (!problemFactChangeQueue.isEmpty() || restartRequested) && !terminatedEarly;
         } else {
-            while (problemFactChangeQueue.isEmpty() && !terminatedEarly) {
+            while (problemFactChangeQueue.isEmpty() && !restartRequested && !terminatedEarly) {
                 try {
                     wait();
                 } catch (InterruptedException e) {
@@ -89,6 +129,9 @@ public final class BasicPlumbingTermination<Solution_> extends AbstractTerminati
      */
     public synchronized boolean addProblemChange(ProblemChangeAdapter<Solution_> problemChange) {
         boolean added = problemFactChangeQueue.add(problemChange);
+        if (added) {
+            markPendingSinceNow(1);
+        }
         notifyAll();
         return added;
     }
@@ -101,15 +144,99 @@ public final class BasicPlumbingTermination<Solution_> extends AbstractTerminati
      */
     public synchronized boolean addProblemChanges(List<ProblemChangeAdapter<Solution_>> problemChangeList) {
         boolean added = problemFactChangeQueue.addAll(problemChangeList);
+        if (added) {
+            markPendingSinceNow(problemChangeList.size());
+        }
         notifyAll();
         return added;
     }
 
+    private void markPendingSinceNow(int problemChangeCount) {
+        pendingProblemChangesDeque.addLast(new PendingProblemChanges(System.nanoTime(), problemChangeCount));
+        pendingProblemChangeCount += problemChangeCount;
+        trimPendingProblemChanges();
+    }
+
+    /**
+     * Forgets the arrival of the problem changes which are no longer in the {@link #problemFactChangeQueue},
+     * such as those drained by {@link #pollProblemChangeBatch()} or polled for a solver restart.
+     */
+    private void trimPendingProblemChanges() {
+        int excessCount = pendingProblemChangeCount - problemFactChangeQueue.size();
+        while (excessCount > 0) {
+            PendingProblemChanges oldest = pendingProblemChangesDeque.removeFirst();
+            if (oldest.count() > excessCount) {
+                pendingProblemChangesDeque.addFirst(
+                        new PendingProblemChanges(oldest.arrivalNanos(), oldest.count() - excessCount));
+                pendingProblemChangeCount -= excessCount;
+                excessCount = 0;
+            } else {
+                pendingProblemChangeCount -= oldest.count();
+                excessCount -= oldest.count();
+            }
+        }
+    }
+
     public synchronized BlockingQueue<ProblemChangeAdapter<Solution_>> startProblemFactChangesProcessing() {
         problemFactChangesBeingProcessed = true;
+        restartRequested = false;
         return problemFactChangeQueue;
     }
 
+    /**
+     * Called by a phase which applies the problem changes at its step boundaries,
+     * through {@link #pollProblemChangeBatch()}.
+     * While streaming, pending problem changes do not terminate the solver.
+     *
+     * @return false if problem change streaming is disabled, in which case the phase must not poll
+     */
+    public synchronized boolean startProblemChangeStreaming() {
+        problemChangeStreamingActive = problemChangeStreaming;
+        return problemChangeStreamingActive;
+    }
+
+    public synchronized void endProblemChangeStreaming() {
+        problemChangeStreamingActive = false;
+    }
+
+    /**
+     * Takes the next batch of problem changes, if that batch is due:
+     * either the oldest pending change has waited for the whole batch window, or the batch size limit is reached.
+     * A non-empty batch must be followed by {@link #endProblemFactChangesProcessing()}
+     * or by {@link #requestRestart()}.
+     *
+     * @return never null, empty if no batch is due
+     */
+    public synchronized List<ProblemChangeAdapter<Solution_>> pollProblemChangeBatch() {
+        trimPendingProblemChanges();
+        if (problemFactChangeQueue.isEmpty()) {
+            return Collections.emptyList();
+        }
+        long oldestPendingProblemChangeNanos = pendingProblemChangesDeque.getFirst().arrivalNanos();
+        if (problemFactChangeQueue.size() < problemChangeBatchSizeLimit
+                && System.nanoTime() - oldestPendingProblemChangeNanos < problemChangeBatchWindowNanos) {
+            return Collections.emptyList();
+        }
+        var batch = new ArrayList<ProblemChangeAdapter<Solution_>>(
+                Math.min(problemFactChangeQueue.size(), problemChangeBatchSizeLimit));
+        problemFactChangeQueue.drainTo(batch, problemChangeBatchSizeLimit);
+        // The changes which did not fit in this batch wait for the window of the oldest of them.
+        trimPendingProblemChanges();
+        problemFactChangesBeingProcessed = true;
+        return batch;
+    }
+
+    /**
+     * Terminates the solver and restarts it from the best solution, even if no problem changes are pending,
+     * for example because a streamed batch of problem changes left the solution uninitialized.
+     * <p>
+     * Concurrency note: unblocks {@link #waitForRestartSolverDecision()}.
+     */
+    public synchronized void requestRestart() {
+        restartRequested = true;
+        notifyAll();
+    }
+
     public synchronized void endProblemFactChangesProcessing() {
         problemFactChangesBeingProcessed = false;
     }
@@ -134,7 +261,8 @@ public final class BasicPlumbingTermination<Solution_> extends AbstractTerminati
             logger.info("The solver thread got interrupted, so this solver is terminating early.");
             terminatedEarly = true;
         }
-        return terminatedEarly || !problemFactChangeQueue.isEmpty();
+        return terminatedEarly || restartRequested
+                || (!problemChangeStreamingActive && !problemFactChangeQueue.isEmpty());
     }
 
     @Override
@@ -171,4 +299,7 @@ public final class BasicPlumbingTermination<Solution_> extends AbstractTerminati
         return "BasicPlumbing()";
     }
 
+    private record PendingProblemChanges(long arrivalNanos, int count) {
+    }
+
 }
@@ -1,6 +1,7 @@
 package ai.timefold.solver.core.impl.solver.thread;
 
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.TimeUnit;
 
 import org.slf4j.Logger;
@@ -47,6 +48,21 @@ public class ThreadUtils {
         }
     }
 
+    /**
+     * Virtual threads are only available on Java 21 or higher, so they are created reflectively.
+     *
+     * @return null if the JVM does not support virtual threads
+     */
+    public static ThreadFactory newVirtualThreadFactoryOrNull() {
+        try {
+            var builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            return (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+        } catch (ReflectiveOperationException e) {
+            LOGGER.trace("Virtual threads are not supported by this JVM.", e);
+            return null;
+        }
+    }
+
     // ************************************************************************
     // Private constructor
     // ************************************************************************
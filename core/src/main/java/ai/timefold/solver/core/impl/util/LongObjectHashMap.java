@@ -0,0 +1,228 @@
+package ai.timefold.solver.core.impl.util;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from primitive {@code long} keys to object values.
+ * Uses linear probing and backward-shift deletion,
+ * so it neither boxes its keys nor allocates an entry object per mapping.
+ * Int keys are supported by widening them to long.
+ * <p>
+ * Not thread-safe.
+ * Does not permit null values; {@link #get(long)} returning null means the key is absent.
+ *
+ * @param <V> the value type
+ */
+public final class LongObjectHashMap<V> {
+
+    private static final int DEFAULT_CAPACITY = 16;
+    private static final long FREE_KEY = 0L;
+
+    private long[] keys;
+    private V[] values;
+    private int mask;
+    private int resizeThreshold;
+    private int size = 0;
+    // The free key can not be stored in the table, as it marks an empty slot.
+    private V freeKeyValue = null;
+
+    public LongObjectHashMap() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public LongObjectHashMap(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        // Keep the load factor at or below 0.5, so that probe sequences stay short.
+        var capacity = Integer.highestOneBit(Math.max(expectedSize, 2) * 2 - 1) << 1;
+        if (capacity < 0) {
+            throw new IllegalArgumentException("The expectedSize (" + expectedSize + ") is too large.");
+        }
+        return Math.max(capacity, 4);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = (V[]) new Object[capacity];
+        mask = capacity - 1;
+        resizeThreshold = capacity >>> 1;
+    }
+
+    private static int hash(long key) {
+        var h = key * 0x9E3779B97F4A7C15L; // Fibonacci hashing spreads sequential ids evenly.
+        return (int) (h ^ (h >>> 32));
+    }
+
+    public V get(long key) {
+        if (key == FREE_KEY) {
+            return freeKeyValue;
+        }
+        var index = hash(key) & mask;
+        while (true) {
+            var value = values[index];
+            if (value == null) {
+                return null;
+            } else if (keys[index] == key) {
+                return value;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    public boolean containsKey(long key) {
+        return get(key) != null;
+    }
+
+    /**
+     * @param key any key
+     * @param value never null
+     * @return the previous value, or null if there was none
+     */
+    public V put(long key, V value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Impossible state: the value for key (" + key + ") is null.");
+        }
+        if (key == FREE_KEY) {
+            var previous = freeKeyValue;
+            freeKeyValue = value;
+            if (previous == null) {
+                size++;
+            }
+            return previous;
+        }
+        var index = hash(key) & mask;
+        while (true) {
+            var existing = values[index];
+            if (existing == null) {
+                keys[index] = key;
+                values[index] = value;
+                if (++size > resizeThreshold) {
+                    rehash(keys.length << 1);
+                }
+                return null;
+            } else if (keys[index] == key) {
+                values[index] = value;
+                return existing;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * @param key any key
+     * @return the removed value, or null if there was none
+     */
+    public V remove(long key) {
+        if (key == FREE_KEY) {
+            var previous = freeKeyValue;
+            if (previous != null) {
+                freeKeyValue = null;
+                size--;
+            }
+            return previous;
+        }
+        var index = hash(key) & mask;
+        while (true) {
+            var existing = values[index];
+            if (existing == null) {
+                return null;
+            } else if (keys[index] == key) {
+                shiftBackFrom(index);
+                size--;
+                return existing;
+            }
+            index = (index + 1) & mask;
+        }
+    }
+
+    /**
+     * Backward-shift deletion; avoids tombstones, which would otherwise slow down lookups over time.
+     */
+    private void shiftBackFrom(int index) {
+        var gap = index;
+        var current = index;
+        while (true) {
+            current = (current + 1) & mask;
+            var value = values[current];
+            if (value == null) {
+                break;
+            }
+            var ideal = hash(keys[current]) & mask;
+            // Move the entry into the gap unless its ideal slot lies cyclically in (gap, current].
+            var shouldMove = gap <= current
+                    ? (ideal <= gap || ideal > current)
+                    : (ideal <= gap && ideal > current);
+            if (shouldMove) {
+                keys[gap] = keys[current];
+                values[gap] = value;
+                gap = current;
+            }
+        }
+        keys[gap] = FREE_KEY;
+        values[gap] = null;
+    }
+
+    private void rehash(int newCapacity) {
+        var oldKeys = keys;
+        var oldValues = values;
+        allocate(newCapacity);
+        for (var i = 0; i < oldValues.length; i++) {
+            var value = oldValues[i];
+            if (value != null) {
+                var key = oldKeys[i];
+                var index = hash(key) & mask;
+                while (values[index] != null) {
+                    index = (index + 1) & mask;
+                }
+                keys[index] = key;
+                values[index] = value;
+            }
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public void clear() {
+        if (size == 0) {
+            return;
+        }
+        Arrays.fill(keys, FREE_KEY);
+        Arrays.fill(values, null);
+        freeKeyValue = null;
+        size = 0;
+    }
+
+    public void forEach(LongObjectConsumer<V> consumer) {
+        if (freeKeyValue != null) {
+            consumer.accept(FREE_KEY, freeKeyValue);
+        }
+        for (var i = 0; i < values.length; i++) {
+            var value = values[i];
+            if (value != null) {
+                consumer.accept(keys[i], value);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "size = " + size;
+    }
+
+    @FunctionalInterface
+    public interface LongObjectConsumer<V> {
+
+        void accept(long key, V value);
+
+    }
+
+}
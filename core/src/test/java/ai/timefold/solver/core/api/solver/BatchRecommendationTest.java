@@ -0,0 +1,132 @@
+package ai.timefold.solver.core.api.solver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.util.List;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.config.solver.SolverConfig;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataObject;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+
+import org.junit.jupiter.api.Test;
+
+class BatchRecommendationTest {
+
+    private static final SolverFactory<TestdataSolution> SOLVER_FACTORY = SolverFactory.create(new SolverConfig()
+            .withSolutionClass(TestdataSolution.class)
+            .withEntityClasses(TestdataEntity.class)
+            .withConstraintProviderClass(ScoreAnalysisSessionTest.TestdataSessionConstraintProvider.class));
+
+    @Test
+    void sameAsRecommendAssignment() {
+        SolutionManager<TestdataSolution, SimpleScore> solutionManager = SolutionManager.create(SOLVER_FACTORY);
+        var solution = TestdataSolution.generateSolution(3, 5);
+        var entityList = solution.getEntityList();
+        var recommendationListList = solutionManager.recommendAssignments(solution, entityList,
+                entity -> entity.getValue().getCode(), ScoreAnalysisFetchPolicy.FETCH_ALL, Integer.MAX_VALUE);
+        assertThat(recommendationListList).hasSize(entityList.size());
+        for (var i = 0; i < entityList.size(); i++) {
+            var expectedRecommendationList = solutionManager.recommendAssignment(solution, entityList.get(i),
+                    entity -> entity.getValue().getCode(), ScoreAnalysisFetchPolicy.FETCH_ALL);
+            assertRecommendations(recommendationListList.get(i), expectedRecommendationList);
+        }
+        // The input solution is unchanged.
+        assertThat(entityList)
+                .map(entity -> entity.getValue().getCode())
+                .containsExactly("Generated Value 0", "Generated Value 1", "Generated Value 2", "Generated Value 0",
+                        "Generated Value 1");
+    }
+
+    @Test
+    void recommendationLimit() {
+        SolutionManager<TestdataSolution, SimpleScore> solutionManager = SolutionManager.create(SOLVER_FACTORY);
+        var solution = TestdataSolution.generateSolution(3, 5);
+        var entity = solution.getEntityList().get(0);
+        var expectedRecommendationList = solutionManager.recommendAssignment(solution, entity,
+                e -> e.getValue().getCode(), ScoreAnalysisFetchPolicy.FETCH_ALL);
+        var recommendationListList = solutionManager.recommendAssignments(solution, List.of(entity),
+                e -> e.getValue().getCode(), ScoreAnalysisFetchPolicy.FETCH_ALL, 2);
+        assertThat(recommendationListList).hasSize(1);
+        assertRecommendations(recommendationListList.get(0), expectedRecommendationList.subList(0, 2));
+    }
+
+    @Test
+    void parallel() {
+        SolutionManager<TestdataSolution, SimpleScore> solutionManager = SolutionManager.create(SOLVER_FACTORY);
+        var solution = TestdataSolution.generateSolution(4, 9);
+        var entityList = solution.getEntityList();
+        var expectedRecommendationListList = solutionManager.recommendAssignments(solution, entityList,
+                entity -> entity.getValue().getCode(), ScoreAnalysisFetchPolicy.FETCH_ALL, 3);
+        var recommendationListList = solutionManager.recommendAssignments(solution, entityList,
+                entity -> entity.getValue().getCode(), ScoreAnalysisFetchPolicy.FETCH_ALL, 3, 4);
+        assertThat(recommendationListList).hasSize(entityList.size());
+        for (var i = 0; i < entityList.size(); i++) {
+            assertRecommendations(recommendationListList.get(i), expectedRecommendationListList.get(i));
+        }
+    }
+
+    @Test
+    void uninitializedSolution() {
+        SolutionManager<TestdataSolution, SimpleScore> solutionManager = SolutionManager.create(SOLVER_FACTORY);
+        var solution = TestdataSolution.generateSolution(3, 5);
+        var entityList = solution.getEntityList();
+        entityList.get(1).setValue(null);
+        entityList.get(3).setValue(null);
+        entityList.get(4).setValue(null);
+        var recommendationListList = solutionManager.recommendAssignments(solution,
+                List.of(entityList.get(3), entityList.get(1)), entity -> entity.getValue().getCode(),
+                ScoreAnalysisFetchPolicy.FETCH_ALL, 1);
+        // Only value 1 is free, as the entities 1 and 4 stay unassigned while the other one is evaluated.
+        assertThat(recommendationListList.get(0)).singleElement()
+                .satisfies(recommendation -> {
+                    assertThat(recommendation.proposition()).isEqualTo("Generated Value 1");
+                    assertThat(recommendation.scoreAnalysisDiff().score()).isEqualTo(SimpleScore.ZERO);
+                });
+        assertThat(recommendationListList.get(1)).singleElement()
+                .satisfies(recommendation -> {
+                    assertThat(recommendation.proposition()).isEqualTo("Generated Value 1");
+                    assertThat(recommendation.scoreAnalysisDiff().score()).isEqualTo(SimpleScore.ZERO);
+                });
+        assertThat(entityList.get(1).getValue()).isNull();
+        assertThat(entityList.get(3).getValue()).isNull();
+        assertThat(entityList.get(4).getValue()).isNull();
+    }
+
+    @Test
+    void invalidArguments() {
+        SolutionManager<TestdataSolution, SimpleScore> solutionManager = SolutionManager.create(SOLVER_FACTORY);
+        var solution = TestdataSolution.generateSolution(3, 5);
+        var entityList = solution.getEntityList();
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> solutionManager.recommendAssignments(solution, entityList, TestdataObject::getCode,
+                        ScoreAnalysisFetchPolicy.FETCH_ALL, 0));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> solutionManager.recommendAssignments(solution, entityList, TestdataObject::getCode,
+                        ScoreAnalysisFetchPolicy.FETCH_ALL, 1, 0));
+        assertThat(solutionManager.recommendAssignments(solution, List.<TestdataEntity> of(), TestdataObject::getCode,
+                ScoreAnalysisFetchPolicy.FETCH_ALL, 1)).isEmpty();
+    }
+
+    private static void assertRecommendations(List<RecommendedAssignment<String, SimpleScore>> recommendationList,
+            List<RecommendedAssignment<String, SimpleScore>> expectedRecommendationList) {
+        assertThat(recommendationList).hasSameSizeAs(expectedRecommendationList);
+        for (var i = 0; i < recommendationList.size(); i++) {
+            var recommendation = recommendationList.get(i);
+            var expectedRecommendation = expectedRecommendationList.get(i);
+            assertThat(recommendation.proposition()).isEqualTo(expectedRecommendation.proposition());
+            assertThat(recommendation.scoreAnalysisDiff().score())
+                    .isEqualTo(expectedRecommendation.scoreAnalysisDiff().score());
+            for (var constraintRef : expectedRecommendation.scoreAnalysisDiff().constraintMap().keySet()) {
+                var constraintAnalysis = recommendation.scoreAnalysisDiff().getConstraintAnalysis(constraintRef);
+                var expectedConstraintAnalysis =
+                        expectedRecommendation.scoreAnalysisDiff().getConstraintAnalysis(constraintRef);
+                assertThat(constraintAnalysis.score()).isEqualTo(expectedConstraintAnalysis.score());
+                assertThat(constraintAnalysis.matchCount()).isEqualTo(expectedConstraintAnalysis.matchCount());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,175 @@
+package ai.timefold.solver.core.api.solver;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.constraint.ConstraintMatch;
+import ai.timefold.solver.core.api.score.constraint.ConstraintMatchFilter;
+import ai.timefold.solver.core.api.score.constraint.ConstraintRef;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.api.score.stream.DefaultConstraintJustification;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.api.solver.change.ProblemChange;
+import ai.timefold.solver.core.config.solver.SolverConfig;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+import ai.timefold.solver.core.impl.testdata.domain.shadow.TestdataShadowedSolution;
+
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Test;
+
+class ScoreAnalysisSessionTest {
+
+    private static final ConstraintRef CONFLICT = ConstraintRef.of(TestdataSolution.class.getPackageName(), "Conflict");
+    private static final ConstraintRef VALUE_COST = ConstraintRef.of(TestdataSolution.class.getPackageName(), "Value cost");
+
+    private static final SolverFactory<TestdataSolution> SOLVER_FACTORY = SolverFactory.create(new SolverConfig()
+            .withSolutionClass(TestdataSolution.class)
+            .withEntityClasses(TestdataEntity.class)
+            .withConstraintProviderClass(TestdataSessionConstraintProvider.class));
+
+    @Test
+    void analyzeSameAsSolutionManager() {
+        SolutionManager<TestdataSolution, SimpleScore> solutionManager = SolutionManager.create(SOLVER_FACTORY);
+        var expectedAnalysis = solutionManager.analyze(TestdataSolution.generateSolution(3, 5));
+        try (var analysisSession = solutionManager.openAnalysisSession(TestdataSolution.generateSolution(3, 5))) {
+            assertThat(analysisSession.getScore()).isEqualTo(SimpleScore.of(-5));
+            var analysis = analysisSession.analyze(ScoreAnalysisFetchPolicy.FETCH_ALL);
+            assertThat(analysis.score()).isEqualTo(expectedAnalysis.score());
+            assertThat(analysis.constraintMap()).containsOnlyKeys(CONFLICT, VALUE_COST);
+            for (var constraintRef : List.of(CONFLICT, VALUE_COST)) {
+                var constraintAnalysis = analysis.getConstraintAnalysis(constraintRef);
+                var expectedConstraintAnalysis = expectedAnalysis.getConstraintAnalysis(constraintRef);
+                assertThat(constraintAnalysis.score()).isEqualTo(expectedConstraintAnalysis.score());
+                assertThat(constraintAnalysis.matchCount()).isEqualTo(expectedConstraintAnalysis.matchCount());
+            }
+            // Nothing changed, so nothing was analyzed again.
+            assertThat(analysisSession.analyze(ScoreAnalysisFetchPolicy.FETCH_ALL).getConstraintAnalysis(CONFLICT))
+                    .isSameAs(analysis.getConstraintAnalysis(CONFLICT));
+        }
+    }
+
+    @Test
+    void applyChange() {
+        SolutionManager<TestdataSolution, SimpleScore> solutionManager = SolutionManager.create(SOLVER_FACTORY);
+        var solution = TestdataSolution.generateSolution(3, 5);
+        try (var analysisSession = solutionManager.openAnalysisSession(solution)) {
+            var analysisBefore = analysisSession.analyze(ScoreAnalysisFetchPolicy.FETCH_ALL);
+            ProblemChange<TestdataSolution> problemChange = (workingSolution, problemChangeDirector) -> {
+                var entity = workingSolution.getEntityList().get(2);
+                var value = workingSolution.getValueList().get(0);
+                problemChangeDirector.changeVariable(entity, "value", e -> e.setValue(value));
+            };
+            var diff = analysisSession.applyChange(problemChange, ScoreAnalysisFetchPolicy.FETCH_ALL);
+            assertThat(analysisSession.getScore()).isEqualTo(SimpleScore.of(-7));
+            assertThat(diff.score()).isEqualTo(SimpleScore.of(-2));
+            // The value cost did not change, so it is not part of the diff.
+            assertThat(diff.constraintMap()).containsOnlyKeys(CONFLICT);
+            assertThat(diff.getConstraintAnalysis(CONFLICT).score()).isEqualTo(SimpleScore.of(-2));
+
+            var analysisAfter = analysisSession.analyze(ScoreAnalysisFetchPolicy.FETCH_ALL);
+            assertThat(analysisAfter.getConstraintAnalysis(VALUE_COST))
+                    .isSameAs(analysisBefore.getConstraintAnalysis(VALUE_COST));
+            var expectedAnalysisAfter = solutionManager.analyze(copy(solution));
+            assertThat(analysisAfter.score()).isEqualTo(expectedAnalysisAfter.score());
+            assertThat(analysisAfter.getConstraintAnalysis(CONFLICT).matchCount())
+                    .isEqualTo(expectedAnalysisAfter.getConstraintAnalysis(CONFLICT).matchCount());
+        }
+        assertThat(solution.getEntityList().get(2).getValue()).isSameAs(solution.getValueList().get(0));
+    }
+
+    @Test
+    void streamConstraintMatches() {
+        SolutionManager<TestdataSolution, SimpleScore> solutionManager = SolutionManager.create(SOLVER_FACTORY);
+        var solution = TestdataSolution.generateSolution(3, 5);
+        try (var analysisSession = solutionManager.openAnalysisSession(solution)) {
+            var pageSizeList = new ArrayList<Integer>();
+            var constraintMatchList = new ArrayList<ConstraintMatch<SimpleScore>>();
+            analysisSession.streamConstraintMatches(ConstraintMatchFilter.all(), 2, page -> {
+                pageSizeList.add(page.size());
+                constraintMatchList.addAll(page);
+            });
+            assertThat(pageSizeList).containsExactly(2, 2, 1);
+            assertThat(constraintMatchList).hasSize(5);
+
+            assertThat(streamAll(analysisSession, ConstraintMatchFilter.all().withConstraintRefs(CONFLICT)))
+                    .hasSize(2)
+                    .allMatch(constraintMatch -> constraintMatch.getConstraintRef().equals(CONFLICT));
+            var entity = solution.getEntityList().get(0);
+            assertThat(streamAll(analysisSession, ConstraintMatchFilter.all().withIndictedObject(entity)))
+                    .hasSize(1)
+                    .allMatch(constraintMatch -> constraintMatch.getIndictedObjectList().contains(entity));
+            assertThat(streamAll(analysisSession, ConstraintMatchFilter.all()
+                    .withConstraintRefs(VALUE_COST)
+                    .withJustificationClass(DefaultConstraintJustification.class)))
+                    .hasSize(3);
+            assertThatIllegalArgumentException()
+                    .isThrownBy(() -> analysisSession.streamConstraintMatches(ConstraintMatchFilter.all(), 0, page -> {
+                    }));
+        }
+    }
+
+    @Test
+    void streamConstraintMatchesWithoutSession() {
+        SolutionManager<TestdataSolution, SimpleScore> solutionManager = SolutionManager.create(SOLVER_FACTORY);
+        var constraintMatchList = new ArrayList<ConstraintMatch<SimpleScore>>();
+        solutionManager.streamConstraintMatches(TestdataSolution.generateSolution(3, 5),
+                ConstraintMatchFilter.all().withConstraintRefs(VALUE_COST), 10, constraintMatchList::addAll);
+        assertThat(constraintMatchList).hasSize(3);
+    }
+
+    @Test
+    void incrementalScoreCalculator() {
+        SolutionManager<TestdataShadowedSolution, SimpleScore> solutionManager =
+                SolutionManager.create(SolutionManagerTest.SOLVER_FACTORY);
+        var solution = TestdataShadowedSolution.generateSolution();
+        var expectedAnalysis = solutionManager.analyze(TestdataShadowedSolution.generateSolution());
+        var analysisSession = solutionManager.openAnalysisSession(solution);
+        var analysis = analysisSession.analyze(ScoreAnalysisFetchPolicy.FETCH_SHALLOW);
+        assertThat(analysis.score()).isEqualTo(expectedAnalysis.score());
+        assertThat(analysis.constraintMap()).containsOnlyKeys(expectedAnalysis.constraintMap().keySet());
+        analysisSession.close();
+        assertThatIllegalStateException().isThrownBy(analysisSession::getScore);
+    }
+
+    private static List<ConstraintMatch<SimpleScore>> streamAll(
+            ScoreAnalysisSession<TestdataSolution, SimpleScore> analysisSession, ConstraintMatchFilter filter) {
+        var constraintMatchList = new ArrayList<ConstraintMatch<SimpleScore>>();
+        analysisSession.streamConstraintMatches(filter, 100, constraintMatchList::addAll);
+        return constraintMatchList;
+    }
+
+    private static TestdataSolution copy(TestdataSolution solution) {
+        var copy = new TestdataSolution(solution.getCode());
+        copy.setValueList(solution.getValueList());
+        copy.setEntityList(solution.getEntityList().stream()
+                .map(entity -> new TestdataEntity(entity.getCode(), entity.getValue()))
+                .toList());
+        return copy;
+    }
+
+    public static final class TestdataSessionConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint @NonNull [] defineConstraints(@NonNull ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEachUniquePair(TestdataEntity.class, Joiners.equal(TestdataEntity::getValue))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Conflict"),
+                    constraintFactory.forEach(TestdataValue.class)
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Value cost")
+            };
+        }
+
+    }
+
+}
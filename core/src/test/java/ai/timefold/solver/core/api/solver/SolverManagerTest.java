@@ -16,6 +16,8 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -100,6 +102,61 @@ class SolverManagerTest {
         assertSolutionInitialized(solverJob2.getFinalBestSolution());
     }
 
+    @Test
+    @Timeout(60)
+    void solveBatch_2InParallelOnElasticPool() throws ExecutionException, InterruptedException {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(createPhaseWithConcurrentSolvingStart(2), new ConstructionHeuristicPhaseConfig());
+        solverManager = SolverManager.create(solverConfig, new SolverManagerConfig()
+                .withParallelSolverCount("2")
+                .withElasticSolverPool(true)
+                .withVirtualConsumerThreads(true));
+
+        var finalBestSolutionLatch = new CountDownLatch(2);
+        SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solveBuilder()
+                .withProblemId(1L)
+                .withProblem(PlannerTestUtils.generateTestdataSolution("s1"))
+                .withFinalBestSolutionConsumer(solution -> finalBestSolutionLatch.countDown())
+                .run();
+        SolverJob<TestdataSolution, Long> solverJob2 = solverManager.solveBuilder()
+                .withProblemId(2L)
+                .withProblem(PlannerTestUtils.generateTestdataSolution("s2"))
+                .withFinalBestSolutionConsumer(solution -> finalBestSolutionLatch.countDown())
+                .run();
+
+        assertSolutionInitialized(solverJob1.getFinalBestSolution());
+        assertSolutionInitialized(solverJob2.getFinalBestSolution());
+        finalBestSolutionLatch.await();
+    }
+
+    @Test
+    @Timeout(60)
+    void elasticSolverPoolThreads() throws ExecutionException, InterruptedException {
+        var contextClassLoader = new URLClassLoader(new URL[0], SolverManagerTest.class.getClassLoader());
+        var threadCheckingPhaseConfig = new CustomPhaseConfig().withCustomPhaseCommands(
+                scoreDirector -> {
+                    var currentThread = Thread.currentThread();
+                    if (currentThread.isDaemon() || currentThread.getContextClassLoader() != contextClassLoader) {
+                        fail("Solver thread (%s) is a daemon or lacks the submitter's context class loader."
+                                .formatted(currentThread.getName()));
+                    }
+                });
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(threadCheckingPhaseConfig, new ConstructionHeuristicPhaseConfig());
+        solverManager = SolverManager.create(solverConfig, new SolverManagerConfig()
+                .withParallelSolverCount("1")
+                .withElasticSolverPool(true));
+
+        var originalContextClassLoader = Thread.currentThread().getContextClassLoader();
+        try {
+            Thread.currentThread().setContextClassLoader(contextClassLoader);
+            var solverJob = solverManager.solve(1L, PlannerTestUtils.generateTestdataSolution("s1"));
+            assertSolutionInitialized(solverJob.getFinalBestSolution());
+        } finally {
+            Thread.currentThread().setContextClassLoader(originalContextClassLoader);
+        }
+    }
+
     private CustomPhaseConfig createPhaseWithConcurrentSolvingStart(int barrierPartiesCount) {
         CyclicBarrier barrier = new CyclicBarrier(barrierPartiesCount);
         return new CustomPhaseConfig().withCustomPhaseCommands(
@@ -0,0 +1,123 @@
+package ai.timefold.solver.core.impl.constructionheuristic.decider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicType;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.config.solver.SolverConfig;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListEntity;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListSolution;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListValue;
+
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class MultiThreadedConstructionHeuristicDeciderTest {
+
+    @ParameterizedTest
+    @EnumSource(value = ConstructionHeuristicType.class, names = { "FIRST_FIT",
+            "ALLOCATE_ENTITY_FROM_QUEUE", "ALLOCATE_TO_VALUE_FROM_QUEUE", "CHEAPEST_INSERTION" })
+    void sameResultAsSingleThreaded(ConstructionHeuristicType constructionHeuristicType) {
+        var singleThreadedSolution = solve(buildSolverConfig(EnvironmentMode.REPRODUCIBLE, null, constructionHeuristicType),
+                generateUninitializedSolution(10, 30));
+        var multiThreadedSolution = solve(buildSolverConfig(EnvironmentMode.REPRODUCIBLE, "4", constructionHeuristicType),
+                generateUninitializedSolution(10, 30));
+        assertThat(multiThreadedSolution.getScore()).isEqualTo(singleThreadedSolution.getScore());
+        assertThat(toValueCodes(multiThreadedSolution)).isEqualTo(toValueCodes(singleThreadedSolution));
+    }
+
+    @Test
+    void fullAssert() {
+        var solution = solve(buildSolverConfig(EnvironmentMode.FULL_ASSERT, "2", ConstructionHeuristicType.FIRST_FIT),
+                generateUninitializedSolution(5, 10));
+        assertThat(solution.getScore().isSolutionInitialized()).isTrue();
+        assertThat(solution.getEntityList()).allMatch(entity -> entity.getValue() != null);
+    }
+
+    @Test
+    void listVariable() {
+        var solverConfig = new SolverConfig()
+                .withSolutionClass(TestdataListSolution.class)
+                .withEntityClasses(TestdataListEntity.class, TestdataListValue.class)
+                .withConstraintProviderClass(ListConstraintProvider.class)
+                .withEnvironmentMode(EnvironmentMode.REPRODUCIBLE)
+                .withPhases(new ConstructionHeuristicPhaseConfig());
+        var singleThreadedSolution = solve(solverConfig, TestdataListSolution.generateUninitializedSolution(20, 4));
+        var multiThreadedSolution = solve(solverConfig.copyConfig().withMoveThreadCount("3"),
+                TestdataListSolution.generateUninitializedSolution(20, 4));
+        assertThat(multiThreadedSolution.getScore()).isEqualTo(singleThreadedSolution.getScore());
+        assertThat(multiThreadedSolution.getEntityList())
+                .map(entity -> entity.getValueList().stream().map(TestdataListValue::getCode).toList())
+                .isEqualTo(singleThreadedSolution.getEntityList().stream()
+                        .map(entity -> entity.getValueList().stream().map(TestdataListValue::getCode).toList())
+                        .toList());
+    }
+
+    private static TestdataSolution generateUninitializedSolution(int valueListSize, int entityListSize) {
+        var solution = TestdataSolution.generateSolution(valueListSize, entityListSize);
+        solution.getEntityList().forEach(entity -> entity.setValue(null));
+        return solution;
+    }
+
+    private static SolverConfig buildSolverConfig(EnvironmentMode environmentMode, String moveThreadCount,
+            ConstructionHeuristicType constructionHeuristicType) {
+        return new SolverConfig()
+                .withSolutionClass(TestdataSolution.class)
+                .withEntityClasses(TestdataEntity.class)
+                .withConstraintProviderClass(ConflictConstraintProvider.class)
+                .withEnvironmentMode(environmentMode)
+                .withMoveThreadCount(moveThreadCount)
+                .withPhases(new ConstructionHeuristicPhaseConfig()
+                        .withConstructionHeuristicType(constructionHeuristicType));
+    }
+
+    private static <Solution_> Solution_ solve(SolverConfig solverConfig, Solution_ problem) {
+        return SolverFactory.<Solution_> create(solverConfig).buildSolver().solve(problem);
+    }
+
+    private static List<String> toValueCodes(TestdataSolution solution) {
+        return solution.getEntityList().stream()
+                .map(entity -> entity.getValue().getCode())
+                .toList();
+    }
+
+    public static final class ConflictConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint @NonNull [] defineConstraints(@NonNull ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEachUniquePair(TestdataEntity.class, Joiners.equal(TestdataEntity::getValue))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Conflict")
+            };
+        }
+
+    }
+
+    public static final class ListConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint @NonNull [] defineConstraints(@NonNull ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEach(TestdataListEntity.class)
+                            .penalize(SimpleScore.ONE, entity -> entity.getValueList().size() * entity.getValueList().size())
+                            .asConstraint("Balance")
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,80 @@
+package ai.timefold.solver.core.impl.domain.solution.cloner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.chained.TestdataChainedSolution;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListSolution;
+
+import org.junit.jupiter.api.Test;
+
+class IncrementalSolutionClonerTest {
+
+    @Test
+    void isSupported() {
+        assertSoftly(softly -> {
+            softly.assertThat(IncrementalSolutionCloner.isSupported(TestdataSolution.buildSolutionDescriptor()))
+                    .isTrue();
+            softly.assertThat(IncrementalSolutionCloner.isSupported(TestdataChainedSolution.buildSolutionDescriptor()))
+                    .isFalse();
+            softly.assertThat(IncrementalSolutionCloner.isSupported(TestdataListSolution.buildSolutionDescriptor()))
+                    .isFalse();
+        });
+    }
+
+    @Test
+    void sharesOnlyUnchangedEntities() {
+        var cloner = new IncrementalSolutionCloner<>(TestdataSolution.buildSolutionDescriptor());
+        var solution = TestdataSolution.generateSolution(3, 3);
+        var entity0 = solution.getEntityList().get(0);
+        var entity1 = solution.getEntityList().get(1);
+
+        var firstClone = cloner.cloneSolution(solution);
+        assertThat(firstClone).isNotSameAs(solution);
+        assertThat(firstClone.getEntityList()).doesNotContainAnyElementsOf(solution.getEntityList());
+
+        cloner.markChanged(entity1);
+        entity1.setValue(solution.getValueList().get(2));
+        var secondClone = cloner.cloneSolution(solution);
+        assertSoftly(softly -> {
+            softly.assertThat(secondClone).isNotSameAs(firstClone);
+            softly.assertThat(secondClone.getEntityList()).isNotSameAs(firstClone.getEntityList());
+            softly.assertThat(secondClone.getEntityList().get(0)).isSameAs(firstClone.getEntityList().get(0));
+            softly.assertThat(secondClone.getEntityList().get(1)).isNotSameAs(firstClone.getEntityList().get(1));
+            softly.assertThat(secondClone.getEntityList().get(1).getValue()).isSameAs(solution.getValueList().get(2));
+            softly.assertThat(firstClone.getEntityList().get(1).getValue()).isSameAs(solution.getValueList().get(1));
+            softly.assertThat(secondClone.getEntityList().get(2)).isSameAs(firstClone.getEntityList().get(2));
+        });
+
+        cloner.reset();
+        var thirdClone = cloner.cloneSolution(solution);
+        assertThat(thirdClone.getEntityList()).doesNotContainAnyElementsOf(secondClone.getEntityList());
+        assertThat(thirdClone.getEntityList().get(0).getValue()).isSameAs(entity0.getValue());
+    }
+
+    @Test
+    void overlayMapEntrySet() {
+        var a = new Object();
+        var b = new Object();
+        var c = new Object();
+        var base = new IdentityHashMap<Object, Object>();
+        base.put(a, "a");
+        var overlayMap = new IncrementalSolutionCloner.OverlayMap(base);
+        overlayMap.put(b, "b");
+        overlayMap.put(a, "shadowed");
+        overlayMap.put(c, "c");
+
+        assertSoftly(softly -> {
+            softly.assertThat(overlayMap).hasSize(3);
+            softly.assertThat(overlayMap.entrySet())
+                    .containsExactlyInAnyOrder(Map.entry(a, "a"), Map.entry(b, "b"), Map.entry(c, "c"));
+            softly.assertThat(overlayMap.get(a)).isEqualTo("a");
+            softly.assertThat(base).hasSize(1);
+        });
+    }
+
+}
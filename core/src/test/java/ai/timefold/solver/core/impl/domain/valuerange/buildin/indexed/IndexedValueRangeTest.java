@@ -0,0 +1,64 @@
+package ai.timefold.solver.core.impl.domain.valuerange.buildin.indexed;
+
+import static ai.timefold.solver.core.impl.testdata.util.PlannerAssert.assertAllElementsOfIterator;
+import static ai.timefold.solver.core.impl.testdata.util.PlannerAssert.assertElementsOfIterator;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Random;
+
+import ai.timefold.solver.core.impl.testutil.TestRandom;
+
+import org.junit.jupiter.api.Test;
+
+class IndexedValueRangeTest {
+
+    private static final String[] VALUES = { "a", "b", "c", "d" };
+
+    private static IndexedValueRange<String> createValueRange(int size) {
+        return new IndexedValueRange<>(size, id -> VALUES[id], value -> value.charAt(0) - 'a');
+    }
+
+    @Test
+    void getSize() {
+        assertThat(createValueRange(4).getSize()).isEqualTo(4L);
+        assertThat(createValueRange(0).getSize()).isEqualTo(0L);
+        assertThatThrownBy(() -> createValueRange(-1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void get() {
+        assertThat(createValueRange(4).get(2L)).isEqualTo("c");
+        assertThatThrownBy(() -> createValueRange(2).get(2L)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+
+    @Test
+    void contains() {
+        assertThat(createValueRange(4).contains("d")).isTrue();
+        assertThat(createValueRange(3).contains("d")).isFalse();
+        assertThat(createValueRange(4).contains("e")).isFalse();
+        assertThat(createValueRange(4).contains("ax")).isFalse();
+        assertThat(createValueRange(4).contains(null)).isFalse();
+    }
+
+    @Test
+    void asList() {
+        assertThat(createValueRange(4).asList()).containsExactly("a", "b", "c", "d");
+        assertThat(createValueRange(0).asList()).isEmpty();
+        assertThatThrownBy(() -> createValueRange(4).asList().add("e"))
+                .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void createOriginalIterator() {
+        assertAllElementsOfIterator(createValueRange(4).createOriginalIterator(), "a", "b", "c", "d");
+        assertAllElementsOfIterator(createValueRange(0).createOriginalIterator());
+    }
+
+    @Test
+    void createRandomIterator() {
+        assertElementsOfIterator(createValueRange(4).createRandomIterator(new TestRandom(3, 0)), "d", "a");
+        assertAllElementsOfIterator(createValueRange(0).createRandomIterator(new Random(0)));
+    }
+
+}
@@ -10,9 +10,12 @@ import java.util.Arrays;
 
 import ai.timefold.solver.core.api.domain.metamodel.ElementLocation;
 import ai.timefold.solver.core.api.score.director.ScoreDirector;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
 import ai.timefold.solver.core.impl.testdata.domain.list.allows_unassigned.TestdataAllowsUnassignedValuesListEntity;
 import ai.timefold.solver.core.impl.testdata.domain.list.allows_unassigned.TestdataAllowsUnassignedValuesListSolution;
 import ai.timefold.solver.core.impl.testdata.domain.list.allows_unassigned.TestdataAllowsUnassignedValuesListValue;
+import ai.timefold.solver.core.impl.testdata.domain.list.valuerange.TestdataListEntityWithIndexedValueRange;
+import ai.timefold.solver.core.impl.testdata.domain.list.valuerange.TestdataListSolutionWithIndexedValueRange;
 
 import org.junit.jupiter.api.Test;
 
@@ -86,4 +89,103 @@ class ExternalizedListVariableStateSupplyTest {
         }
     }
 
+    @Test
+    void indexedValueRangeRoundTrip() {
+        var variableDescriptor = TestdataListEntityWithIndexedValueRange.buildVariableDescriptorForValueList();
+        var scoreDirector = (ScoreDirector<TestdataListSolutionWithIndexedValueRange>) mock(ScoreDirector.class);
+        try (var supply = new ExternalizedListVariableStateSupply<>(variableDescriptor)) {
+
+            var v1 = new TestdataValue("1");
+            var v2 = new TestdataValue("2");
+            var v3 = new TestdataValue("3");
+            var v4 = new TestdataValue("4");
+            var e1 = new TestdataListEntityWithIndexedValueRange("e1", v1, v2);
+            var e2 = new TestdataListEntityWithIndexedValueRange("e2", v3);
+
+            var solution = new TestdataListSolutionWithIndexedValueRange();
+            solution.setEntityList(new ArrayList<>(Arrays.asList(e1, e2)));
+            solution.setValueList(Arrays.asList(v1, v2, v3, v4));
+
+            when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+            supply.resetWorkingSolution(scoreDirector);
+
+            assertSoftly(softly -> {
+                softly.assertThat(supply.getUnassignedCount()).isEqualTo(1);
+                softly.assertThat(supply.getLocationInList(v1)).isEqualTo(ElementLocation.of(e1, 0));
+                softly.assertThat(supply.getLocationInList(v2)).isEqualTo(ElementLocation.of(e1, 1));
+                softly.assertThat(supply.getLocationInList(v3)).isEqualTo(ElementLocation.of(e2, 0));
+                softly.assertThat(supply.getLocationInList(v4)).isEqualTo(ElementLocation.unassigned());
+            });
+
+            // Move v1 to the start of e2.
+            e1.getValueList().remove(v1);
+            supply.afterListVariableChanged(scoreDirector, e1, 0, 0);
+            e2.getValueList().add(0, v1);
+            supply.afterListVariableChanged(scoreDirector, e2, 0, 1);
+            // Assign v4 to the end of e1.
+            e1.getValueList().add(v4);
+            supply.afterListVariableChanged(scoreDirector, e1, 1, 2);
+            assertSoftly(softly -> {
+                softly.assertThat(supply.getUnassignedCount()).isZero();
+                softly.assertThat(supply.getInverseSingleton(v1)).isSameAs(e2);
+                softly.assertThat(supply.getIndex(v1)).isZero();
+                softly.assertThat(supply.getLocationInList(v2)).isEqualTo(ElementLocation.of(e1, 0));
+                softly.assertThat(supply.getLocationInList(v3)).isEqualTo(ElementLocation.of(e2, 1));
+                softly.assertThat(supply.getLocationInList(v4)).isEqualTo(ElementLocation.of(e1, 1));
+            });
+
+            supply.afterListVariableElementUnassigned(scoreDirector, v4);
+            assertSoftly(softly -> {
+                softly.assertThat(supply.getUnassignedCount()).isEqualTo(1);
+                softly.assertThat(supply.isAssigned(v4)).isFalse();
+                softly.assertThat(supply.getIndex(v4)).isNull();
+                softly.assertThat(supply.getInverseSingleton(v4)).isNull();
+            });
+            assertThatThrownBy(() -> supply.afterListVariableElementUnassigned(scoreDirector, v4))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    @Test
+    void indexedValueRangeWithElementOutsideOfIt() {
+        var variableDescriptor = TestdataListEntityWithIndexedValueRange.buildVariableDescriptorForValueList();
+        var scoreDirector = (ScoreDirector<TestdataListSolutionWithIndexedValueRange>) mock(ScoreDirector.class);
+        try (var supply = new ExternalizedListVariableStateSupply<>(variableDescriptor)) {
+
+            var v1 = new TestdataValue("1");
+            var v2 = new TestdataValue("2");
+            var v3 = new TestdataValue("3");
+            var e1 = new TestdataListEntityWithIndexedValueRange("e1", v1);
+            var e2 = new TestdataListEntityWithIndexedValueRange("e2");
+
+            var solution = new TestdataListSolutionWithIndexedValueRange();
+            solution.setEntityList(new ArrayList<>(Arrays.asList(e1, e2)));
+            solution.setValueList(Arrays.asList(v1, v2));
+
+            when(scoreDirector.getWorkingSolution()).thenReturn(solution);
+            supply.resetWorkingSolution(scoreDirector);
+
+            // v3 is not in the value range, for example because a problem change added it.
+            e2.getValueList().add(v3);
+            supply.afterListVariableChanged(scoreDirector, e2, 0, 1);
+            assertSoftly(softly -> {
+                softly.assertThat(supply.getLocationInList(v1)).isEqualTo(ElementLocation.of(e1, 0));
+                softly.assertThat(supply.getLocationInList(v2)).isEqualTo(ElementLocation.unassigned());
+                softly.assertThat(supply.getLocationInList(v3)).isEqualTo(ElementLocation.of(e2, 0));
+            });
+
+            // Another working solution with a different value range reuses the supply.
+            solution.setValueList(Arrays.asList(v3, v2, v1));
+            supply.resetWorkingSolution(scoreDirector);
+            e1.getValueList().add(v2);
+            supply.afterListVariableChanged(scoreDirector, e1, 1, 2);
+            assertSoftly(softly -> {
+                softly.assertThat(supply.getUnassignedCount()).isZero();
+                softly.assertThat(supply.getLocationInList(v1)).isEqualTo(ElementLocation.of(e1, 0));
+                softly.assertThat(supply.getLocationInList(v2)).isEqualTo(ElementLocation.of(e1, 1));
+                softly.assertThat(supply.getLocationInList(v3)).isEqualTo(ElementLocation.of(e2, 0));
+            });
+        }
+    }
+
 }
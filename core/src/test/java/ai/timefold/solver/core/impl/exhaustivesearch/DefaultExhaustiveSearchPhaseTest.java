@@ -21,6 +21,7 @@ import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
 import ai.timefold.solver.core.api.solver.Solver;
 import ai.timefold.solver.core.api.solver.SolverFactory;
 import ai.timefold.solver.core.config.exhaustivesearch.ExhaustiveSearchPhaseConfig;
+import ai.timefold.solver.core.config.exhaustivesearch.ExhaustiveSearchType;
 import ai.timefold.solver.core.config.solver.monitoring.MonitoringConfig;
 import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
 import ai.timefold.solver.core.impl.exhaustivesearch.decider.ExhaustiveSearchDecider;
@@ -61,7 +62,13 @@ class DefaultExhaustiveSearchPhaseTest {
         var workingSolution = new TestdataSolution();
         when(phaseScope.getWorkingSolution()).thenReturn(workingSolution);
         InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
-        when(scoreDirector.getMoveDirector()).thenReturn(mock(MoveDirector.class));
+        MoveDirector<TestdataSolution> moveDirector = mock(MoveDirector.class);
+        when(moveDirector.executeAndCreateUndoMove(any())).thenAnswer(invocation -> {
+            Move<TestdataSolution> move = invocation.getArgument(0);
+            move.execute(moveDirector);
+            return mock(Move.class);
+        });
+        when(scoreDirector.getMoveDirector()).thenReturn(moveDirector);
         when(phaseScope.getScoreDirector()).thenReturn((InnerScoreDirector) scoreDirector);
 
         var solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
@@ -83,9 +90,16 @@ class DefaultExhaustiveSearchPhaseTest {
         when(lastCompletedStepScope.getExpandingNode()).thenReturn(node3A);
         when(stepScope.getExpandingNode()).thenReturn(node4B);
 
+        var node2BUndoMove = node2B.getUndoMove();
+        var node3BUndoMove = node3B.getUndoMove();
+        var node4BUndoMove = node4B.getUndoMove();
         DefaultExhaustiveSearchPhase<TestdataSolution> phase = new DefaultExhaustiveSearchPhase.Builder<>(0, "", null, null,
                 mock(EntitySelector.class), mock(ExhaustiveSearchDecider.class)).build();
         phase.restoreWorkingSolution(stepScope);
+        // The undo moves of the new path are recorded while restoring
+        assertThat(node2B.getUndoMove()).isNotSameAs(node2BUndoMove);
+        assertThat(node3B.getUndoMove()).isNotSameAs(node3BUndoMove);
+        assertThat(node4B.getUndoMove()).isNotSameAs(node4BUndoMove);
 
         verify(node0.getMove(), times(0)).execute(any(MutableSolutionView.class));
         verify(node0.getUndoMove(), times(0)).execute(any(MutableSolutionView.class));
@@ -140,6 +154,45 @@ class DefaultExhaustiveSearchPhaseTest {
         assertThat(solution.getScore().initScore()).isEqualTo(0);
     }
 
+    @Test
+    void solveWithExpandableNodeLimit() {
+        var meterRegistry = new TestMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class,
+                TestdataEntity.class);
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ExhaustiveSearchPhaseConfig()
+                .withExhaustiveSearchType(ExhaustiveSearchType.BRANCH_AND_BOUND)
+                .withExpandableNodeLimit(2)));
+
+        var solution = new TestdataSolution("s1");
+        var v1 = new TestdataValue("v1");
+        var v2 = new TestdataValue("v2");
+        var v3 = new TestdataValue("v3");
+        solution.setValueList(Arrays.asList(v1, v2, v3));
+        solution.setEntityList(Arrays.asList(
+                new TestdataEntity("e1", null),
+                new TestdataEntity("e2", null),
+                new TestdataEntity("e3", null)));
+
+        Solver<TestdataSolution> solver = SolverFactory.<TestdataSolution> create(solverConfig).buildSolver();
+        solution = solver.solve(solution);
+        assertThat(solution).isNotNull();
+        assertThat(solution.getEntityList()).allSatisfy(entity -> assertThat(entity.getValue()).isNotNull());
+        assertThat(solution.getScore().initScore()).isEqualTo(0);
+
+        SolverMetric.EXHAUSTIVE_SEARCH_EXPANDABLE_NODE_COUNT.register(solver);
+        SolverMetric.EXHAUSTIVE_SEARCH_PRUNED_NODE_COUNT.register(solver);
+        meterRegistry.publish(solver);
+        var expandableNodeCount = meterRegistry.getMeasurement(
+                SolverMetric.EXHAUSTIVE_SEARCH_EXPANDABLE_NODE_COUNT.getMeterId(), "VALUE");
+        var prunedNodeCount = meterRegistry.getMeasurement(
+                SolverMetric.EXHAUSTIVE_SEARCH_PRUNED_NODE_COUNT.getMeterId(), "VALUE");
+        // The queue is exhausted at the end of the phase.
+        assertThat(expandableNodeCount).isZero();
+        assertThat(prunedNodeCount).isPositive();
+    }
+
     @Test
     void solveWithInitializedEntitiesAndMetric() {
         var meterRegistry = new TestMeterRegistry();
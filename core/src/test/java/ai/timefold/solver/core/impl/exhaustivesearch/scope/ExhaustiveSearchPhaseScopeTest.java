@@ -26,4 +26,21 @@ class ExhaustiveSearchPhaseScopeTest extends AbstractNodeComparatorTest {
         assertThat(phase.getExpandableNodeQueue()).hasSize(1);
     }
 
+    @Test
+    void expandableNodeLimit() {
+        ExhaustiveSearchPhaseScope<TestdataSolution> phase = new ExhaustiveSearchPhaseScope<>(new SolverScope<>(), 0);
+        phase.setExpandableNodeQueue(new TreeSet<>(new ScoreFirstNodeComparator(true)));
+        phase.setExpandableNodeLimit(2);
+        var node0 = buildNode(0, "0", 0, 0);
+        var node1 = buildNode(0, "1", 0, 0);
+        var node2 = buildNode(0, "2", 0, 0);
+        phase.addExpandableNode(node1);
+        phase.addExpandableNode(node2);
+        phase.addExpandableNode(node0);
+        // The least promising node is pruned
+        assertThat(phase.getExpandableNodeQueue()).containsExactly(node1, node2);
+        assertThat(phase.getPeakExpandableNodeCount()).isEqualTo(2);
+        assertThat(phase.getPrunedExpandableNodeCount()).isEqualTo(1L);
+    }
+
 }
@@ -0,0 +1,115 @@
+package ai.timefold.solver.core.impl.heuristic.selector.move.composite;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.config.heuristic.selector.move.composite.UnionMoveSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.SwapMoveSelectorConfig;
+import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
+import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+import ai.timefold.solver.core.impl.heuristic.move.DummyMove;
+import ai.timefold.solver.core.impl.heuristic.move.LegacyMoveAdapter;
+import ai.timefold.solver.core.impl.heuristic.selector.SelectorTestUtils;
+import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.util.PlannerTestUtils;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveSelectorProbabilityWeightFactoryTest {
+
+    @Test
+    void uniformWithoutImprovements() {
+        MoveSelector<TestdataSolution> childA = SelectorTestUtils.mockMoveSelector(DummyMove.class);
+        MoveSelector<TestdataSolution> childB = SelectorTestUtils.mockMoveSelector(DummyMove.class);
+        var weightFactory = new AdaptiveSelectorProbabilityWeightFactory<>(List.of(childA, childB));
+        weightFactory.phaseStarted();
+        assertThat(weightFactory.createProbabilityWeight(null, childA)).isEqualTo(0.5);
+        assertThat(weightFactory.createProbabilityWeight(null, childB)).isEqualTo(0.5);
+
+        var moveA = new DummyMove("a");
+        doStep(weightFactory, childA, moveA, childB, new DummyMove("b"), moveA, SimpleScore.of(-1));
+        assertThat(weightFactory.getQuality(childA)).isZero();
+        assertThat(weightFactory.getQuality(childB)).isZero();
+        assertThat(weightFactory.createProbabilityWeight(null, childA)).isEqualTo(0.5);
+    }
+
+    @Test
+    void creditTheChildOfAnImprovingStep() {
+        MoveSelector<TestdataSolution> childA = SelectorTestUtils.mockMoveSelector(DummyMove.class);
+        MoveSelector<TestdataSolution> childB = SelectorTestUtils.mockMoveSelector(DummyMove.class);
+        var weightFactory = new AdaptiveSelectorProbabilityWeightFactory<>(List.of(childA, childB));
+        weightFactory.phaseStarted();
+
+        var moveB = new DummyMove("b");
+        doStep(weightFactory, childA, new DummyMove("a"), childB, moveB, moveB, SimpleScore.of(1));
+        assertThat(weightFactory.getQuality(childA)).isZero();
+        assertThat(weightFactory.getQuality(childB)).isPositive();
+        var minimumWeight = AdaptiveSelectorProbabilityWeightFactory.MINIMUM_WEIGHT_RATIO / 2;
+        assertThat(weightFactory.createProbabilityWeight(null, childA)).isCloseTo(minimumWeight, within(1e-9));
+        assertThat(weightFactory.createProbabilityWeight(null, childB)).isCloseTo(1.0 - minimumWeight, within(1e-9));
+
+        // A new phase forgets what was learned.
+        weightFactory.phaseStarted();
+        assertThat(weightFactory.createProbabilityWeight(null, childB)).isEqualTo(0.5);
+    }
+
+    private static void doStep(AdaptiveSelectorProbabilityWeightFactory<TestdataSolution> weightFactory,
+            MoveSelector<TestdataSolution> childA, DummyMove moveA, MoveSelector<TestdataSolution> childB, DummyMove moveB,
+            DummyMove step, SimpleScore stepScore) {
+        weightFactory.stepStarted();
+        weightFactory.moveSelected(childA, moveA);
+        weightFactory.moveSelected(childB, moveB);
+
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = mock(LocalSearchPhaseScope.class);
+        LocalSearchStepScope<TestdataSolution> lastCompletedStepScope = mock(LocalSearchStepScope.class);
+        doReturn(SimpleScore.ZERO).when(lastCompletedStepScope).getScore();
+        when(phaseScope.getLastCompletedStepScope()).thenReturn(lastCompletedStepScope);
+        LocalSearchStepScope<TestdataSolution> stepScope = mock(LocalSearchStepScope.class);
+        when(stepScope.getPhaseScope()).thenReturn(phaseScope);
+        when(stepScope.getStep()).thenReturn(new LegacyMoveAdapter<>(step));
+        doReturn(stepScore).when(stepScope).getScore();
+        weightFactory.stepEnded(stepScope);
+    }
+
+    @Test
+    void solveWithAdaptiveSelection() {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new LocalSearchPhaseConfig()
+                        .withMoveSelectorConfig(new UnionMoveSelectorConfig()
+                                .withMoveSelectors(new ChangeMoveSelectorConfig(), new SwapMoveSelectorConfig())
+                                .withAdaptiveSelection(true))
+                        .withTerminationConfig(new TerminationConfig().withStepCountLimit(20)));
+        var solution = SolverFactory.<TestdataSolution> create(solverConfig).buildSolver()
+                .solve(TestdataSolution.generateSolution(3, 5));
+        assertThat(solution.getScore()).isNotNull();
+    }
+
+    @Test
+    void adaptiveSelectionWithFixedProbabilityWeight() {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(new LocalSearchPhaseConfig()
+                        .withMoveSelectorConfig(new UnionMoveSelectorConfig()
+                                .withMoveSelectors(new ChangeMoveSelectorConfig().withFixedProbabilityWeight(2.0),
+                                        new SwapMoveSelectorConfig())
+                                .withAdaptiveSelection(true))
+                        .withTerminationConfig(new TerminationConfig().withStepCountLimit(20)));
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> SolverFactory.<TestdataSolution> create(solverConfig).buildSolver())
+                .withMessageContaining("adaptiveSelection")
+                .withMessageContaining("fixedProbabilityWeight");
+    }
+
+}
@@ -3,13 +3,18 @@ package ai.timefold.solver.core.impl.heuristic.selector.value.decorator;
 import static ai.timefold.solver.core.impl.testdata.util.PlannerAssert.assertAllCodesOfValueSelector;
 import static ai.timefold.solver.core.impl.testdata.util.PlannerAssert.verifyPhaseLifecycle;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
+
 import ai.timefold.solver.core.config.heuristic.selector.common.SelectionCacheType;
+import ai.timefold.solver.core.impl.domain.valuerange.buildin.indexed.IndexedValueRange;
 import ai.timefold.solver.core.impl.heuristic.selector.SelectorTestUtils;
 import ai.timefold.solver.core.impl.heuristic.selector.value.EntityIndependentValueSelector;
+import ai.timefold.solver.core.impl.heuristic.selector.value.FromSolutionPropertyValueSelector;
 import ai.timefold.solver.core.impl.phase.scope.AbstractPhaseScope;
 import ai.timefold.solver.core.impl.phase.scope.AbstractStepScope;
 import ai.timefold.solver.core.impl.solver.scope.SolverScope;
@@ -95,4 +100,32 @@ class CachingValueSelectorTest {
         verify(childValueSelector, times(timesCalled)).getSize();
     }
 
+    @Test
+    void indexedValueRangeIsNotCopied() {
+        var valueList = List.of(new TestdataValue("v1"), new TestdataValue("v2"), new TestdataValue("v3"));
+        var valueRange = new IndexedValueRange<Object>(valueList.size(), valueList::get, valueList::indexOf);
+        FromSolutionPropertyValueSelector childValueSelector = mock(FromSolutionPropertyValueSelector.class);
+        when(childValueSelector.getCachedValueRange()).thenReturn(valueRange);
+
+        EntityIndependentValueSelector valueSelector =
+                new CachingValueSelector(childValueSelector, SelectionCacheType.PHASE, false);
+
+        SolverScope solverScope = mock(SolverScope.class);
+        valueSelector.solvingStarted(solverScope);
+        AbstractPhaseScope phaseScope = mock(AbstractPhaseScope.class);
+        when(phaseScope.getSolverScope()).thenReturn(solverScope);
+        valueSelector.phaseStarted(phaseScope);
+
+        AbstractStepScope stepScope = mock(AbstractStepScope.class);
+        when(stepScope.getPhaseScope()).thenReturn(phaseScope);
+        valueSelector.stepStarted(stepScope);
+        assertAllCodesOfValueSelector(valueSelector, "v1", "v2", "v3");
+        valueSelector.stepEnded(stepScope);
+
+        valueSelector.phaseEnded(phaseScope);
+        valueSelector.solvingEnded(solverScope);
+
+        verify(childValueSelector, never()).iterator();
+    }
+
 }
@@ -0,0 +1,141 @@
+package ai.timefold.solver.core.impl.localsearch.decider;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.api.solver.SolverFactory;
+import ai.timefold.solver.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import ai.timefold.solver.core.config.localsearch.LocalSearchPhaseConfig;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.config.solver.SolverConfig;
+import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListEntity;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListSolution;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListValue;
+
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Test;
+
+class MultiThreadedLocalSearchDeciderTest {
+
+    @Test
+    void sameResultAsSingleThreaded() {
+        var singleThreadedSolution = solve(buildSolverConfig(EnvironmentMode.REPRODUCIBLE, null),
+                TestdataSolution.generateSolution(5, 30));
+        var multiThreadedSolution = solve(buildSolverConfig(EnvironmentMode.REPRODUCIBLE, "4"),
+                TestdataSolution.generateSolution(5, 30));
+        assertThat(multiThreadedSolution.getScore()).isEqualTo(singleThreadedSolution.getScore());
+        assertThat(toValueCodes(multiThreadedSolution)).isEqualTo(toValueCodes(singleThreadedSolution));
+    }
+
+    @Test
+    void fullAssert() {
+        var solution = solve(buildSolverConfig(EnvironmentMode.FULL_ASSERT, "2"),
+                TestdataSolution.generateSolution(5, 10));
+        assertThat(solution.getScore()).isNotNull();
+        assertThat(solution.getEntityList()).allMatch(entity -> entity.getValue() != null);
+    }
+
+    @Test
+    void listVariable() {
+        var solverConfig = new SolverConfig()
+                .withSolutionClass(TestdataListSolution.class)
+                .withEntityClasses(TestdataListEntity.class, TestdataListValue.class)
+                .withConstraintProviderClass(ListConstraintProvider.class)
+                .withEnvironmentMode(EnvironmentMode.REPRODUCIBLE)
+                .withPhases(new ConstructionHeuristicPhaseConfig(),
+                        new LocalSearchPhaseConfig()
+                                .withTerminationConfig(new TerminationConfig().withStepCountLimit(100)));
+        var singleThreadedSolution = solve(solverConfig, TestdataListSolution.generateUninitializedSolution(20, 4));
+        var multiThreadedSolution = solve(solverConfig.copyConfig().withMoveThreadCount("3"),
+                TestdataListSolution.generateUninitializedSolution(20, 4));
+        assertThat(multiThreadedSolution.getScore()).isEqualTo(singleThreadedSolution.getScore());
+    }
+
+    @Test
+    void exceptionOnMoveThreadIsRelayed() {
+        var solverConfig = buildSolverConfig(EnvironmentMode.REPRODUCIBLE, "2")
+                .withConstraintProviderClass(FailingOnMoveThreadConstraintProvider.class);
+        assertThatThrownBy(() -> solve(solverConfig, TestdataSolution.generateSolution(5, 10)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("Relayed here in the parent thread")
+                .hasRootCauseMessage("Failing on a move thread.");
+    }
+
+    private static SolverConfig buildSolverConfig(EnvironmentMode environmentMode, String moveThreadCount) {
+        return new SolverConfig()
+                .withSolutionClass(TestdataSolution.class)
+                .withEntityClasses(TestdataEntity.class)
+                .withConstraintProviderClass(ConflictConstraintProvider.class)
+                .withEnvironmentMode(environmentMode)
+                .withMoveThreadCount(moveThreadCount)
+                .withPhases(new ConstructionHeuristicPhaseConfig(),
+                        new LocalSearchPhaseConfig()
+                                .withTerminationConfig(new TerminationConfig().withStepCountLimit(50)));
+    }
+
+    private static <Solution_> Solution_ solve(SolverConfig solverConfig, Solution_ problem) {
+        return SolverFactory.<Solution_> create(solverConfig).buildSolver().solve(problem);
+    }
+
+    private static List<String> toValueCodes(TestdataSolution solution) {
+        return solution.getEntityList().stream()
+                .map(entity -> entity.getValue().getCode())
+                .toList();
+    }
+
+    public static final class ConflictConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint @NonNull [] defineConstraints(@NonNull ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEachUniquePair(TestdataEntity.class, Joiners.equal(TestdataEntity::getValue))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Conflict")
+            };
+        }
+
+    }
+
+    public static final class ListConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint @NonNull [] defineConstraints(@NonNull ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEach(TestdataListEntity.class)
+                            .penalize(SimpleScore.ONE, entity -> entity.getValueList().size() * entity.getValueList().size())
+                            .asConstraint("Balance")
+            };
+        }
+
+    }
+
+    public static final class FailingOnMoveThreadConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint @NonNull [] defineConstraints(@NonNull ConstraintFactory constraintFactory) {
+            return new Constraint[] {
+                    constraintFactory.forEach(TestdataEntity.class)
+                            .filter(entity -> {
+                                if (Thread.currentThread().getName().contains("MoveThread")) {
+                                    throw new UnsupportedOperationException("Failing on a move thread.");
+                                }
+                                return true;
+                            })
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Failing on a move thread")
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,97 @@
+package ai.timefold.solver.core.impl.localsearch.decider.acceptor.tabu;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class TabuStoreTest {
+
+    @Test
+    void putAndRemoveExpired() {
+        var tabuStore = new TabuStore(3);
+        tabuStore.put("a", 0);
+        tabuStore.put("b", 1);
+        tabuStore.put(null, 2);
+        assertThat(tabuStore.size()).isEqualTo(3);
+        assertThat(tabuStore.getStepIndex("a")).isZero();
+        assertThat(tabuStore.getStepIndex("b")).isEqualTo(1);
+        assertThat(tabuStore.getStepIndex(null)).isEqualTo(2);
+        assertThat(tabuStore.getStepIndex("c")).isEqualTo(-1);
+
+        tabuStore.removeExpired(3, 3);
+        assertThat(tabuStore.getStepIndex("a")).isEqualTo(-1);
+        assertThat(tabuStore.getStepIndex("b")).isEqualTo(1);
+        tabuStore.removeExpired(5, 3);
+        assertThat(tabuStore.size()).isZero();
+        assertThat(tabuStore.getStepIndex(null)).isEqualTo(-1);
+    }
+
+    @Test
+    void putExistingTabuMovesItToTheEnd() {
+        var tabuStore = new TabuStore(2);
+        tabuStore.put("a", 0);
+        tabuStore.put("b", 1);
+        tabuStore.put(new String("a"), 2);
+        assertThat(tabuStore.size()).isEqualTo(2);
+        assertThat(tabuStore.getStepIndex("a")).isEqualTo(2);
+        List<Object> tabuList = new ArrayList<>();
+        tabuStore.forEach(tabuList::add);
+        assertThat(tabuList).containsExactly("b", "a");
+
+        tabuStore.removeExpired(3, 2);
+        assertThat(tabuStore.getStepIndex("b")).isEqualTo(-1);
+        assertThat(tabuStore.getStepIndex("a")).isEqualTo(2);
+    }
+
+    @Test
+    void growBeyondExpectedSize() {
+        var tabuStore = new TabuStore(1);
+        var tabuCount = 1000;
+        for (var i = 0; i < tabuCount; i++) {
+            tabuStore.put(i, i);
+        }
+        assertThat(tabuStore.size()).isEqualTo(tabuCount);
+        for (var i = 0; i < tabuCount; i++) {
+            assertThat(tabuStore.getStepIndex(i)).isEqualTo(i);
+        }
+        assertThat(tabuStore.getStepIndex(tabuCount)).isEqualTo(-1);
+
+        tabuStore.removeExpired(tabuCount - 1, 10);
+        assertThat(tabuStore.size()).isEqualTo(10);
+        for (var i = 0; i < tabuCount - 10; i++) {
+            assertThat(tabuStore.getStepIndex(i)).isEqualTo(-1);
+        }
+        for (var i = tabuCount - 10; i < tabuCount; i++) {
+            assertThat(tabuStore.getStepIndex(i)).isEqualTo(i);
+        }
+    }
+
+    @Test
+    void collidingHashCodes() {
+        var tabuStore = new TabuStore(4);
+        // "Aa" and "BB" have the same hashCode().
+        tabuStore.put("Aa", 0);
+        tabuStore.put("BB", 1);
+        assertThat(tabuStore.getStepIndex("Aa")).isZero();
+        assertThat(tabuStore.getStepIndex("BB")).isEqualTo(1);
+        tabuStore.removeExpired(1, 1);
+        assertThat(tabuStore.getStepIndex("Aa")).isEqualTo(-1);
+        assertThat(tabuStore.getStepIndex("BB")).isEqualTo(1);
+    }
+
+    @Test
+    void hashCodeStabilityViolation() {
+        var tabuStore = new TabuStore(2);
+        var tabu = new ArrayList<String>();
+        tabuStore.put(tabu, 0);
+        tabu.add("changed");
+        assertThatIllegalStateException()
+                .isThrownBy(() -> tabuStore.removeExpired(1, 1))
+                .withMessageContaining("HashCode stability violation");
+    }
+
+}
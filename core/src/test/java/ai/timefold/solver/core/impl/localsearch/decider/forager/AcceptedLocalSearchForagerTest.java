@@ -212,6 +212,96 @@ class AcceptedLocalSearchForagerTest {
         forager.phaseEnded(phaseScope);
     }
 
+    @Test
+    void pickMoveExpectedImprovementExhausted() {
+        // Setup
+        LocalSearchForager<TestdataSolution> forager = new AcceptedLocalSearchForager<>(new HighestScoreFinalistPodium<>(),
+                LocalSearchPickEarlyType.EXPECTED_IMPROVEMENT_EXHAUSTED, Integer.MAX_VALUE, false);
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = createPhaseScope();
+        forager.phaseStarted(phaseScope);
+        // Without statistics, every move is evaluated.
+        LocalSearchStepScope<TestdataSolution> firstStepScope = new LocalSearchStepScope<>(phaseScope, 1);
+        forager.stepStarted(firstStepScope);
+        forager.addMove(createMoveScope(firstStepScope, SimpleScore.of(-20), true));
+        assertThat(forager.isQuitEarly()).isFalse();
+        LocalSearchMoveScope<TestdataSolution> b = createMoveScope(firstStepScope, SimpleScore.of(-5), true);
+        forager.addMove(b);
+        assertThat(forager.isQuitEarly()).isFalse();
+        for (int i = 0; i < 4; i++) {
+            forager.addMove(createMoveScope(firstStepScope, SimpleScore.of(-30), true));
+            assertThat(forager.isQuitEarly()).isFalse();
+        }
+        assertThat(forager.pickMove(firstStepScope)).isSameAs(b);
+        forager.stepEnded(firstStepScope);
+        // The best move of the previous step was the 2nd move, so this step quits after the 4th move.
+        LocalSearchStepScope<TestdataSolution> secondStepScope = new LocalSearchStepScope<>(phaseScope, 2);
+        forager.stepStarted(secondStepScope);
+        forager.addMove(createMoveScope(secondStepScope, SimpleScore.of(-1), false));
+        forager.addMove(createMoveScope(secondStepScope, SimpleScore.of(-50), true));
+        LocalSearchMoveScope<TestdataSolution> g = createMoveScope(secondStepScope, SimpleScore.of(-7), true);
+        forager.addMove(g);
+        assertThat(forager.isQuitEarly()).isFalse();
+        forager.addMove(createMoveScope(secondStepScope, SimpleScore.of(-60), true));
+        assertThat(forager.isQuitEarly()).isTrue();
+        assertThat(forager.pickMove(secondStepScope)).isSameAs(g);
+        forager.stepEnded(secondStepScope);
+        // A sample step evaluates every move again.
+        LocalSearchStepScope<TestdataSolution> sampleStepScope = new LocalSearchStepScope<>(phaseScope, 10);
+        forager.stepStarted(sampleStepScope);
+        for (int i = 0; i < 6; i++) {
+            forager.addMove(createMoveScope(sampleStepScope, SimpleScore.of(-30), true));
+            assertThat(forager.isQuitEarly()).isFalse();
+        }
+        forager.stepEnded(sampleStepScope);
+        forager.phaseEnded(phaseScope);
+    }
+
+    @Test
+    void pickMoveFinalistCountLimit() {
+        // Setup
+        LocalSearchForager<TestdataSolution> forager = new AcceptedLocalSearchForager<>(
+                new HighestScoreFinalistPodium<>(2, false), LocalSearchPickEarlyType.NEVER, Integer.MAX_VALUE, false);
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = createPhaseScope();
+        forager.phaseStarted(phaseScope);
+        LocalSearchStepScope<TestdataSolution> stepScope = new LocalSearchStepScope<>(phaseScope);
+        forager.stepStarted(stepScope);
+        // Pre conditions
+        LocalSearchMoveScope<TestdataSolution> a = createMoveScope(stepScope, SimpleScore.of(-20), true);
+        LocalSearchMoveScope<TestdataSolution> b = createMoveScope(stepScope, SimpleScore.of(-1), true);
+        LocalSearchMoveScope<TestdataSolution> c = createMoveScope(stepScope, SimpleScore.of(-1), true);
+        LocalSearchMoveScope<TestdataSolution> d = createMoveScope(stepScope, SimpleScore.of(-1), true);
+        // Do stuff
+        forager.addMove(a);
+        forager.addMove(b);
+        forager.addMove(c);
+        forager.addMove(d);
+        // Post conditions
+        LocalSearchMoveScope<TestdataSolution> pickedScope = forager.pickMove(stepScope);
+        assertThat(pickedScope).isSameAs(b);
+        forager.phaseEnded(phaseScope);
+    }
+
+    @Test
+    void finalistCountLimitSamplesRandomly() {
+        HighestScoreFinalistPodium<TestdataSolution> finalistPodium = new HighestScoreFinalistPodium<>(2, true);
+        LocalSearchPhaseScope<TestdataSolution> phaseScope = createPhaseScope();
+        // The 3rd finalist replaces the 1st, the 4th finalist is not kept.
+        phaseScope.getSolverScope().setWorkingRandom(new TestRandom(0, 2));
+        finalistPodium.phaseStarted(phaseScope);
+        LocalSearchStepScope<TestdataSolution> stepScope = new LocalSearchStepScope<>(phaseScope);
+        finalistPodium.stepStarted(stepScope);
+        LocalSearchMoveScope<TestdataSolution> a = createMoveScope(stepScope, SimpleScore.of(-1), true);
+        LocalSearchMoveScope<TestdataSolution> b = createMoveScope(stepScope, SimpleScore.of(-1), true);
+        LocalSearchMoveScope<TestdataSolution> c = createMoveScope(stepScope, SimpleScore.of(-1), true);
+        LocalSearchMoveScope<TestdataSolution> d = createMoveScope(stepScope, SimpleScore.of(-1), true);
+        finalistPodium.addMove(a);
+        finalistPodium.addMove(b);
+        finalistPodium.addMove(c);
+        finalistPodium.addMove(d);
+        assertThat(finalistPodium.getFinalistList()).containsExactly(c, b);
+        finalistPodium.phaseEnded(phaseScope);
+    }
+
     private static LocalSearchPhaseScope<TestdataSolution> createPhaseScope() {
         SolverScope<TestdataSolution> solverScope = new SolverScope<>();
         LocalSearchPhaseScope<TestdataSolution> phaseScope = new LocalSearchPhaseScope<>(solverScope, 0);
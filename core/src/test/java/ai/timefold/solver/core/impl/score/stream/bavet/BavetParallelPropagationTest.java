@@ -0,0 +1,119 @@
+package ai.timefold.solver.core.impl.score.stream.bavet;
+
+import static ai.timefold.solver.core.api.score.stream.ConstraintCollectors.count;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Random;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.score.director.stream.BavetConstraintStreamScoreDirectorFactory;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+
+import org.junit.jupiter.api.Test;
+
+class BavetParallelPropagationTest {
+
+    @Test
+    void sameScoreAsSequentialPropagation() {
+        var solution = TestdataSolution.generateSolution(20, 200);
+        var sequentialSession = buildSessionFactory(new TestConstraintProvider(), 1).buildSession(solution, true, false);
+        // Threshold of 0 forces every layer with more than one group to propagate in parallel.
+        var parallelSession = buildSessionFactory(new TestConstraintProvider(), 4).buildSession(solution, true, false);
+        for (var entity : solution.getEntityList()) {
+            sequentialSession.insert(entity);
+            parallelSession.insert(entity);
+        }
+        for (var value : solution.getValueList()) {
+            sequentialSession.insert(value);
+            parallelSession.insert(value);
+        }
+        assertThat(parallelSession.calculateScore(0)).isEqualTo(sequentialSession.calculateScore(0));
+
+        var random = new Random(37);
+        for (var i = 0; i < 200; i++) {
+            // Change a varying number of entities at once, so that both small and big deltas are propagated.
+            var changeCount = 1 + random.nextInt(20);
+            for (var j = 0; j < changeCount; j++) {
+                var entity = solution.getEntityList().get(random.nextInt(solution.getEntityList().size()));
+                entity.setValue(random.nextInt(10) == 0 ? null
+                        : solution.getValueList().get(random.nextInt(solution.getValueList().size())));
+                sequentialSession.update(entity);
+                parallelSession.update(entity);
+            }
+            assertThat(parallelSession.calculateScore(0)).isEqualTo(sequentialSession.calculateScore(0));
+        }
+        assertThat(parallelSession.getConstraintMatchTotalMap())
+                .isEqualTo(sequentialSession.getConstraintMatchTotalMap());
+    }
+
+    @Test
+    void exceptionFromConstraintIsRethrown() {
+        var solution = TestdataSolution.generateSolution(2, 2);
+        var session = buildSessionFactory(factory -> new Constraint[] {
+                factory.forEach(TestdataEntity.class)
+                        .filter(entity -> {
+                            throw new UnsupportedOperationException("Failing filter.");
+                        })
+                        .penalize(SimpleScore.ONE)
+                        .asConstraint("Failing constraint"),
+                // Not a scoring node, so that layer 0 has two groups to propagate in parallel.
+                factory.forEach(TestdataValue.class)
+                        .map(TestdataValue::getCode)
+                        .penalize(SimpleScore.ONE)
+                        .asConstraint("Other constraint")
+        }, 2).buildSession(solution, false, false);
+        solution.getEntityList().forEach(session::insert);
+        solution.getValueList().forEach(session::insert);
+        assertThatThrownBy(() -> session.calculateScore(0))
+                .isInstanceOf(UnsupportedOperationException.class)
+                .hasMessage("Failing filter.");
+    }
+
+    private static BavetConstraintSessionFactory<TestdataSolution, SimpleScore>
+            buildSessionFactory(ConstraintProvider constraintProvider, int propagationThreadCount) {
+        var solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+        var constraintMetaModel = new BavetConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore>(
+                solutionDescriptor, constraintProvider, EnvironmentMode.REPRODUCIBLE)
+                .getConstraintMetaModel();
+        return new BavetConstraintSessionFactory<>(solutionDescriptor, constraintMetaModel, propagationThreadCount, 0);
+    }
+
+    private static final class TestConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory factory) {
+            return new Constraint[] {
+                    factory.forEachUniquePair(TestdataEntity.class, Joiners.equal(TestdataEntity::getValue))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Conflict"),
+                    factory.forEach(TestdataEntity.class)
+                            .groupBy(TestdataEntity::getValue, count())
+                            .penalize(SimpleScore.ONE, (value, count) -> count * count)
+                            .asConstraint("Balance"),
+                    factory.forEach(TestdataValue.class)
+                            .ifNotExists(TestdataEntity.class, Joiners.equal(value -> value, TestdataEntity::getValue))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Unused value"),
+                    factory.forEachIncludingUnassigned(TestdataEntity.class)
+                            .filter(entity -> entity.getValue() == null)
+                            .penalize(SimpleScore.ONE, entity -> 10)
+                            .asConstraint("Unassigned"),
+                    factory.forEach(TestdataEntity.class)
+                            .map(entity -> entity.getCode().length())
+                            .distinct()
+                            .reward(SimpleScore.ONE)
+                            .asConstraint("Distinct code lengths")
+            };
+        }
+
+    }
+
+}
@@ -0,0 +1,101 @@
+package ai.timefold.solver.core.impl.score.stream.bavet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Random;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.score.director.stream.BavetConstraintStreamScoreDirectorFactory;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class BavetTupleRecyclingTest {
+
+    /**
+     * {@link EnvironmentMode#REPRODUCIBLE} reuses the tuples,
+     * {@link EnvironmentMode#FULL_ASSERT} fails if a recycled tuple is still used.
+     */
+    @ParameterizedTest
+    @EnumSource(value = EnvironmentMode.class, names = { "REPRODUCIBLE", "FULL_ASSERT" })
+    void incrementalScoreMatchesScoreFromScratch(EnvironmentMode environmentMode) {
+        var sessionFactory = buildSessionFactory(environmentMode);
+        var solution = TestdataSolution.generateSolution(10, 100);
+        var session = buildSession(sessionFactory, solution);
+        session.calculateScore(0);
+
+        var random = new Random(37);
+        for (var i = 0; i < 300; i++) {
+            // Change a varying number of entities at once, so that tuples die and are reused in various orders.
+            var changeCount = 1 + random.nextInt(10);
+            for (var j = 0; j < changeCount; j++) {
+                var entity = solution.getEntityList().get(random.nextInt(solution.getEntityList().size()));
+                entity.setValue(random.nextInt(10) == 0 ? null
+                        : solution.getValueList().get(random.nextInt(solution.getValueList().size())));
+                session.update(entity);
+            }
+            var score = session.calculateScore(0);
+            if (i % 20 == 0) {
+                assertThat(score).isEqualTo(buildSession(sessionFactory, solution).calculateScore(0));
+            }
+        }
+        assertThat(session.getConstraintMatchTotalMap())
+                .isEqualTo(buildSession(sessionFactory, solution).getConstraintMatchTotalMap());
+    }
+
+    private static BavetConstraintSessionFactory<TestdataSolution, SimpleScore>
+            buildSessionFactory(EnvironmentMode environmentMode) {
+        var solutionDescriptor = TestdataSolution.buildSolutionDescriptor();
+        var constraintMetaModel = new BavetConstraintStreamScoreDirectorFactory<TestdataSolution, SimpleScore>(
+                solutionDescriptor, new TestConstraintProvider(), environmentMode)
+                .getConstraintMetaModel();
+        return new BavetConstraintSessionFactory<>(solutionDescriptor, constraintMetaModel);
+    }
+
+    private static BavetConstraintSession<SimpleScore> buildSession(
+            BavetConstraintSessionFactory<TestdataSolution, SimpleScore> sessionFactory, TestdataSolution solution) {
+        var session = sessionFactory.buildSession(solution, true, false);
+        solution.getEntityList().forEach(session::insert);
+        solution.getValueList().forEach(session::insert);
+        session.calculateScore(0);
+        return session;
+    }
+
+    private static final class TestConstraintProvider implements ConstraintProvider {
+
+        @Override
+        public Constraint[] defineConstraints(ConstraintFactory factory) {
+            return new Constraint[] {
+                    // Join, followed by a map.
+                    factory.forEachUniquePair(TestdataEntity.class, Joiners.equal(TestdataEntity::getValue))
+                            .map((a, b) -> a.getCode() + b.getCode())
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Conflict"),
+                    // Join, followed by an ifExists which propagates the join's tuples in a later layer.
+                    factory.forEach(TestdataEntity.class)
+                            .join(TestdataValue.class, Joiners.equal(TestdataEntity::getValue, value -> value))
+                            .ifExists(TestdataEntity.class, Joiners.equal((entity, value) -> value, TestdataEntity::getValue),
+                                    Joiners.filtering((entity, value, otherEntity) -> entity != otherEntity))
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Shared value"),
+                    // Flatten.
+                    factory.forEach(TestdataEntity.class)
+                            .map(entity -> entity, entity -> List.of(entity.getValue(), entity.getValue()))
+                            .flattenLast(values -> values)
+                            .penalize(SimpleScore.ONE)
+                            .asConstraint("Flattened")
+            };
+        }
+
+    }
+
+}
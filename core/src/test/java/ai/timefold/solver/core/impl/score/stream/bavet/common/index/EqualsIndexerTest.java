@@ -62,6 +62,95 @@ class EqualsIndexerTest extends AbstractIndexerTest {
         Assertions.assertThat(getTuples(indexer, new Pair<>("F", 20))).isEmpty();
     }
 
+    @Test
+    void specializesIntKeys() {
+        var indexer = new EqualsIndexer<UniTuple<String>, Object>(NoneIndexer::new);
+        var annTuple = newTuple("Ann-40");
+        var annEntry = indexer.put(new SingleIndexProperties<>(40), annTuple);
+        var bethTuple = newTuple("Beth-30");
+        indexer.put(new SingleIndexProperties<>(30), bethTuple);
+        var carlTuple = newTuple("Carl-0");
+        indexer.put(new SingleIndexProperties<>(0), carlTuple);
+        assertThat(indexer.getKeyType()).isEqualTo(EqualsIndexer.KeyType.INT);
+
+        assertThat(getTuples(indexer, 40)).containsOnly(annTuple);
+        assertThat(getTuples(indexer, 0)).containsOnly(carlTuple);
+        assertThat(getTuples(indexer, 40L)).isEmpty(); // Long(40) does not equal Integer(40).
+        assertThat(indexer.size(new SingleIndexProperties<>(30))).isEqualTo(1);
+
+        indexer.remove(new SingleIndexProperties<>(40), annEntry);
+        assertThat(getTuples(indexer, 40)).isEmpty();
+        assertThat(indexer.isEmpty()).isFalse();
+    }
+
+    @Test
+    void specializesLongKeys() {
+        var indexer = new EqualsIndexer<UniTuple<String>, Object>(NoneIndexer::new);
+        var annTuple = newTuple("Ann");
+        var annEntry = indexer.put(new SingleIndexProperties<>(Long.MAX_VALUE), annTuple);
+        assertThat(indexer.getKeyType()).isEqualTo(EqualsIndexer.KeyType.LONG);
+        assertThat(getTuples(indexer, Long.MAX_VALUE)).containsOnly(annTuple);
+
+        indexer.remove(new SingleIndexProperties<>(Long.MAX_VALUE), annEntry);
+        assertThat(indexer.isEmpty()).isTrue();
+    }
+
+    @Test
+    void specializesEnumKeys() {
+        var indexer = new EqualsIndexer<UniTuple<String>, Object>(NoneIndexer::new);
+        var annTuple = newTuple("Ann-F");
+        var annEntry = indexer.put(new SingleIndexProperties<>(Gender.F), annTuple);
+        var bethTuple = newTuple("Beth-F");
+        indexer.put(new SingleIndexProperties<>(Gender.F), bethTuple);
+        var carlTuple = newTuple("Carl-M");
+        indexer.put(new SingleIndexProperties<>(Gender.M), carlTuple);
+        assertThat(indexer.getKeyType()).isEqualTo(EqualsIndexer.KeyType.ENUM);
+
+        assertThat(getTuples(indexer, Gender.F)).containsOnly(annTuple, bethTuple);
+        assertThat(getTuples(indexer, Gender.X)).isEmpty();
+        var danTuple = newTuple("Dan-X");
+        indexer.put(new SingleIndexProperties<>(Gender.X), danTuple);
+        assertThat(indexer.getKeyType()).isEqualTo(EqualsIndexer.KeyType.ENUM);
+        assertThat(getTuples(indexer, Gender.X)).containsOnly(danTuple);
+        assertThat(getTuples(indexer, "F")).isEmpty();
+
+        indexer.remove(new SingleIndexProperties<>(Gender.F), annEntry);
+        assertThat(getTuples(indexer, Gender.F)).containsOnly(bethTuple);
+    }
+
+    @Test
+    void generalizesOnForeignKey() {
+        var indexer = new EqualsIndexer<UniTuple<String>, Object>(NoneIndexer::new);
+        var annTuple = newTuple("Ann");
+        var annEntry = indexer.put(new SingleIndexProperties<>(1), annTuple);
+        var bethTuple = newTuple("Beth");
+        indexer.put(new SingleIndexProperties<>(Gender.M), bethTuple);
+        var carlTuple = newTuple("Carl");
+        var carlEntry = indexer.put(new SingleIndexProperties<>(null), carlTuple);
+        assertThat(indexer.getKeyType()).isEqualTo(EqualsIndexer.KeyType.OBJECT);
+
+        assertThat(getTuples(indexer, 1)).containsOnly(annTuple);
+        assertThat(getTuples(indexer, Gender.M)).containsOnly(bethTuple);
+        assertThat(getTuples(indexer, (Object) null)).containsOnly(carlTuple);
+
+        // Entries created before the fallback remain valid.
+        indexer.remove(new SingleIndexProperties<>(1), annEntry);
+        indexer.remove(new SingleIndexProperties<>(null), carlEntry);
+        assertThat(getTuples(indexer, 1)).isEmpty();
+        assertThat(indexer.size(new SingleIndexProperties<>(Gender.M))).isEqualTo(1);
+    }
+
+    private enum Gender {
+        F,
+        M,
+        X {
+            @Override
+            public String toString() { // Constant with a body, so that its class differs from its declaring class.
+                return "other";
+            }
+        }
+    }
+
     private static UniTuple<String> newTuple(String factA) {
         return new UniTuple<>(factA, 0);
     }
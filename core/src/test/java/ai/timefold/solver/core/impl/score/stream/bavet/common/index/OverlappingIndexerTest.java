@@ -0,0 +1,119 @@
+package ai.timefold.solver.core.impl.score.stream.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.impl.score.stream.JoinerType;
+import ai.timefold.solver.core.impl.score.stream.bavet.common.tuple.UniTuple;
+import ai.timefold.solver.core.impl.score.stream.common.bi.DefaultBiJoiner;
+import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
+
+import org.junit.jupiter.api.Test;
+
+class OverlappingIndexerTest extends AbstractIndexerTest {
+
+    private final DefaultBiJoiner<Shift, Shift> joiner =
+            (DefaultBiJoiner<Shift, Shift>) Joiners.overlapping((Shift s) -> s.start, s -> s.end);
+
+    @Test
+    void factoryBuildsOverlappingIndexer() {
+        assertThat(new IndexerFactory<>(joiner).<UniTuple<String>> buildIndexer(true))
+                .isInstanceOf(OverlappingIndexer.class);
+        assertThat(new IndexerFactory<>(joiner).<UniTuple<String>> buildIndexer(false))
+                .isInstanceOf(OverlappingIndexer.class);
+    }
+
+    @Test
+    void removeTwice() {
+        var indexer = new OverlappingIndexer<UniTuple<String>, Integer>(true, 0, NoneIndexer::new);
+        var annTuple = newTuple("Ann-8-14");
+        var annEntry = indexer.put(new ManyIndexProperties(8, 14), annTuple);
+
+        indexer.remove(new ManyIndexProperties(8, 14), annEntry);
+        assertThat(indexer.isEmpty()).isTrue();
+        assertThatThrownBy(() -> indexer.remove(new ManyIndexProperties(8, 14), annEntry))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void visitLeftBridge() {
+        // Left tuples are stored as (start, end) and queried with the right's (end, start).
+        var indexer = new OverlappingIndexer<UniTuple<String>, Integer>(true, 0, NoneIndexer::new);
+        var annTuple = newTuple("Ann-8-14");
+        indexer.put(new ManyIndexProperties(8, 14), annTuple);
+        var bethTuple = newTuple("Beth-12-18");
+        indexer.put(new ManyIndexProperties(12, 18), bethTuple);
+        var ericTuple = newTuple("Eric-16-22");
+        indexer.put(new ManyIndexProperties(16, 22), ericTuple);
+
+        assertThat(getTuples(indexer, 14, 8)).containsOnly(annTuple, bethTuple);
+        assertThat(getTuples(indexer, 18, 12)).containsOnly(annTuple, bethTuple, ericTuple);
+        assertThat(getTuples(indexer, 22, 16)).containsOnly(bethTuple, ericTuple);
+        assertThat(getTuples(indexer, 8, 0)).isEmpty();
+        assertThat(getTuples(indexer, 30, 22)).isEmpty();
+        assertThat(indexer.size(new ManyIndexProperties(18, 12))).isEqualTo(3);
+        assertThat(indexer.size(new ManyIndexProperties(15, 14))).isEqualTo(1);
+    }
+
+    @Test
+    void visitRightBridge() {
+        // Right tuples are stored as (end, start) and queried with the left's (start, end).
+        var indexer = new OverlappingIndexer<UniTuple<String>, Integer>(false, 0, NoneIndexer::new);
+        var annTuple = newTuple("Ann-8-14");
+        indexer.put(new ManyIndexProperties(14, 8), annTuple);
+        var bethTuple = newTuple("Beth-12-18");
+        indexer.put(new ManyIndexProperties(18, 12), bethTuple);
+        var ericTuple = newTuple("Eric-16-22");
+        indexer.put(new ManyIndexProperties(22, 16), ericTuple);
+
+        assertThat(getTuples(indexer, 8, 14)).containsOnly(annTuple, bethTuple);
+        assertThat(getTuples(indexer, 12, 18)).containsOnly(annTuple, bethTuple, ericTuple);
+        assertThat(getTuples(indexer, 16, 22)).containsOnly(bethTuple, ericTuple);
+        assertThat(getTuples(indexer, 14, 16)).containsOnly(bethTuple);
+    }
+
+    @Test
+    void matchesComparisonIndexersUnderRandomOperations() {
+        var overlappingIndexer = new IndexerFactory<>(joiner).<UniTuple<String>> buildIndexer(true);
+        var comparisonIndexer = new ComparisonIndexer<UniTuple<String>, Integer>(JoinerType.LESS_THAN, 0,
+                () -> new ComparisonIndexer<>(JoinerType.GREATER_THAN, 1, NoneIndexer::new));
+        var random = new Random(37);
+        var propertiesList = new ArrayList<IndexProperties>();
+        var overlappingEntryList = new ArrayList<ElementAwareListEntry<UniTuple<String>>>();
+        var comparisonEntryList = new ArrayList<ElementAwareListEntry<UniTuple<String>>>();
+        for (var i = 0; i < 10_000; i++) {
+            if (propertiesList.isEmpty() || random.nextInt(3) != 0) {
+                var start = random.nextInt(100);
+                var properties = new ManyIndexProperties(start, start + 1 + random.nextInt(10));
+                var tuple = newTuple("Shift-" + i);
+                propertiesList.add(properties);
+                overlappingEntryList.add(overlappingIndexer.put(properties, tuple));
+                comparisonEntryList.add(comparisonIndexer.put(properties, tuple));
+            } else {
+                var index = random.nextInt(propertiesList.size());
+                var properties = propertiesList.remove(index);
+                overlappingIndexer.remove(properties, overlappingEntryList.remove(index));
+                comparisonIndexer.remove(properties, comparisonEntryList.remove(index));
+            }
+            var queryStart = random.nextInt(110);
+            var queryEnd = queryStart + random.nextInt(10);
+            List<UniTuple<String>> expected = getTuples(comparisonIndexer, queryEnd, queryStart);
+            assertThat(getTuples(overlappingIndexer, queryEnd, queryStart)).containsExactlyInAnyOrderElementsOf(expected);
+            assertThat(overlappingIndexer.size(new ManyIndexProperties(queryEnd, queryStart))).isEqualTo(expected.size());
+        }
+    }
+
+    private static UniTuple<String> newTuple(String factA) {
+        return new UniTuple<>(factA, 0);
+    }
+
+    private record Shift(int start, int end) {
+
+    }
+
+}
@@ -0,0 +1,100 @@
+package ai.timefold.solver.core.impl.score.stream.bavet.common.tuple;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.SoftAssertions.assertSoftly;
+
+import org.junit.jupiter.api.Test;
+
+class TuplePoolTest {
+
+    @Test
+    void retiredTupleOnlyReusedAfterRecycle() {
+        var pool = new TuplePool<BiTuple<String, String>>();
+        assertThat(pool.poll()).isNull();
+
+        var tuple = new BiTuple<>("a", "b", 2);
+        tuple.setStore(0, "store0");
+        tuple.setStore(1, "store1");
+        pool.retire(tuple);
+        assertThat(pool.poll()).isNull();
+
+        pool.recycle();
+        var recycledTuple = pool.poll();
+        assertSoftly(softly -> {
+            softly.assertThat(recycledTuple).isSameAs(tuple);
+            softly.assertThat(recycledTuple.state).isEqualTo(TupleState.DEAD);
+            softly.assertThat(recycledTuple.factA).isNull();
+            softly.assertThat(recycledTuple.factB).isNull();
+            softly.assertThat((Object) recycledTuple.getStore(0)).isNull();
+            softly.assertThat((Object) recycledTuple.getStore(1)).isNull();
+        });
+        assertThat(pool.poll()).isNull();
+    }
+
+    @Test
+    void sizeIsBounded() {
+        var pool = new TuplePool<UniTuple<String>>();
+        for (var i = 0; i < TuplePool.MAX_SIZE + 10; i++) {
+            pool.retire(new UniTuple<>("a" + i, 1));
+        }
+        pool.recycle();
+        var reusedCount = 0;
+        while (pool.poll() != null) {
+            reusedCount++;
+        }
+        assertThat(reusedCount).isEqualTo(TuplePool.MAX_SIZE);
+    }
+
+    @Test
+    void detectionNeverReuses() {
+        var pool = new TuplePool<UniTuple<String>>();
+        pool.enableUseAfterRecycleDetection();
+        var tuple = new UniTuple<>("a", 1);
+        pool.retire(tuple);
+        pool.recycle();
+        assertThat(pool.poll()).isNull();
+        assertThat(tuple.factA).isNull();
+        pool.recycle(); // The tuple was not touched.
+    }
+
+    @Test
+    void detectionFailsOnChangedFact() {
+        var pool = new TuplePool<UniTuple<String>>();
+        pool.enableUseAfterRecycleDetection();
+        var tuple = new UniTuple<>("a", 1);
+        pool.retire(tuple);
+        pool.recycle();
+        tuple.factA = "b";
+        assertThatThrownBy(pool::recycle)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("used after it had been recycled");
+    }
+
+    @Test
+    void detectionFailsOnChangedStore() {
+        var pool = new TuplePool<TriTuple<String, String, String>>();
+        pool.enableUseAfterRecycleDetection();
+        var tuple = new TriTuple<>("a", "b", "c", 3);
+        pool.retire(tuple);
+        pool.recycle();
+        tuple.setStore(2, "store2");
+        assertThatThrownBy(pool::recycle)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("used after it had been recycled");
+    }
+
+    @Test
+    void detectionFailsOnChangedState() {
+        var pool = new TuplePool<QuadTuple<String, String, String, String>>();
+        pool.enableUseAfterRecycleDetection();
+        var tuple = new QuadTuple<>("a", "b", "c", "d", 1);
+        pool.retire(tuple);
+        pool.recycle();
+        tuple.state = TupleState.CREATING;
+        assertThatThrownBy(pool::recycle)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("CREATING");
+    }
+
+}
@@ -0,0 +1,78 @@
+package ai.timefold.solver.core.impl.score.stream.collector;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class LoadBalanceImplTest {
+
+    @Test
+    void loads() {
+        var loadBalance = new LoadBalanceImpl<String>();
+        assertThat(loadBalance.loads()).isEmpty();
+
+        var aRetractor = loadBalance.registerBalanced("A", 2, 0);
+        var bRetractor = loadBalance.registerBalanced("B", 1, 10);
+        var secondBRetractor = loadBalance.registerBalanced("B", 3, 10);
+        assertThat(loadBalance.loads()).containsExactlyInAnyOrderEntriesOf(Map.of("A", 2L, "B", 14L));
+
+        bRetractor.run();
+        assertThat(loadBalance.loads()).containsExactlyInAnyOrderEntriesOf(Map.of("A", 2L, "B", 13L));
+        secondBRetractor.run();
+        assertThat(loadBalance.loads()).containsExactlyInAnyOrderEntriesOf(Map.of("A", 2L));
+        aRetractor.run();
+        assertThat(loadBalance.loads()).isEmpty();
+    }
+
+    @Test
+    void reuseIndexOfUnregisteredItem() {
+        var loadBalance = new LoadBalanceImpl<String>();
+        var aRetractor = loadBalance.registerBalanced("A", 5, 0);
+        loadBalance.registerBalanced("B", 1, 0);
+        aRetractor.run();
+        // C takes the index of A, which must not leak its metric value.
+        var cRetractor = loadBalance.registerBalanced("C", 1, 0);
+        assertThat(loadBalance.loads()).containsExactlyInAnyOrderEntriesOf(Map.of("B", 1L, "C", 1L));
+        assertThat(loadBalance.unfairness()).isEqualByComparingTo(BigDecimal.ZERO);
+
+        // A retractor keeps working after its index was reused by another item.
+        loadBalance.registerBalanced("A", 3, 0);
+        cRetractor.run();
+        assertThat(loadBalance.loads()).containsExactlyInAnyOrderEntriesOf(Map.of("A", 3L, "B", 1L));
+    }
+
+    @Test
+    void unfairnessMatchesFromScratch() {
+        var loadBalance = new LoadBalanceImpl<Integer>();
+        var retractorList = new ArrayList<Runnable>();
+        // More items than the initial capacity, so the arrays grow.
+        for (var i = 0; i < 100; i++) {
+            retractorList.add(loadBalance.registerBalanced(i % 40, i % 7, 1));
+        }
+        for (var i = 0; i < 100; i += 3) {
+            retractorList.get(i).run();
+        }
+        var fromScratch = new LoadBalanceImpl<Integer>();
+        loadBalance.loads().forEach((balanced, load) -> fromScratch.registerBalanced(balanced, load, 0));
+        assertThat(loadBalance.loads()).containsExactlyInAnyOrderEntriesOf(fromScratch.loads());
+        assertThat(loadBalance.unfairness()).isEqualTo(fromScratch.unfairness());
+    }
+
+    @Test
+    void unfairnessIsCachedUntilChanged() {
+        var loadBalance = new LoadBalanceImpl<String>();
+        loadBalance.registerBalanced("A", 2, 0);
+        var bRetractor = loadBalance.registerBalanced("B", 1, 0);
+        var unfairness = loadBalance.unfairness();
+        assertThat(unfairness).isEqualTo(BigDecimal.valueOf(0.707107));
+        assertThat(loadBalance.unfairness()).isSameAs(unfairness);
+
+        bRetractor.run();
+        assertThat(loadBalance.unfairness()).isEqualByComparingTo(BigDecimal.ZERO);
+    }
+
+}
@@ -49,6 +49,7 @@ import ai.timefold.solver.core.config.solver.monitoring.SolverMetric;
 import ai.timefold.solver.core.config.solver.termination.TerminationConfig;
 import ai.timefold.solver.core.impl.heuristic.selector.common.decorator.SelectionFilter;
 import ai.timefold.solver.core.impl.heuristic.selector.move.generic.ChangeMove;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
 import ai.timefold.solver.core.impl.phase.custom.CustomPhaseCommand;
 import ai.timefold.solver.core.impl.phase.custom.NoChangeCustomPhaseCommand;
 import ai.timefold.solver.core.impl.phase.event.PhaseLifecycleListenerAdapter;
@@ -79,6 +80,8 @@ import ai.timefold.solver.core.impl.testdata.domain.list.pinned.TestdataPinnedLi
 import ai.timefold.solver.core.impl.testdata.domain.list.pinned.index.TestdataPinnedWithIndexListEntity;
 import ai.timefold.solver.core.impl.testdata.domain.list.pinned.index.TestdataPinnedWithIndexListSolution;
 import ai.timefold.solver.core.impl.testdata.domain.list.pinned.index.TestdataPinnedWithIndexListValue;
+import ai.timefold.solver.core.impl.testdata.domain.list.valuerange.TestdataListEntityWithIndexedValueRange;
+import ai.timefold.solver.core.impl.testdata.domain.list.valuerange.TestdataListSolutionWithIndexedValueRange;
 import ai.timefold.solver.core.impl.testdata.domain.multientity.TestdataHerdEntity;
 import ai.timefold.solver.core.impl.testdata.domain.multientity.TestdataLeadEntity;
 import ai.timefold.solver.core.impl.testdata.domain.multientity.TestdataMultiEntitySolution;
@@ -127,6 +130,49 @@ class DefaultSolverTest {
         assertThat(solution.getScore().isSolutionInitialized()).isTrue();
     }
 
+    @Test
+    void solveWithIncrementalBestSolutionCloning() {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+        var incrementalSolverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT)
+                .withIncrementalBestSolutionCloning(true);
+
+        var solution = PlannerTestUtils.solve(solverConfig, generateUninitializedSolution());
+        var incrementalSolution = PlannerTestUtils.solve(incrementalSolverConfig, generateUninitializedSolution());
+        assertThat(incrementalSolution.getScore()).isEqualTo(solution.getScore());
+        assertThat(incrementalSolution.getEntityList())
+                .map(entity -> entity.getValue().getCode())
+                .containsExactlyElementsOf(solution.getEntityList().stream()
+                        .map(entity -> entity.getValue().getCode())
+                        .toList());
+    }
+
+    @Test
+    void solveListVariableWithIndexedValueRange() {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataListSolutionWithIndexedValueRange.class,
+                TestdataListEntityWithIndexedValueRange.class)
+                .withEnvironmentMode(EnvironmentMode.FULL_ASSERT);
+
+        var solution = new TestdataListSolutionWithIndexedValueRange();
+        solution.setValueList(IntStream.range(0, 10)
+                .mapToObj(i -> new TestdataValue("v" + i))
+                .toList());
+        solution.setEntityList(List.of(new TestdataListEntityWithIndexedValueRange("e1"),
+                new TestdataListEntityWithIndexedValueRange("e2")));
+
+        solution = PlannerTestUtils.solve(solverConfig, solution);
+        assertThat(solution.getEntityList())
+                .flatMap(TestdataListEntityWithIndexedValueRange::getValueList)
+                .containsExactlyInAnyOrderElementsOf(solution.getValueList());
+    }
+
+    private static TestdataSolution generateUninitializedSolution() {
+        var solution = TestdataSolution.generateSolution(5, 20);
+        solution.getEntityList().forEach(entity -> entity.setValue(null));
+        return solution;
+    }
+
     @Test
     void solveCorruptedEasyUninitialized() {
         var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
@@ -877,6 +923,79 @@ class DefaultSolverTest {
         }
     }
 
+    @Test
+    @Timeout(60)
+    void solveWithStreamedProblemChanges() throws InterruptedException, ExecutionException {
+        var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                // Local search only ends through terminateEarly(), so that it receives the problem changes.
+                .withPhases(new ConstructionHeuristicPhaseConfig(), new LocalSearchPhaseConfig())
+                .withProblemChangeStreaming(true);
+        solverConfig.setDaemon(true);
+        var solver = (DefaultSolver<TestdataSolution>) SolverFactory.<TestdataSolution> create(solverConfig)
+                .buildSolver();
+        final var valueCount = 4;
+        var solution = TestdataSolution.generateSolution(valueCount, valueCount);
+
+        var localSearchStepEnded = new CountDownLatch(1);
+        var localSearchWorkingSolution = new AtomicReference<TestdataSolution>();
+        solver.addPhaseLifecycleListener(new PhaseLifecycleListenerAdapter<>() {
+            @Override
+            public void stepEnded(AbstractStepScope<TestdataSolution> stepScope) {
+                if (stepScope instanceof LocalSearchStepScope<TestdataSolution>) {
+                    localSearchWorkingSolution.set(stepScope.getWorkingSolution());
+                    localSearchStepEnded.countDown();
+                }
+            }
+        });
+        var factAddedStartingSolverCount = new AtomicInteger(-1);
+        var factAdded = new CountDownLatch(1);
+        var entityAdded = new CountDownLatch(1);
+        solver.addEventListener(bestSolutionChangedEvent -> {
+            if (!bestSolutionChangedEvent.isEveryProblemChangeProcessed()) {
+                return;
+            }
+            var newBestSolution = bestSolutionChangedEvent.getNewBestSolution();
+            if (newBestSolution.getValueList().size() == valueCount + 1 && factAdded.getCount() > 0) {
+                factAddedStartingSolverCount.set(solver.getSolverScope().getStartingSolverCount());
+                factAdded.countDown();
+            } else if (newBestSolution.getEntityList().size() == valueCount + 1) {
+                entityAdded.countDown();
+            }
+        });
+
+        var executorService = Executors.newSingleThreadExecutor();
+        try {
+            var bestSolutionFuture = executorService.submit(() -> solver.solve(solution));
+            localSearchStepEnded.await();
+            var changedSolution = new AtomicReference<TestdataSolution>();
+            var stepSolution = new AtomicReference<TestdataSolution>();
+            solver.addProblemChange((workingSolution, problemChangeDirector) -> {
+                changedSolution.set(workingSolution);
+                stepSolution.set(localSearchWorkingSolution.get());
+                problemChangeDirector.addProblemFact(new TestdataValue("added value"), workingSolution.getValueList()::add);
+            });
+            factAdded.await();
+            // Streamed into the running local search.
+            assertThat(factAddedStartingSolverCount).hasValue(1);
+            // Applied incrementally to the local search's working solution, instead of to a clone of the best solution.
+            assertThat(changedSolution.get()).isSameAs(stepSolution.get());
+
+            // An uninitialized entity needs the construction heuristic, so the solver restarts.
+            solver.addProblemChange((workingSolution, problemChangeDirector) -> problemChangeDirector
+                    .addEntity(new TestdataEntity("added entity"), workingSolution.getEntityList()::add));
+            entityAdded.await();
+            solver.terminateEarly();
+
+            var bestSolution = bestSolutionFuture.get();
+            assertThat(bestSolution.getValueList()).hasSize(valueCount + 1);
+            assertThat(bestSolution.getEntityList()).hasSize(valueCount + 1);
+            assertThat(bestSolution.getScore().isSolutionInitialized()).isTrue();
+            assertThat(solver.getSolverScope().getStartingSolverCount()).isEqualTo(2);
+        } finally {
+            executorService.shutdownNow();
+        }
+    }
+
     @Test
     void solveRepeatedlyBasicVariable(SoftAssertions softly) {
         var solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
@@ -3,6 +3,7 @@ package ai.timefold.solver.core.impl.solver.termination;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicInteger;
 
@@ -55,6 +56,85 @@ class BasicPlumbingTerminationTest {
         assertThat(count).hasValue(21);
     }
 
+    @Test
+    void pollProblemChangeBatchWhileStreaming() {
+        BasicPlumbingTermination<TestdataSolution> basicPlumbingTermination =
+                new BasicPlumbingTermination<>(false, true, Duration.ZERO, 2);
+        SolverScope<TestdataSolution> solverScopeMock = mockSolverScope();
+        basicPlumbingTermination.addProblemChanges(Arrays.asList(
+                ProblemChangeAdapter.create((workingSolution, problemChangeDirector) -> {
+                }),
+                ProblemChangeAdapter.create((workingSolution, problemChangeDirector) -> {
+                }),
+                ProblemChangeAdapter.create((workingSolution, problemChangeDirector) -> {
+                })));
+        assertThat(basicPlumbingTermination.isSolverTerminated(solverScopeMock)).isTrue();
+
+        assertThat(basicPlumbingTermination.startProblemChangeStreaming()).isTrue();
+        assertThat(basicPlumbingTermination.isSolverTerminated(solverScopeMock)).isFalse();
+        assertThat(basicPlumbingTermination.pollProblemChangeBatch()).hasSize(2);
+        assertThat(basicPlumbingTermination.pollProblemChangeBatch()).hasSize(1);
+        assertThat(basicPlumbingTermination.isEveryProblemFactChangeProcessed()).isFalse();
+        basicPlumbingTermination.endProblemFactChangesProcessing();
+        assertThat(basicPlumbingTermination.isEveryProblemFactChangeProcessed()).isTrue();
+        assertThat(basicPlumbingTermination.pollProblemChangeBatch()).isEmpty();
+
+        basicPlumbingTermination.requestRestart();
+        assertThat(basicPlumbingTermination.isSolverTerminated(solverScopeMock)).isTrue();
+        basicPlumbingTermination.endProblemChangeStreaming();
+        assertThat(basicPlumbingTermination.waitForRestartSolverDecision()).isTrue();
+        basicPlumbingTermination.startProblemFactChangesProcessing();
+        basicPlumbingTermination.endProblemFactChangesProcessing();
+        assertThat(basicPlumbingTermination.waitForRestartSolverDecision()).isFalse();
+    }
+
+    @Test
+    void pollProblemChangeBatchWaitsForWindowOrSizeLimit() {
+        BasicPlumbingTermination<TestdataSolution> basicPlumbingTermination =
+                new BasicPlumbingTermination<>(false, true, Duration.ofDays(1), 2);
+        basicPlumbingTermination.startProblemChangeStreaming();
+        basicPlumbingTermination.addProblemChange(
+                ProblemChangeAdapter.create((workingSolution, problemChangeDirector) -> {
+                }));
+        assertThat(basicPlumbingTermination.pollProblemChangeBatch()).isEmpty();
+        basicPlumbingTermination.addProblemChange(
+                ProblemChangeAdapter.create((workingSolution, problemChangeDirector) -> {
+                }));
+        assertThat(basicPlumbingTermination.pollProblemChangeBatch()).hasSize(2);
+    }
+
+    @Test
+    void pollProblemChangeBatchWaitsForWindowOfOldestRemainingChange() throws InterruptedException {
+        BasicPlumbingTermination<TestdataSolution> basicPlumbingTermination =
+                new BasicPlumbingTermination<>(false, true, Duration.ofMillis(500), 2);
+        basicPlumbingTermination.startProblemChangeStreaming();
+        basicPlumbingTermination.addProblemChange(
+                ProblemChangeAdapter.create((workingSolution, problemChangeDirector) -> {
+                }));
+        Thread.sleep(600);
+        basicPlumbingTermination.addProblemChanges(Arrays.asList(
+                ProblemChangeAdapter.create((workingSolution, problemChangeDirector) -> {
+                }),
+                ProblemChangeAdapter.create((workingSolution, problemChangeDirector) -> {
+                })));
+        assertThat(basicPlumbingTermination.pollProblemChangeBatch()).hasSize(2);
+        basicPlumbingTermination.endProblemFactChangesProcessing();
+        // The remaining change only just arrived, so it waits for its own window.
+        assertThat(basicPlumbingTermination.pollProblemChangeBatch()).isEmpty();
+        Thread.sleep(600);
+        assertThat(basicPlumbingTermination.pollProblemChangeBatch()).hasSize(1);
+    }
+
+    @Test
+    void startProblemChangeStreamingWhenDisabled() {
+        BasicPlumbingTermination<TestdataSolution> basicPlumbingTermination = new BasicPlumbingTermination<>(false);
+        assertThat(basicPlumbingTermination.startProblemChangeStreaming()).isFalse();
+        basicPlumbingTermination.addProblemChange(
+                ProblemChangeAdapter.create((workingSolution, problemChangeDirector) -> {
+                }));
+        assertThat(basicPlumbingTermination.isSolverTerminated(mockSolverScope())).isTrue();
+    }
+
     private SolverScope<TestdataSolution> mockSolverScope() {
         SolverScope<TestdataSolution> solverScope = new SolverScope<>();
         InnerScoreDirector<TestdataSolution, ?> scoreDirectorMock = mock(InnerScoreDirector.class);
@@ -0,0 +1,46 @@
+package ai.timefold.solver.core.impl.testdata.domain.list.valuerange;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
+import ai.timefold.solver.core.api.domain.variable.PlanningListVariable;
+import ai.timefold.solver.core.impl.domain.entity.descriptor.EntityDescriptor;
+import ai.timefold.solver.core.impl.domain.variable.descriptor.ListVariableDescriptor;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataObject;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+
+@PlanningEntity
+public class TestdataListEntityWithIndexedValueRange extends TestdataObject {
+
+    public static EntityDescriptor<TestdataListSolutionWithIndexedValueRange> buildEntityDescriptor() {
+        return TestdataListSolutionWithIndexedValueRange.buildSolutionDescriptor()
+                .findEntityDescriptorOrFail(TestdataListEntityWithIndexedValueRange.class);
+    }
+
+    public static ListVariableDescriptor<TestdataListSolutionWithIndexedValueRange> buildVariableDescriptorForValueList() {
+        return (ListVariableDescriptor<TestdataListSolutionWithIndexedValueRange>) buildEntityDescriptor()
+                .getGenuineVariableDescriptor("valueList");
+    }
+
+    @PlanningListVariable(valueRangeProviderRefs = "indexedValueRange")
+    private List<TestdataValue> valueList;
+
+    public TestdataListEntityWithIndexedValueRange() {
+    }
+
+    public TestdataListEntityWithIndexedValueRange(String code, TestdataValue... values) {
+        super(code);
+        this.valueList = new ArrayList<>(Arrays.asList(values));
+    }
+
+    public List<TestdataValue> getValueList() {
+        return valueList;
+    }
+
+    public void setValueList(List<TestdataValue> valueList) {
+        this.valueList = valueList;
+    }
+
+}
@@ -0,0 +1,61 @@
+package ai.timefold.solver.core.impl.testdata.domain.list.valuerange;
+
+import java.util.List;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningEntityCollectionProperty;
+import ai.timefold.solver.core.api.domain.solution.PlanningScore;
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.domain.solution.ProblemFactCollectionProperty;
+import ai.timefold.solver.core.api.domain.valuerange.CountableValueRange;
+import ai.timefold.solver.core.api.domain.valuerange.ValueRangeFactory;
+import ai.timefold.solver.core.api.domain.valuerange.ValueRangeProvider;
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+
+@PlanningSolution
+public class TestdataListSolutionWithIndexedValueRange {
+
+    public static SolutionDescriptor<TestdataListSolutionWithIndexedValueRange> buildSolutionDescriptor() {
+        return SolutionDescriptor.buildSolutionDescriptor(
+                TestdataListSolutionWithIndexedValueRange.class,
+                TestdataListEntityWithIndexedValueRange.class);
+    }
+
+    private List<TestdataValue> valueList;
+    private List<TestdataListEntityWithIndexedValueRange> entityList;
+    private SimpleScore score;
+
+    @ProblemFactCollectionProperty
+    public List<TestdataValue> getValueList() {
+        return valueList;
+    }
+
+    public void setValueList(List<TestdataValue> valueList) {
+        this.valueList = valueList;
+    }
+
+    @ValueRangeProvider(id = "indexedValueRange")
+    public CountableValueRange<TestdataValue> getValueRange() {
+        return ValueRangeFactory.createIndexedValueRange(valueList.size(), valueList::get, valueList::indexOf);
+    }
+
+    @PlanningEntityCollectionProperty
+    public List<TestdataListEntityWithIndexedValueRange> getEntityList() {
+        return entityList;
+    }
+
+    public void setEntityList(List<TestdataListEntityWithIndexedValueRange> entityList) {
+        this.entityList = entityList;
+    }
+
+    @PlanningScore
+    public SimpleScore getScore() {
+        return score;
+    }
+
+    public void setScore(SimpleScore score) {
+        this.score = score;
+    }
+
+}
@@ -0,0 +1,72 @@
+package ai.timefold.solver.core.impl.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+class LongObjectHashMapTest {
+
+    @Test
+    void putGetRemove() {
+        var map = new LongObjectHashMap<String>();
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.put(1L, "a")).isNull();
+        assertThat(map.put(0L, "zero")).isNull();
+        assertThat(map.put(-1L, "minus")).isNull();
+        assertThat(map.size()).isEqualTo(3);
+
+        assertThat(map.get(1L)).isEqualTo("a");
+        assertThat(map.get(0L)).isEqualTo("zero");
+        assertThat(map.get(-1L)).isEqualTo("minus");
+        assertThat(map.get(2L)).isNull();
+
+        assertThat(map.put(1L, "b")).isEqualTo("a");
+        assertThat(map.size()).isEqualTo(3);
+
+        assertThat(map.remove(0L)).isEqualTo("zero");
+        assertThat(map.remove(0L)).isNull();
+        assertThat(map.remove(1L)).isEqualTo("b");
+        assertThat(map.containsKey(1L)).isFalse();
+        assertThat(map.size()).isEqualTo(1);
+
+        map.clear();
+        assertThat(map.isEmpty()).isTrue();
+        assertThat(map.get(-1L)).isNull();
+    }
+
+    @Test
+    void nullValue() {
+        var map = new LongObjectHashMap<String>();
+        assertThatThrownBy(() -> map.put(1L, null))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void matchesHashMapUnderRandomOperations() {
+        var map = new LongObjectHashMap<Long>(2);
+        var expected = new HashMap<Long, Long>();
+        var random = new Random(37);
+        for (var i = 0; i < 100_000; i++) {
+            // A small key space causes many collisions and removals in the middle of probe sequences.
+            long key = random.nextInt(512) - 256;
+            if (random.nextBoolean()) {
+                assertThat(map.put(key, key)).isEqualTo(expected.put(key, key));
+            } else {
+                assertThat(map.remove(key)).isEqualTo(expected.remove(key));
+            }
+            assertThat(map.size()).isEqualTo(expected.size());
+        }
+        for (var key = -256L; key < 256L; key++) {
+            assertThat(map.get(key)).isEqualTo(expected.get(key));
+        }
+        Map<Long, Long> visited = new HashMap<>();
+        map.forEach(visited::put);
+        assertThat(visited).isEqualTo(expected);
+    }
+
+}
@@ -0,0 +1,656 @@
+package ai.timefold.solver.persistence.common.impl.domain.solution;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.persistence.common.api.domain.solution.SolutionFileIO;
+
+/**
+ * Reads and writes a {@link PlanningSolution} in a compact binary format,
+ * much faster than the text formats of the other {@link SolutionFileIO} implementations.
+ * <p>
+ * Every object reachable from the solution is written once, in a table per class,
+ * starting with the problem facts and the entities as defined by the {@link SolutionDescriptor}.
+ * A table is column-oriented: all values of one field are written together.
+ * References between objects, such as planning variables, are written as int indexes into those tables.
+ * Fields of a primitive type are written raw;
+ * other fields are written with a type tag, which supports references, boxed primitives, {@link String}s, enums,
+ * {@link BigDecimal}, {@link BigInteger}, {@link LocalDate}, {@link LocalTime}, {@link LocalDateTime},
+ * {@link Instant}, {@link Duration}, {@link Score}s, {@link List}s, {@link Set}s and {@link Map}s.
+ * Other {@link Number}s and other JDK types are not supported.
+ * A collection field is read as an instance of its declared type if that is a class with a no-arg constructor,
+ * otherwise as an {@link ArrayList}, {@link LinkedHashSet}, {@link TreeSet}, {@link LinkedHashMap} or {@link TreeMap},
+ * whichever its declared interface allows.
+ * Sorted collections with a {@link java.util.Comparator} are not supported.
+ * Static and transient fields are not written.
+ * Objects that reference the solution get the read solution instance.
+ * <p>
+ * Every class in the tables needs a no-arg constructor, which may be private.
+ * The format is only meant for a {@link SolutionFileIO} with the same domain classes,
+ * such as benchmark datasets and snapshots; it is not meant for long-term storage or data exchange.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public class BinarySolutionFileIO<Solution_> implements SolutionFileIO<Solution_> {
+
+    private static final int MAGIC_NUMBER = 0x54465342; // "TFSB"
+    private static final int FORMAT_VERSION = 1;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_REFERENCE = 1;
+    private static final byte TAG_STRING = 2;
+    private static final byte TAG_BOOLEAN = 3;
+    private static final byte TAG_BYTE = 4;
+    private static final byte TAG_SHORT = 5;
+    private static final byte TAG_CHARACTER = 6;
+    private static final byte TAG_INTEGER = 7;
+    private static final byte TAG_LONG = 8;
+    private static final byte TAG_FLOAT = 9;
+    private static final byte TAG_DOUBLE = 10;
+    private static final byte TAG_ENUM = 11;
+    private static final byte TAG_BIG_DECIMAL = 12;
+    private static final byte TAG_BIG_INTEGER = 13;
+    private static final byte TAG_LOCAL_DATE = 14;
+    private static final byte TAG_LOCAL_TIME = 15;
+    private static final byte TAG_LOCAL_DATE_TIME = 16;
+    private static final byte TAG_INSTANT = 17;
+    private static final byte TAG_DURATION = 18;
+    private static final byte TAG_SCORE = 19;
+    private static final byte TAG_LIST = 20;
+    private static final byte TAG_SET = 21;
+    private static final byte TAG_MAP = 22;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final SolutionDescriptor<Solution_> solutionDescriptor;
+    private final Map<Class<?>, List<Field>> fieldListCache = new ConcurrentHashMap<>();
+
+    public BinarySolutionFileIO(Class<Solution_> solutionClass, Class<?>... entityClasses) {
+        this(SolutionDescriptor.buildSolutionDescriptor(solutionClass, entityClasses));
+    }
+
+    public BinarySolutionFileIO(SolutionDescriptor<Solution_> solutionDescriptor) {
+        this.solutionDescriptor = solutionDescriptor;
+    }
+
+    @Override
+    public String getInputFileExtension() {
+        return "dat";
+    }
+
+    @Override
+    public Solution_ read(File inputSolutionFile) {
+        try (var channel = FileChannel.open(inputSolutionFile.toPath(), StandardOpenOption.READ)) {
+            return read(Channels.newInputStream(channel));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed reading inputSolutionFile (" + inputSolutionFile + ").", e);
+        }
+    }
+
+    /**
+     * @param inputSolutionStream never null, not closed by this method
+     * @return never null
+     */
+    public Solution_ read(InputStream inputSolutionStream) {
+        try {
+            var input = new DataInputStream(new BufferedInputStream(inputSolutionStream, BUFFER_SIZE));
+            return new Reader(input).read();
+        } catch (IOException | ReflectiveOperationException e) {
+            throw new IllegalArgumentException("Failed reading inputSolutionStream.", e);
+        }
+    }
+
+    @Override
+    public void write(Solution_ solution, File outputSolutionFile) {
+        try (var channel = FileChannel.open(outputSolutionFile.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            write(solution, Channels.newOutputStream(channel));
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed writing outputSolutionFile (" + outputSolutionFile + ").", e);
+        }
+    }
+
+    /**
+     * @param solution never null
+     * @param outputSolutionStream never null, flushed but not closed by this method
+     */
+    public void write(Solution_ solution, OutputStream outputSolutionStream) {
+        try {
+            var output = new DataOutputStream(new BufferedOutputStream(outputSolutionStream, BUFFER_SIZE));
+            new Writer(output).write(solution);
+            output.flush();
+        } catch (IOException | IllegalAccessException e) {
+            throw new IllegalArgumentException("Failed writing solution (" + solution + ").", e);
+        }
+    }
+
+    /**
+     * @return never null, every non-static non-transient field of the class and its superclasses, superclasses first
+     */
+    private List<Field> getFieldList(Class<?> clazz) {
+        var cachedFieldList = fieldListCache.get(clazz);
+        if (cachedFieldList != null) {
+            return cachedFieldList;
+        }
+        // Not computeIfAbsent(), because the superclass recursion would update the map during the computation.
+        var fieldList = new ArrayList<Field>();
+        var superclass = clazz.getSuperclass();
+        if (superclass != null && superclass != Object.class) {
+            fieldList.addAll(getFieldList(superclass));
+        }
+        for (var field : clazz.getDeclaredFields()) {
+            var modifiers = field.getModifiers();
+            if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers) || field.isSynthetic()) {
+                continue;
+            }
+            if (field.getType().isArray()) {
+                throw new IllegalStateException("The field (" + field + ") has an array type, which the "
+                        + BinarySolutionFileIO.class.getSimpleName() + " does not support.\n"
+                        + "Maybe use a " + List.class.getSimpleName() + " instead.");
+            }
+            if (!isSupportedCollectionType(field.getType())) {
+                throw new IllegalStateException("The field (" + field + ") has a collection type ("
+                        + field.getType().getName() + "), which the " + BinarySolutionFileIO.class.getSimpleName()
+                        + " can not instantiate.\n"
+                        + "Maybe declare it as a " + List.class.getSimpleName() + ", " + Set.class.getSimpleName()
+                        + " or " + Map.class.getSimpleName() + " instead.");
+            }
+            field.setAccessible(true);
+            fieldList.add(field);
+        }
+        var previousFieldList = fieldListCache.putIfAbsent(clazz, fieldList);
+        return previousFieldList == null ? fieldList : previousFieldList;
+    }
+
+    /**
+     * @return true if the type is not a collection,
+     *         or if {@link Reader#newCollection(Class, byte, int)} can create an instance of it
+     */
+    private static boolean isSupportedCollectionType(Class<?> type) {
+        if (!Collection.class.isAssignableFrom(type) && !Map.class.isAssignableFrom(type)) {
+            return true;
+        }
+        if (!type.isInterface() && !Modifier.isAbstract(type.getModifiers())) {
+            try {
+                type.getDeclaredConstructor();
+                return true;
+            } catch (NoSuchMethodException e) {
+                return false;
+            }
+        }
+        return type.isAssignableFrom(ArrayList.class) || type.isAssignableFrom(LinkedHashSet.class)
+                || type.isAssignableFrom(TreeSet.class) || type.isAssignableFrom(LinkedHashMap.class)
+                || type.isAssignableFrom(TreeMap.class);
+    }
+
+    private final class Writer {
+
+        private final DataOutputStream output;
+        // The objects of every table, in the order their class was first encountered.
+        private final Map<Class<?>, List<Object>> tableMap = new LinkedHashMap<>();
+        private final Map<Object, Integer> objectIndexMap = new IdentityHashMap<>();
+        private final ArrayDeque<Object> discoveryQueue = new ArrayDeque<>();
+
+        private Writer(DataOutputStream output) {
+            this.output = output;
+        }
+
+        private void write(Solution_ solution) throws IOException, IllegalAccessException {
+            // The solution has no table, so it is never discovered; references to it get the index after all tables.
+            objectIndexMap.put(solution, -1);
+            // The problem facts and entities come first, so their tables come first.
+            solutionDescriptor.visitAll(solution, this::discover);
+            for (var field : getFieldList(solution.getClass())) {
+                discover(field.get(solution));
+            }
+            while (!discoveryQueue.isEmpty()) {
+                var object = discoveryQueue.poll();
+                for (var field : getFieldList(object.getClass())) {
+                    discover(field.get(object));
+                }
+            }
+            // Indexes are assigned table by table, so that the reader knows them from the table sizes.
+            var objectIndex = 0;
+            for (var table : tableMap.values()) {
+                for (var object : table) {
+                    objectIndexMap.put(object, objectIndex++);
+                }
+            }
+            objectIndexMap.put(solution, objectIndex);
+
+            output.writeInt(MAGIC_NUMBER);
+            output.writeInt(FORMAT_VERSION);
+            writeString(solution.getClass().getName());
+            output.writeInt(tableMap.size());
+            for (var entry : tableMap.entrySet()) {
+                writeString(entry.getKey().getName());
+                output.writeInt(entry.getValue().size());
+            }
+            for (var entry : tableMap.entrySet()) {
+                writeTable(entry.getKey(), entry.getValue());
+            }
+            writeTable(solution.getClass(), List.of(solution));
+        }
+
+        private void discover(Object value) {
+            if (value == null || isValue(value)) {
+                return;
+            }
+            if (value instanceof Collection<?> collection) {
+                if (!(value instanceof List<?>) && !(value instanceof Set<?>)) {
+                    throw new IllegalStateException("The collection (" + value + ") of type (" + value.getClass()
+                            + ") is not supported by the " + BinarySolutionFileIO.class.getSimpleName() + ".\n"
+                            + "Maybe use a " + List.class.getSimpleName() + " or a " + Set.class.getSimpleName()
+                            + " instead.");
+                }
+                if (value instanceof SortedSet<?> sortedSet && sortedSet.comparator() != null) {
+                    throw new IllegalStateException("The sorted set (" + value + ") has a comparator ("
+                            + sortedSet.comparator() + "), which the " + BinarySolutionFileIO.class.getSimpleName()
+                            + " does not support.");
+                }
+                for (var element : collection) {
+                    discover(element);
+                }
+                return;
+            }
+            if (value instanceof Map<?, ?> map) {
+                if (value instanceof SortedMap<?, ?> sortedMap && sortedMap.comparator() != null) {
+                    throw new IllegalStateException("The sorted map (" + value + ") has a comparator ("
+                            + sortedMap.comparator() + "), which the " + BinarySolutionFileIO.class.getSimpleName()
+                            + " does not support.");
+                }
+                for (var entry : map.entrySet()) {
+                    discover(entry.getKey());
+                    discover(entry.getValue());
+                }
+                return;
+            }
+            if (objectIndexMap.containsKey(value)) {
+                return;
+            }
+            var clazz = value.getClass();
+            if (clazz.getName().startsWith("java.") || clazz.isArray()) {
+                throw new IllegalStateException("The value (" + value + ") of type (" + clazz
+                        + ") is not supported by the " + BinarySolutionFileIO.class.getSimpleName() + ".");
+            }
+            // Placeholder until the real indexes are assigned, so every object is only discovered once.
+            objectIndexMap.put(value, -1);
+            tableMap.computeIfAbsent(clazz, key -> new ArrayList<>()).add(value);
+            discoveryQueue.add(value);
+        }
+
+        private void writeTable(Class<?> clazz, List<?> table) throws IOException, IllegalAccessException {
+            var fieldList = getFieldList(clazz);
+            output.writeInt(fieldList.size());
+            for (var field : fieldList) {
+                writeString(field.getDeclaringClass().getName());
+                writeString(field.getName());
+            }
+            for (var field : fieldList) {
+                var type = field.getType();
+                for (var object : table) {
+                    if (type == boolean.class) {
+                        output.writeBoolean(field.getBoolean(object));
+                    } else if (type == byte.class) {
+                        output.writeByte(field.getByte(object));
+                    } else if (type == short.class) {
+                        output.writeShort(field.getShort(object));
+                    } else if (type == char.class) {
+                        output.writeChar(field.getChar(object));
+                    } else if (type == int.class) {
+                        output.writeInt(field.getInt(object));
+                    } else if (type == long.class) {
+                        output.writeLong(field.getLong(object));
+                    } else if (type == float.class) {
+                        output.writeFloat(field.getFloat(object));
+                    } else if (type == double.class) {
+                        output.writeDouble(field.getDouble(object));
+                    } else {
+                        writeValue(field.get(object));
+                    }
+                }
+            }
+        }
+
+        private void writeValue(Object value) throws IOException {
+            if (value == null) {
+                output.writeByte(TAG_NULL);
+            } else if (value instanceof String string) {
+                output.writeByte(TAG_STRING);
+                writeString(string);
+            } else if (value instanceof Boolean booleanValue) {
+                output.writeByte(TAG_BOOLEAN);
+                output.writeBoolean(booleanValue);
+            } else if (value instanceof Byte byteValue) {
+                output.writeByte(TAG_BYTE);
+                output.writeByte(byteValue);
+            } else if (value instanceof Short shortValue) {
+                output.writeByte(TAG_SHORT);
+                output.writeShort(shortValue);
+            } else if (value instanceof Character character) {
+                output.writeByte(TAG_CHARACTER);
+                output.writeChar(character);
+            } else if (value instanceof Integer integer) {
+                output.writeByte(TAG_INTEGER);
+                output.writeInt(integer);
+            } else if (value instanceof Long longValue) {
+                output.writeByte(TAG_LONG);
+                output.writeLong(longValue);
+            } else if (value instanceof Float floatValue) {
+                output.writeByte(TAG_FLOAT);
+                output.writeFloat(floatValue);
+            } else if (value instanceof Double doubleValue) {
+                output.writeByte(TAG_DOUBLE);
+                output.writeDouble(doubleValue);
+            } else if (value instanceof Enum<?> enumValue) {
+                output.writeByte(TAG_ENUM);
+                writeString(enumValue.getDeclaringClass().getName());
+                writeString(enumValue.name());
+            } else if (value instanceof BigDecimal) {
+                writeStringValue(TAG_BIG_DECIMAL, value);
+            } else if (value instanceof BigInteger) {
+                writeStringValue(TAG_BIG_INTEGER, value);
+            } else if (value instanceof LocalDate) {
+                writeStringValue(TAG_LOCAL_DATE, value);
+            } else if (value instanceof LocalTime) {
+                writeStringValue(TAG_LOCAL_TIME, value);
+            } else if (value instanceof LocalDateTime) {
+                writeStringValue(TAG_LOCAL_DATE_TIME, value);
+            } else if (value instanceof Instant) {
+                writeStringValue(TAG_INSTANT, value);
+            } else if (value instanceof Duration) {
+                writeStringValue(TAG_DURATION, value);
+            } else if (value instanceof Score<?>) {
+                writeStringValue(TAG_SCORE, value);
+            } else if (value instanceof Collection<?> collection) {
+                output.writeByte(value instanceof Set<?> ? TAG_SET : TAG_LIST);
+                output.writeInt(collection.size());
+                for (var element : collection) {
+                    writeValue(element);
+                }
+            } else if (value instanceof Map<?, ?> map) {
+                output.writeByte(TAG_MAP);
+                output.writeInt(map.size());
+                for (var entry : map.entrySet()) {
+                    writeValue(entry.getKey());
+                    writeValue(entry.getValue());
+                }
+            } else {
+                output.writeByte(TAG_REFERENCE);
+                output.writeInt(objectIndexMap.get(value));
+            }
+        }
+
+        private void writeStringValue(byte tag, Object value) throws IOException {
+            output.writeByte(tag);
+            writeString(value.toString());
+        }
+
+        private void writeString(String string) throws IOException {
+            var bytes = string.getBytes(StandardCharsets.UTF_8);
+            output.writeInt(bytes.length);
+            output.write(bytes);
+        }
+
+    }
+
+    /**
+     * @return true if {@link Writer#writeValue(Object)} writes the value itself, instead of a reference
+     */
+    private static boolean isValue(Object value) {
+        return value instanceof String || value instanceof Boolean || value instanceof Byte || value instanceof Short
+                || value instanceof Integer || value instanceof Long || value instanceof Float || value instanceof Double
+                || value instanceof BigDecimal || value instanceof BigInteger || value instanceof Character
+                || value instanceof Enum<?> || value instanceof LocalDate || value instanceof LocalTime
+                || value instanceof LocalDateTime || value instanceof Instant || value instanceof Duration
+                || value instanceof Score<?>;
+    }
+
+    private final class Reader {
+
+        private final DataInputStream input;
+        private final ClassLoader classLoader = solutionDescriptor.getSolutionClass().getClassLoader();
+        private Object[] objects;
+        // Sets and maps are only filled once every field is read, because their elements might hash by their fields.
+        private final List<Runnable> deferredFillList = new ArrayList<>();
+
+        private Reader(DataInputStream input) {
+            this.input = input;
+        }
+
+        private Solution_ read() throws IOException, ReflectiveOperationException {
+            if (input.readInt() != MAGIC_NUMBER) {
+                throw new IllegalArgumentException("The input is not written by a "
+                        + BinarySolutionFileIO.class.getSimpleName() + ".");
+            }
+            var version = input.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IllegalArgumentException("The input has format version (" + version
+                        + "), but only version (" + FORMAT_VERSION + ") is supported.");
+            }
+            var solutionClass = solutionDescriptor.getSolutionClass();
+            var solutionClassName = readString();
+            if (!solutionClassName.equals(solutionClass.getName())) {
+                throw new IllegalArgumentException("The input has solution class (" + solutionClassName
+                        + "), but the expected solution class is (" + solutionClass.getName() + ").");
+            }
+            var tableCount = input.readInt();
+            var tableClassList = new ArrayList<Class<?>>(tableCount);
+            var tableSizeList = new ArrayList<Integer>(tableCount);
+            var objectCount = 0;
+            for (var i = 0; i < tableCount; i++) {
+                tableClassList.add(Class.forName(readString(), false, classLoader));
+                var tableSize = input.readInt();
+                tableSizeList.add(tableSize);
+                objectCount = Math.addExact(objectCount, tableSize);
+            }
+            // Every object exists before any field is read, so that every reference can be resolved.
+            // The solution comes after all tables.
+            objects = new Object[objectCount + 1];
+            var objectIndex = 0;
+            for (var i = 0; i < tableCount; i++) {
+                var constructor = tableClassList.get(i).getDeclaredConstructor();
+                constructor.setAccessible(true);
+                for (var j = 0; j < tableSizeList.get(i); j++) {
+                    objects[objectIndex++] = constructor.newInstance();
+                }
+            }
+            var solutionConstructor = solutionClass.getDeclaredConstructor();
+            solutionConstructor.setAccessible(true);
+            var solution = solutionConstructor.newInstance();
+            objects[objectCount] = solution;
+            objectIndex = 0;
+            for (var i = 0; i < tableCount; i++) {
+                var tableSize = tableSizeList.get(i);
+                readTable(tableClassList.get(i), objects, objectIndex, tableSize);
+                objectIndex += tableSize;
+            }
+            readTable(solutionClass, objects, objectCount, 1);
+            // In the order the sets and maps were read, so that nested ones are filled before they are hashed.
+            for (var deferredFill : deferredFillList) {
+                deferredFill.run();
+            }
+            return solution;
+        }
+
+        private void readTable(Class<?> clazz, Object[] table, int fromIndex, int size)
+                throws IOException, ReflectiveOperationException {
+            var fieldCount = input.readInt();
+            var fieldMap = new LinkedHashMap<String, Field>();
+            for (var field : getFieldList(clazz)) {
+                fieldMap.put(field.getDeclaringClass().getName() + "#" + field.getName(), field);
+            }
+            var fieldList = new ArrayList<Field>(fieldCount);
+            for (var i = 0; i < fieldCount; i++) {
+                var key = readString() + "#" + readString();
+                var field = fieldMap.get(key);
+                if (field == null) {
+                    throw new IllegalArgumentException("The input has a field (" + key + ") which the class ("
+                            + clazz.getName() + ") does not have.\n"
+                            + "Maybe the input was written with other domain classes.");
+                }
+                fieldList.add(field);
+            }
+            for (var field : fieldList) {
+                var type = field.getType();
+                for (var i = fromIndex; i < fromIndex + size; i++) {
+                    var object = table[i];
+                    if (type == boolean.class) {
+                        field.setBoolean(object, input.readBoolean());
+                    } else if (type == byte.class) {
+                        field.setByte(object, input.readByte());
+                    } else if (type == short.class) {
+                        field.setShort(object, input.readShort());
+                    } else if (type == char.class) {
+                        field.setChar(object, input.readChar());
+                    } else if (type == int.class) {
+                        field.setInt(object, input.readInt());
+                    } else if (type == long.class) {
+                        field.setLong(object, input.readLong());
+                    } else if (type == float.class) {
+                        field.setFloat(object, input.readFloat());
+                    } else if (type == double.class) {
+                        field.setDouble(object, input.readDouble());
+                    } else {
+                        field.set(object, readValue(type));
+                    }
+                }
+            }
+        }
+
+        /**
+         * @param declaredType never null, the declared type of the field, or {@link Object} for a collection element
+         */
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        private Object readValue(Class<?> declaredType) throws IOException, ReflectiveOperationException {
+            var tag = input.readByte();
+            return switch (tag) {
+                case TAG_NULL -> null;
+                case TAG_REFERENCE -> objects[input.readInt()];
+                case TAG_STRING -> readString();
+                case TAG_BOOLEAN -> input.readBoolean();
+                case TAG_BYTE -> input.readByte();
+                case TAG_SHORT -> input.readShort();
+                case TAG_CHARACTER -> input.readChar();
+                case TAG_INTEGER -> input.readInt();
+                case TAG_LONG -> input.readLong();
+                case TAG_FLOAT -> input.readFloat();
+                case TAG_DOUBLE -> input.readDouble();
+                case TAG_ENUM -> {
+                    var enumClass = (Class<? extends Enum>) Class.forName(readString(), false, classLoader);
+                    yield Enum.valueOf(enumClass, readString());
+                }
+                case TAG_BIG_DECIMAL -> new BigDecimal(readString());
+                case TAG_BIG_INTEGER -> new BigInteger(readString());
+                case TAG_LOCAL_DATE -> LocalDate.parse(readString());
+                case TAG_LOCAL_TIME -> LocalTime.parse(readString());
+                case TAG_LOCAL_DATE_TIME -> LocalDateTime.parse(readString());
+                case TAG_INSTANT -> Instant.parse(readString());
+                case TAG_DURATION -> Duration.parse(readString());
+                case TAG_SCORE -> solutionDescriptor.getScoreDefinition().parseScore(readString());
+                case TAG_LIST -> {
+                    var size = input.readInt();
+                    var list = (Collection<Object>) newCollection(declaredType, tag, size);
+                    for (var i = 0; i < size; i++) {
+                        list.add(readValue(Object.class));
+                    }
+                    yield list;
+                }
+                case TAG_SET -> {
+                    var size = input.readInt();
+                    var set = (Collection<Object>) newCollection(declaredType, tag, size);
+                    var elementList = new ArrayList<>(size);
+                    for (var i = 0; i < size; i++) {
+                        elementList.add(readValue(Object.class));
+                    }
+                    deferredFillList.add(() -> set.addAll(elementList));
+                    yield set;
+                }
+                case TAG_MAP -> {
+                    var size = input.readInt();
+                    var map = (Map<Object, Object>) newCollection(declaredType, tag, size);
+                    var keyList = new ArrayList<>(size);
+                    var valueList = new ArrayList<>(size);
+                    for (var i = 0; i < size; i++) {
+                        keyList.add(readValue(Object.class));
+                        valueList.add(readValue(Object.class));
+                    }
+                    deferredFillList.add(() -> {
+                        for (var i = 0; i < size; i++) {
+                            map.put(keyList.get(i), valueList.get(i));
+                        }
+                    });
+                    yield map;
+                }
+                default -> throw new IllegalArgumentException("The input has an unknown value tag (" + tag + ").");
+            };
+        }
+
+        /**
+         * @return never null, an empty {@link Collection} or {@link Map}
+         */
+        private Object newCollection(Class<?> declaredType, byte tag, int size) throws ReflectiveOperationException {
+            if (!declaredType.isInterface() && !Modifier.isAbstract(declaredType.getModifiers())
+                    && declaredType != Object.class) {
+                var constructor = declaredType.getDeclaredConstructor();
+                constructor.setAccessible(true);
+                return constructor.newInstance();
+            }
+            var capacity = (int) Math.ceil(size / 0.75);
+            return switch (tag) {
+                case TAG_LIST -> new ArrayList<>(size);
+                case TAG_SET -> declaredType.isAssignableFrom(LinkedHashSet.class)
+                        ? new LinkedHashSet<>(capacity)
+                        : new TreeSet<>();
+                case TAG_MAP -> declaredType.isAssignableFrom(LinkedHashMap.class)
+                        ? new LinkedHashMap<>(capacity)
+                        : new TreeMap<>();
+                default -> throw new IllegalStateException("Impossible state: the tag (" + tag + ") is no collection.");
+            };
+        }
+
+        private String readString() throws IOException {
+            var bytes = new byte[input.readInt()];
+            input.readFully(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+    }
+
+}
@@ -0,0 +1,279 @@
+package ai.timefold.solver.persistence.common.impl.domain.solution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.DayOfWeek;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
+import ai.timefold.solver.core.api.domain.solution.PlanningEntityCollectionProperty;
+import ai.timefold.solver.core.api.domain.solution.PlanningScore;
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.domain.solution.ProblemFactCollectionProperty;
+import ai.timefold.solver.core.api.domain.valuerange.ValueRangeProvider;
+import ai.timefold.solver.core.api.domain.variable.PlanningVariable;
+
+import ai.timefold.solver.core.api.score.buildin.simple.SimpleScore;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataEntity;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataSolution;
+import ai.timefold.solver.core.impl.testdata.domain.TestdataValue;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListEntity;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListSolution;
+import ai.timefold.solver.core.impl.testdata.domain.list.TestdataListValue;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BinarySolutionFileIOTest {
+
+    @Test
+    void readAndWrite(@TempDir Path directory) {
+        var solutionFileIO = new BinarySolutionFileIO<>(TestdataSolution.class, TestdataEntity.class);
+        assertThat(solutionFileIO.getInputFileExtension()).isEqualTo("dat");
+        var original = TestdataSolution.generateSolution(3, 5);
+        original.getEntityList().get(4).setValue(null);
+        original.setScore(SimpleScore.ofUninitialized(-1, -7));
+
+        var file = new File(directory.toFile(), "solution.dat");
+        solutionFileIO.write(original, file);
+        var solution = solutionFileIO.read(file);
+
+        assertThat(solution.getCode()).isEqualTo(original.getCode());
+        assertThat(solution.getScore()).isEqualTo(original.getScore());
+        assertThat(solution.getValueList())
+                .map(value -> value.getCode())
+                .containsExactly("Generated Value 0", "Generated Value 1", "Generated Value 2");
+        assertThat(solution.getEntityList())
+                .map(entity -> entity.getCode())
+                .containsExactly("Generated Entity 0", "Generated Entity 1", "Generated Entity 2",
+                        "Generated Entity 3", "Generated Entity 4");
+        // The planning variables refer to the same instances as the value range.
+        var valueList = solution.getValueList();
+        var entityList = solution.getEntityList();
+        assertThat(entityList.get(0).getValue()).isSameAs(valueList.get(0));
+        assertThat(entityList.get(1).getValue()).isSameAs(valueList.get(1));
+        assertThat(entityList.get(2).getValue()).isSameAs(valueList.get(2));
+        assertThat(entityList.get(3).getValue()).isSameAs(valueList.get(0));
+        assertThat(entityList.get(4).getValue()).isNull();
+    }
+
+    @Test
+    void readAndWriteListVariable(@TempDir Path directory) {
+        var solutionFileIO = new BinarySolutionFileIO<>(TestdataListSolution.buildSolutionDescriptor());
+        var original = TestdataListSolution.generateInitializedSolution(5, 2);
+
+        var file = new File(directory.toFile(), "solution.dat");
+        solutionFileIO.write(original, file);
+        var solution = solutionFileIO.read(file);
+
+        assertThat(solution.getScore()).isNull();
+        var valueList = solution.getValueList();
+        var entityList = solution.getEntityList();
+        assertThat(entityList).hasSize(2);
+        assertThat(entityList.get(0).getValueList())
+                .containsExactly(valueList.get(0), valueList.get(2), valueList.get(4));
+        assertThat(entityList.get(1).getValueList())
+                .containsExactly(valueList.get(1), valueList.get(3));
+        for (TestdataListEntity entity : entityList) {
+            for (var i = 0; i < entity.getValueList().size(); i++) {
+                TestdataListValue value = entity.getValueList().get(i);
+                assertThat(value.getEntity()).isSameAs(entity);
+                assertThat(value.getIndex()).isEqualTo(i);
+            }
+        }
+    }
+
+    @Test
+    void readAndWriteMapAndSolutionReference(@TempDir Path directory) {
+        var solutionFileIO = new BinarySolutionFileIO<>(TestdataMapSolution.class, TestdataMapEntity.class);
+        var v1 = new TestdataValue("v1");
+        var v2 = new TestdataValue("v2");
+        var original = new TestdataMapSolution();
+        original.valueList = List.of(v1, v2);
+        var entity = new TestdataMapEntity();
+        entity.solution = original;
+        entity.value = v2;
+        entity.valueMap = new LinkedHashMap<>();
+        entity.valueMap.put("first", v1);
+        entity.valueMap.put("second", v2);
+        entity.number = 7L;
+        original.entityList = List.of(entity);
+
+        var file = new File(directory.toFile(), "solution.dat");
+        solutionFileIO.write(original, file);
+        var solution = solutionFileIO.read(file);
+
+        var valueList = solution.valueList;
+        var readEntity = solution.entityList.get(0);
+        assertThat(readEntity.solution).isSameAs(solution);
+        assertThat(readEntity.value).isSameAs(valueList.get(1));
+        assertThat(readEntity.valueMap)
+                .containsExactly(Map.entry("first", valueList.get(0)), Map.entry("second", valueList.get(1)));
+        assertThat(readEntity.number).isEqualTo(7L);
+    }
+
+    @Test
+    void readAndWriteHashedElementsAndConcreteCollectionTypes(@TempDir Path directory) {
+        var solutionFileIO = new BinarySolutionFileIO<>(TestdataMapSolution.class, TestdataMapEntity.class);
+        var v1 = new TestdataValue("v1");
+        var original = new TestdataMapSolution();
+        original.valueList = List.of(v1);
+        var entity = new TestdataMapEntity();
+        // The facts are discovered after the entity, so their table is read after the entity table.
+        entity.factSet = new LinkedHashSet<>(List.of(new TestdataHashedFact("f1"), new TestdataHashedFact("f2")));
+        entity.factMap = Map.of(new TestdataHashedFact("f3"), "third");
+        entity.sortedValueMap = new TreeMap<>(Map.of("b", v1, "a", v1));
+        original.entityList = List.of(entity);
+
+        var file = new File(directory.toFile(), "solution.dat");
+        solutionFileIO.write(original, file);
+        var solution = solutionFileIO.read(file);
+
+        var readEntity = solution.entityList.get(0);
+        assertThat(readEntity.factSet)
+                .containsExactly(new TestdataHashedFact("f1"), new TestdataHashedFact("f2"));
+        assertThat(readEntity.factSet.contains(new TestdataHashedFact("f2"))).isTrue();
+        assertThat(readEntity.factMap.get(new TestdataHashedFact("f3"))).isEqualTo("third");
+        assertThat(readEntity.sortedValueMap)
+                .isInstanceOf(TreeMap.class)
+                .containsExactly(Map.entry("a", solution.valueList.get(0)), Map.entry("b", solution.valueList.get(0)));
+    }
+
+    @Test
+    void writeSortedSetWithComparator(@TempDir Path directory) {
+        var solutionFileIO = new BinarySolutionFileIO<>(TestdataMapSolution.class, TestdataMapEntity.class);
+        var original = new TestdataMapSolution();
+        original.valueList = List.of();
+        var entity = new TestdataMapEntity();
+        var factSet = new TreeSet<TestdataHashedFact>((a, b) -> a.code.compareTo(b.code));
+        factSet.add(new TestdataHashedFact("f1"));
+        entity.factSet = factSet;
+        original.entityList = List.of(entity);
+
+        var file = new File(directory.toFile(), "solution.dat");
+        assertThatIllegalStateException()
+                .isThrownBy(() -> solutionFileIO.write(original, file))
+                .withMessageContaining("comparator");
+    }
+
+    @Test
+    void writeUninstantiableCollectionType(@TempDir Path directory) {
+        var solutionFileIO =
+                new BinarySolutionFileIO<>(TestdataEnumMapSolution.class, TestdataMapEntity.class);
+        var original = new TestdataEnumMapSolution();
+        original.valueList = List.of();
+        original.entityList = List.of();
+        original.dayMap = new EnumMap<>(DayOfWeek.class);
+
+        var file = new File(directory.toFile(), "solution.dat");
+        assertThatIllegalStateException()
+                .isThrownBy(() -> solutionFileIO.write(original, file))
+                .withMessageContaining(EnumMap.class.getName())
+                .withMessageContaining("can not instantiate");
+    }
+
+    @Test
+    void writeUnsupportedNumber(@TempDir Path directory) {
+        var solutionFileIO = new BinarySolutionFileIO<>(TestdataMapSolution.class, TestdataMapEntity.class);
+        var original = new TestdataMapSolution();
+        original.valueList = List.of();
+        var entity = new TestdataMapEntity();
+        entity.number = new AtomicLong(7L);
+        original.entityList = List.of(entity);
+
+        var file = new File(directory.toFile(), "solution.dat");
+        assertThatIllegalStateException()
+                .isThrownBy(() -> solutionFileIO.write(original, file))
+                .withMessageContaining(AtomicLong.class.getName())
+                .withMessageContaining("not supported");
+    }
+
+    @Test
+    void readOtherFormat(@TempDir Path directory) throws IOException {
+        var solutionFileIO = new BinarySolutionFileIO<>(TestdataSolution.class, TestdataEntity.class);
+        var file = directory.resolve("solution.dat");
+        Files.writeString(file, "{\"code\": \"s1\"}");
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> solutionFileIO.read(file.toFile()));
+    }
+
+    @PlanningSolution
+    static class TestdataMapSolution {
+
+        @ValueRangeProvider(id = "valueRange")
+        @ProblemFactCollectionProperty
+        private List<TestdataValue> valueList;
+        @PlanningEntityCollectionProperty
+        private List<TestdataMapEntity> entityList;
+        @PlanningScore
+        private SimpleScore score;
+
+    }
+
+    @PlanningEntity
+    static class TestdataMapEntity {
+
+        private TestdataMapSolution solution;
+        @PlanningVariable(valueRangeProviderRefs = "valueRange")
+        private TestdataValue value;
+        private Map<String, TestdataValue> valueMap;
+        private Number number;
+        private Set<TestdataHashedFact> factSet;
+        private Map<TestdataHashedFact, String> factMap;
+        private TreeMap<String, TestdataValue> sortedValueMap;
+
+    }
+
+    @PlanningSolution
+    static class TestdataEnumMapSolution {
+
+        @ValueRangeProvider(id = "valueRange")
+        @ProblemFactCollectionProperty
+        private List<TestdataValue> valueList;
+        @PlanningEntityCollectionProperty
+        private List<TestdataMapEntity> entityList;
+        @PlanningScore
+        private SimpleScore score;
+        private EnumMap<DayOfWeek, String> dayMap;
+
+    }
+
+    static class TestdataHashedFact {
+
+        private String code;
+
+        private TestdataHashedFact() {
+        }
+
+        private TestdataHashedFact(String code) {
+            this.code = code;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof TestdataHashedFact other && Objects.equals(code, other.code);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(code);
+        }
+
+    }
+
+}
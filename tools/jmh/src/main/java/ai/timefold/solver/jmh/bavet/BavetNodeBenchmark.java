@@ -0,0 +1,145 @@
+package ai.timefold.solver.jmh.bavet;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import ai.timefold.solver.core.api.score.buildin.hardsoft.HardSoftScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintCollectors;
+import ai.timefold.solver.core.api.score.stream.ConstraintFactory;
+import ai.timefold.solver.core.api.score.stream.ConstraintProvider;
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.score.director.stream.BavetConstraintStreamScoreDirectorFactory;
+import ai.timefold.solver.core.impl.score.stream.bavet.BavetConstraintSession;
+import ai.timefold.solver.jmh.domain.JmhEntity;
+import ai.timefold.solver.jmh.domain.JmhSolution;
+import ai.timefold.solver.jmh.domain.JmhValue;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the insert, update and retract of a single entity
+ * through a node network that consists of a single node of a given {@link NodeType},
+ * followed by the score calculation which propagates the change.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BavetNodeBenchmark {
+
+    private static final int GROUP_COUNT = 100;
+
+    public enum NodeType {
+
+        FILTER(constraintFactory -> constraintFactory.forEach(JmhEntity.class)
+                .filter(entity -> entity.getGroup() % 2 == 0)
+                .penalize(HardSoftScore.ONE_SOFT)
+                .asConstraint("Filter")),
+        JOIN(constraintFactory -> constraintFactory.forEach(JmhEntity.class)
+                .join(JmhEntity.class, Joiners.equal(JmhEntity::getValue), Joiners.lessThan(JmhEntity::getId))
+                .penalize(HardSoftScore.ONE_HARD)
+                .asConstraint("Join")),
+        IF_EXISTS(constraintFactory -> constraintFactory.forEach(JmhEntity.class)
+                .ifExists(JmhValue.class, Joiners.equal(JmhEntity::getGroup, JmhValue::getGroup))
+                .penalize(HardSoftScore.ONE_SOFT)
+                .asConstraint("If exists")),
+        GROUP_BY(constraintFactory -> constraintFactory.forEach(JmhEntity.class)
+                .groupBy(JmhEntity::getValue, ConstraintCollectors.count())
+                .penalize(HardSoftScore.ONE_SOFT, (value, count) -> count * count)
+                .asConstraint("Group by")),
+        MAP(constraintFactory -> constraintFactory.forEach(JmhEntity.class)
+                .map(entity -> entity.getValue().getGroup())
+                .distinct()
+                .penalize(HardSoftScore.ONE_SOFT)
+                .asConstraint("Map"));
+
+        private final Function<ConstraintFactory, Constraint> constraintFunction;
+
+        NodeType(Function<ConstraintFactory, Constraint> constraintFunction) {
+            this.constraintFunction = constraintFunction;
+        }
+
+        ConstraintProvider buildConstraintProvider() {
+            return constraintFactory -> new Constraint[] { constraintFunction.apply(constraintFactory) };
+        }
+
+    }
+
+    @Param
+    public NodeType nodeType;
+
+    @Param({ "100", "1000", "10000" })
+    public int entityCount;
+
+    private BavetConstraintStreamScoreDirectorFactory<JmhSolution, HardSoftScore> scoreDirectorFactory;
+    private JmhSolution solution;
+    private BavetConstraintSession<HardSoftScore> session;
+    private int entityIndex;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        var solutionDescriptor = SolutionDescriptor.buildSolutionDescriptor(JmhSolution.class, JmhEntity.class);
+        scoreDirectorFactory = new BavetConstraintStreamScoreDirectorFactory<>(solutionDescriptor,
+                nodeType.buildConstraintProvider(), EnvironmentMode.REPRODUCIBLE);
+        solution = JmhSolution.generate(entityCount, entityCount / 10 + 1, GROUP_COUNT, 0L);
+        session = buildFullSession();
+        entityIndex = 0;
+    }
+
+    private BavetConstraintSession<HardSoftScore> buildFullSession() {
+        var newSession = scoreDirectorFactory.newSession(solution, false, false);
+        solution.getValueList().forEach(newSession::insert);
+        solution.getEntityList().forEach(newSession::insert);
+        newSession.calculateScore(0);
+        return newSession;
+    }
+
+    private JmhEntity nextEntity() {
+        var entity = solution.getEntityList().get(entityIndex);
+        entityIndex = (entityIndex + 1) % entityCount;
+        return entity;
+    }
+
+    /**
+     * Inserts the entire dataset in a new session, like a score director does at the start of solving.
+     */
+    @Benchmark
+    public HardSoftScore insertAll() {
+        return buildFullSession().calculateScore(0);
+    }
+
+    @Benchmark
+    public HardSoftScore update() {
+        var entity = nextEntity();
+        var valueList = solution.getValueList();
+        entity.setValue(valueList.get((int) ((entity.getValue().getId() + 1) % valueList.size())));
+        session.update(entity);
+        return session.calculateScore(0);
+    }
+
+    @Benchmark
+    public HardSoftScore retractAndInsert() {
+        var entity = nextEntity();
+        session.retract(entity);
+        session.calculateScore(0);
+        session.insert(entity);
+        return session.calculateScore(0);
+    }
+
+}
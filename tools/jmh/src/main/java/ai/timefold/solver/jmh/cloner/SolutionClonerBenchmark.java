@@ -0,0 +1,88 @@
+package ai.timefold.solver.jmh.cloner;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.api.domain.common.DomainAccessType;
+import ai.timefold.solver.core.api.domain.solution.cloner.SolutionCloner;
+import ai.timefold.solver.core.impl.domain.solution.cloner.FieldAccessingSolutionCloner;
+import ai.timefold.solver.core.impl.domain.solution.cloner.gizmo.GizmoSolutionCloner;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.jmh.domain.JmhEntity;
+import ai.timefold.solver.jmh.domain.JmhListEntity;
+import ai.timefold.solver.jmh.domain.JmhListSolution;
+import ai.timefold.solver.jmh.domain.JmhSolution;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the reflection-based {@link FieldAccessingSolutionCloner}
+ * with the {@link GizmoSolutionCloner} generated in bytecode,
+ * for a solution with a basic variable and a solution with a list variable.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SolutionClonerBenchmark {
+
+    @Param({ "REFLECTION", "GIZMO" })
+    public DomainAccessType domainAccessType;
+
+    @Param({ "100", "1000", "10000" })
+    public int entityCount;
+
+    private SolutionCloner<JmhSolution> solutionCloner;
+    private JmhSolution solution;
+    private SolutionCloner<JmhListSolution> listSolutionCloner;
+    private JmhListSolution listSolution;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        solutionCloner = buildSolutionCloner(JmhSolution.class, JmhEntity.class);
+        solution = JmhSolution.generate(entityCount, entityCount / 10 + 1, 100, 0L);
+        listSolutionCloner = buildSolutionCloner(JmhListSolution.class, JmhListEntity.class);
+        listSolution = JmhListSolution.generate(entityCount / 10 + 1, entityCount, 0L);
+    }
+
+    private <Solution_> SolutionCloner<Solution_> buildSolutionCloner(Class<Solution_> solutionClass,
+            Class<?> entityClass) {
+        var solutionDescriptor = SolutionDescriptor.buildSolutionDescriptor(domainAccessType, solutionClass, null, null,
+                List.of(entityClass));
+        return switch (domainAccessType) {
+            case REFLECTION -> new FieldAccessingSolutionCloner<>(solutionDescriptor);
+            case GIZMO -> {
+                var solutionCloner = solutionDescriptor.getSolutionCloner();
+                if (!(solutionCloner instanceof GizmoSolutionCloner<Solution_>)) {
+                    throw new IllegalStateException("Impossible state: the solutionCloner (%s) is not a %s."
+                            .formatted(solutionCloner, GizmoSolutionCloner.class.getSimpleName()));
+                }
+                yield solutionCloner;
+            }
+        };
+    }
+
+    @Benchmark
+    public JmhSolution cloneSolution() {
+        return solutionCloner.cloneSolution(solution);
+    }
+
+    @Benchmark
+    public JmhListSolution cloneListSolution() {
+        return listSolutionCloner.cloneSolution(listSolution);
+    }
+
+}
@@ -0,0 +1,54 @@
+package ai.timefold.solver.jmh.domain;
+
+import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
+import ai.timefold.solver.core.api.domain.lookup.PlanningId;
+import ai.timefold.solver.core.api.domain.variable.PlanningVariable;
+
+@PlanningEntity
+public class JmhEntity {
+
+    public long id;
+    public int group;
+    public JmhValue value;
+
+    public JmhEntity() {
+    }
+
+    public JmhEntity(long id, int group, JmhValue value) {
+        this.id = id;
+        this.group = group;
+        this.value = value;
+    }
+
+    @PlanningId
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public int getGroup() {
+        return group;
+    }
+
+    public void setGroup(int group) {
+        this.group = group;
+    }
+
+    @PlanningVariable
+    public JmhValue getValue() {
+        return value;
+    }
+
+    public void setValue(JmhValue value) {
+        this.value = value;
+    }
+
+    @Override
+    public String toString() {
+        return "Entity-" + id;
+    }
+
+}
@@ -0,0 +1,47 @@
+package ai.timefold.solver.jmh.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import ai.timefold.solver.core.api.domain.entity.PlanningEntity;
+import ai.timefold.solver.core.api.domain.lookup.PlanningId;
+import ai.timefold.solver.core.api.domain.variable.PlanningListVariable;
+
+@PlanningEntity
+public class JmhListEntity {
+
+    public long id;
+    public List<JmhValue> valueList;
+
+    public JmhListEntity() {
+    }
+
+    public JmhListEntity(long id) {
+        this.id = id;
+        this.valueList = new ArrayList<>();
+    }
+
+    @PlanningId
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    @PlanningListVariable
+    public List<JmhValue> getValueList() {
+        return valueList;
+    }
+
+    public void setValueList(List<JmhValue> valueList) {
+        this.valueList = valueList;
+    }
+
+    @Override
+    public String toString() {
+        return "ListEntity-" + id;
+    }
+
+}
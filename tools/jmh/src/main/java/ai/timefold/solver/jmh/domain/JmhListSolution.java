@@ -0,0 +1,79 @@
+package ai.timefold.solver.jmh.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningEntityCollectionProperty;
+import ai.timefold.solver.core.api.domain.solution.PlanningScore;
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.domain.solution.ProblemFactCollectionProperty;
+import ai.timefold.solver.core.api.domain.valuerange.ValueRangeProvider;
+import ai.timefold.solver.core.api.score.buildin.hardsoft.HardSoftScore;
+
+@PlanningSolution
+public class JmhListSolution {
+
+    /**
+     * @param entityCount at least 1
+     * @param valueCount at least 1
+     * @param seed the same seed always generates the same solution
+     * @return never null, with every value assigned to a random entity
+     */
+    public static JmhListSolution generate(int entityCount, int valueCount, long seed) {
+        var random = new Random(seed);
+        var valueList = new ArrayList<JmhValue>(valueCount);
+        for (var i = 0; i < valueCount; i++) {
+            valueList.add(new JmhValue(i, i % entityCount));
+        }
+        var entityList = new ArrayList<JmhListEntity>(entityCount);
+        for (var i = 0; i < entityCount; i++) {
+            entityList.add(new JmhListEntity(i));
+        }
+        for (var value : valueList) {
+            entityList.get(random.nextInt(entityCount)).getValueList().add(value);
+        }
+        return new JmhListSolution(valueList, entityList);
+    }
+
+    public List<JmhValue> valueList;
+    public List<JmhListEntity> entityList;
+    public HardSoftScore score;
+
+    public JmhListSolution() {
+    }
+
+    public JmhListSolution(List<JmhValue> valueList, List<JmhListEntity> entityList) {
+        this.valueList = valueList;
+        this.entityList = entityList;
+    }
+
+    @ValueRangeProvider
+    @ProblemFactCollectionProperty
+    public List<JmhValue> getValueList() {
+        return valueList;
+    }
+
+    public void setValueList(List<JmhValue> valueList) {
+        this.valueList = valueList;
+    }
+
+    @PlanningEntityCollectionProperty
+    public List<JmhListEntity> getEntityList() {
+        return entityList;
+    }
+
+    public void setEntityList(List<JmhListEntity> entityList) {
+        this.entityList = entityList;
+    }
+
+    @PlanningScore
+    public HardSoftScore getScore() {
+        return score;
+    }
+
+    public void setScore(HardSoftScore score) {
+        this.score = score;
+    }
+
+}
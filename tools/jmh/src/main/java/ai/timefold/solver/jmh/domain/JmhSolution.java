@@ -0,0 +1,77 @@
+package ai.timefold.solver.jmh.domain;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import ai.timefold.solver.core.api.domain.solution.PlanningEntityCollectionProperty;
+import ai.timefold.solver.core.api.domain.solution.PlanningScore;
+import ai.timefold.solver.core.api.domain.solution.PlanningSolution;
+import ai.timefold.solver.core.api.domain.solution.ProblemFactCollectionProperty;
+import ai.timefold.solver.core.api.domain.valuerange.ValueRangeProvider;
+import ai.timefold.solver.core.api.score.buildin.hardsoft.HardSoftScore;
+
+@PlanningSolution
+public class JmhSolution {
+
+    /**
+     * @param entityCount at least 1
+     * @param valueCount at least 1
+     * @param groupCount at least 1, the number of distinct {@link JmhEntity#getGroup() groups}
+     * @param seed the same seed always generates the same solution
+     * @return never null, with every entity assigned a value
+     */
+    public static JmhSolution generate(int entityCount, int valueCount, int groupCount, long seed) {
+        var random = new Random(seed);
+        var valueList = new ArrayList<JmhValue>(valueCount);
+        for (var i = 0; i < valueCount; i++) {
+            valueList.add(new JmhValue(i, random.nextInt(groupCount)));
+        }
+        var entityList = new ArrayList<JmhEntity>(entityCount);
+        for (var i = 0; i < entityCount; i++) {
+            entityList.add(new JmhEntity(i, random.nextInt(groupCount), valueList.get(random.nextInt(valueCount))));
+        }
+        return new JmhSolution(valueList, entityList);
+    }
+
+    public List<JmhValue> valueList;
+    public List<JmhEntity> entityList;
+    public HardSoftScore score;
+
+    public JmhSolution() {
+    }
+
+    public JmhSolution(List<JmhValue> valueList, List<JmhEntity> entityList) {
+        this.valueList = valueList;
+        this.entityList = entityList;
+    }
+
+    @ValueRangeProvider
+    @ProblemFactCollectionProperty
+    public List<JmhValue> getValueList() {
+        return valueList;
+    }
+
+    public void setValueList(List<JmhValue> valueList) {
+        this.valueList = valueList;
+    }
+
+    @PlanningEntityCollectionProperty
+    public List<JmhEntity> getEntityList() {
+        return entityList;
+    }
+
+    public void setEntityList(List<JmhEntity> entityList) {
+        this.entityList = entityList;
+    }
+
+    @PlanningScore
+    public HardSoftScore getScore() {
+        return score;
+    }
+
+    public void setScore(HardSoftScore score) {
+        this.score = score;
+    }
+
+}
@@ -0,0 +1,46 @@
+package ai.timefold.solver.jmh.domain;
+
+import ai.timefold.solver.core.api.domain.lookup.PlanningId;
+
+/**
+ * A problem fact, used as the value of both {@link JmhEntity} and {@link JmhListEntity}.
+ */
+public class JmhValue {
+
+    public long id;
+    public int group;
+
+    public JmhValue() {
+    }
+
+    public JmhValue(long id, int group) {
+        this.id = id;
+        this.group = group;
+    }
+
+    @PlanningId
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    /**
+     * @return at least 0, used as the key of the joins and groupings in the benchmarks
+     */
+    public int getGroup() {
+        return group;
+    }
+
+    public void setGroup(int group) {
+        this.group = group;
+    }
+
+    @Override
+    public String toString() {
+        return "Value-" + id;
+    }
+
+}
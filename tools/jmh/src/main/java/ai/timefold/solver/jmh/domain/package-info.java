@@ -0,0 +1,6 @@
+/**
+ * The domain shared by the benchmarks.
+ * The planning annotations are on the getters, but the fields are public too,
+ * because the Gizmo solution cloner reads and writes the fields directly.
+ */
+package ai.timefold.solver.jmh.domain;
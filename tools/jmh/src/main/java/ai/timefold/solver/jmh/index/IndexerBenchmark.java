@@ -0,0 +1,125 @@
+package ai.timefold.solver.jmh.index;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import ai.timefold.solver.core.api.score.stream.Joiners;
+import ai.timefold.solver.core.impl.score.stream.bavet.common.index.IndexProperties;
+import ai.timefold.solver.core.impl.score.stream.bavet.common.index.Indexer;
+import ai.timefold.solver.core.impl.score.stream.bavet.common.index.IndexerFactory;
+import ai.timefold.solver.core.impl.score.stream.common.bi.DefaultBiJoiner;
+import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
+import ai.timefold.solver.jmh.domain.JmhEntity;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the {@link Indexer} that a join node uses to find the matching tuples on the other side,
+ * for the {@link JoinerKind#EQUAL equal} and the {@link JoinerKind#LESS_THAN less than} joiners.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IndexerBenchmark {
+
+    public enum JoinerKind {
+
+        EQUAL,
+        LESS_THAN;
+
+        @SuppressWarnings("unchecked")
+        DefaultBiJoiner<JmhEntity, JmhEntity> buildJoiner() {
+            return (DefaultBiJoiner<JmhEntity, JmhEntity>) switch (this) {
+                case EQUAL -> Joiners.equal(JmhEntity::getGroup);
+                case LESS_THAN -> Joiners.lessThan(JmhEntity::getGroup);
+            };
+        }
+
+    }
+
+    @Param
+    public JoinerKind joinerKind;
+
+    @Param({ "1000", "100000" })
+    public int tupleCount;
+
+    @Param({ "10", "1000" })
+    public int keyCount;
+
+    private Indexer<JmhEntity> indexer;
+    private Function<JmhEntity, IndexProperties> leftMapping;
+    private Function<JmhEntity, IndexProperties> rightMapping;
+    private List<JmhEntity> probeList;
+    private int probeIndex;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        var indexerFactory = new IndexerFactory<>(joinerKind.buildJoiner());
+        leftMapping = indexerFactory.buildUniLeftMapping();
+        rightMapping = indexerFactory.buildRightMapping();
+        indexer = indexerFactory.buildIndexer(false);
+        var random = new Random(0L);
+        for (var i = 0; i < tupleCount; i++) {
+            var tuple = new JmhEntity(i, random.nextInt(keyCount), null);
+            indexer.put(rightMapping.apply(tuple), tuple);
+        }
+        probeList = new ArrayList<>(1024);
+        for (var i = 0; i < 1024; i++) {
+            probeList.add(new JmhEntity(-i, random.nextInt(keyCount), null));
+        }
+        probeIndex = 0;
+    }
+
+    private JmhEntity nextProbe() {
+        var probe = probeList.get(probeIndex);
+        probeIndex = (probeIndex + 1) & 1023;
+        return probe;
+    }
+
+    /**
+     * Like a join node does when a tuple is inserted on the other side.
+     */
+    @Benchmark
+    public void forEach(Blackhole blackhole) {
+        indexer.forEach(leftMapping.apply(nextProbe()), blackhole::consume);
+    }
+
+    /**
+     * Like an if-exists node does when a tuple is inserted on the other side.
+     */
+    @Benchmark
+    public int size() {
+        return indexer.size(leftMapping.apply(nextProbe()));
+    }
+
+    /**
+     * Like a join node does when a tuple is inserted and later retracted on its own side.
+     */
+    @Benchmark
+    public ElementAwareListEntry<JmhEntity> putAndRemove() {
+        var probe = nextProbe();
+        var indexProperties = rightMapping.apply(probe);
+        var entry = indexer.put(indexProperties, probe);
+        indexer.remove(indexProperties, entry);
+        return entry;
+    }
+
+}
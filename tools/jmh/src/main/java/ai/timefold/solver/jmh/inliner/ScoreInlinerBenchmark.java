@@ -0,0 +1,134 @@
+package ai.timefold.solver.jmh.inliner;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import ai.timefold.solver.core.api.score.Score;
+import ai.timefold.solver.core.api.score.buildin.hardsoft.HardSoftScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.score.buildin.BendableBigDecimalScoreDefinition;
+import ai.timefold.solver.core.impl.score.buildin.BendableLongScoreDefinition;
+import ai.timefold.solver.core.impl.score.buildin.BendableScoreDefinition;
+import ai.timefold.solver.core.impl.score.buildin.HardMediumSoftBigDecimalScoreDefinition;
+import ai.timefold.solver.core.impl.score.buildin.HardMediumSoftLongScoreDefinition;
+import ai.timefold.solver.core.impl.score.buildin.HardMediumSoftScoreDefinition;
+import ai.timefold.solver.core.impl.score.buildin.HardSoftBigDecimalScoreDefinition;
+import ai.timefold.solver.core.impl.score.buildin.HardSoftLongScoreDefinition;
+import ai.timefold.solver.core.impl.score.buildin.HardSoftScoreDefinition;
+import ai.timefold.solver.core.impl.score.buildin.SimpleBigDecimalScoreDefinition;
+import ai.timefold.solver.core.impl.score.buildin.SimpleLongScoreDefinition;
+import ai.timefold.solver.core.impl.score.buildin.SimpleScoreDefinition;
+import ai.timefold.solver.core.impl.score.definition.ScoreDefinition;
+import ai.timefold.solver.core.impl.score.director.stream.BavetConstraintStreamScoreDirectorFactory;
+import ai.timefold.solver.core.impl.score.stream.common.AbstractConstraint;
+import ai.timefold.solver.core.impl.score.stream.common.inliner.AbstractScoreInliner;
+import ai.timefold.solver.core.impl.score.stream.common.inliner.ConstraintMatchSupplier;
+import ai.timefold.solver.core.impl.score.stream.common.inliner.UndoScoreImpacter;
+import ai.timefold.solver.core.impl.score.stream.common.inliner.WeightedScoreImpacter;
+import ai.timefold.solver.jmh.domain.JmhEntity;
+import ai.timefold.solver.jmh.domain.JmhSolution;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures every built-in {@link AbstractScoreInliner}:
+ * the {@link AbstractScoreInliner#extractScore(int) extraction of the score} after a number of matches,
+ * and the impact of a single match together with its undo.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ScoreInlinerBenchmark {
+
+    public enum ScoreType {
+
+        SIMPLE(SimpleScoreDefinition::new),
+        SIMPLE_LONG(SimpleLongScoreDefinition::new),
+        SIMPLE_BIG_DECIMAL(SimpleBigDecimalScoreDefinition::new),
+        HARD_SOFT(HardSoftScoreDefinition::new),
+        HARD_SOFT_LONG(HardSoftLongScoreDefinition::new),
+        HARD_SOFT_BIG_DECIMAL(HardSoftBigDecimalScoreDefinition::new),
+        HARD_MEDIUM_SOFT(HardMediumSoftScoreDefinition::new),
+        HARD_MEDIUM_SOFT_LONG(HardMediumSoftLongScoreDefinition::new),
+        HARD_MEDIUM_SOFT_BIG_DECIMAL(HardMediumSoftBigDecimalScoreDefinition::new),
+        BENDABLE(() -> new BendableScoreDefinition(2, 3)),
+        BENDABLE_LONG(() -> new BendableLongScoreDefinition(2, 3)),
+        BENDABLE_BIG_DECIMAL(() -> new BendableBigDecimalScoreDefinition(2, 3));
+
+        private final Supplier<ScoreDefinition<?>> scoreDefinitionSupplier;
+
+        ScoreType(Supplier<ScoreDefinition<?>> scoreDefinitionSupplier) {
+            this.scoreDefinitionSupplier = scoreDefinitionSupplier;
+        }
+
+    }
+
+    @Param
+    public ScoreType scoreType;
+
+    @Param({ "1", "1000" })
+    public int matchCount;
+
+    private AbstractScoreInliner<?> scoreInliner;
+    private WeightedScoreImpacter<?, ?> scoreImpacter;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        // The inliners only need the constraint as a key, so it is taken from any constraint stream.
+        var solutionDescriptor = SolutionDescriptor.buildSolutionDescriptor(JmhSolution.class, JmhEntity.class);
+        var constraint = new BavetConstraintStreamScoreDirectorFactory<JmhSolution, HardSoftScore>(solutionDescriptor,
+                constraintFactory -> new Constraint[] {
+                        constraintFactory.forEach(JmhEntity.class)
+                                .penalize(HardSoftScore.ONE_SOFT)
+                                .asConstraint("Inliner")
+                },
+                EnvironmentMode.REPRODUCIBLE)
+                .getConstraintMetaModel()
+                .getConstraints()
+                .iterator()
+                .next();
+        setupScoreInliner(scoreType.scoreDefinitionSupplier.get(), (AbstractConstraint<?, ?, ?>) constraint);
+    }
+
+    private <Score_ extends Score<Score_>> void setupScoreInliner(ScoreDefinition<Score_> scoreDefinition,
+            AbstractConstraint<?, ?, ?> constraint) {
+        AbstractScoreInliner<Score_> typedScoreInliner = AbstractScoreInliner.buildScoreInliner(scoreDefinition,
+                Map.of(constraint, scoreDefinition.getOneSoftestScore()), false);
+        var typedScoreImpacter = typedScoreInliner.buildWeightedScoreImpacter(constraint);
+        for (var i = 0; i < matchCount; i++) {
+            typedScoreImpacter.impactScore(i % 10 + 1, ConstraintMatchSupplier.empty());
+        }
+        scoreInliner = typedScoreInliner;
+        scoreImpacter = typedScoreImpacter;
+    }
+
+    @Benchmark
+    public Score<?> extractScore() {
+        return scoreInliner.extractScore(0);
+    }
+
+    @Benchmark
+    public UndoScoreImpacter impactAndUndo() {
+        var undoScoreImpacter = scoreImpacter.impactScore(3, ConstraintMatchSupplier.empty());
+        undoScoreImpacter.run();
+        return undoScoreImpacter;
+    }
+
+}
@@ -0,0 +1,159 @@
+package ai.timefold.solver.jmh.move;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.api.score.buildin.hardsoft.HardSoftScore;
+import ai.timefold.solver.core.api.score.stream.Constraint;
+import ai.timefold.solver.core.api.score.stream.ConstraintCollectors;
+import ai.timefold.solver.core.config.heuristic.selector.common.SelectionCacheType;
+import ai.timefold.solver.core.config.heuristic.selector.common.SelectionOrder;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.list.ListChangeMoveSelectorConfig;
+import ai.timefold.solver.core.config.heuristic.selector.move.generic.list.kopt.KOptListMoveSelectorConfig;
+import ai.timefold.solver.core.config.solver.EnvironmentMode;
+import ai.timefold.solver.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import ai.timefold.solver.core.impl.heuristic.HeuristicConfigPolicy;
+import ai.timefold.solver.core.impl.heuristic.move.LegacyMoveAdapter;
+import ai.timefold.solver.core.impl.heuristic.selector.move.MoveSelector;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.list.ListChangeMove;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.list.ListChangeMoveSelectorFactory;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.list.kopt.KOptListMove;
+import ai.timefold.solver.core.impl.heuristic.selector.move.generic.list.kopt.KOptListMoveSelectorFactory;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchPhaseScope;
+import ai.timefold.solver.core.impl.localsearch.scope.LocalSearchStepScope;
+import ai.timefold.solver.core.impl.score.director.InnerScoreDirector;
+import ai.timefold.solver.core.impl.score.director.stream.BavetConstraintStreamScoreDirectorFactory;
+import ai.timefold.solver.core.impl.solver.ClassInstanceCache;
+import ai.timefold.solver.core.impl.solver.scope.SolverScope;
+import ai.timefold.solver.jmh.domain.JmhListEntity;
+import ai.timefold.solver.jmh.domain.JmhListSolution;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how long it takes to do a {@link ListChangeMove} or a {@link KOptListMove},
+ * calculate the score incrementally and undo the move,
+ * which is what Local Search does for every move it evaluates.
+ * The moves are selected up front, so the move selection is not part of the measurement.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ListMoveBenchmark {
+
+    private static final int MOVE_COUNT = 1024;
+
+    public enum MoveType {
+        LIST_CHANGE,
+        K_OPT
+    }
+
+    @Param
+    public MoveType moveType;
+
+    @Param({ "100", "1000", "10000" })
+    public int valueCount;
+
+    private InnerScoreDirector<JmhListSolution, HardSoftScore> scoreDirector;
+    private List<LegacyMoveAdapter<JmhListSolution>> moveList;
+    private int moveIndex;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        var solutionDescriptor =
+                SolutionDescriptor.buildSolutionDescriptor(JmhListSolution.class, JmhListEntity.class);
+        var scoreDirectorFactory = new BavetConstraintStreamScoreDirectorFactory<JmhListSolution, HardSoftScore>(
+                solutionDescriptor,
+                constraintFactory -> new Constraint[] {
+                        constraintFactory.forEach(JmhListEntity.class)
+                                .penalize(HardSoftScore.ONE_SOFT,
+                                        entity -> entity.getValueList().size() * entity.getValueList().size())
+                                .asConstraint("Balance"),
+                        constraintFactory.forEach(JmhListEntity.class)
+                                .groupBy(ConstraintCollectors.sum(entity -> entity.getValueList().size()))
+                                .penalize(HardSoftScore.ONE_HARD, total -> total > valueCount ? 1 : 0)
+                                .asConstraint("Total")
+                },
+                EnvironmentMode.REPRODUCIBLE);
+        scoreDirector = scoreDirectorFactory.buildScoreDirector(false, false, true);
+        scoreDirector.setWorkingSolution(JmhListSolution.generate(valueCount / 10 + 1, valueCount, 0L));
+        scoreDirector.calculateScore();
+        moveList = selectMoves(solutionDescriptor);
+        moveIndex = 0;
+    }
+
+    private List<LegacyMoveAdapter<JmhListSolution>> selectMoves(SolutionDescriptor<JmhListSolution> solutionDescriptor) {
+        var random = new Random(0L);
+        var configPolicy = new HeuristicConfigPolicy.Builder<>(EnvironmentMode.REPRODUCIBLE, null, null, null, null,
+                random, null, solutionDescriptor, ClassInstanceCache.create())
+                .build();
+        MoveSelector<JmhListSolution> moveSelector = switch (moveType) {
+            case LIST_CHANGE -> new ListChangeMoveSelectorFactory<JmhListSolution>(new ListChangeMoveSelectorConfig())
+                    .buildMoveSelector(configPolicy, SelectionCacheType.JUST_IN_TIME, SelectionOrder.RANDOM, false);
+            case K_OPT -> new KOptListMoveSelectorFactory<JmhListSolution>(new KOptListMoveSelectorConfig()
+                    .withMinimumK(3)
+                    .withMaximumK(3))
+                    .buildMoveSelector(configPolicy, SelectionCacheType.JUST_IN_TIME, SelectionOrder.RANDOM, false);
+        };
+        var solverScope = new SolverScope<JmhListSolution>();
+        solverScope.setScoreDirector(scoreDirector);
+        solverScope.setWorkingRandom(random);
+        moveSelector.solvingStarted(solverScope);
+        var phaseScope = new LocalSearchPhaseScope<>(solverScope, 0);
+        moveSelector.phaseStarted(phaseScope);
+        var stepScope = new LocalSearchStepScope<>(phaseScope);
+        moveSelector.stepStarted(stepScope);
+        var selectedMoveList = new ArrayList<LegacyMoveAdapter<JmhListSolution>>(MOVE_COUNT);
+        var moveIterator = moveSelector.iterator();
+        // Bounded, so the benchmark fails rather than hangs if the selector does not provide the expected moves.
+        for (var attempt = 0; attempt < MOVE_COUNT * 100 && selectedMoveList.size() < MOVE_COUNT
+                && moveIterator.hasNext(); attempt++) {
+            var move = moveIterator.next();
+            var expectedMoveClass = moveType == MoveType.LIST_CHANGE ? ListChangeMove.class : KOptListMove.class;
+            if (expectedMoveClass.isInstance(move) && move.isMoveDoable(scoreDirector)) {
+                selectedMoveList.add(new LegacyMoveAdapter<>(move));
+            }
+        }
+        moveSelector.stepEnded(stepScope);
+        moveSelector.phaseEnded(phaseScope);
+        moveSelector.solvingEnded(solverScope);
+        if (selectedMoveList.size() < MOVE_COUNT) {
+            throw new IllegalStateException("The moveSelector (%s) selected only (%d) doable moves of type (%s)."
+                    .formatted(moveSelector, selectedMoveList.size(), moveType));
+        }
+        return selectedMoveList;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDownTrial() {
+        scoreDirector.close();
+    }
+
+    @Benchmark
+    public HardSoftScore doAndUndoMove() {
+        var move = moveList.get(moveIndex);
+        moveIndex = (moveIndex + 1) & (MOVE_COUNT - 1);
+        scoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(true);
+        var score = scoreDirector.doAndProcessMove(move, false);
+        scoreDirector.setAllChangesWillBeUndoneBeforeStepEnds(false);
+        return score;
+    }
+
+}
@@ -0,0 +1,86 @@
+package ai.timefold.solver.jmh.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import ai.timefold.solver.core.impl.util.ElementAwareList;
+import ai.timefold.solver.core.impl.util.ElementAwareListEntry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the {@link ElementAwareList} operations that the node network and the indexers rely on.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ElementAwareListBenchmark {
+
+    @Param({ "10", "1000", "100000" })
+    public int size;
+
+    private ElementAwareList<Integer> list;
+    private List<ElementAwareListEntry<Integer>> entryList;
+    private int entryIndex;
+
+    @Setup(Level.Trial)
+    public void setupTrial() {
+        list = new ElementAwareList<>();
+        entryList = new ArrayList<>(size);
+        for (var i = 0; i < size; i++) {
+            entryList.add(list.add(i));
+        }
+        entryIndex = 0;
+    }
+
+    @Benchmark
+    public ElementAwareListEntry<Integer> addAndRemove() {
+        var entry = list.add(-1);
+        list.remove(entry);
+        return entry;
+    }
+
+    /**
+     * Removes an entry from the middle of the list and puts it back at the same position.
+     */
+    @Benchmark
+    public ElementAwareListEntry<Integer> removeAndAddAfter() {
+        var index = entryIndex;
+        entryIndex = (entryIndex + 1) % size;
+        var entry = entryList.get(index);
+        var previous = entry.previous();
+        list.remove(entry);
+        var newEntry = previous == null ? list.addFirst(entry.getElement()) : list.addAfter(entry.getElement(), previous);
+        entryList.set(index, newEntry);
+        return newEntry;
+    }
+
+    @Benchmark
+    public void forEach(Blackhole blackhole) {
+        list.forEach(blackhole::consume);
+    }
+
+    @Benchmark
+    public void iterator(Blackhole blackhole) {
+        for (var element : list) {
+            blackhole.consume(element);
+        }
+    }
+
+}